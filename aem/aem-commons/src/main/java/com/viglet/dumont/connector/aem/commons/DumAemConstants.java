@@ -55,4 +55,5 @@ public class DumAemConstants {
     public static final String CQ = "cq:";
     public static final String AEM = "AEM";
     public static final String REP = "rep:";
+    public static final String CONTENT_ROOT = "/content";
 }
@@ -26,31 +26,27 @@ import static com.viglet.dumont.connector.aem.commons.DumAemConstants.CQ_LAST_RE
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.CQ_MODEL;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.CQ_TEMPLATE;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.DATA_FOLDER;
-import static com.viglet.dumont.connector.aem.commons.DumAemConstants.DATE_FORMAT;
-import static com.viglet.dumont.connector.aem.commons.DumAemConstants.DATE_JSON_FORMAT;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.EMPTY_VALUE;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.HTML;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.JCR_CONTENT;
-import static java.time.ZoneOffset.UTC;
 import static org.apache.jackrabbit.JcrConstants.JCR_CREATED;
 import static org.apache.jackrabbit.JcrConstants.JCR_LASTMODIFIED;
 import static org.apache.jackrabbit.JcrConstants.JCR_PRIMARYTYPE;
 import static org.apache.jackrabbit.JcrConstants.JCR_TITLE;
 
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.Calendar;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.TimeZone;
 
 import org.json.JSONObject;
 
 import com.viglet.dumont.connector.aem.commons.bean.DumAemEvent;
 import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+import com.viglet.dumont.connector.aem.commons.utils.DumAemDateUtils;
 
 import lombok.Getter;
 import lombok.ToString;
@@ -76,10 +72,6 @@ public class DumAemObjectGeneric {
     private Set<String> dependencies;
     private final Map<String, Object> attributes = new HashMap<>();
 
-    private static SimpleDateFormat newAemJsonDateFormat() {
-        return new SimpleDateFormat(DATE_JSON_FORMAT, Locale.ENGLISH);
-    }
-
     public DumAemObjectGeneric(String nodePath, JSONObject jcrNode) {
         this(nodePath, jcrNode, DumAemEvent.INDEXING);
     }
@@ -103,9 +95,7 @@ public class DumAemObjectGeneric {
     }
 
     private void processJcrCreated(JSONObject jcrNode) throws ParseException {
-        Calendar createdDateCalendar = Calendar.getInstance();
-        createdDateCalendar.setTime(newAemJsonDateFormat().parse(jcrNode.getString(JCR_CREATED)));
-        this.createdDate = createdDateCalendar;
+        this.createdDate = toCalendar(jcrNode.getString(JCR_CREATED));
     }
 
     private void processJcrContent(JSONObject jcrNode, DumAemEvent event) throws ParseException {
@@ -180,6 +170,32 @@ public class DumAemObjectGeneric {
                 && isActivated(CQ_LAST_REPLICATION_ACTION_PUBLISH);
     }
 
+    /**
+     * Tells whether publish already holds this author payload: the replication
+     * metadata says the node is activated and the last activation is not
+     * older than the last modification. Without both dates the answer is
+     * {@code false}.
+     *
+     * @return {@code true} when fetching the publish copy would return the
+     *         same content
+     */
+    public boolean isPublishUpToDate() {
+        if (!getJcrDelivered()) {
+            return false;
+        }
+        Optional<Instant> replicated = getInstant(CQ_LAST_REPLICATED_PUBLISH, CQ_LAST_REPLICATED);
+        Optional<Instant> modified = getInstant(JCR_LASTMODIFIED, CQ_LAST_MODIFIED);
+        return replicated.isPresent() && modified.isPresent()
+                && !modified.get().isAfter(replicated.get());
+    }
+
+    private Optional<Instant> getInstant(String attribute, String fallbackAttribute) {
+        String attributeName = this.jcrContentNode.has(attribute) ? attribute : fallbackAttribute;
+        return this.jcrContentNode.opt(attributeName) instanceof String value
+                ? DumAemDateUtils.parseAemJsonDate(value)
+                : Optional.empty();
+    }
+
     private String getJcrTemplate() {
         return jcrContentNode.has(CQ_TEMPLATE) ? this.jcrContentNode.getString(CQ_TEMPLATE)
                 : EMPTY_VALUE;
@@ -196,14 +212,19 @@ public class DumAemObjectGeneric {
 
     private Calendar getCalendar(String cqLastReplicatedPublish, String cqLastReplicated)
             throws ParseException {
-        Calendar calendar = Calendar.getInstance();
         if (this.jcrContentNode.has(cqLastReplicatedPublish)) {
-            calendar.setTime(newAemJsonDateFormat()
-                    .parse(this.jcrContentNode.getString(cqLastReplicatedPublish)));
+            return toCalendar(this.jcrContentNode.getString(cqLastReplicatedPublish));
         } else if (this.jcrContentNode.has(cqLastReplicated)) {
-            calendar.setTime(
-                    newAemJsonDateFormat().parse(this.jcrContentNode.getString(cqLastReplicated)));
+            return toCalendar(this.jcrContentNode.getString(cqLastReplicated));
         }
+        return Calendar.getInstance();
+    }
+
+    private static Calendar toCalendar(String value) throws ParseException {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(DumAemDateUtils.parseAemJsonDate(value)
+                .orElseThrow(() -> new ParseException("Unparseable date: \"" + value + "\"", 0))
+                .toEpochMilli());
         return calendar;
     }
 
@@ -264,34 +285,16 @@ public class DumAemObjectGeneric {
                 continue;
             }
             Object value = currentNode.get(key);
-            if (value instanceof String stringValue && isDate(stringValue)) {
-                putParsedDateAttribute(key, stringValue);
+            if (value instanceof String stringValue) {
+                this.attributes.put(key,
+                        DumAemDateUtils.toDumontDate(stringValue).orElse(stringValue));
             } else {
                 this.attributes.put(key, value);
             }
         }
     }
 
-    private void putParsedDateAttribute(String key, String value) {
-        try {
-            TimeZone tz = TimeZone.getTimeZone(UTC);
-            DateFormat dumontDateFormat = new SimpleDateFormat(DATE_FORMAT);
-            dumontDateFormat.setTimeZone(tz);
-            log.debug("Parsing date attribute: {} with value: {} for object at path: {}", key, value, this.path);
-            this.attributes.put(key, dumontDateFormat.format(newAemJsonDateFormat().parse(value).getTime()));
-        } catch (ParseException e) {
-            log.error("Failed to parse date for key '{}' with value '{}' at path '{}': {}", key, value, this.path,
-                    e.getMessage());
-            this.attributes.put(key, value);
-        }
-    }
-
     public boolean isDate(String dateStr) {
-        try {
-            newAemJsonDateFormat().parse(dateStr);
-            return true;
-        } catch (ParseException e) {
-            return false;
-        }
+        return DumAemDateUtils.isAemJsonDate(dateStr);
     }
 }
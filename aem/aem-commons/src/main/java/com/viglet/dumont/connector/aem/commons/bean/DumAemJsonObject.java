@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.bean;
+
+import java.util.Set;
+
+import org.json.JSONObject;
+
+import lombok.Getter;
+
+/**
+ * Root node of an AEM JSON response that also carries the {@code /content}
+ * references collected while the response was parsed, so dependency
+ * computation does not need to walk the tree again.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Getter
+public class DumAemJsonObject extends JSONObject {
+    private final transient Set<String> contentReferences;
+
+    public DumAemJsonObject(JSONObject jsonObject, Set<String> contentReferences) {
+        super(jsonObject, JSONObject.getNames(jsonObject) != null
+                ? JSONObject.getNames(jsonObject)
+                : new String[0]);
+        this.contentReferences = Set.copyOf(contentReferences);
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Disk-backed store of AEM JSON responses and their HTTP validators.
+ * <p>
+ * Each response is kept as two files named after the SHA-256 of its URL: the
+ * raw body and a properties file with the URL, {@code ETag} and
+ * {@code Last-Modified} values. Before a request is sent the stored validators
+ * are added as {@code If-None-Match}/{@code If-Modified-Since}, so an unchanged
+ * node comes back as a bodyless 304 and is read from disk. Entries survive
+ * restarts and are evicted least recently used first once the configured size
+ * or entry count is exceeded.
+ * <p>
+ * URLs with a query string (QueryBuilder searches, cache-busted publish
+ * requests) are never stored.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+public class DumAemHttpCache {
+
+    private static final String BODY_SUFFIX = ".json";
+    private static final String META_SUFFIX = ".properties";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String URL = "url";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final int maxEntries;
+    private final LinkedHashMap<String, DumAemHttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    private record DumAemHttpCacheEntry(String etag, String lastModified, long size) {
+    }
+
+    private DumAemHttpCache(Path directory, long maxSizeBytes, int maxEntries) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Opens the cache in the directory, creating it when needed and loading the
+     * entries left by previous runs, oldest first.
+     *
+     * @param directory    where bodies and validators are stored
+     * @param maxSizeBytes total size of the stored bodies
+     * @param maxEntries   number of stored responses
+     * @return the cache
+     * @throws IOException when the directory cannot be created or listed
+     */
+    public static DumAemHttpCache open(Path directory, long maxSizeBytes, int maxEntries) throws IOException {
+        Files.createDirectories(directory);
+        DumAemHttpCache cache = new DumAemHttpCache(directory, maxSizeBytes, maxEntries);
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * Tells whether responses for the URL may be stored.
+     */
+    public static boolean isCacheable(String url) {
+        return url != null && !url.contains("?");
+    }
+
+    /**
+     * Tells whether the response carries a validator that allows revalidation.
+     */
+    public static boolean hasValidators(HttpResponse response) {
+        return response.containsHeader(HttpHeaders.ETAG) || response.containsHeader(HttpHeaders.LAST_MODIFIED);
+    }
+
+    /**
+     * Adds {@code If-None-Match}/{@code If-Modified-Since} for the stored
+     * response of the URL, if any.
+     */
+    public synchronized void addValidators(String url, HttpRequest request) {
+        DumAemHttpCacheEntry entry = entries.get(hash(url));
+        if (entry == null) {
+            return;
+        }
+        if (entry.etag() != null) {
+            request.setHeader(HttpHeaders.IF_NONE_MATCH, entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+        }
+    }
+
+    /**
+     * Opens the stored body of the URL, typically after a 304.
+     *
+     * @return the body, or empty when nothing is stored for the URL
+     */
+    public synchronized Optional<InputStream> openBody(String url) {
+        String key = hash(url);
+        if (entries.get(key) == null) {
+            return Optional.empty();
+        }
+        try {
+            InputStream body = Files.newInputStream(bodyPath(key));
+            touch(key);
+            return Optional.of(body);
+        } catch (IOException e) {
+            log.warn("Cached body of {} is unreadable: {}", url, e.getMessage());
+            removeEntry(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the response body and its validators to disk, replacing any
+     * previous entry for the URL, and opens the stored copy.
+     *
+     * @param url      the requested URL
+     * @param response the response holding the validators
+     * @param content  the response body, fully consumed by this call
+     * @return the stored body
+     * @throws IOException when the body cannot be written
+     */
+    public InputStream store(String url, HttpResponse response, InputStream content) throws IOException {
+        String key = hash(url);
+        Path tempBody = Files.createTempFile(directory, key, TEMP_SUFFIX);
+        try {
+            long size = Files.copy(content, tempBody, StandardCopyOption.REPLACE_EXISTING);
+            DumAemHttpCacheEntry entry = new DumAemHttpCacheEntry(headerValue(response, HttpHeaders.ETAG),
+                    headerValue(response, HttpHeaders.LAST_MODIFIED), size);
+            Path tempMeta = writeMeta(key, url, entry);
+            synchronized (this) {
+                Files.move(tempBody, bodyPath(key), StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tempMeta, metaPath(key), StandardCopyOption.REPLACE_EXISTING);
+                put(key, entry);
+                return Files.newInputStream(bodyPath(key));
+            }
+        } finally {
+            Files.deleteIfExists(tempBody);
+        }
+    }
+
+    /**
+     * Drops the stored response of the URL.
+     */
+    public synchronized void remove(String url) {
+        removeEntry(hash(url));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeInBytes() {
+        return totalSize;
+    }
+
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted(Comparator.comparing(DumAemHttpCache::lastModifiedTime)).toList();
+        }
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                Files.deleteIfExists(file);
+            }
+        }
+        List<Path> metaFiles = files.stream()
+                .filter(file -> file.getFileName().toString().endsWith(META_SUFFIX))
+                .toList();
+        for (Path metaFile : metaFiles) {
+            String fileName = metaFile.getFileName().toString();
+            String key = fileName.substring(0, fileName.length() - META_SUFFIX.length());
+            readEntry(key).ifPresentOrElse(entry -> put(key, entry), () -> deleteFiles(key));
+        }
+        log.info("AEM HTTP cache at {}: {} entries, {} bytes", directory, entries.size(), totalSize);
+    }
+
+    private Optional<DumAemHttpCacheEntry> readEntry(String key) {
+        Path body = bodyPath(key);
+        if (!Files.isRegularFile(body)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(metaPath(key), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            return Optional.of(new DumAemHttpCacheEntry(properties.getProperty(ETAG),
+                    properties.getProperty(LAST_MODIFIED), Files.size(body)));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Discarding unreadable HTTP cache entry {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Path writeMeta(String key, String url, DumAemHttpCacheEntry entry) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(URL, url);
+        if (entry.etag() != null) {
+            properties.setProperty(ETAG, entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            properties.setProperty(LAST_MODIFIED, entry.lastModified());
+        }
+        Path tempMeta = Files.createTempFile(directory, key, TEMP_SUFFIX);
+        try (OutputStream outputStream = Files.newOutputStream(tempMeta);
+                Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempMeta);
+            throw e;
+        }
+        return tempMeta;
+    }
+
+    private void put(String key, DumAemHttpCacheEntry entry) {
+        DumAemHttpCacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalSize -= previous.size();
+        }
+        totalSize += entry.size();
+        evict(key);
+    }
+
+    /**
+     * Evicts least recently used entries until the limits hold, always
+     * keeping the entry that was just stored.
+     */
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, DumAemHttpCacheEntry>> iterator = entries.entrySet().iterator();
+        while ((totalSize > maxSizeBytes || entries.size() > maxEntries) && iterator.hasNext()) {
+            Map.Entry<String, DumAemHttpCacheEntry> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalSize -= eldest.getValue().size();
+            deleteFiles(eldest.getKey());
+        }
+    }
+
+    private void removeEntry(String key) {
+        DumAemHttpCacheEntry entry = entries.remove(key);
+        if (entry != null) {
+            totalSize -= entry.size();
+        }
+        deleteFiles(key);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(metaPath(key));
+            Files.deleteIfExists(bodyPath(key));
+        } catch (IOException e) {
+            log.warn("Could not delete HTTP cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps the recency order across restarts, which is rebuilt from the
+     * modification time of the properties files.
+     */
+    private void touch(String key) {
+        try {
+            Files.setLastModifiedTime(metaPath(key), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Could not touch HTTP cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    private Path bodyPath(String key) {
+        return directory.resolve(key + BODY_SUFFIX);
+    }
+
+    private Path metaPath(String key) {
+        return directory.resolve(key + META_SUFFIX);
+    }
+
+    private static String headerValue(HttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String hash(String url) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
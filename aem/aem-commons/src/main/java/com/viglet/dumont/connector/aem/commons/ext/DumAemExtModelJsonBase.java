@@ -16,6 +16,8 @@
 
 package com.viglet.dumont.connector.aem.commons.ext;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.viglet.dumont.commons.utils.DumCommonsUtils;
 import com.viglet.dumont.connector.aem.commons.DumAemObject;
 import com.viglet.dumont.connector.aem.commons.bean.DumAemAttrMap;
@@ -24,10 +26,10 @@ import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
 import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import tools.jackson.databind.DeserializationFeature;
-import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
@@ -64,6 +66,12 @@ import java.util.Optional;
  *     }
  * }
  * }</pre>
+ * <p>
+ * Parsed model.json documents are shared by the extractors of the object being
+ * indexed, so each extractor of a page does not fetch and index it again, even when
+ * several threads ask for it at the same time. They are keyed by the object
+ * instance: indexing the page again, as a dependency reindex does, builds a new
+ * object and fetches the current model.json.
  *
  * @param <T> the root model bean type for the model.json response
  */
@@ -71,8 +79,12 @@ import java.util.Optional;
 public abstract class DumAemExtModelJsonBase<T> implements DumAemExtContentInterface {
 
     private static final String MODEL_JSON_EXTENSION = ".model.json";
-    private static final ObjectMapper MAPPER = JsonMapper.builder()
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+    private static final Cache<DumAemObject, DumAemModelJsonQuery> modelJsonCache = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(5_000_000)
+            .weigher((DumAemObject key, DumAemModelJsonQuery query) -> query.getNodeCount())
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
 
     /**
      * Returns the class used to deserialize the root model.json response.
@@ -83,7 +95,7 @@ public abstract class DumAemExtModelJsonBase<T> implements DumAemExtContentInter
      * Extracts attributes from the parsed model and populates the target attribute map.
      *
      * @param model      the deserialized root model object
-     * @param query      a query helper for finding AEM components by type via JsonPath;
+     * @param query      a query helper for finding AEM components by type;
      *                   use this to extract data from nested components
      * @param aemObject  the AEM content object being indexed
      * @param attrValues the attribute map to populate with extracted values
@@ -130,19 +142,46 @@ public abstract class DumAemExtModelJsonBase<T> implements DumAemExtContentInter
 
     /**
      * Builds the model.json URL for the given AEM object, routing through the
-     * publish URL prefix with a {@code ?t=<timestamp>} cache-buster when the
-     * object is being indexed for the {@link DumAemEnv#PUBLISHING} environment
-     * and a {@code publishURLPrefix} is configured. Otherwise falls back to the
-     * author URL ({@code configuration.getUrl()}).
+     * publish URL prefix when the object is being indexed for the
+     * {@link DumAemEnv#PUBLISHING} environment and a {@code publishURLPrefix} is
+     * configured. Otherwise falls back to the author URL
+     * ({@code configuration.getUrl()}).
      */
-    private String buildModelJsonUrl(DumAemObject aemObject,
+    private static String buildModelJsonUrl(DumAemObject aemObject,
             DumAemConfiguration configuration) {
-        if (aemObject.getEnvironment() == DumAemEnv.PUBLISHING
-                && StringUtils.isNotBlank(configuration.getPublishURLPrefix())) {
-            return configuration.getPublishURLPrefix() + aemObject.getPath()
-                    + MODEL_JSON_EXTENSION + "?t=" + System.currentTimeMillis();
-        }
-        return configuration.getUrl() + aemObject.getPath() + MODEL_JSON_EXTENSION;
+        return isPublishing(aemObject, configuration)
+                ? configuration.getPublishURLPrefix() + aemObject.getPath() + MODEL_JSON_EXTENSION
+                : configuration.getUrl() + aemObject.getPath() + MODEL_JSON_EXTENSION;
+    }
+
+    private static boolean isPublishing(DumAemObject aemObject, DumAemConfiguration configuration) {
+        return aemObject.getEnvironment() == DumAemEnv.PUBLISHING
+                && StringUtils.isNotBlank(configuration.getPublishURLPrefix());
+    }
+
+    /**
+     * Fetches and indexes the model.json of the object. Publish requests carry a
+     * {@code ?t=<timestamp>} cache-buster, so the publish dispatcher is bypassed.
+     */
+    private static Optional<DumAemModelJsonQuery> fetchModelJson(String url, DumAemObject aemObject,
+            DumAemConfiguration configuration) throws IOException {
+        String requestUrl = isPublishing(aemObject, configuration)
+                ? url + "?t=" + System.currentTimeMillis()
+                : url;
+        return DumAemCommonsUtils.getResponseBody(requestUrl, configuration, false)
+                .filter(DumCommonsUtils::isValidJson)
+                .map(DumAemModelJsonQuery::new);
+    }
+
+    private static Optional<DumAemModelJsonQuery> getModelJson(String url, DumAemObject aemObject,
+            DumAemConfiguration configuration) throws IOException {
+        return Optional.ofNullable(modelJsonCache.get(aemObject, key -> {
+            try {
+                return fetchModelJson(url, aemObject, configuration).orElse(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
     }
 
     @Override
@@ -150,14 +189,12 @@ public abstract class DumAemExtModelJsonBase<T> implements DumAemExtContentInter
             DumAemConfiguration configuration) {
         String url = buildModelJsonUrl(aemObject, configuration);
         try {
-            return DumAemCommonsUtils.getResponseBody(url, configuration, false)
-                    .filter(DumCommonsUtils::isValidJson)
-                    .map(json -> {
-                        T model = MAPPER.readValue(json, getModelClass());
+            return getModelJson(url, aemObject, configuration)
+                    .map(query -> {
+                        T model = query.toModel(getModelClass());
                         if (model == null) {
                             return new DumAemAttrMap();
                         }
-                        DumAemModelJsonQuery query = new DumAemModelJsonQuery(json);
                         DumAemAttrMap attrValues = new DumAemAttrMap();
                         extractAttributes(model, query, aemObject, attrValues);
                         return attrValues;
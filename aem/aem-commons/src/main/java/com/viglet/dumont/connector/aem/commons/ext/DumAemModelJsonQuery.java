@@ -16,23 +16,29 @@
 
 package com.viglet.dumont.connector.aem.commons.ext;
 
-import com.jayway.jsonpath.Criteria;
 import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.Filter;
 import com.jayway.jsonpath.JsonPath;
 import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 /**
- * Utility class for querying AEM model.json content using JsonPath.
+ * Utility class for querying AEM model.json content by component type.
  * <p>
  * Encapsulates the common pattern of finding AEM components by their {@code :type}
- * and deserializing them into typed Java objects.
+ * and deserializing them into typed Java objects. The document is parsed once and
+ * indexed by {@code :type} in a single walk, so each query is a map lookup instead
+ * of a scan of the whole document. Components are returned in document order.
  * <p>
  * Example usage:
  * <pre>{@code
@@ -48,15 +54,45 @@ import java.util.Optional;
  */
 public class DumAemModelJsonQuery {
 
-    private static final String JSONPATH_ALL_FILTER = "$..[?]";
     private static final String TYPE_FIELD = ":type";
     private static final ObjectMapper MAPPER = JsonMapper.builder()
             .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
 
-    private final DocumentContext jsonContext;
+    private final JsonNode root;
+    private final Map<String, List<JsonNode>> componentsByType = new HashMap<>();
+    private int nodeCount;
+    private volatile DocumentContext jsonContext;
 
     public DumAemModelJsonQuery(String json) {
-        this.jsonContext = JsonPath.parse(json);
+        this.root = MAPPER.readTree(json);
+        indexComponents();
+    }
+
+    /**
+     * Walks the document once, depth first and in document order, recording every
+     * object below the root that declares a {@code :type}. The root is left out, as
+     * the {@code $..[?]} deep scan this replaces never matched it.
+     */
+    private void indexComponents() {
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            JsonNode node = pending.pop();
+            nodeCount++;
+            if (node != root && node.isObject()) {
+                JsonNode type = node.get(TYPE_FIELD);
+                if (type != null && type.isString()) {
+                    componentsByType.computeIfAbsent(type.stringValue(), key -> new ArrayList<>())
+                            .add(node);
+                }
+            }
+            if (node.isContainer()) {
+                List<JsonNode> children = new ArrayList<>(node.values());
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    pending.push(children.get(i));
+                }
+            }
+        }
     }
 
     /**
@@ -68,9 +104,7 @@ public class DumAemModelJsonQuery {
      * @return a mutable list of deserialized components (never null, may contain nulls filtered out)
      */
     public <T> List<T> findByComponentType(String componentType, Class<T> itemClass) {
-        Object result = jsonContext.read(JSONPATH_ALL_FILTER,
-                Filter.filter(Criteria.where(TYPE_FIELD).eq(componentType)));
-        return MAPPER.convertValue(result,
+        return MAPPER.convertValue(componentsByType.getOrDefault(componentType, List.of()),
                 MAPPER.getTypeFactory().constructCollectionType(List.class, itemClass));
     }
 
@@ -83,7 +117,8 @@ public class DumAemModelJsonQuery {
      * @return an Optional containing the first matched component, or empty
      */
     public <T> Optional<T> findFirstByComponentType(String componentType, Class<T> itemClass) {
-        return findByComponentType(componentType, itemClass).stream()
+        return componentsByType.getOrDefault(componentType, List.of()).stream()
+                .map(component -> MAPPER.treeToValue(component, itemClass))
                 .filter(Objects::nonNull)
                 .findFirst();
     }
@@ -110,9 +145,29 @@ public class DumAemModelJsonQuery {
     }
 
     /**
-     * Returns the underlying DocumentContext for advanced JsonPath queries.
+     * Deserializes the whole document into the given root model class.
+     */
+    public <T> T toModel(Class<T> modelClass) {
+        return MAPPER.treeToValue(root, modelClass);
+    }
+
+    /**
+     * Returns the number of JSON values in the document, used to weigh cached queries.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the underlying DocumentContext for advanced JsonPath queries. It is
+     * only built on first use.
      */
     public DocumentContext getJsonContext() {
-        return jsonContext;
+        DocumentContext context = jsonContext;
+        if (context == null) {
+            context = JsonPath.parse(root.toString());
+            jsonContext = context;
+        }
+        return context;
     }
 }
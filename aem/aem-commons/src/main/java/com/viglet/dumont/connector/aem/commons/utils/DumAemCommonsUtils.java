@@ -25,6 +25,7 @@ import static com.viglet.dumont.connector.aem.commons.DumAemConstants.TEXT;
 import static org.apache.jackrabbit.JcrConstants.JCR_TITLE;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -38,7 +39,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
@@ -46,14 +46,17 @@ import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.util.TimeValue;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
-import org.json.JSONException;
 import org.json.JSONObject;
 
 import com.github.benmanes.caffeine.cache.Cache;
@@ -67,6 +70,8 @@ import com.viglet.dumont.connector.aem.commons.DumAemObjectGeneric;
 import com.viglet.dumont.connector.aem.commons.bean.DumAemContext;
 import com.viglet.dumont.connector.aem.commons.bean.DumAemAttrMap;
 import com.viglet.dumont.connector.aem.commons.bean.DumAemEnv;
+import com.viglet.dumont.connector.aem.commons.bean.DumAemJsonObject;
+import com.viglet.dumont.connector.aem.commons.cache.DumAemHttpCache;
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
 import com.viglet.dumont.connector.aem.commons.context.DumAemLocalePathContext;
 import com.viglet.dumont.connector.aem.commons.ext.DumAemExtContentInterface;
@@ -75,8 +80,8 @@ import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
 import com.viglet.turing.client.sn.job.TurSNJobAttributeSpec;
 
 import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.DeserializationFeature;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 @Slf4j
@@ -90,35 +95,27 @@ public class DumAemCommonsUtils {
             .expireAfterAccess(Duration.ofMinutes(30))
             .build();
 
+    private static volatile DumAemHttpCache httpCache;
+
+    private static final Cache<String, Pattern> oncePatternCache = Caffeine.newBuilder()
+            .maximumSize(100)
+            .build();
+
     private DumAemCommonsUtils() {
         throw new IllegalStateException("Utility class");
     }
 
+    /**
+     * Returns every {@code /content} reference found in the node. Trees built
+     * by {@link #getInfinityJson} already carry the references collected while
+     * parsing; other trees are walked once in place.
+     */
     public static Set<String> getDependencies(JSONObject infinityJson) {
-        final JsonMapper mapper = JsonMapper.builder().build();
-        JsonNode root = mapper.readTree(infinityJson.toString());
-        return getContentValues(root);
-    }
-
-    private static Set<String> getContentValues(JsonNode node) {
-        Set<String> results = new HashSet<>();
-        extractContentValues(node, results);
-        return results;
-    }
-
-    private static void extractContentValues(JsonNode node, Set<String> results) {
-        if (node.isObject()) {
-            node.properties().forEach(property -> extractContentValues(property.getValue(), results));
-        } else if (node.isArray()) {
-            for (JsonNode item : node) {
-                extractContentValues(item, results);
-            }
-        } else if (node.isString()) {
-            String value = node.asString();
-            if (value.startsWith("/content")) {
-                results.add(value);
-            }
+        if (infinityJson instanceof DumAemJsonObject dumAemJsonObject) {
+            return new HashSet<>(dumAemJsonObject.getContentReferences());
         }
+        return new HashSet<>(new DumAemContentReferenceCollector().visit(infinityJson)
+                .getReferences());
     }
 
     public static boolean isTypeEqualContentType(DumAemObjectGeneric dumAemObject,
@@ -143,12 +140,20 @@ public class DumAemCommonsUtils {
     }
 
     public static boolean isNotOnceConfig(String path, DumAemConfiguration config) {
-        if (StringUtils.isNotBlank(config.getOncePattern())) {
-            Pattern p = Pattern.compile(config.getOncePattern());
-            Matcher m = p.matcher(path);
-            return !m.lookingAt();
-        }
-        return true;
+        return getOncePattern(config)
+                .map(pattern -> !pattern.matcher(path).lookingAt())
+                .orElse(true);
+    }
+
+    /**
+     * Returns the compiled once-pattern of the source. Patterns are compiled
+     * once and shared, since they are checked for every traversed node.
+     */
+    public static Optional<Pattern> getOncePattern(DumAemConfiguration config) {
+        String oncePattern = config.getOncePattern();
+        return StringUtils.isNotBlank(oncePattern)
+                ? Optional.of(oncePatternCache.get(oncePattern, Pattern::compile))
+                : Optional.empty();
     }
 
     public static String configOnce(DumAemConfiguration dumAemSourceContext) {
@@ -280,28 +285,16 @@ public class DumAemCommonsUtils {
         String infinityJsonUrl = String.format(
                 url.endsWith(JSON) ? "%s%s%s" : "%s%s.infinity.json%s",
                 urlPrefix, url, cacheBuster);
-        try {
-            return getResponseBody(infinityJsonUrl, dumAemConfiguration, useCache)
-                    .<Optional<JSONObject>>map(responseBody -> {
-                        if (isResponseBodyJSONArray(responseBody) && !url.endsWith(JSON)) {
-                            try {
-                                return getInfinityJson(
-                                        new JSONArray(responseBody).toList().getFirst().toString(),
-                                        dumAemConfiguration, useCache, environment);
-                            } catch (JSONException e) {
-                                log.error(e.getMessage(), e);
-                                return getInfinityJsonNotFound(infinityJsonUrl);
-                            }
-                        } else if (isResponseBodyJSONObject(responseBody)) {
-                            return Optional.of(new JSONObject(responseBody));
-                        }
-                        return getInfinityJsonNotFound(infinityJsonUrl);
-                    }).orElseGet(() -> getInfinityJsonNotFound(infinityJsonUrl));
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
-            return getInfinityJsonNotFound(infinityJsonUrl);
-        }
-
+        return getJson(infinityJsonUrl, dumAemConfiguration, useCache)
+                .flatMap(json -> {
+                    if (json instanceof JSONArray depthUrls && !url.endsWith(JSON)) {
+                        return getFirstUrl(depthUrls).flatMap(firstUrl -> getInfinityJson(firstUrl,
+                                dumAemConfiguration, useCache, environment));
+                    }
+                    return json instanceof JSONObject jsonObject ? Optional.of(jsonObject)
+                            : Optional.<JSONObject>empty();
+                })
+                .or(() -> getInfinityJsonNotFound(infinityJsonUrl));
     }
 
     public static Optional<JSONObject> getDepthJson(String path,
@@ -309,26 +302,45 @@ public class DumAemCommonsUtils {
         String depthJsonUrl = path.endsWith(JSON)
                 ? "%s%s".formatted(dumAemConfiguration.getUrl(), path)
                 : "%s%s.%d.json".formatted(dumAemConfiguration.getUrl(), path, depth);
+        return getJson(depthJsonUrl, dumAemConfiguration, false)
+                .flatMap(json -> {
+                    if (json instanceof JSONArray depthUrls && !path.endsWith(JSON)) {
+                        return getFirstUrl(depthUrls).flatMap(firstUrl -> getDepthJson(firstUrl,
+                                dumAemConfiguration, depth));
+                    }
+                    return json instanceof JSONObject jsonObject ? Optional.of(jsonObject)
+                            : Optional.<JSONObject>empty();
+                })
+                .or(() -> getInfinityJsonNotFound(depthJsonUrl));
+    }
+
+    private static Optional<String> getFirstUrl(JSONArray depthUrls) {
+        return depthUrls.isEmpty() ? Optional.empty() : Optional.of(depthUrls.get(0).toString());
+    }
+
+    /**
+     * Fetches and parses a JSON document in one pass. Uncached requests are
+     * parsed straight from the response stream; cached requests reuse the
+     * shared response body cache. Content references are collected during the
+     * same pass and kept on the returned {@link DumAemJsonObject}.
+     *
+     * @return a {@link JSONObject} or {@link JSONArray}, or empty when the
+     *         request fails or the body is not JSON
+     */
+    private static Optional<Object> getJson(String url, DumAemConfiguration dumAemSourceContext,
+            boolean useCache) {
+        DumAemContentReferenceCollector collector = new DumAemContentReferenceCollector();
         try {
-            return getResponseBody(depthJsonUrl, dumAemConfiguration, false)
-                    .<Optional<JSONObject>>map(responseBody -> {
-                        if (isResponseBodyJSONArray(responseBody) && !path.endsWith(JSON)) {
-                            try {
-                                return getDepthJson(
-                                        new JSONArray(responseBody).toList().getFirst().toString(),
-                                        dumAemConfiguration, depth);
-                            } catch (JSONException e) {
-                                log.error(e.getMessage(), e);
-                                return getInfinityJsonNotFound(depthJsonUrl);
-                            }
-                        } else if (isResponseBodyJSONObject(responseBody)) {
-                            return Optional.of(new JSONObject(responseBody));
-                        }
-                        return getInfinityJsonNotFound(depthJsonUrl);
-                    }).orElseGet(() -> getInfinityJsonNotFound(depthJsonUrl));
-        } catch (IOException e) {
-            log.error(e.getMessage(), e);
-            return getInfinityJsonNotFound(depthJsonUrl);
+            Optional<Object> json = useCache
+                    ? fetchResponseBodyCached(url, dumAemSourceContext)
+                            .flatMap(body -> DumAemJsonStreamParser.parse(body, collector))
+                    : fetchJsonWithoutCache(url, dumAemSourceContext, collector);
+            return json.map(root -> root instanceof JSONObject jsonObject
+                    ? new DumAemJsonObject(jsonObject, collector.getReferences())
+                    : root);
+        } catch (IOException | JacksonException e) {
+            log.error("Failed to read JSON from URL: {} - {}", url, e.getMessage(), e);
+            return Optional.empty();
         }
     }
 
@@ -387,25 +399,105 @@ public class DumAemCommonsUtils {
 
     public static @NotNull Optional<String> fetchResponseBodyWithoutCache(@NotNull String url,
             DumAemConfiguration dumAemSourceContext) throws IOException {
-        String escapedUrl = Objects.requireNonNull(UrlEscapers.urlFragmentEscaper().escape(url));
-        URI normalizedUri = URI.create(escapedUrl).normalize();
-
         try {
-            CloseableHttpClient httpClient = getOrCreateHttpClient(dumAemSourceContext);
-            HttpGet request = new HttpGet(normalizedUri);
-            String json = executeRequest(httpClient, request, url);
-
-            if (isValidJsonResponse(json, url)) {
-                return Optional.of(json);
-            }
-            log.warn("Invalid JSON response from URL: {}", url);
-            return Optional.empty();
+            return executeRequest(url, dumAemSourceContext, entity -> {
+                String json = EntityUtils.toString(entity);
+                if (isValidJsonResponse(json, url)) {
+                    return Optional.of(json);
+                }
+                log.warn("Invalid JSON response from URL: {}", url);
+                return Optional.empty();
+            });
         } catch (IOException e) {
             log.error("Failed to fetch response from URL: {} - {}", url, e.getMessage(), e);
             throw e;
         }
     }
 
+    private static Optional<Object> fetchJsonWithoutCache(@NotNull String url,
+            DumAemConfiguration dumAemSourceContext, DumAemContentReferenceCollector collector)
+            throws IOException {
+        return executeRequest(url, dumAemSourceContext, entity -> {
+            try (InputStream content = entity.getContent()) {
+                return DumAemJsonStreamParser.parse(content, collector);
+            } catch (JacksonException e) {
+                log.warn("Invalid JSON response from URL: {}", url);
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Enables the disk-backed HTTP cache used to revalidate AEM responses, or
+     * disables it when {@code null}.
+     */
+    public static void setHttpCache(DumAemHttpCache cache) {
+        httpCache = cache;
+    }
+
+    /**
+     * Sends a GET for the URL and hands the body to the reader. When the HTTP
+     * cache is enabled the stored validators are sent along, a 304 is answered
+     * from disk and a 200 carrying validators is stored before being read.
+     */
+    private static <T> Optional<T> executeRequest(String url, DumAemConfiguration dumAemSourceContext,
+            DumAemEntityReader<T> reader) throws IOException {
+        DumAemHttpCache cache = DumAemHttpCache.isCacheable(url) ? httpCache : null;
+        if (cache != null) {
+            Optional<Optional<T>> revalidated = executeRequest(url, dumAemSourceContext, reader, cache, true);
+            if (revalidated.isPresent()) {
+                return revalidated.get();
+            }
+            // The body behind the validators was evicted meanwhile; ask again without them
+            cache.remove(url);
+        }
+        return executeRequest(url, dumAemSourceContext, reader, cache, false).orElse(Optional.empty());
+    }
+
+    /**
+     * @return the reader result, or empty when AEM answered 304 but the stored
+     *         body is gone
+     */
+    private static <T> Optional<Optional<T>> executeRequest(String url,
+            DumAemConfiguration dumAemSourceContext, DumAemEntityReader<T> reader, DumAemHttpCache cache,
+            boolean revalidate) throws IOException {
+        String escapedUrl = Objects.requireNonNull(UrlEscapers.urlFragmentEscaper().escape(url));
+        HttpGet request = new HttpGet(URI.create(escapedUrl).normalize());
+        if (revalidate) {
+            cache.addValidators(url, request);
+        }
+        return getOrCreateHttpClient(dumAemSourceContext).execute(request, response -> {
+            int statusCode = response.getCode();
+            log.debug("HTTP {} - {}", statusCode, url);
+            if (revalidate && statusCode == HttpStatus.SC_NOT_MODIFIED) {
+                Optional<InputStream> cachedBody = cache.openBody(url);
+                if (cachedBody.isEmpty()) {
+                    return Optional.empty();
+                }
+                try (InputStream body = cachedBody.get()) {
+                    return Optional.of(reader.read(new InputStreamEntity(body, ContentType.APPLICATION_JSON)));
+                }
+            }
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                log.warn("Empty response entity from URL: {}", url);
+                return Optional.of(Optional.empty());
+            }
+            if (cache != null && statusCode == HttpStatus.SC_OK && DumAemHttpCache.hasValidators(response)) {
+                try (InputStream body = cache.store(url, response, entity.getContent())) {
+                    return Optional.of(reader.read(new InputStreamEntity(body,
+                            ContentType.parseLenient(entity.getContentType()))));
+                }
+            }
+            return Optional.of(reader.read(entity));
+        });
+    }
+
+    @FunctionalInterface
+    private interface DumAemEntityReader<T> {
+        Optional<T> read(HttpEntity entity) throws IOException, HttpException;
+    }
+
     private static CloseableHttpClient getOrCreateHttpClient(DumAemConfiguration dumAemSourceContext) {
         String cacheKey = dumAemSourceContext.getUrl() + "|" + dumAemSourceContext.getUsername();
         return httpClientCache.get(cacheKey, k -> {
@@ -421,21 +513,6 @@ public class DumAemCommonsUtils {
         });
     }
 
-    private static String executeRequest(CloseableHttpClient httpClient, HttpGet request, String url)
-            throws IOException {
-        return httpClient.execute(request, response -> {
-            int statusCode = response.getCode();
-            log.debug("HTTP {} - {}", statusCode, url);
-
-            HttpEntity entity = response.getEntity();
-            if (entity == null) {
-                log.warn("Empty response entity from URL: {}", url);
-                return null;
-            }
-            return EntityUtils.toString(entity);
-        });
-    }
-
     private static boolean isValidJsonResponse(String json, String url) {
         if (DumCommonsUtils.isValidJson(json)) {
             log.debug("Valid JSON response - {}", url);
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import static com.viglet.dumont.connector.aem.commons.DumAemConstants.CONTENT_ROOT;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import lombok.Getter;
+
+/**
+ * Collects every string value that points into the repository
+ * ({@code /content/...}). Used as the string visitor of
+ * {@link DumAemJsonStreamParser} so dependencies are gathered during the
+ * initial parse, or applied to an already built tree with {@link #visit}.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Getter
+public class DumAemContentReferenceCollector implements Consumer<String> {
+    private final Set<String> references = new HashSet<>();
+
+    @Override
+    public void accept(String value) {
+        if (value.startsWith(CONTENT_ROOT)) {
+            references.add(value);
+        }
+    }
+
+    /**
+     * Walks an org.json value and collects its content references.
+     *
+     * @param value a {@link JSONObject}, {@link JSONArray} or scalar
+     * @return this collector
+     */
+    public DumAemContentReferenceCollector visit(Object value) {
+        if (value instanceof JSONObject jsonObject) {
+            jsonObject.keySet().forEach(key -> visit(jsonObject.opt(key)));
+        } else if (value instanceof JSONArray jsonArray) {
+            jsonArray.forEach(this::visit);
+        } else if (value instanceof String stringValue) {
+            accept(stringValue);
+        }
+        return this;
+    }
+}
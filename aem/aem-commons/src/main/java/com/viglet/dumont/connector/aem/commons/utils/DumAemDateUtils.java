@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import static com.viglet.dumont.connector.aem.commons.DumAemConstants.DATE_FORMAT;
+import static com.viglet.dumont.connector.aem.commons.DumAemConstants.DATE_JSON_FORMAT;
+import static java.time.ZoneOffset.UTC;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Shared, immutable formatters for the date formats used by AEM JSON
+ * responses and by the Dumont index.
+ * <p>
+ * AEM serializes dates as {@code Mon Jan 01 2024 10:30:00 GMT+0000}, which
+ * always has the same length and separators. {@link #isAemJsonDate(String)}
+ * checks that shape before parsing, so ordinary string properties are
+ * rejected without throwing an exception.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumAemDateUtils {
+    public static final DateTimeFormatter AEM_JSON_DATE_FORMATTER = DateTimeFormatter
+            .ofPattern(DATE_JSON_FORMAT, Locale.ENGLISH);
+    public static final DateTimeFormatter DUMONT_DATE_FORMATTER = DateTimeFormatter
+            .ofPattern(DATE_FORMAT, Locale.ENGLISH).withZone(UTC);
+    private static final String AEM_JSON_DATE_SHAPE = "aaa aaa 00 0000 00:00:00 GMT+0000";
+
+    private DumAemDateUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses an AEM JSON date.
+     *
+     * @param value the property value
+     * @return the instant, or empty when the value is not an AEM JSON date
+     */
+    public static Optional<Instant> parseAemJsonDate(String value) {
+        if (!hasAemJsonDateShape(value)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OffsetDateTime.parse(value, AEM_JSON_DATE_FORMATTER).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isAemJsonDate(String value) {
+        return parseAemJsonDate(value).isPresent();
+    }
+
+    /**
+     * Converts an AEM JSON date to the Dumont index format (UTC).
+     *
+     * @param value the property value
+     * @return the formatted date, or empty when the value is not an AEM JSON
+     *         date
+     */
+    public static Optional<String> toDumontDate(String value) {
+        return parseAemJsonDate(value).map(DUMONT_DATE_FORMATTER::format);
+    }
+
+    /**
+     * Cheap syntactic check: same length as the AEM format, letters, digits
+     * and separators in the expected positions, signed offset after GMT.
+     */
+    static boolean hasAemJsonDateShape(String value) {
+        if (value == null || value.length() != AEM_JSON_DATE_SHAPE.length()) {
+            return false;
+        }
+        for (int i = 0; i < AEM_JSON_DATE_SHAPE.length(); i++) {
+            char expected = AEM_JSON_DATE_SHAPE.charAt(i);
+            char actual = value.charAt(i);
+            boolean matches = switch (expected) {
+                case 'a' -> Character.isLetter(actual);
+                case '0' -> actual >= '0' && actual <= '9';
+                case '+' -> actual == '+' || actual == '-';
+                default -> actual == expected;
+            };
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
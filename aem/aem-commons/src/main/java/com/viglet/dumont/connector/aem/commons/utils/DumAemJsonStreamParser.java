@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+/**
+ * Builds {@link JSONObject}/{@link JSONArray} trees in a single pass over a
+ * Jackson token stream.
+ * <p>
+ * AEM responses are read straight from the HTTP entity stream, so the body is
+ * never materialized as a {@code String} and never parsed twice just to check
+ * that it is valid JSON. The root token tells whether the payload is an object
+ * or an array (AEM answers with an array of depth-limited URLs when a node is
+ * too large for {@code .infinity.json}).
+ * <p>
+ * An optional string visitor sees every string value as it is read, so
+ * callers can derive data from the document (e.g. content references) without
+ * walking the tree a second time.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumAemJsonStreamParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private DumAemJsonStreamParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses a JSON document from the stream, closing it when done.
+     *
+     * @param inputStream the JSON bytes
+     * @return a {@link JSONObject} or {@link JSONArray}, or empty when the
+     *         document is empty or its root is not a container
+     * @throws JacksonException when the content is not valid JSON
+     */
+    public static Optional<Object> parse(InputStream inputStream) {
+        return parse(inputStream, null);
+    }
+
+    /**
+     * Parses a JSON document from the stream, closing it when done, and hands
+     * every string value to the visitor as it is read.
+     *
+     * @param inputStream   the JSON bytes
+     * @param stringVisitor receives each string value, may be {@code null}
+     * @return a {@link JSONObject} or {@link JSONArray}, or empty when the
+     *         document is empty or its root is not a container
+     * @throws JacksonException when the content is not valid JSON
+     */
+    public static Optional<Object> parse(InputStream inputStream, Consumer<String> stringVisitor) {
+        try (JsonParser parser = JSON_FACTORY.createParser(ObjectReadContext.empty(),
+                inputStream)) {
+            return new DumAemJsonStreamReader(parser, stringVisitor).readRoot();
+        }
+    }
+
+    /**
+     * Parses a JSON document held in memory.
+     *
+     * @param content the JSON text
+     * @return a {@link JSONObject} or {@link JSONArray}, or empty when the
+     *         document is empty or its root is not a container
+     * @throws JacksonException when the content is not valid JSON
+     */
+    public static Optional<Object> parse(String content) {
+        return parse(content, null);
+    }
+
+    /**
+     * Parses a JSON document held in memory, handing every string value to the
+     * visitor as it is read.
+     *
+     * @param content       the JSON text
+     * @param stringVisitor receives each string value, may be {@code null}
+     * @return a {@link JSONObject} or {@link JSONArray}, or empty when the
+     *         document is empty or its root is not a container
+     * @throws JacksonException when the content is not valid JSON
+     */
+    public static Optional<Object> parse(String content, Consumer<String> stringVisitor) {
+        try (JsonParser parser = JSON_FACTORY.createParser(ObjectReadContext.empty(),
+                content)) {
+            return new DumAemJsonStreamReader(parser, stringVisitor).readRoot();
+        }
+    }
+
+    private record DumAemJsonStreamReader(JsonParser parser, Consumer<String> stringVisitor) {
+
+        Optional<Object> readRoot() {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return Optional.of(readObject());
+            }
+            if (token == JsonToken.START_ARRAY) {
+                return Optional.of(readArray());
+            }
+            return Optional.empty();
+        }
+
+        private JSONObject readObject() {
+            JSONObject jsonObject = new JSONObject();
+            String name;
+            while ((name = parser.nextName()) != null) {
+                parser.nextToken();
+                jsonObject.put(name, readValue());
+            }
+            return jsonObject;
+        }
+
+        private JSONArray readArray() {
+            JSONArray jsonArray = new JSONArray();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                jsonArray.put(readValue());
+            }
+            return jsonArray;
+        }
+
+        /**
+         * Maps the current token to the value type org.json itself would
+         * produce, so callers see the same {@code Integer}/{@code Long}/
+         * {@code BigDecimal} instances as with {@code new JSONObject(String)}.
+         */
+        private Object readValue() {
+            return switch (parser.currentToken()) {
+                case START_OBJECT -> readObject();
+                case START_ARRAY -> readArray();
+                case VALUE_STRING -> readString();
+                case VALUE_NUMBER_INT -> parser.getNumberValue();
+                case VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+                case VALUE_TRUE -> Boolean.TRUE;
+                case VALUE_FALSE -> Boolean.FALSE;
+                default -> JSONObject.NULL;
+            };
+        }
+
+        private String readString() {
+            String value = parser.getString();
+            if (stringVisitor != null) {
+                stringVisitor.accept(value);
+            }
+            return value;
+        }
+    }
+}
@@ -16,9 +16,15 @@
 package com.viglet.dumont.connector.aem.commons.utils;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.json.JSONArray;
@@ -40,6 +46,7 @@ public class DumAemQueryBuilderUtils {
 
     private static final String QUERY_BUILDER_PATH = "/bin/querybuilder.json";
     private static final int SLIM_PAGE_SIZE = 500;
+    public static final int DEFAULT_DISCOVERY_CONCURRENCY = 4;
 
     private DumAemQueryBuilderUtils() {
         throw new IllegalStateException("Utility class");
@@ -58,25 +65,41 @@ public class DumAemQueryBuilderUtils {
         return allPaths;
     }
 
+    /**
+     * Discovers content paths using {@link #DEFAULT_DISCOVERY_CONCURRENCY}
+     * concurrent page requests.
+     *
+     * @param configuration the AEM source configuration
+     * @param pageConsumer  receives a batch of paths for each page
+     * @return the total number of paths discovered
+     * @see #discoverPaths(DumAemConfiguration, int, Consumer)
+     */
+    public static long discoverPaths(DumAemConfiguration configuration,
+            Consumer<List<String>> pageConsumer) {
+        return discoverPaths(configuration, DEFAULT_DISCOVERY_CONCURRENCY, pageConsumer);
+    }
+
     /**
      * Discovers content paths in pages and streams each page to the consumer
      * as it arrives. Never holds the full path list in memory.
      * <p>
-     * The first request fetches the total count. All subsequent page offsets
-     * are then fetched in parallel and each batch is delivered to the consumer
-     * immediately.
+     * The first request fetches the total count. The remaining offset windows
+     * are then fetched concurrently, with at most {@code concurrency} requests
+     * in flight, and delivered to the consumer in offset order on the calling
+     * thread.
      *
      * @param configuration the AEM source configuration
+     * @param concurrency   maximum number of concurrent page requests
      * @param pageConsumer  receives a batch of paths for each page
      * @return the total number of paths discovered
      */
-    public static long discoverPaths(DumAemConfiguration configuration,
+    public static long discoverPaths(DumAemConfiguration configuration, int concurrency,
             Consumer<List<String>> pageConsumer) {
         String rootPath = configuration.getRootPath();
         String contentType = configuration.getContentType();
 
-        log.info("QueryBuilder: discovering all '{}' under '{}'",
-                contentType, rootPath);
+        log.info("QueryBuilder: discovering all '{}' under '{}' (concurrency={})",
+                contentType, rootPath, concurrency);
 
         // First request to get total
         JSONObject firstJson = executeSlimQuery(configuration, rootPath, contentType, 0)
@@ -95,56 +118,113 @@ public class DumAemQueryBuilderUtils {
         }
 
         // Process first page
-        JSONArray firstHits = firstJson.optJSONArray("hits");
-        long collected = deliverPage(firstHits, pageConsumer);
+        long collected = deliverPage(extractPaths(firstJson.optJSONArray("hits")), pageConsumer);
 
         log.info("QueryBuilder: page offset=0, collected={}/{}", collected, total);
 
-        // Remaining pages
-        for (int offset = SLIM_PAGE_SIZE; offset < total; offset += SLIM_PAGE_SIZE) {
-            JSONObject json = executeSlimQuery(configuration, rootPath, contentType, offset)
-                    .orElse(null);
+        if (total > SLIM_PAGE_SIZE) {
+            collected += discoverRemainingPages(configuration, rootPath, contentType, total,
+                    Math.max(1, concurrency), collected, pageConsumer);
+        }
 
-            if (json == null) {
-                break;
-            }
+        log.info("QueryBuilder: discovered {} total paths under '{}'",
+                collected, rootPath);
+        return collected;
+    }
 
-            JSONArray hits = json.optJSONArray("hits");
-            long pageCount = deliverPage(hits, pageConsumer);
-            collected += pageCount;
+    /**
+     * Fetches every offset window after the first one using a sliding window of
+     * in-flight requests. The head of the window is always delivered before a
+     * new request is submitted, so memory stays bounded by
+     * {@code concurrency} pages and the consumer sees pages in offset order.
+     */
+    private static long discoverRemainingPages(DumAemConfiguration configuration,
+            String rootPath, String contentType, long total, int concurrency,
+            long alreadyCollected, Consumer<List<String>> pageConsumer) {
+        long collected = 0;
+        Deque<PageRequest> inFlight = new ArrayDeque<>(concurrency);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long nextOffset = SLIM_PAGE_SIZE;
+            while (nextOffset < total && inFlight.size() < concurrency) {
+                inFlight.add(submitPage(executor, configuration, rootPath, contentType,
+                        (int) nextOffset));
+                nextOffset += SLIM_PAGE_SIZE;
+            }
+            while (!inFlight.isEmpty()) {
+                PageRequest head = inFlight.poll();
+                List<String> paths = awaitPage(head);
+                if (paths == null) {
+                    break;
+                }
+                long pageCount = deliverPage(paths, pageConsumer);
+                collected += pageCount;
 
-            log.info("QueryBuilder: page offset={}, collected={}/{}",
-                    offset, collected, total);
+                log.info("QueryBuilder: page offset={}, collected={}/{}",
+                        head.offset(), alreadyCollected + collected, total);
 
-            if (pageCount == 0) {
-                break;
+                if (pageCount == 0) {
+                    break;
+                }
+                if (nextOffset < total) {
+                    inFlight.add(submitPage(executor, configuration, rootPath, contentType,
+                            (int) nextOffset));
+                    nextOffset += SLIM_PAGE_SIZE;
+                }
             }
+        } finally {
+            // Do not wait for abandoned requests; their pages are discarded
+            inFlight.forEach(pending -> pending.future().cancel(true));
+            executor.shutdownNow();
         }
-
-        log.info("QueryBuilder: discovered {} total paths under '{}'",
-                collected, rootPath);
         return collected;
     }
 
-    private static long deliverPage(JSONArray hits, Consumer<List<String>> pageConsumer) {
-        if (hits == null || hits.isEmpty()) {
-            return 0;
+    private record PageRequest(int offset, Future<List<String>> future) {
+    }
+
+    private static PageRequest submitPage(ExecutorService executor,
+            DumAemConfiguration configuration, String rootPath, String contentType,
+            int offset) {
+        return new PageRequest(offset, executor.submit(() -> executeSlimQuery(configuration,
+                rootPath, contentType, offset)
+                .map(json -> extractPaths(json.optJSONArray("hits")))
+                .orElse(null)));
+    }
+
+    private static List<String> awaitPage(PageRequest pageRequest) {
+        try {
+            return pageRequest.future().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("QueryBuilder: interrupted while waiting for page offset={}",
+                    pageRequest.offset(), e);
+        } catch (ExecutionException e) {
+            log.error("QueryBuilder: page offset={} failed: {}", pageRequest.offset(),
+                    e.getMessage(), e);
         }
-        List<String> paths = new ArrayList<>(hits.length());
-        extractPaths(hits, paths);
+        return null;
+    }
+
+    private static long deliverPage(List<String> paths, Consumer<List<String>> pageConsumer) {
         if (!paths.isEmpty()) {
             pageConsumer.accept(paths);
         }
         return paths.size();
     }
 
-    private static void extractPaths(JSONArray hits, List<String> allPaths) {
+    private static List<String> extractPaths(JSONArray hits) {
+        if (hits == null || hits.isEmpty()) {
+            return List.of();
+        }
+        List<String> paths = new ArrayList<>(hits.length());
         for (int i = 0; i < hits.length(); i++) {
             String path = extractPath(hits.get(i));
             if (path != null && !path.isBlank()) {
-                allPaths.add(path);
+                paths.add(path);
             }
         }
+        return paths;
     }
 
     private static String extractPath(Object hit) {
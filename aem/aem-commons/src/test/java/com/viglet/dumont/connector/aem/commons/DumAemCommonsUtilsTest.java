@@ -21,8 +21,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,15 +43,20 @@ import java.util.Set;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import com.viglet.dumont.connector.aem.commons.bean.DumAemJsonObject;
+import com.viglet.dumont.connector.aem.commons.cache.DumAemHttpCache;
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
 import com.viglet.dumont.connector.aem.commons.context.DumAemLocalePathContext;
 import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
 import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
+import com.sun.net.httpserver.HttpServer;
 
 @DisplayName("DumAemCommonsUtils Tests")
 class DumAemCommonsUtilsTest {
@@ -122,6 +133,17 @@ class DumAemCommonsUtilsTest {
 
             assertTrue(dependencies.isEmpty());
         }
+
+        @Test
+        @DisplayName("Should reuse references collected while parsing")
+        void shouldReuseReferencesCollectedWhileParsing() {
+            JSONObject json = new DumAemJsonObject(new JSONObject().put("title", "Test"),
+                    Set.of("/content/dam/collected.png"));
+
+            Set<String> dependencies = DumAemCommonsUtils.getDependencies(json);
+
+            assertEquals(Set.of("/content/dam/collected.png"), dependencies);
+        }
     }
 
     @Nested
@@ -211,6 +233,18 @@ class DumAemCommonsUtilsTest {
 
             assertTrue(DumAemCommonsUtils.isNotOnceConfig("/content/normal/page", config));
         }
+
+        @Test
+        @DisplayName("Should reuse the compiled once pattern")
+        void shouldReuseCompiledOncePattern() {
+            DumAemConfiguration config = DumAemConfiguration.builder()
+                    .oncePattern("/content/once.*")
+                    .build();
+
+            assertSame(DumAemCommonsUtils.getOncePattern(config).orElseThrow(),
+                    DumAemCommonsUtils.getOncePattern(config).orElseThrow());
+            assertTrue(DumAemCommonsUtils.getOncePattern(configuration).isEmpty());
+        }
     }
 
     @Nested
@@ -578,4 +612,96 @@ class DumAemCommonsUtilsTest {
             assertEquals(Locale.ENGLISH, result);
         }
     }
+
+    @Nested
+    @DisplayName("HTTP Cache Tests")
+    class HttpCacheTests {
+
+        private static final String PAGE = "{\"jcr:primaryType\":\"cq:Page\",\"jcr:content\":{\"jcr:title\":\"Home\"}}";
+
+        @TempDir
+        Path cacheDirectory;
+
+        private HttpServer server;
+        private final List<Integer> statuses = Collections.synchronizedList(new ArrayList<>());
+
+        @BeforeEach
+        void startServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/content", exchange -> {
+                if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    statuses.add(304);
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+                    statuses.add(200);
+                    exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                    exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                exchange.close();
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void stopServer() {
+            DumAemCommonsUtils.setHttpCache(null);
+            server.stop(0);
+        }
+
+        private DumAemConfiguration serverConfiguration() {
+            return DumAemConfiguration.builder()
+                    .id("http-cache-" + server.getAddress().getPort())
+                    .url("http://127.0.0.1:" + server.getAddress().getPort())
+                    .username("admin")
+                    .password("admin")
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should revalidate and read unchanged pages from disk")
+        void shouldRevalidateUnchangedPages() throws IOException {
+            DumAemCommonsUtils.setHttpCache(DumAemHttpCache.open(cacheDirectory, 1024 * 1024, 100));
+            DumAemConfiguration config = serverConfiguration();
+
+            JSONObject first = DumAemCommonsUtils.getInfinityJson("/content/site", config, false).orElseThrow();
+            JSONObject second = DumAemCommonsUtils.getInfinityJson("/content/site", config, false).orElseThrow();
+
+            assertEquals(List.of(200, 304), statuses);
+            assertTrue(first.similar(second));
+            assertEquals("Home", second.getJSONObject("jcr:content").getString("jcr:title"));
+        }
+
+        @Test
+        @DisplayName("Should refetch when the cached body is gone")
+        void shouldRefetchWhenCachedBodyIsGone() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(cacheDirectory, 1024 * 1024, 100);
+            DumAemCommonsUtils.setHttpCache(cache);
+            DumAemConfiguration config = serverConfiguration();
+            DumAemCommonsUtils.getInfinityJson("/content/site", config, false);
+            try (var files = Files.list(cacheDirectory)) {
+                for (Path file : files.filter(file -> file.toString().endsWith(".json")).toList()) {
+                    Files.delete(file);
+                }
+            }
+
+            Optional<JSONObject> result = DumAemCommonsUtils.getInfinityJson("/content/site", config, false);
+
+            assertEquals(List.of(200, 304, 200), statuses);
+            assertTrue(result.isPresent());
+        }
+
+        @Test
+        @DisplayName("Should send unconditional requests when the cache is disabled")
+        void shouldSendUnconditionalRequestsWhenDisabled() {
+            DumAemConfiguration config = serverConfiguration();
+
+            DumAemCommonsUtils.getInfinityJson("/content/site", config, false);
+            DumAemCommonsUtils.getInfinityJson("/content/site", config, false);
+
+            assertEquals(List.of(200, 200), statuses);
+        }
+    }
 }
@@ -171,6 +171,55 @@ class DumAemObjectGenericTest {
         }
     }
 
+    @Nested
+    @DisplayName("Publish Up To Date Tests")
+    class PublishUpToDateTests {
+
+        private DumAemObjectGeneric page(String action, String replicated, String modified) {
+            JSONObject jcrContent = new JSONObject();
+            jcrContent.put("cq:lastReplicationAction", action);
+            jcrContent.put("cq:lastReplicationAction_publish", action);
+            jcrContent.put("cq:lastReplicated", replicated);
+            jcrContent.put("jcr:lastModified", modified);
+
+            JSONObject jcrNode = new JSONObject();
+            jcrNode.put("jcr:primaryType", TEST_TYPE);
+            jcrNode.put("jcr:content", jcrContent);
+            return new DumAemObjectGeneric(TEST_PATH, jcrNode);
+        }
+
+        @Test
+        @DisplayName("Should be up to date when activated after the last change")
+        void shouldBeUpToDateWhenActivatedAfterLastChange() {
+            assertTrue(page("Activate", "Tue Jan 02 2024 10:30:00 GMT+0000",
+                    "Mon Jan 01 2024 10:30:00 GMT+0000").isPublishUpToDate());
+        }
+
+        @Test
+        @DisplayName("Should be stale when modified after the last activation")
+        void shouldBeStaleWhenModifiedAfterActivation() {
+            assertFalse(page("Activate", "Mon Jan 01 2024 10:30:00 GMT+0000",
+                    "Tue Jan 02 2024 10:30:00 GMT+0000").isPublishUpToDate());
+        }
+
+        @Test
+        @DisplayName("Should be stale when deactivated")
+        void shouldBeStaleWhenDeactivated() {
+            assertFalse(page("Deactivate", "Tue Jan 02 2024 10:30:00 GMT+0000",
+                    "Mon Jan 01 2024 10:30:00 GMT+0000").isPublishUpToDate());
+        }
+
+        @Test
+        @DisplayName("Should be stale without replication metadata")
+        void shouldBeStaleWithoutReplicationMetadata() {
+            JSONObject jcrNode = new JSONObject();
+            jcrNode.put("jcr:primaryType", TEST_TYPE);
+            jcrNode.put("jcr:content", new JSONObject().put("jcr:title", TEST_TITLE));
+
+            assertFalse(new DumAemObjectGeneric(TEST_PATH, jcrNode).isPublishUpToDate());
+        }
+    }
+
     @Nested
     @DisplayName("Dependencies Tests")
     class DependenciesTests {
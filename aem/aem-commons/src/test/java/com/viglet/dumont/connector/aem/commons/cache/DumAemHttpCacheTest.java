@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("DumAemHttpCache Tests")
+class DumAemHttpCacheTest {
+
+    private static final String URL = "http://localhost:4502/content/site/en.infinity.json";
+    private static final String BODY = "{\"jcr:primaryType\":\"cq:Page\"}";
+
+    @TempDir
+    Path directory;
+
+    private static BasicClassicHttpResponse response(String etag, String lastModified) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(HttpStatus.SC_OK);
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        if (lastModified != null) {
+            response.setHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        return response;
+    }
+
+    private static String store(DumAemHttpCache cache, String url, String body, String etag) throws IOException {
+        try (InputStream stored = cache.store(url, response(etag, null),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+            return new String(stored.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String read(DumAemHttpCache cache, String url) throws IOException {
+        try (InputStream body = cache.openBody(url).orElseThrow()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validator Tests")
+    class ValidatorTests {
+
+        @Test
+        @DisplayName("Should send stored validators on the next request")
+        void shouldSendStoredValidators() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, 1024, 10);
+            try (InputStream stored = cache.store(URL, response("\"v1\"", "Mon, 06 Jan 2025 10:00:00 GMT"),
+                    new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)))) {
+                stored.readAllBytes();
+            }
+            HttpGet request = new HttpGet(URL);
+
+            cache.addValidators(URL, request);
+
+            assertEquals("\"v1\"", request.getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue());
+            assertEquals("Mon, 06 Jan 2025 10:00:00 GMT",
+                    request.getFirstHeader(HttpHeaders.IF_MODIFIED_SINCE).getValue());
+        }
+
+        @Test
+        @DisplayName("Should leave unknown URLs unconditional")
+        void shouldLeaveUnknownUrlsUnconditional() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, 1024, 10);
+            HttpGet request = new HttpGet(URL);
+
+            cache.addValidators(URL, request);
+
+            assertNull(request.getFirstHeader(HttpHeaders.IF_NONE_MATCH));
+            assertNull(request.getFirstHeader(HttpHeaders.IF_MODIFIED_SINCE));
+        }
+
+        @Test
+        @DisplayName("Should detect responses with validators")
+        void shouldDetectResponsesWithValidators() {
+            assertTrue(DumAemHttpCache.hasValidators(response("\"v1\"", null)));
+            assertTrue(DumAemHttpCache.hasValidators(response(null, "Mon, 06 Jan 2025 10:00:00 GMT")));
+            assertFalse(DumAemHttpCache.hasValidators(response(null, null)));
+        }
+
+        @Test
+        @DisplayName("Should not cache URLs with a query string")
+        void shouldNotCacheUrlsWithQueryString() {
+            assertTrue(DumAemHttpCache.isCacheable(URL));
+            assertFalse(DumAemHttpCache.isCacheable(URL + "?t=1700000000000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Storage Tests")
+    class StorageTests {
+
+        @Test
+        @DisplayName("Should return the stored body")
+        void shouldReturnStoredBody() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, 1024, 10);
+
+            assertEquals(BODY, store(cache, URL, BODY, "\"v1\""));
+            assertEquals(BODY, read(cache, URL));
+        }
+
+        @Test
+        @DisplayName("Should replace the previous body of the URL")
+        void shouldReplacePreviousBody() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, 1024, 10);
+            store(cache, URL, BODY, "\"v1\"");
+
+            store(cache, URL, "{}", "\"v2\"");
+
+            assertEquals("{}", read(cache, URL));
+            assertEquals(1, cache.size());
+            assertEquals(2, cache.sizeInBytes());
+        }
+
+        @Test
+        @DisplayName("Should survive a restart")
+        void shouldSurviveRestart() throws IOException {
+            store(DumAemHttpCache.open(directory, 1024, 10), URL, BODY, "\"v1\"");
+
+            DumAemHttpCache reopened = DumAemHttpCache.open(directory, 1024, 10);
+            HttpGet request = new HttpGet(URL);
+            reopened.addValidators(URL, request);
+
+            assertEquals(BODY, read(reopened, URL));
+            assertEquals("\"v1\"", request.getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue());
+        }
+
+        @Test
+        @DisplayName("Should drop removed entries from disk")
+        void shouldDropRemovedEntries() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, 1024, 10);
+            store(cache, URL, BODY, "\"v1\"");
+
+            cache.remove(URL);
+
+            assertTrue(cache.openBody(URL).isEmpty());
+            try (var files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction Tests")
+    class EvictionTests {
+
+        @Test
+        @DisplayName("Should evict the least recently used entry over the entry limit")
+        void shouldEvictLeastRecentlyUsedEntry() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, 1024, 2);
+            store(cache, URL + "/a", BODY, "\"a\"");
+            store(cache, URL + "/b", BODY, "\"b\"");
+            read(cache, URL + "/a");
+
+            store(cache, URL + "/c", BODY, "\"c\"");
+
+            assertEquals(2, cache.size());
+            assertTrue(cache.openBody(URL + "/b").isEmpty());
+            assertEquals(BODY, read(cache, URL + "/a"));
+            assertEquals(BODY, read(cache, URL + "/c"));
+        }
+
+        @Test
+        @DisplayName("Should evict over the size limit but keep the newest entry")
+        void shouldEvictOverSizeLimit() throws IOException {
+            DumAemHttpCache cache = DumAemHttpCache.open(directory, BODY.length(), 10);
+            store(cache, URL + "/a", BODY, "\"a\"");
+
+            store(cache, URL + "/b", BODY + " ", "\"b\"");
+
+            assertEquals(1, cache.size());
+            assertTrue(cache.openBody(URL + "/a").isEmpty());
+            assertEquals(BODY + " ", read(cache, URL + "/b"));
+        }
+    }
+}
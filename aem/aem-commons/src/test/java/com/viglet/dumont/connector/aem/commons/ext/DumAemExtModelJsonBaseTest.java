@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+import com.viglet.dumont.connector.aem.commons.DumAemObject;
+import com.viglet.dumont.connector.aem.commons.bean.DumAemAttrMap;
+import com.viglet.dumont.connector.aem.commons.bean.DumAemEnv;
+import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+
+@DisplayName("DumAemExtModelJsonBase Tests")
+class DumAemExtModelJsonBaseTest {
+
+    private static final String MODEL_JSON = """
+            {"title": "Home", ":items": {"text": {":type": "site/components/text", "text": "Hello"}}}
+            """;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<DumAemModelJsonQuery> queries = Collections.synchronizedList(new ArrayList<>());
+
+    public static class Page {
+        public String title;
+    }
+
+    private class PageExtractor extends DumAemExtModelJsonBase<Page> {
+
+        @Override
+        protected Class<Page> getModelClass() {
+            return Page.class;
+        }
+
+        @Override
+        protected void extractAttributes(Page model, DumAemModelJsonQuery query, DumAemObject aemObject,
+                DumAemAttrMap attrValues) {
+            queries.add(query);
+        }
+    }
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/content", exchange -> {
+            byte[] body = MODEL_JSON.getBytes(StandardCharsets.UTF_8);
+            requests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private DumAemConfiguration configuration() {
+        return DumAemConfiguration.builder()
+                .id("model-json-" + server.getAddress().getPort())
+                .url("http://127.0.0.1:" + server.getAddress().getPort())
+                .username("admin")
+                .password("admin")
+                .build();
+    }
+
+    private static DumAemObject page(String path, String lastModified) {
+        JSONObject jcrContent = new JSONObject();
+        if (lastModified != null) {
+            jcrContent.put("jcr:lastModified", lastModified);
+        }
+        JSONObject jcrNode = new JSONObject();
+        jcrNode.put("jcr:primaryType", "cq:Page");
+        jcrNode.put("jcr:content", jcrContent);
+        return new DumAemObject(path, jcrNode, DumAemEnv.AUTHOR);
+    }
+
+    @Test
+    @DisplayName("Should fetch a page once for every extractor of the object")
+    void shouldFetchOnceForEveryExtractorOfObject() {
+        DumAemConfiguration configuration = configuration();
+        DumAemObject page = page("/content/site/en", "Mon Jan 01 2024 10:30:00 GMT+0000");
+
+        new PageExtractor().consume(page, configuration);
+        new PageExtractor().consume(page, configuration);
+
+        assertEquals(1, requests.get());
+        assertEquals(2, queries.size());
+        assertSame(queries.get(0), queries.get(1));
+        assertEquals("Hello", queries.getFirst()
+                .findFirstByComponentType("site/components/text", DumAemModelJsonQueryTest.Text.class)
+                .orElseThrow().text);
+    }
+
+    @Test
+    @DisplayName("Should fetch again when an unchanged page is indexed again")
+    void shouldFetchAgainWhenUnchangedPageIsIndexedAgain() {
+        DumAemConfiguration configuration = configuration();
+        String lastModified = "Mon Jan 01 2024 10:30:00 GMT+0000";
+
+        new PageExtractor().consume(page("/content/site/en", lastModified), configuration);
+        new PageExtractor().consume(page("/content/site/en", lastModified), configuration);
+
+        assertEquals(2, requests.get());
+    }
+}
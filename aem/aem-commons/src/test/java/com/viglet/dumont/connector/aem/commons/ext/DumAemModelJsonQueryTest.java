@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.ext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumAemModelJsonQuery Tests")
+class DumAemModelJsonQueryTest {
+
+    private static final String TEXT = "site/components/text";
+    private static final String TITLE = "site/components/title";
+    private static final String JSON = """
+            {
+              "title": "Home",
+              ":type": "site/components/page",
+              ":items": {
+                "root": {
+                  ":type": "site/components/container",
+                  ":items": {
+                    "text_1": {":type": "site/components/text", "text": "first"},
+                    "title": {":type": "site/components/title", "text": "Welcome"},
+                    "inner": {
+                      ":type": "site/components/container",
+                      ":items": {
+                        "text_2": {":type": "site/components/text", "text": "second"}
+                      }
+                    }
+                  }
+                }
+              },
+              "list": [
+                {":type": "site/components/text", "text": "third"},
+                {":type": 42, "text": "not a type"}
+              ]
+            }
+            """;
+
+    public static class Text {
+        public String text;
+    }
+
+    public static class Page {
+        public String title;
+    }
+
+    @Nested
+    @DisplayName("Component Index Tests")
+    class ComponentIndexTests {
+
+        @Test
+        @DisplayName("Should find components of a type in document order")
+        void shouldFindComponentsInDocumentOrder() {
+            DumAemModelJsonQuery query = new DumAemModelJsonQuery(JSON);
+
+            List<Text> texts = query.findByComponentType(TEXT, Text.class);
+
+            assertEquals(List.of("first", "second", "third"), texts.stream().map(text -> text.text).toList());
+        }
+
+        @Test
+        @DisplayName("Should find the first component of a type")
+        void shouldFindFirstComponent() {
+            DumAemModelJsonQuery query = new DumAemModelJsonQuery(JSON);
+
+            assertEquals("Welcome", query.findFirstByComponentType(TITLE, Text.class).orElseThrow().text);
+        }
+
+        @Test
+        @DisplayName("Should return nothing for unknown types")
+        void shouldReturnNothingForUnknownTypes() {
+            DumAemModelJsonQuery query = new DumAemModelJsonQuery(JSON);
+
+            assertTrue(query.findByComponentType("site/components/unknown", Text.class).isEmpty());
+            assertTrue(query.findFirstByComponentType("site/components/unknown", Text.class).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not index the root of the document")
+        void shouldNotIndexRoot() {
+            DumAemModelJsonQuery query = new DumAemModelJsonQuery(JSON);
+
+            assertTrue(query.findByComponentType("site/components/page", Page.class).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should ignore non textual types")
+        void shouldIgnoreNonTextualTypes() {
+            DumAemModelJsonQuery query = new DumAemModelJsonQuery(JSON);
+
+            assertTrue(query.findByComponentType("42", Text.class).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should return independent results for each query")
+        void shouldReturnIndependentResults() {
+            DumAemModelJsonQuery query = new DumAemModelJsonQuery(JSON);
+
+            query.findByComponentType(TEXT, Text.class).getFirst().text = "changed";
+
+            assertEquals("first", query.findFirstByComponentType(TEXT, Text.class).orElseThrow().text);
+        }
+    }
+
+    @Nested
+    @DisplayName("Model Tests")
+    class ModelTests {
+
+        @Test
+        @DisplayName("Should deserialize the root model")
+        void shouldDeserializeRootModel() {
+            assertEquals("Home", new DumAemModelJsonQuery(JSON).toModel(Page.class).title);
+        }
+
+        @Test
+        @DisplayName("Should count every JSON value")
+        void shouldCountEveryJsonValue() {
+            assertEquals(4, new DumAemModelJsonQuery("{\"a\":[1,2]}").getNodeCount());
+        }
+    }
+}
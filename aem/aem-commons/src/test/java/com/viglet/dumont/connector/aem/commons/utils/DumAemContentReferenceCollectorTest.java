@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumAemContentReferenceCollector Tests")
+class DumAemContentReferenceCollectorTest {
+
+    private static final String PAGE_JSON = """
+            {
+              "jcr:content": {
+                "fileReference": "/content/dam/site/logo.png",
+                "links": ["/content/site/en/about", "https://example.com"],
+                "title": "Home"
+              },
+              "count": 2
+            }""";
+
+    @Test
+    @DisplayName("Should collect content references while streaming")
+    void shouldCollectWhileStreaming() {
+        DumAemContentReferenceCollector collector = new DumAemContentReferenceCollector();
+
+        DumAemJsonStreamParser.parse(PAGE_JSON, collector);
+
+        assertEquals(Set.of("/content/dam/site/logo.png", "/content/site/en/about"),
+                collector.getReferences());
+    }
+
+    @Test
+    @DisplayName("Should collect the same references from an existing tree")
+    void shouldCollectFromExistingTree() {
+        DumAemContentReferenceCollector streamed = new DumAemContentReferenceCollector();
+        DumAemJsonStreamParser.parse(PAGE_JSON, streamed);
+
+        Set<String> visited = new DumAemContentReferenceCollector()
+                .visit(new JSONObject(PAGE_JSON)).getReferences();
+
+        assertEquals(streamed.getReferences(), visited);
+    }
+
+    @Test
+    @DisplayName("Should ignore non content values")
+    void shouldIgnoreNonContentValues() {
+        Set<String> visited = new DumAemContentReferenceCollector()
+                .visit(new JSONArray().put("/apps/site").put(42).put(JSONObject.NULL))
+                .getReferences();
+
+        assertTrue(visited.isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.viglet.dumont.connector.aem.commons.DumAemConstants;
+
+@DisplayName("DumAemDateUtils Tests")
+class DumAemDateUtilsTest {
+
+    private static final String AEM_DATE = "Mon Jan 01 2024 10:30:00 GMT-0300";
+
+    @Nested
+    @DisplayName("Shape Check Tests")
+    class ShapeCheckTests {
+
+        @Test
+        @DisplayName("Should accept the AEM JSON date shape")
+        void shouldAcceptAemJsonDateShape() {
+            assertTrue(DumAemDateUtils.hasAemJsonDateShape(AEM_DATE));
+        }
+
+        @Test
+        @DisplayName("Should reject ordinary strings without parsing")
+        void shouldRejectOrdinaryStrings() {
+            assertFalse(DumAemDateUtils.hasAemJsonDateShape(null));
+            assertFalse(DumAemDateUtils.hasAemJsonDateShape("not a date"));
+            assertFalse(DumAemDateUtils.hasAemJsonDateShape("2024-01-01T10:30:00Z"));
+            assertFalse(DumAemDateUtils.hasAemJsonDateShape("Mon Jan 01 2024 10:30:00 UTC+0000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parse Tests")
+    class ParseTests {
+
+        @Test
+        @DisplayName("Should parse like the legacy SimpleDateFormat")
+        void shouldParseLikeSimpleDateFormat() throws Exception {
+            Date expected = new SimpleDateFormat(DumAemConstants.DATE_JSON_FORMAT, Locale.ENGLISH)
+                    .parse(AEM_DATE);
+
+            assertEquals(Optional.of(expected.toInstant()),
+                    DumAemDateUtils.parseAemJsonDate(AEM_DATE));
+        }
+
+        @Test
+        @DisplayName("Should reject well shaped but invalid dates")
+        void shouldRejectInvalidDates() {
+            assertTrue(DumAemDateUtils.parseAemJsonDate("Mon Foo 01 2024 10:30:00 GMT+0000")
+                    .isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should format to the Dumont date format in UTC")
+        void shouldFormatToDumontDate() {
+            SimpleDateFormat legacy = new SimpleDateFormat(DumAemConstants.DATE_FORMAT);
+            legacy.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+            assertEquals(Optional.of("2024-01-01T13:30:00Z"), DumAemDateUtils.toDumontDate(AEM_DATE));
+            assertEquals(legacy.format(Date.from(Instant.parse("2024-01-01T13:30:00Z"))),
+                    DumAemDateUtils.toDumontDate(AEM_DATE).orElseThrow());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.core.JacksonException;
+
+@DisplayName("DumAemJsonStreamParser Tests")
+class DumAemJsonStreamParserTest {
+
+    private static final String PAGE_JSON = """
+            {
+              "jcr:primaryType": "cq:Page",
+              "jcr:content": {
+                "jcr:title": "Home",
+                "count": 3,
+                "big": 12345678901,
+                "ratio": 1.5,
+                "hidden": false,
+                "empty": null,
+                "cq:tags": ["site:a", "site:b"]
+              }
+            }""";
+
+    @Test
+    @DisplayName("Should build the same tree as org.json")
+    void shouldBuildSameTreeAsOrgJson() {
+        Optional<Object> parsed = DumAemJsonStreamParser.parse(new ByteArrayInputStream(
+                PAGE_JSON.getBytes(StandardCharsets.UTF_8)));
+
+        JSONObject result = assertInstanceOf(JSONObject.class, parsed.orElseThrow());
+        assertTrue(new JSONObject(PAGE_JSON).similar(result));
+    }
+
+    @Test
+    @DisplayName("Should keep org.json number types")
+    void shouldKeepOrgJsonNumberTypes() {
+        JSONObject content = ((JSONObject) DumAemJsonStreamParser.parse(PAGE_JSON).orElseThrow())
+                .getJSONObject("jcr:content");
+        JSONObject expected = new JSONObject(PAGE_JSON).getJSONObject("jcr:content");
+
+        assertEquals(expected.get("count").getClass(), content.get("count").getClass());
+        assertEquals(expected.get("big").getClass(), content.get("big").getClass());
+        assertEquals(expected.get("ratio").getClass(), content.get("ratio").getClass());
+        assertEquals(JSONObject.NULL, content.get("empty"));
+    }
+
+    @Test
+    @DisplayName("Should detect array root from the first token")
+    void shouldDetectArrayRoot() {
+        Object result = DumAemJsonStreamParser.parse("[\"/content/site/en.5.json\"]")
+                .orElseThrow();
+
+        JSONArray array = assertInstanceOf(JSONArray.class, result);
+        assertEquals("/content/site/en.5.json", array.getString(0));
+    }
+
+    @Test
+    @DisplayName("Should return empty for empty content")
+    void shouldReturnEmptyForEmptyContent() {
+        assertTrue(DumAemJsonStreamParser.parse("").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return empty for scalar root")
+    void shouldReturnEmptyForScalarRoot() {
+        assertTrue(DumAemJsonStreamParser.parse("\"text\"").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hand every string value to the visitor")
+    void shouldHandStringValuesToVisitor() {
+        List<String> visited = new ArrayList<>();
+
+        DumAemJsonStreamParser.parse(PAGE_JSON, visited::add);
+
+        assertEquals(List.of("cq:Page", "Home", "site:a", "site:b"), visited);
+    }
+
+    @Test
+    @DisplayName("Should fail on invalid JSON")
+    void shouldFailOnInvalidJson() {
+        assertThrows(JacksonException.class, () -> DumAemJsonStreamParser.parse("<html></html>"));
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.aem.commons.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+
+@DisplayName("DumAemQueryBuilderUtils Tests")
+class DumAemQueryBuilderUtilsTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    private HttpServer server;
+    private long total;
+    private final List<Integer> offsets = new CopyOnWriteArrayList<>();
+    private final Map<Integer, Integer> errors = new ConcurrentHashMap<>();
+    private final Map<Integer, CountDownLatch> holds = new ConcurrentHashMap<>();
+    private final Map<Integer, CountDownLatch> answered = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    /**
+     * Answers QueryBuilder pages of {@link #total} slim hits. A page can fail
+     * with an error status, or be held until a latch is released.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/bin/querybuilder.json", exchange -> {
+            int offset = Integer.parseInt(exchange.getRequestURI().getQuery()
+                    .replaceAll(".*p\\.offset=(\\d+).*", "$1"));
+            offsets.add(offset);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                CountDownLatch hold = holds.get(offset);
+                if (hold != null) {
+                    hold.await(10, TimeUnit.SECONDS);
+                }
+                if (errors.containsKey(offset)) {
+                    send(exchange, errors.get(offset), "Error");
+                } else {
+                    send(exchange, 200, page(offset).toString());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                answered.computeIfAbsent(offset, key -> new CountDownLatch(1)).countDown();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        holds.values().forEach(CountDownLatch::countDown);
+        server.stop(0);
+    }
+
+    private JSONObject page(int offset) {
+        JSONArray hits = new JSONArray();
+        IntStream.range(offset, (int) Math.min(offset + PAGE_SIZE, total))
+                .forEach(index -> hits.put(new JSONObject().put("path", path(index))));
+        return new JSONObject().put("total", total).put("hits", hits);
+    }
+
+    private static String path(int index) {
+        return "/content/site/page-" + index;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private DumAemConfiguration configuration() {
+        return DumAemConfiguration.builder()
+                .id("querybuilder-" + server.getAddress().getPort())
+                .url("http://127.0.0.1:" + server.getAddress().getPort())
+                .username("admin")
+                .password("admin")
+                .rootPath("/content/site")
+                .contentType("cq:Page")
+                .build();
+    }
+
+    private static List<String> paths(int from, int to) {
+        return IntStream.range(from, to).mapToObj(DumAemQueryBuilderUtilsTest::path).toList();
+    }
+
+    @Test
+    @DisplayName("Should deliver pages in offset order when they complete out of order")
+    void shouldDeliverPagesInOffsetOrder() {
+        total = 3_000;
+        // The second page answers only after the third one
+        CountDownLatch hold = new CountDownLatch(1);
+        holds.put(500, hold);
+        answered.put(1_000, new CountDownLatch(1));
+        CompletableFuture.runAsync(() -> {
+            try {
+                answered.get(1_000).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            hold.countDown();
+        });
+        List<List<String>> pages = new CopyOnWriteArrayList<>();
+
+        long collected = DumAemQueryBuilderUtils.discoverPaths(configuration(), 3, pages::add);
+
+        assertEquals(3_000, collected);
+        assertEquals(6, pages.size());
+        assertEquals(paths(0, 3_000), pages.stream().flatMap(List::stream).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the given number of requests in flight")
+    void shouldLimitRequestsInFlight() {
+        total = 10_000;
+
+        long collected = DumAemQueryBuilderUtils.discoverPaths(configuration(), 3, paths -> {
+        });
+
+        assertEquals(10_000, collected);
+        assertEquals(20, offsets.size());
+        assertTrue(maxInFlight.get() <= 3, "in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Should stop at a failed page without waiting for the requests in flight")
+    void shouldStopAtFailedPage() throws Exception {
+        total = 5_000;
+        errors.put(1_000, 500);
+        holds.put(1_500, new CountDownLatch(1));
+        List<List<String>> pages = new CopyOnWriteArrayList<>();
+
+        long collected = CompletableFuture
+                .supplyAsync(() -> DumAemQueryBuilderUtils.discoverPaths(configuration(), 2, pages::add))
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(1_000, collected);
+        assertEquals(paths(0, 1_000), pages.stream().flatMap(List::stream).toList());
+        assertTrue(offsets.stream().allMatch(offset -> offset <= 1_500), offsets.toString());
+    }
+
+    @Test
+    @DisplayName("Should stop at an empty page")
+    void shouldStopAtEmptyPage() {
+        // AEM reports more hits than it returns
+        total = 5_000;
+        List<List<String>> pages = new CopyOnWriteArrayList<>();
+        server.removeContext("/bin/querybuilder.json");
+        server.createContext("/bin/querybuilder.json", exchange -> {
+            int offset = Integer.parseInt(exchange.getRequestURI().getQuery()
+                    .replaceAll(".*p\\.offset=(\\d+).*", "$1"));
+            offsets.add(offset);
+            JSONObject body = offset < 1_000 ? page(offset)
+                    : new JSONObject().put("total", total).put("hits", new JSONArray());
+            send(exchange, 200, body.toString());
+        });
+
+        long collected = DumAemQueryBuilderUtils.discoverPaths(configuration(), 2, pages::add);
+
+        assertEquals(1_000, collected);
+        assertEquals(2, pages.size());
+        assertTrue(offsets.stream().allMatch(offset -> offset <= 1_500), offsets.toString());
+    }
+
+    @Test
+    @DisplayName("Should make a single request when the first page holds every hit")
+    void shouldMakeSingleRequestForOnePage() {
+        total = PAGE_SIZE;
+        List<List<String>> pages = new CopyOnWriteArrayList<>();
+
+        long collected = DumAemQueryBuilderUtils.discoverPaths(configuration(), 4, pages::add);
+
+        assertEquals(PAGE_SIZE, collected);
+        assertEquals(List.of(paths(0, PAGE_SIZE)), pages);
+        assertEquals(List.of(0), offsets);
+    }
+}
@@ -33,6 +33,7 @@ import com.viglet.dumont.connector.aem.commons.ext.DumAemExtAttributeInterface;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemSourceAttr;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemTargetAttr;
 import com.viglet.dumont.connector.plugin.aem.context.DumAemSession;
+import com.viglet.dumont.connector.plugin.aem.service.DumAemTagTaxonomyService;
 import com.viglet.dumont.connector.plugin.aem.utils.DumAemAttrUtils;
 import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
 
@@ -42,6 +43,11 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class DumAemAttrProcess {
         public static final String CQ_TAGS_PATH = "/content/_cq_tags";
+        private final DumAemTagTaxonomyService tagTaxonomyService;
+
+        public DumAemAttrProcess(DumAemTagTaxonomyService tagTaxonomyService) {
+                this.tagTaxonomyService = tagTaxonomyService;
+        }
 
         public DumAemAttrMap prepareAttributeDefs(DumAemSession dumAemSession,
                         DumAemObject aemObject) {
@@ -123,12 +129,12 @@ public class DumAemAttrProcess {
                 if (CQ_TAGS.equals(attributeName)) {
                         String targetName = context.getDumAemTargetAttr().getName();
                         if (dumAemTargetAttrValueMapFromClass.containsKey(targetName)) {
-                                DumAemAttrUtils.processTagsFromTargetAttr(context,
+                                DumAemAttrUtils.processTagsFromTargetAttr(tagTaxonomyService, context,
                                                 dumAemSourceContext, dumSNAttributeSpecList,
                                                 dumAemTargetAttrValueMapFromClass, targetName,
                                                 dumAemTargetAttrValueMap);
                         } else {
-                                DumAemAttrUtils.processTagsFromSourceAttr(context,
+                                DumAemAttrUtils.processTagsFromSourceAttr(tagTaxonomyService, context,
                                                 dumAemSourceContext, dumSNAttributeSpecList,
                                                 attributeName, dumAemTargetAttrValueMap);
                         }
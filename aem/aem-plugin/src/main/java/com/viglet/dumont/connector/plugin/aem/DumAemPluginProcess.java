@@ -33,6 +33,7 @@ import com.viglet.dumont.connector.plugin.aem.handler.DependencyHandler;
 import com.viglet.dumont.connector.plugin.aem.persistence.model.DumAemSource;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemSessionService;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemSourceService;
+import com.viglet.dumont.connector.plugin.aem.service.DumAemTagTaxonomyService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,18 +54,21 @@ public class DumAemPluginProcess {
         private final IndexingCommandFactory commandFactory;
         private final IndexingExecutor executor;
         private final DependencyHandler dependencyHandler;
+        private final DumAemTagTaxonomyService tagTaxonomyService;
 
         public DumAemPluginProcess(
                         DumAemSourceService sourceService,
                         DumAemSessionService sessionService,
                         IndexingCommandFactory commandFactory,
                         IndexingExecutor executor,
-                        DependencyHandler dependencyHandler) {
+                        DependencyHandler dependencyHandler,
+                        DumAemTagTaxonomyService tagTaxonomyService) {
                 this.sourceService = sourceService;
                 this.sessionService = sessionService;
                 this.commandFactory = commandFactory;
                 this.executor = executor;
                 this.dependencyHandler = dependencyHandler;
+                this.tagTaxonomyService = tagTaxonomyService;
         }
 
         /**
@@ -168,6 +172,7 @@ public class DumAemPluginProcess {
          */
         public void indexAll(DumAemSource source) {
                 DumAemSession session = sessionService.getDumAemSession(source, false);
+                tagTaxonomyService.refresh(session.getConfiguration());
                 IndexingCommand command = commandFactory.createIndexAllCommand(session);
                 executor.executeExclusive(command);
         }
@@ -178,6 +183,7 @@ public class DumAemPluginProcess {
         private void executeStandaloneIndexing(DumAemSource source, DumAemPathList pathList) {
                 DumAemSession session = sessionService.getDumAemSession(source, pathList, true);
                 List<String> paths = pathList.getPaths();
+                tagTaxonomyService.refresh(session.getConfiguration(), paths);
 
                 // Create and execute the indexing command
                 IndexingCommand command = commandFactory.createIndexPathsCommand(session, paths);
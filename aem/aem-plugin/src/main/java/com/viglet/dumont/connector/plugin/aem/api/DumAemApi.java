@@ -18,16 +18,9 @@
 
 package com.viglet.dumont.connector.plugin.aem.api;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
-import org.jetbrains.annotations.NotNull;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,7 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.viglet.dumont.connector.plugin.aem.DumAemPluginProcess;
+import com.viglet.dumont.connector.plugin.aem.executor.DumAemEventQueue;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
@@ -48,12 +41,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/v2/aem")
 @Tag(name = "AEM API", description = "AEM API")
 public class DumAemApi {
-    private final DumAemPluginProcess dumAemPluginProcess;
-    private final Set<String> currentContentIdSet = new HashSet<>();
-    private LocalDateTime currentStandAloneUpdate = LocalDateTime.now();
+    private final DumAemEventQueue dumAemEventQueue;
 
-    public DumAemApi(DumAemPluginProcess dumAemPluginProcess) {
-        this.dumAemPluginProcess = dumAemPluginProcess;
+    public DumAemApi(DumAemEventQueue dumAemEventQueue) {
+        this.dumAemEventQueue = dumAemEventQueue;
     }
 
     @GetMapping("status")
@@ -64,44 +55,11 @@ public class DumAemApi {
     @PostMapping("index/{source}")
     public ResponseEntity<Map<String, String>> indexContentId(@PathVariable String source,
             @RequestBody DumAemPathList pathList) {
-        if (hasNonRepeatedRequest(source, pathList.getPaths())) {
-            dumAemPluginProcess.sentToIndexStandaloneAsync(source, pathList);
-        }
+        int queued = dumAemEventQueue.offer(source, pathList);
+        log.debug("Queued {} new path(s) for source '{}'", queued, source);
         return ResponseEntity.ok(statusSent());
     }
 
-    private void updateCurrentRequests(String name, List<String> paths) {
-        currentContentIdSet.clear();
-        paths.forEach(path -> currentContentIdSet.add(getSourceWithContentId(name, path)));
-        currentStandAloneUpdate = LocalDateTime.now();
-    }
-
-    private boolean hasNonRepeatedRequest(String name, List<String> paths) {
-        Duration duration = Duration.between(currentStandAloneUpdate, LocalDateTime.now());
-        if (duration.getSeconds() > 30L)
-            return true;
-        List<String> filteredPaths = new ArrayList<>(paths);
-        filteredPaths.removeIf(path -> {
-            String pathName = getSourceWithContentId(name, path);
-            if (currentContentIdSet.contains(pathName)) {
-                log.warn("Skipping. Repeated request: {}", pathName);
-                return true;
-            }
-            return false;
-        });
-        if (hasPath(filteredPaths))
-            updateCurrentRequests(name, filteredPaths);
-        return hasPath(filteredPaths);
-    }
-
-    private static boolean hasPath(List<String> paths) {
-        return !paths.isEmpty();
-    }
-
-    private static @NotNull String getSourceWithContentId(String name, String path) {
-        return name + "-" + path;
-    }
-
     private static Map<String, String> statusOk() {
         Map<String, String> status = new HashMap<>();
         status.put("status", "ok");
@@ -44,16 +44,19 @@ public class IndexingCommandFactory {
     private final DumAemJobService jobService;
     private final boolean queryBuilderEnabled;
     private final int parallelism;
+    private final int discoveryConcurrency;
 
     public IndexingCommandFactory(
             AemNodeNavigator nodeNavigator,
             DumAemJobService jobService,
             @Value("${dumont.aem.querybuilder:false}") boolean queryBuilderEnabled,
-            @Value("${dumont.aem.querybuilder.parallelism:10}") int parallelism) {
+            @Value("${dumont.aem.querybuilder.parallelism:10}") int parallelism,
+            @Value("${dumont.aem.querybuilder.discovery.concurrency:4}") int discoveryConcurrency) {
         this.nodeNavigator = nodeNavigator;
         this.jobService = jobService;
         this.queryBuilderEnabled = queryBuilderEnabled;
         this.parallelism = parallelism;
+        this.discoveryConcurrency = discoveryConcurrency;
     }
 
     /**
@@ -66,7 +69,8 @@ public class IndexingCommandFactory {
     public IndexingCommand createIndexAllCommand(DumAemSession session) {
         if (queryBuilderEnabled) {
             log.info("Using QueryBuilder strategy for source: {}", session.getSource());
-            return new IndexAllQueryBuilderCommand(session, nodeNavigator, parallelism);
+            return new IndexAllQueryBuilderCommand(session, nodeNavigator, parallelism,
+                    discoveryConcurrency);
         }
         return new IndexAllCommand(session, nodeNavigator);
     }
@@ -32,7 +32,8 @@ import lombok.extern.slf4j.Slf4j;
  * and infinity.json for content fetching.
  * <p>
  * Pipeline model: each page of discovered paths is processed in parallel
- * immediately, without accumulating all paths in memory first.
+ * immediately, without accumulating all paths in memory first. Discovery
+ * itself keeps up to {@code discoveryConcurrency} page requests in flight.
  *
  * @author Alexandre Oliveira
  * @since 2026.1
@@ -43,18 +44,20 @@ public class IndexAllQueryBuilderCommand implements IndexingCommand {
     private final DumAemSession session;
     private final AemNodeNavigator nodeNavigator;
     private final int parallelism;
+    private final int discoveryConcurrency;
 
     public IndexAllQueryBuilderCommand(DumAemSession session, AemNodeNavigator nodeNavigator,
-            int parallelism) {
+            int parallelism, int discoveryConcurrency) {
         this.session = session;
         this.nodeNavigator = nodeNavigator;
         this.parallelism = Math.max(1, parallelism);
+        this.discoveryConcurrency = Math.max(1, discoveryConcurrency);
     }
 
     @Override
     public void execute() {
-        log.info("Executing IndexAll (QueryBuilder pipeline) for source: {} (parallelism={})",
-                session.getSource(), parallelism);
+        log.info("Executing IndexAll (QueryBuilder pipeline) for source: {} (parallelism={}, discoveryConcurrency={})",
+                session.getSource(), parallelism, discoveryConcurrency);
 
         if (!DumAemCommonsUtils.usingContentTypeParameter(session.getConfiguration())) {
             log.warn("Content type parameter not configured for source: {}",
@@ -66,7 +69,7 @@ public class IndexAllQueryBuilderCommand implements IndexingCommand {
 
         try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
             long total = DumAemQueryBuilderUtils.discoverPaths(
-                    session.getConfiguration(),
+                    session.getConfiguration(), discoveryConcurrency,
                     pagePaths -> processPage(pool, pagePaths, processed));
 
             if (total == 0) {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.context;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+
+/**
+ * Decides, for one indexing run, whether a node matching the source's
+ * once-pattern should be traversed.
+ * <p>
+ * The "once" flag of the source and its compiled pattern are resolved when the
+ * run starts, so traversal does not query the database for every node. Once
+ * the source has completed its first run, matching paths are skipped; during
+ * the first run each matching path is processed a single time.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumAemOnceFilter {
+    private final boolean once;
+    private final Pattern oncePattern;
+    private final Set<String> processedOncePaths = ConcurrentHashMap.newKeySet();
+
+    private DumAemOnceFilter(boolean once, Pattern oncePattern) {
+        this.once = once;
+        this.oncePattern = oncePattern;
+    }
+
+    /**
+     * @param configuration the source configuration
+     * @param once          whether the source already ran its "once" indexing
+     */
+    public static DumAemOnceFilter of(DumAemConfiguration configuration, boolean once) {
+        return new DumAemOnceFilter(once,
+                DumAemCommonsUtils.getOncePattern(configuration).orElse(null));
+    }
+
+    public boolean shouldProcess(String path) {
+        if (oncePattern == null || !oncePattern.matcher(path).lookingAt()) {
+            return true;
+        }
+        return !once && processedOncePaths.add(path);
+    }
+}
@@ -22,4 +22,5 @@ public class DumAemSession extends DumConnectorSession {
     private boolean standalone;
     private boolean recursive;
     private List<TurSNAttributeSpec> attributeSpecs;
+    private DumAemOnceFilter onceFilter;
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.json.JSONObject;
+
+import com.viglet.dumont.connector.plugin.aem.utils.DumAemAttrUtils;
+
+import lombok.Getter;
+
+/**
+ * In-memory trie of an AEM tag namespace, built from a single
+ * {@code /content/_cq_tags/<namespace>.infinity.json} response. Each node keeps
+ * the default and localized titles of its tag; children are keyed by tag name.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumAemTagTaxonomy {
+    @Getter
+    private final Map<String, String> labels;
+    private final Map<String, DumAemTagTaxonomy> children;
+
+    private DumAemTagTaxonomy(Map<String, String> labels,
+            Map<String, DumAemTagTaxonomy> children) {
+        this.labels = Map.copyOf(labels);
+        this.children = Map.copyOf(children);
+    }
+
+    public static DumAemTagTaxonomy of(JSONObject tagJson) {
+        Map<String, DumAemTagTaxonomy> children = new HashMap<>();
+        tagJson.keySet().forEach(key -> {
+            if (tagJson.opt(key) instanceof JSONObject child) {
+                children.put(key, of(child));
+            }
+        });
+        return new DumAemTagTaxonomy(DumAemAttrUtils.getTagLabels(tagJson), children);
+    }
+
+    /**
+     * Finds a descendant tag.
+     *
+     * @param tagPath tag path relative to this node, e.g. {@code color/red}
+     * @return the tag node, or empty when it is not in the taxonomy
+     */
+    public Optional<DumAemTagTaxonomy> find(String tagPath) {
+        DumAemTagTaxonomy node = this;
+        for (String name : tagPath.split("/")) {
+            node = node.children.get(name);
+            if (node == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(node);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2016-2024 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.executor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.viglet.dumont.connector.aem.commons.bean.DumAemEvent;
+import com.viglet.dumont.connector.plugin.aem.DumAemPluginProcess;
+import com.viglet.dumont.connector.plugin.aem.api.DumAemAttributeIndex;
+import com.viglet.dumont.connector.plugin.aem.api.DumAemPathList;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalescing queue for the paths pushed by AEM replication events.
+ * <p>
+ * Paths are collected per source and a single worker per source drains them:
+ * it waits for the debounce window after the first path arrives, then sends the
+ * collected paths to {@link DumAemPluginProcess#sentToIndexStandalone} in
+ * batches of at most {@code dumont.aem.events.batch-size} paths. Paths arriving
+ * while a batch is indexed are picked up by the same worker when it finishes.
+ * <p>
+ * A path queued more than once before it is drained is indexed once, with the
+ * latest event received for it, so a publish followed by an unpublish in the
+ * same window only unpublishes.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Component
+public class DumAemEventQueue {
+
+    private final DumAemPluginProcess dumAemPluginProcess;
+    private final Duration debounce;
+    private final int batchSize;
+    private final Map<String, SourceQueue> queuesBySource = new ConcurrentHashMap<>();
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("aem-event-queue-", 0).factory());
+
+    private record BatchKey(DumAemEvent event, DumAemAttributeIndex attribute) {
+    }
+
+    private record QueuedPath(BatchKey key, boolean recursive) {
+    }
+
+    /**
+     * Pending paths of one source, in arrival order.
+     */
+    private static final class SourceQueue {
+        private final Map<String, QueuedPath> pending = new LinkedHashMap<>();
+        private boolean draining;
+    }
+
+    public DumAemEventQueue(DumAemPluginProcess dumAemPluginProcess,
+            @Value("${dumont.aem.events.debounce:5}") long debounceSeconds,
+            @Value("${dumont.aem.events.batch-size:500}") int batchSize) {
+        this.dumAemPluginProcess = dumAemPluginProcess;
+        this.debounce = Duration.ofSeconds(Math.max(0, debounceSeconds));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Queues the paths of a request and starts the source worker if it is idle.
+     *
+     * @param source   the source name
+     * @param pathList the received paths
+     * @return the number of paths that were not already queued
+     */
+    public int offer(String source, DumAemPathList pathList) {
+        if (CollectionUtils.isEmpty(pathList.getPaths())) {
+            return 0;
+        }
+        BatchKey key = new BatchKey(pathList.getEvent(), pathList.getAttribute());
+        SourceQueue queue = queuesBySource.computeIfAbsent(source, name -> new SourceQueue());
+        int added = 0;
+        boolean startWorker;
+        synchronized (queue) {
+            for (String path : pathList.getPaths()) {
+                QueuedPath previous = queue.pending.remove(path);
+                if (previous == null) {
+                    added++;
+                }
+                boolean recursive = pathList.getRecursive()
+                        || (previous != null && previous.key().equals(key) && previous.recursive());
+                queue.pending.put(path, new QueuedPath(key, recursive));
+            }
+            startWorker = !queue.draining;
+            queue.draining = true;
+        }
+        if (added < pathList.getPaths().size()) {
+            log.debug("Coalesced {} repeated path(s) for source '{}'", pathList.getPaths().size() - added,
+                    source);
+        }
+        if (startWorker) {
+            workers.execute(() -> drain(source, queue));
+        }
+        return added;
+    }
+
+    /**
+     * Returns the number of paths waiting to be indexed for the source.
+     */
+    public int size(String source) {
+        SourceQueue queue = queuesBySource.get(source);
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.pending.size();
+        }
+    }
+
+    private void drain(String source, SourceQueue queue) {
+        try {
+            Thread.sleep(debounce);
+            List<DumAemPathList> batches = takeBatches(queue);
+            while (!batches.isEmpty()) {
+                batches.forEach(batch -> send(source, batch));
+                batches = takeBatches(queue);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            synchronized (queue) {
+                queue.draining = false;
+            }
+            log.warn("Event queue of source '{}' stopped with {} path(s) pending", source, size(source));
+        }
+    }
+
+    /**
+     * Takes every pending path, grouped by event, attribute and recursion in
+     * arrival order and split into batches. Marks the worker idle when nothing
+     * is pending, so the next offer starts a new one.
+     */
+    private List<DumAemPathList> takeBatches(SourceQueue queue) {
+        Map<QueuedPath, List<String>> groups = new LinkedHashMap<>();
+        synchronized (queue) {
+            if (queue.pending.isEmpty()) {
+                queue.draining = false;
+                return List.of();
+            }
+            queue.pending.forEach((path, queuedPath) -> groups
+                    .computeIfAbsent(queuedPath, group -> new ArrayList<>()).add(path));
+            queue.pending.clear();
+        }
+        List<DumAemPathList> batches = new ArrayList<>();
+        groups.forEach((group, paths) -> {
+            for (int from = 0; from < paths.size(); from += batchSize) {
+                batches.add(DumAemPathList.builder()
+                        .paths(new ArrayList<>(paths.subList(from, Math.min(paths.size(), from + batchSize))))
+                        .event(group.key().event())
+                        .attribute(group.key().attribute())
+                        .recursive(group.recursive())
+                        .build());
+            }
+        });
+        return batches;
+    }
+
+    private void send(String source, DumAemPathList batch) {
+        try {
+            log.info("Indexing {} queued path(s) for source '{}' ({})", batch.getPaths().size(), source,
+                    Objects.toString(batch.getEvent(), "no event"));
+            dumAemPluginProcess.sentToIndexStandalone(source, batch);
+        } catch (Exception e) {
+            log.error("Error indexing {} queued path(s) for source '{}': {}", batch.getPaths().size(),
+                    source, e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        workers.shutdownNow();
+    }
+}
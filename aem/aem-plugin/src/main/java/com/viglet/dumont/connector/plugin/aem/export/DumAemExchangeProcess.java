@@ -20,25 +20,26 @@ package com.viglet.dumont.connector.plugin.aem.export;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
-import org.apache.commons.io.FileUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.viglet.dumont.commons.utils.DumCommonsUtils;
 import com.viglet.dumont.connector.plugin.aem.export.bean.DumAemAttribExchange;
 import com.viglet.dumont.connector.plugin.aem.export.bean.DumAemExchange;
 import com.viglet.dumont.connector.plugin.aem.export.bean.DumAemModelExchange;
@@ -56,15 +57,18 @@ import com.viglet.dumont.connector.plugin.aem.persistence.repository.DumAemSourc
 import com.viglet.dumont.connector.plugin.aem.persistence.repository.DumAemSourceLocalePathRepository;
 import com.viglet.dumont.connector.plugin.aem.persistence.repository.DumAemSourceRepository;
 import com.viglet.dumont.connector.plugin.aem.persistence.repository.DumAemTargetAttributeRepository;
-import com.viglet.dumont.spring.utils.DumSpringUtils;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import tools.jackson.core.exc.JacksonIOException;
-import tools.jackson.core.exc.StreamReadException;
-import tools.jackson.databind.DatabindException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
@@ -76,25 +80,38 @@ import tools.jackson.databind.json.JsonMapper;
 @Transactional
 public class DumAemExchangeProcess {
     private static final String EXPORT_FILE = "export.json";
+    private static final String SOURCES = "sources";
+    private static final ObjectMapper EXPORT_MAPPER = JsonMapper.builder()
+            .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL))
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final ObjectMapper IMPORT_MAPPER = JsonMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
     private final DumAemSourceRepository dumAemSourceRepository;
     private final DumAemAttributeSpecificationRepository dumAemAttributeSpecificationRepository;
     private final DumAemPluginModelRepository dumAemModelRepository;
     private final DumAemTargetAttributeRepository dumAemTargetAttributeRepository;
     private final DumAemSourceAttributeRepository dumAemSourceAttributeRepository;
     private final DumAemSourceLocalePathRepository dumAemSourceLocalePathRepository;
+    private final TransactionTemplate readOnlyTransaction;
 
     public DumAemExchangeProcess(DumAemSourceRepository dumAemSourceRepository,
             DumAemAttributeSpecificationRepository dumAemAttributeSpecificationRepository,
             DumAemPluginModelRepository dumAemModelRepository,
             DumAemTargetAttributeRepository dumAemTargetAttributeRepository,
             DumAemSourceAttributeRepository dumAemSourceAttributeRepository,
-            DumAemSourceLocalePathRepository dumAemSourceLocalePathRepository) {
+            DumAemSourceLocalePathRepository dumAemSourceLocalePathRepository,
+            PlatformTransactionManager transactionManager) {
         this.dumAemSourceRepository = dumAemSourceRepository;
         this.dumAemAttributeSpecificationRepository = dumAemAttributeSpecificationRepository;
         this.dumAemModelRepository = dumAemModelRepository;
         this.dumAemTargetAttributeRepository = dumAemTargetAttributeRepository;
         this.dumAemSourceAttributeRepository = dumAemSourceAttributeRepository;
         this.dumAemSourceLocalePathRepository = dumAemSourceLocalePathRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     private Collection<DumAemAttribExchange> attributeExchange(
@@ -113,112 +130,116 @@ public class DumAemExchangeProcess {
         return attribExchanges;
     }
 
+    /**
+     * Streams the sources as a zip with a single {@value #EXPORT_FILE} entry.
+     * The sources are read in a read-only transaction while the response is
+     * written and each one is serialized as soon as it is mapped, so nothing is
+     * staged on disk or buffered in memory.
+     */
     public StreamingResponseBody exportObject(HttpServletResponse response) {
-        String folderName = UUID.randomUUID().toString();
-        File userDir = new File(System.getProperty("user.dir"));
-        if (userDir.exists() && userDir.isDirectory()) {
-            File tmpDir = new File(userDir.getAbsolutePath().concat(File.separator + "store" + File.separator + "tmp"));
+        String strDate = new SimpleDateFormat("yyyy-MM-dd_HHmmss").format(new Date());
+        String zipFileName = "Aem_" + strDate + ".zip";
+        response.addHeader("Content-disposition", "attachment;filename=" + zipFileName);
+        response.setContentType("application/octet-stream");
+        response.setStatus(HttpServletResponse.SC_OK);
+        return output -> {
             try {
-                Files.createDirectories(tmpDir.toPath());
-            } catch (IOException e) {
-                log.error(e.getMessage(), e);
-            }
-            List<DumAemSource> dumAemSources = dumAemSourceRepository.findAll();
-            File exportDir = new File(tmpDir.getAbsolutePath().concat(File.separator + folderName));
-            File exportFile = new File(exportDir.getAbsolutePath().concat(File.separator + EXPORT_FILE));
-            try {
-                Files.createDirectories(exportDir.toPath());
-            } catch (IOException e) {
-                log.error(e.getMessage(), e);
-            }
-            JsonMapper mapper = JsonMapper.builder()
-                    .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL))
-                    .build();
-            try {
-                mapper.writerWithDefaultPrettyPrinter().writeValue(exportFile,
-                        new DumAemExchange(dumAemSources.stream()
-                                .map(dumAemSource -> DumAemSourceExchange.builder()
-                                        .id(dumAemSource.getId())
-                                        .endpoint(dumAemSource.getEndpoint())
-                                        .attributes(attributeExchange(dumAemSource.getAttributeSpecifications()))
-                                        .defaultLocale(dumAemSource.getDefaultLocale())
-                                        .localeClass(dumAemSource.getLocaleClass())
-                                        .authorSNSite(dumAemSource.getAuthorSNSite())
-                                        .publishSNSite(dumAemSource.getPublishSNSite())
-                                        .author(dumAemSource.isAuthor())
-                                        .publish(dumAemSource.isPublish())
-                                        .name(dumAemSource.getName())
-                                        .build())
-                                .toList()));
-                File zipFile = new File(tmpDir.getAbsolutePath().concat(File.separator + folderName + ".zip"));
-                DumCommonsUtils.addFilesToZip(exportDir, zipFile);
-                String strDate = new SimpleDateFormat("yyyy-MM-dd_HHmmss").format(new Date());
-                String zipFileName = "Aem_" + strDate + ".zip";
-                response.addHeader("Content-disposition", "attachment;filename=" + zipFileName);
-                response.setContentType("application/octet-stream");
-                response.setStatus(HttpServletResponse.SC_OK);
-
-                return output -> {
-                    try {
-                        java.nio.file.Path path = Paths.get(zipFile.getAbsolutePath());
-                        byte[] data = Files.readAllBytes(path);
-                        output.write(data);
-                        output.flush();
-                        FileUtils.deleteDirectory(exportDir);
-                        FileUtils.deleteQuietly(zipFile);
-                    } catch (Exception e) {
-                        log.error(e.getMessage(), e);
-                    }
-                };
+                writeExport(output);
             } catch (Exception e) {
                 log.error(e.getMessage(), e);
             }
+        };
+    }
+
+    public void writeExport(OutputStream output) throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(output);
+        zipOutputStream.putNextEntry(new ZipEntry(EXPORT_FILE));
+        ObjectWriter writer = EXPORT_MAPPER.writerWithDefaultPrettyPrinter();
+        try (JsonGenerator generator = writer.createGenerator(zipOutputStream)) {
+            generator.writeStartObject();
+            generator.writeName(SOURCES);
+            generator.writeStartArray();
+            readOnlyTransaction.executeWithoutResult(status -> dumAemSourceRepository.findAll()
+                    .forEach(dumAemSource -> generator.writePOJO(sourceExchange(dumAemSource))));
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
-        return null;
+        zipOutputStream.closeEntry();
+        zipOutputStream.finish();
+        output.flush();
     }
 
+    private DumAemSourceExchange sourceExchange(DumAemSource dumAemSource) {
+        return DumAemSourceExchange.builder()
+                .id(dumAemSource.getId())
+                .endpoint(dumAemSource.getEndpoint())
+                .attributes(attributeExchange(dumAemSource.getAttributeSpecifications()))
+                .defaultLocale(dumAemSource.getDefaultLocale())
+                .localeClass(dumAemSource.getLocaleClass())
+                .authorSNSite(dumAemSource.getAuthorSNSite())
+                .publishSNSite(dumAemSource.getPublishSNSite())
+                .author(dumAemSource.isAuthor())
+                .publish(dumAemSource.isPublish())
+                .name(dumAemSource.getName())
+                .build();
+    }
+
+    /**
+     * Imports the {@value #EXPORT_FILE} entry of the uploaded zip, at its root
+     * or inside a folder, reading the zip as it is uploaded.
+     */
     public void importFromMultipartFile(MultipartFile multipartFile) {
-        File extractFolder = DumSpringUtils.extractZipFile(multipartFile);
-        File parentExtractFolder = null;
-        if (!(new File(extractFolder, EXPORT_FILE).exists())
-                && Objects.requireNonNull(extractFolder.listFiles()).length == 1) {
-            for (File fileOrDirectory : Objects.requireNonNull(extractFolder.listFiles())) {
-                if (fileOrDirectory.isDirectory() && new File(fileOrDirectory, EXPORT_FILE).exists()) {
-                    parentExtractFolder = extractFolder;
-                    extractFolder = fileOrDirectory;
+        try (ZipInputStream zipInputStream = new ZipInputStream(multipartFile.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                if (isExportFile(entry)) {
+                    log.info("Importing {} entry of {}", entry.getName(), multipartFile.getOriginalFilename());
+                    importFromStream(zipInputStream);
+                    return;
                 }
             }
-        }
-        File exportFile = new File(extractFolder.getAbsolutePath().concat(File.separator + EXPORT_FILE));
-        importFromFile(exportFile);
-        try {
-            FileUtils.deleteDirectory(extractFolder);
-            if (parentExtractFolder != null) {
-                FileUtils.deleteDirectory(parentExtractFolder);
-            }
-        } catch (IOException e) {
+            log.warn("No {} found in {}", EXPORT_FILE, multipartFile.getOriginalFilename());
+        } catch (IOException | JacksonException e) {
             log.error(e.getMessage(), e);
         }
     }
 
+    private static boolean isExportFile(ZipEntry entry) {
+        return !entry.isDirectory()
+                && (entry.getName().equals(EXPORT_FILE) || entry.getName().endsWith("/" + EXPORT_FILE));
+    }
+
     public void importFromFile(File exportFile) {
         log.info("Importing {} file", exportFile);
-        try {
-            ObjectMapper mapper = JsonMapper.builder()
-                    .configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false)
-                    .build();
-            DumAemExchange dumAemExchange = mapper.readValue(exportFile, DumAemExchange.class);
-            if (hasSource(dumAemExchange)) {
-                importAemSource(dumAemExchange);
-            }
-        } catch (StreamReadException | DatabindException | JacksonIOException e) {
+        try (InputStream inputStream = Files.newInputStream(exportFile.toPath())) {
+            importFromStream(inputStream);
+        } catch (IOException | JacksonException e) {
             log.error(e.getMessage(), e);
         }
-
     }
 
-    private static boolean hasSource(DumAemExchange dumAemExchange) {
-        return dumAemExchange.getSources() != null && !dumAemExchange.getSources().isEmpty();
+    /**
+     * Reads the sources of an export one at a time and imports each as soon as
+     * it is parsed. The stream is left open.
+     */
+    private void importFromStream(InputStream inputStream) {
+        try (JsonParser parser = IMPORT_MAPPER.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                log.warn("Export file does not contain an object");
+                return;
+            }
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (SOURCES.equals(name) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        importSource(parser.readValueAs(DumAemSourceExchange.class));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
     }
 
     public void importAemSource(DumAemExchange dumAemExchange) {
@@ -226,14 +247,16 @@ public class DumAemExchangeProcess {
     }
 
     private void setSources(DumAemExchange dumAemExchange) {
-        dumAemExchange.getSources()
-                .stream()
-                .filter(dumAemSourceExchange -> dumAemSourceRepository.findById(dumAemSourceExchange.getId()).isEmpty())
-                .forEach(dumAemSourceExchange -> {
-                    DumAemSource source = setSource(dumAemSourceExchange);
-                    setFacetNames(dumAemSourceExchange, source);
-                    setModels(dumAemSourceExchange, source);
-                });
+        dumAemExchange.getSources().forEach(this::importSource);
+    }
+
+    private void importSource(DumAemSourceExchange dumAemSourceExchange) {
+        if (dumAemSourceRepository.findById(dumAemSourceExchange.getId()).isPresent()) {
+            return;
+        }
+        DumAemSource source = setSource(dumAemSourceExchange);
+        setFacetNames(dumAemSourceExchange, source);
+        setModels(dumAemSourceExchange, source);
     }
 
     private void setModels(DumAemSourceExchange dumAemSourceExchange, DumAemSource dumAemSource) {
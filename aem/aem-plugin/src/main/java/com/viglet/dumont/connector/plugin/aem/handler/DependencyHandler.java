@@ -30,7 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Handles dependency resolution and re-indexing.
- * When content is updated, this handler finds and re-indexes dependent content.
+ * When content is updated, this handler finds and re-indexes dependent content,
+ * including content that depends on it through other dependents, up to
+ * {@code dumont.dependencies.depth} hops.
  * 
  * @author Alexandre Oliveira
  * @since 2026.1
@@ -20,8 +20,10 @@ import static com.viglet.dumont.connector.aem.commons.DumAemConstants.JCR;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.REP;
 import static com.viglet.dumont.connector.aem.commons.DumAemConstants.STATIC_FILE_SUB_TYPE;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,8 +40,9 @@ import com.viglet.dumont.connector.plugin.aem.service.DumAemSourceService;
 import com.viglet.dumont.connector.plugin.aem.utils.DumAemReactiveUtils;
 
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Handles navigation through AEM content tree and triggers indexing.
@@ -54,6 +57,8 @@ import reactor.core.publisher.Mono;
 public class AemNodeNavigator {
 
     private static final int DEFAULT_PARALLELISM = 4;
+    private static final Sinks.EmitFailureHandler EMIT_FAILURE_HANDLER = Sinks.EmitFailureHandler
+            .busyLooping(Duration.ofSeconds(5));
 
     private final DumAemObjectService objectService;
     private final DumAemJobService jobService;
@@ -123,14 +128,15 @@ public class AemNodeNavigator {
 
     /**
      * Navigates children nodes using the configured strategy (sync or reactive).
+     * The reactive traversal is awaited here because indexing commands are
+     * synchronous and finish the job once this call returns.
      */
     private void navigateChildren(DumAemSession session, DumAemObjectGeneric aemObject) {
         if (reactiveEnabled) {
             try {
                 navigateChildrenReactive(session, aemObject).block();
             } catch (Exception e) {
-                log.warn("Reactive processing failed, falling back to synchronous: {}", e.getMessage());
-                navigateChildrenSync(session, aemObject);
+                log.error("Reactive traversal of {} failed: {}", aemObject.getPath(), e.getMessage(), e);
             }
         } else {
             navigateChildrenSync(session, aemObject);
@@ -157,17 +163,47 @@ public class AemNodeNavigator {
 
     /**
      * Reactive children navigation with parallelism.
-     * Fetches and processes child nodes concurrently.
+     * <p>
+     * The whole subtree is traversed by one pipeline: child paths are pushed
+     * into a work queue and fetched with at most {@code reactiveParallelism}
+     * requests in flight, however deep the tree is. Each fetched node is
+     * indexed on the bounded elastic scheduler, so the job service never runs
+     * on a Netty event loop, and its children are queued behind it. The queue
+     * completes when no node is pending.
      */
     private Mono<Void> navigateChildrenReactive(DumAemSession session, DumAemObjectGeneric aemObject) {
+        return Mono.defer(() -> {
+            Sinks.Many<String> pendingPaths = Sinks.many().unicast().onBackpressureBuffer();
+            AtomicInteger pendingCount = new AtomicInteger(1);
+
+            enqueueChildren(session, aemObject, pendingPaths, pendingCount);
+            release(pendingPaths, pendingCount);
+
+            return pendingPaths.asFlux()
+                    .flatMap(childPath -> processChildNodeReactive(session, childPath, pendingPaths, pendingCount)
+                            .doFinally(signal -> release(pendingPaths, pendingCount)), reactiveParallelism)
+                    .then();
+        });
+    }
+
+    private void enqueueChildren(DumAemSession session, DumAemObjectGeneric aemObject,
+            Sinks.Many<String> pendingPaths, AtomicInteger pendingCount) {
         DumAemConfiguration config = session.getConfiguration();
 
-        return Flux.fromIterable(aemObject.getJcrNode().toMap().entrySet())
-                .filter(entry -> isIndexableNode(config, entry.getKey()))
-                .map(entry -> "%s/%s".formatted(aemObject.getPath(), entry.getKey()))
+        aemObject.getJcrNode().keySet().stream()
+                .filter(nodeName -> isIndexableNode(config, nodeName))
+                .map(nodeName -> "%s/%s".formatted(aemObject.getPath(), nodeName))
                 .filter(childPath -> shouldProcessNode(session, childPath))
-                .flatMap(childPath -> processChildNodeReactive(session, childPath), reactiveParallelism)
-                .then();
+                .forEach(childPath -> {
+                    pendingCount.incrementAndGet();
+                    pendingPaths.emitNext(childPath, EMIT_FAILURE_HANDLER);
+                });
+    }
+
+    private static void release(Sinks.Many<String> pendingPaths, AtomicInteger pendingCount) {
+        if (pendingCount.decrementAndGet() == 0) {
+            pendingPaths.emitComplete(EMIT_FAILURE_HANDLER);
+        }
     }
 
     /**
@@ -191,20 +227,24 @@ public class AemNodeNavigator {
     }
 
     /**
-     * Fetches and processes a child node reactively (runs concurrently via flatMap).
+     * Fetches and processes a child node reactively, queueing its children
+     * when the session is recursive. Failures are logged per node and never
+     * stop the rest of the traversal.
      */
-    private Mono<Void> processChildNodeReactive(DumAemSession session, String childPath) {
+    private Mono<Void> processChildNodeReactive(DumAemSession session, String childPath,
+            Sinks.Many<String> pendingPaths, AtomicInteger pendingCount) {
         return reactiveUtils.getInfinityJsonReactive(childPath, session.getConfiguration())
-                .flatMap(infinityJson -> {
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(infinityJson -> {
                     DumAemObjectGeneric childObject = objectService.getDumAemObjectGeneric(childPath, infinityJson,
                             session.getEvent());
                     processNode(session, childObject);
 
                     if (session.isRecursive()) {
-                        return navigateChildrenReactive(session, childObject);
+                        enqueueChildren(session, childObject, pendingPaths, pendingCount);
                     }
-                    return Mono.empty();
                 })
+                .then()
                 .onErrorResume(e -> {
                     log.warn("Error processing child path {}: {}", childPath, e.toString(), e);
                     return Mono.empty();
@@ -231,12 +271,17 @@ public class AemNodeNavigator {
 
     /**
      * Checks if a node should be processed based on "once" configuration.
+     * Uses the filter resolved when the session was created; sessions built
+     * without one fall back to querying the source.
      *
      * @param session  the AEM session
      * @param nodePath the node path
      * @return true if the node should be processed
      */
     private boolean shouldProcessNode(DumAemSession session, String nodePath) {
+        if (session.getOnceFilter() != null) {
+            return session.getOnceFilter().shouldProcess(nodePath);
+        }
         DumAemConfiguration config = session.getConfiguration();
         return !sourceService.isOnce(config) || DumAemCommonsUtils.isNotOnceConfig(nodePath, config);
     }
@@ -13,6 +13,7 @@ import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -35,6 +36,7 @@ import lombok.experimental.SuperBuilder;
 @Getter
 @Setter
 @Entity
+@EntityListeners(DumAemConfigVersionListener.class)
 @Table(name = "aem_attribute_specification")
 @JsonIgnoreProperties({ "dumAemSource" })
 public class DumAemAttributeSpecification extends TurSNAttributeSpec {
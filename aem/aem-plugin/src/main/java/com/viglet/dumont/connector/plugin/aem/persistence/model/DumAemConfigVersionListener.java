@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.persistence.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Bumps a configuration version stamp whenever an AEM source, or any of its
+ * models, attributes, attribute specifications or locale paths, or a plugin
+ * system setting, is created, updated or deleted. Cached session data built
+ * from an older version is discarded.
+ * <p>
+ * Inside a transaction the version is bumped after it commits, so a session
+ * built meanwhile cannot cache the old configuration under the new version,
+ * and a rollback leaves the version as it was.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumAemConfigVersionListener {
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    public static long currentVersion() {
+        return VERSION.get();
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    VERSION.incrementAndGet();
+                }
+            });
+        } else {
+            VERSION.incrementAndGet();
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.io.Serializable;
 @Setter
 @Getter
 @Entity
+@EntityListeners(DumAemConfigVersionListener.class)
 @Table(name = "aem_system", uniqueConstraints = { @UniqueConstraint(columnNames = { "config" }) })
 public class DumAemPluginSystem implements Serializable {
 
@@ -32,6 +32,7 @@ import com.viglet.dumont.spring.jpa.DumUuid;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
@@ -44,6 +45,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
+@EntityListeners(DumAemConfigVersionListener.class)
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
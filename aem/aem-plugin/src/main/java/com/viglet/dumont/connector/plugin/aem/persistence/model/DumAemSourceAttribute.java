@@ -27,6 +27,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -47,6 +48,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@EntityListeners(DumAemConfigVersionListener.class)
 @Table(name = "aem_source_attribute")
 @JsonIgnoreProperties({ "dumAemTargetAttribute" })
 public class DumAemSourceAttribute implements Serializable {
@@ -32,6 +32,7 @@ import com.viglet.dumont.spring.jpa.DumUuid;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -54,6 +55,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@EntityListeners(DumAemConfigVersionListener.class)
 @Table(name = "aem_target_attribute")
 @JsonIgnoreProperties({ "dumAemModel" })
 public class DumAemTargetAttribute implements Serializable {
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.viglet.dumont.connector.aem.commons.cache.DumAemHttpCache;
+import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Enables the disk-backed AEM HTTP cache at startup, so JSON fetches are
+ * revalidated with {@code If-None-Match}/{@code If-Modified-Since} instead of
+ * being downloaded again on every crawl.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Service
+public class DumAemHttpCacheService {
+
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final int maxEntries;
+    @Getter
+    private DumAemHttpCache httpCache;
+
+    public DumAemHttpCacheService(
+            @Value("${dumont.aem.http.cache.enabled:false}") boolean enabled,
+            @Value("${dumont.aem.http.cache.dir:./store/cache/aem}") String directory,
+            @Value("${dumont.aem.http.cache.size:1024}") long maxSizeMegabytes,
+            @Value("${dumont.aem.http.cache.entries:100000}") int maxEntries) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.maxSizeBytes = maxSizeMegabytes * MEGABYTE;
+        this.maxEntries = maxEntries;
+    }
+
+    @PostConstruct
+    public void configure() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            httpCache = DumAemHttpCache.open(directory, maxSizeBytes, maxEntries);
+            DumAemCommonsUtils.setHttpCache(httpCache);
+        } catch (IOException e) {
+            log.error("AEM HTTP cache disabled, {} is not usable: {}", directory, e.getMessage(), e);
+        }
+    }
+}
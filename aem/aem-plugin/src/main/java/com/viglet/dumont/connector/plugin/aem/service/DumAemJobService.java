@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.viglet.dumont.connector.aem.commons.DumAemObject;
@@ -46,16 +47,19 @@ public class DumAemJobService {
         private final DumConnectorContext dumConnectorContext;
         private final DumAemContentDefinitionService dumAemContentDefinitionService;
         private final DumAemObjectService dumAemObjectService;
+        private final boolean reuseCurrentAuthorPayload;
 
         public DumAemJobService(
                         DumAemService dumAemService,
                         DumConnectorContext dumConnectorContext,
                         DumAemContentDefinitionService dumAemContentDefinitionService,
-                        DumAemObjectService dumAemObjectService) {
+                        DumAemObjectService dumAemObjectService,
+                        @Value("${dumont.aem.publish.reuse-author:true}") boolean reuseCurrentAuthorPayload) {
                 this.dumAemService = dumAemService;
                 this.dumConnectorContext = dumConnectorContext;
                 this.dumAemContentDefinitionService = dumAemContentDefinitionService;
                 this.dumAemObjectService = dumAemObjectService;
+                this.reuseCurrentAuthorPayload = reuseCurrentAuthorPayload;
         }
 
         public TurSNJobItem deIndexJob(DumAemSession dumAemSession, List<String> sites,
@@ -134,6 +138,10 @@ public class DumAemJobService {
          * {@code delivered=true} regardless of whether replication flags are
          * present on publish. When publish is unreachable or no publish prefix
          * is configured, falls back to the author-side payload.
+         * <p>
+         * The publish fetch is skipped when the author payload shows it was
+         * activated after its last change, since publish then serves the same
+         * content.
          */
         private DumAemObject publishAemObject(DumAemSession dumAemSession,
                         DumAemObjectGeneric aemObjectGeneric) {
@@ -141,6 +149,11 @@ public class DumAemJobService {
                 if (StringUtils.isBlank(config.getPublishURLPrefix())) {
                         return new DumAemObject(aemObjectGeneric, DumAemEnv.PUBLISHING);
                 }
+                if (reuseCurrentAuthorPayload && aemObjectGeneric.isPublishUpToDate()) {
+                        log.debug("{} was activated after its last change, reusing the author payload for publish.",
+                                        aemObjectGeneric.getPath());
+                        return new DumAemObject(aemObjectGeneric, DumAemEnv.PUBLISHING);
+                }
                 return DumAemCommonsUtils
                                 .getInfinityJson(aemObjectGeneric.getPath(), config, false,
                                                 DumAemEnv.PUBLISHING)
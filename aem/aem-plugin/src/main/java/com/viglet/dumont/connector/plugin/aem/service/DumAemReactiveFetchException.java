@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.service;
+
+import java.util.concurrent.TimeoutException;
+
+import io.netty.handler.ssl.SslHandshakeTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.Getter;
+import reactor.netty.http.client.PrematureCloseException;
+
+/**
+ * Failure of a reactive AEM request, carrying the URL and, when AEM answered,
+ * the HTTP status.
+ * <p>
+ * Transport failures (timeouts, premature closes, TLS handshake timeouts),
+ * throttling and server errors are retryable; client errors such as 404 or
+ * 401 are not.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Getter
+public class DumAemReactiveFetchException extends RuntimeException {
+
+    /** Status used when the request failed before AEM answered. */
+    public static final int NO_STATUS = 0;
+
+    private final String url;
+    private final int statusCode;
+    private final boolean retryable;
+
+    public DumAemReactiveFetchException(String url, int statusCode) {
+        super("AEM answered %d for %s".formatted(statusCode, url));
+        this.url = url;
+        this.statusCode = statusCode;
+        this.retryable = statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    public DumAemReactiveFetchException(String url, String message) {
+        super("%s for %s".formatted(message, url));
+        this.url = url;
+        this.statusCode = NO_STATUS;
+        this.retryable = true;
+    }
+
+    public DumAemReactiveFetchException(String url, Throwable cause) {
+        super("Request to %s failed: %s".formatted(url, cause.getMessage()), cause);
+        this.url = url;
+        this.statusCode = NO_STATUS;
+        this.retryable = isTransient(cause) || isTransient(cause.getCause());
+    }
+
+    public boolean isNotFound() {
+        return statusCode == 404;
+    }
+
+    private static boolean isTransient(Throwable throwable) {
+        return throwable instanceof SslHandshakeTimeoutException
+                || throwable instanceof PrematureCloseException
+                || throwable instanceof TimeoutException
+                || throwable instanceof ReadTimeoutException;
+    }
+}
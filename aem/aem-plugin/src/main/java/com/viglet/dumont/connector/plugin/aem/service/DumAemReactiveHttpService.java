@@ -18,35 +18,39 @@ package com.viglet.dumont.connector.plugin.aem.service;
 
 import java.time.Duration;
 import java.util.Base64;
-import java.util.concurrent.TimeoutException;
-
-import javax.net.ssl.SSLException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import com.google.common.net.UrlEscapers;
 import com.viglet.dumont.commons.utils.DumCommonsUtils;
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
-import com.viglet.turing.commons.exception.TurRuntimeException;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.ssl.SslContextBuilder;
-import io.netty.handler.ssl.SslHandshakeTimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.http.client.PrematureCloseException;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.SslProvider.SslContextSpec;
 import reactor.util.retry.Retry;
 
 /**
  * Reactive HTTP service for AEM API calls using Spring WebFlux
+ * <p>
+ * Reactor Netty keeps one connection pool per remote address, so the pool
+ * limits below apply to each AEM host. With HTTP/2 enabled the client
+ * negotiates h2 over TLS (ALPN) and h2c on plain connections, falling back to
+ * HTTP/1.1 when the server does not support it.
+ * <p>
+ * Failures are emitted as {@link DumAemReactiveFetchException} after the
+ * retryable ones have been retried with backoff.
  * 
  * @author Alexandre Oliveira
  * @since 2025.3
@@ -55,25 +59,44 @@ import reactor.util.retry.Retry;
 @Service
 public class DumAemReactiveHttpService {
 
-        private final WebClient webClient;
+        private static final String[] TLS_PROTOCOLS = { "TLSv1.2", "TLSv1.3" };
 
-        public DumAemReactiveHttpService() {
-                this.webClient = createOptimizedWebClient();
+        private final WebClient webClient;
+        private final int maxRetries;
+
+        public DumAemReactiveHttpService(
+                        @Value("${dumont.reactive.http.connections:50}") int maxConnections,
+                        @Value("${dumont.reactive.http.pending.max:1000}") int pendingAcquireMaxCount,
+                        @Value("${dumont.reactive.http.pending.timeout:60}") long pendingAcquireTimeoutSeconds,
+                        @Value("${dumont.reactive.http.keep-alive:30}") long keepAliveSeconds,
+                        @Value("${dumont.reactive.http.h2:false}") boolean http2,
+                        @Value("${dumont.reactive.http.retries:3}") int maxRetries) {
+                this.maxRetries = Math.max(0, maxRetries);
+                this.webClient = createOptimizedWebClient(
+                                ConnectionProvider.builder("aem-pool")
+                                                .maxConnections(Math.max(1, maxConnections))
+                                                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                                                .pendingAcquireTimeout(Duration
+                                                                .ofSeconds(pendingAcquireTimeoutSeconds))
+                                                .maxIdleTime(Duration.ofSeconds(keepAliveSeconds))
+                                                .maxLifeTime(Duration.ofMinutes(5))
+                                                .evictInBackground(Duration.ofSeconds(5))
+                                                .build(),
+                                http2);
+                log.info("AEM reactive HTTP pool: {} connections per host, {} pending, keep-alive {}s, HTTP/2 {}",
+                                maxConnections, pendingAcquireMaxCount, keepAliveSeconds,
+                                http2 ? "enabled" : "disabled");
         }
 
-        private WebClient createOptimizedWebClient() {
-                ConnectionProvider connectionProvider = ConnectionProvider.builder("aem-pool")
-                                .maxConnections(4)
-                                .pendingAcquireMaxCount(500)
-                                .pendingAcquireTimeout(Duration.ofSeconds(60))
-                                .maxIdleTime(Duration.ofSeconds(5))
-                                .maxLifeTime(Duration.ofSeconds(60))
-                                .evictInBackground(Duration.ofSeconds(5))
-                                .build();
-
+        private WebClient createOptimizedWebClient(ConnectionProvider connectionProvider,
+                        boolean http2) {
                 HttpClient httpClient = HttpClient.create(connectionProvider)
-                                .protocol(HttpProtocol.HTTP11)
-                                .secure(this::configureSsl).responseTimeout(Duration.ofSeconds(60))
+                                .protocol(http2
+                                                ? new HttpProtocol[] { HttpProtocol.H2, HttpProtocol.H2C,
+                                                                HttpProtocol.HTTP11 }
+                                                : new HttpProtocol[] { HttpProtocol.HTTP11 })
+                                .secure(sslContextSpec -> configureSsl(sslContextSpec, http2))
+                                .responseTimeout(Duration.ofSeconds(60))
                                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 15000)
                                 .option(ChannelOption.SO_KEEPALIVE, true)
                                 .option(ChannelOption.TCP_NODELAY, true);
@@ -87,17 +110,15 @@ public class DumAemReactiveHttpService {
                                 .build();
         }
 
-        private void configureSsl(SslContextSpec sslContextSpec) {
-                try {
-                        sslContextSpec.sslContext(SslContextBuilder.forClient()
-                                        .protocols("TLSv1.2", "TLSv1.3").build())
-                                        .handshakeTimeout(Duration.ofSeconds(30))
-                                        .closeNotifyFlushTimeout(Duration.ofSeconds(3))
-                                        .closeNotifyReadTimeout(Duration.ofSeconds(3));
-                } catch (SSLException e) {
-                        log.error("SSL configuration failed", e);
-                        throw new TurRuntimeException("SSL setup error", e);
-                }
+        private void configureSsl(SslContextSpec sslContextSpec, boolean http2) {
+                sslContextSpec.sslContext(http2
+                                ? Http2SslContextSpec.forClient()
+                                                .configure(builder -> builder.protocols(TLS_PROTOCOLS))
+                                : Http11SslContextSpec.forClient()
+                                                .configure(builder -> builder.protocols(TLS_PROTOCOLS)))
+                                .handshakeTimeout(Duration.ofSeconds(30))
+                                .closeNotifyFlushTimeout(Duration.ofSeconds(3))
+                                .closeNotifyReadTimeout(Duration.ofSeconds(3));
         }
 
         /**
@@ -105,7 +126,9 @@ public class DumAemReactiveHttpService {
          * 
          * @param url                 the URL to fetch
          * @param dumAemSourceContext the source context containing credentials
-         * @return Mono containing the response body if valid JSON, empty otherwise
+         * @return Mono containing the response body if valid JSON, empty when AEM
+         *         answered without a body, or a
+         *         {@link DumAemReactiveFetchException} once retries are exhausted
          */
         public Mono<String> fetchResponseBodyReactive(String url,
                         DumAemConfiguration dumAemSourceContext) {
@@ -114,35 +137,31 @@ public class DumAemReactiveHttpService {
                 String basicAuth = basicAuth(dumAemSourceContext.getUsername(),
                                 dumAemSourceContext.getPassword());
                 return webClient.get().uri(escapedUrl).header(HttpHeaders.AUTHORIZATION, basicAuth)
-                                .retrieve().bodyToMono(String.class)
+                                .retrieve()
+                                .onStatus(HttpStatusCode::isError, response -> response.releaseBody()
+                                                .thenReturn(new DumAemReactiveFetchException(url,
+                                                                response.statusCode().value())))
+                                .bodyToMono(String.class)
                                 .map(responseBody -> {
                                         if (!DumCommonsUtils.isValidJson(responseBody)) {
-                                                throw new IllegalArgumentException(
+                                                throw new DumAemReactiveFetchException(url,
                                                                 "Invalid JSON response");
                                         }
                                         return responseBody;
                                 })
-                                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
+                                .onErrorMap(error -> !(error instanceof DumAemReactiveFetchException),
+                                                error -> new DumAemReactiveFetchException(url, error))
+                                .retryWhen(Retry.backoff(maxRetries, Duration.ofSeconds(2))
                                                 .maxBackoff(Duration.ofSeconds(10)).jitter(0.5)
-                                                .filter(throwable -> throwable instanceof SslHandshakeTimeoutException
-                                                                || throwable instanceof PrematureCloseException
-                                                                || (throwable.getCause() instanceof PrematureCloseException)
-                                                                || throwable instanceof TimeoutException
-                                                                || (throwable instanceof WebClientRequestException
-                                                                                && throwable.getCause() instanceof TimeoutException)
-                                                                || throwable instanceof IllegalArgumentException)
+                                                .filter(throwable -> throwable instanceof DumAemReactiveFetchException fetchException
+                                                                && fetchException.isRetryable())
                                                 .doBeforeRetry(retrySignal -> log.warn("Retrying HTTP request: {}",
                                                                 url))
                                                 .onRetryExhaustedThrow((retryBackoffSpec,
                                                                 retrySignal) -> retrySignal
                                                                                 .failure()))
-
                                 .doOnNext(responseBody -> log.debug("Valid JSON response from: {}",
-                                                url))
-                                .doOnError(error -> log.error("Error fetching URL {}: {}", url,
-                                                error.getMessage()))
-
-                                .onErrorReturn("");
+                                                url));
         }
 
         private String basicAuth(String username, String password) {
@@ -1,7 +1,11 @@
 package com.viglet.dumont.connector.plugin.aem.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Service;
 
@@ -11,15 +15,21 @@ import com.viglet.dumont.connector.aem.commons.mappers.DumAemContentMapping;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemModel;
 import com.viglet.dumont.connector.commons.DumConnectorSession;
 import com.viglet.dumont.connector.plugin.aem.api.DumAemPathList;
+import com.viglet.dumont.connector.plugin.aem.context.DumAemOnceFilter;
 import com.viglet.dumont.connector.plugin.aem.context.DumAemSession;
+import com.viglet.dumont.connector.plugin.aem.persistence.model.DumAemConfigVersionListener;
 import com.viglet.dumont.connector.plugin.aem.persistence.model.DumAemSource;
 import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Service
 public class DumAemSessionService {
         private final DumAemSourceService dumAemSourceService;
         private final DumAemContentDefinitionService dumAemContentDefinitionService;
         private final DumAemContentMappingService dumAemContentMappingService;
+        private final Map<String, DumAemSessionSnapshot> snapshots = new ConcurrentHashMap<>();
 
         public DumAemSessionService(DumAemSourceService dumAemSourceService,
                         DumAemContentDefinitionService dumAemContentDefinitionService,
@@ -31,21 +41,11 @@ public class DumAemSessionService {
 
         public DumAemSession getDumAemSession(DumAemSource dumAemSource,
                         DumAemPathList dumAemPathList, boolean standalone) {
-                // Retrieve content mapping once and reuse
-                DumAemContentMapping dumAemContentMapping = dumAemContentMappingService
-                                .getDumAemContentMapping(dumAemSource);
-
-                // Get attribute specifications
-                List<TurSNAttributeSpec> attributeSpecs = dumAemContentDefinitionService
-                                .getAttributeSpec(dumAemContentMapping);
+                // Reuse the configuration snapshot while the source is unchanged
+                DumAemSessionSnapshot snapshot = getSnapshot(dumAemSource);
 
-                // Get connector session and configuration
+                // Get connector session (new transaction for every session)
                 DumConnectorSession session = dumAemSourceService.getDumConnectorSession(dumAemSource);
-                DumAemConfiguration dumAemConfiguration = dumAemSourceService.getDumAemConfiguration(dumAemSource);
-
-                // Get optional model
-                DumAemModel model = dumAemContentDefinitionService
-                                .getModel(dumAemConfiguration, dumAemSource).orElse(null);
 
                 // Extract event and recursion settings with null-safe operations
                 DumAemEvent event = Optional.ofNullable(dumAemPathList)
@@ -58,7 +58,7 @@ public class DumAemSessionService {
 
                 // Build and return session
                 return DumAemSession.builder()
-                                .configuration(dumAemConfiguration)
+                                .configuration(snapshot.configuration())
                                 .event(event)
                                 .standalone(standalone)
                                 .recursive(recursive)
@@ -66,13 +66,102 @@ public class DumAemSessionService {
                                 .transactionId(session.getTransactionId())
                                 .providerName(session.getProviderName())
                                 .locale(session.getLocale())
-                                .attributeSpecs(attributeSpecs)
-                                .contentMapping(dumAemContentMapping)
-                                .model(model)
+                                .attributeSpecs(new ArrayList<>(snapshot.attributeSpecs()))
+                                .contentMapping(snapshot.contentMapping())
+                                .model(snapshot.model())
+                                .onceFilter(DumAemOnceFilter.of(snapshot.configuration(), snapshot.once()))
                                 .build();
         }
 
         public DumAemSession getDumAemSession(DumAemSource dumAemSource, boolean standalone) {
                 return getDumAemSession(dumAemSource, (DumAemPathList) null, standalone);
         }
+
+        /**
+         * Returns the cached snapshot of the source configuration, rebuilding it
+         * when any source, mapping, attribute or plugin system entity changed
+         * since it was built. Unsaved sources (no ID) are never cached.
+         * <p>
+         * The snapshot is loaded outside the map, so the repository queries never
+         * hold a map lock; when two sessions load it at once, the newest version
+         * is kept.
+         */
+        private DumAemSessionSnapshot getSnapshot(DumAemSource dumAemSource) {
+                long version = DumAemConfigVersionListener.currentVersion();
+                if (dumAemSource.getId() == null) {
+                        return loadSnapshot(dumAemSource, version);
+                }
+                DumAemSessionSnapshot cached = snapshots.get(dumAemSource.getId());
+                if (cached != null && cached.version() == version) {
+                        return cached;
+                }
+                return snapshots.merge(dumAemSource.getId(), loadSnapshot(dumAemSource, version),
+                                (current, loaded) -> current.version() >= loaded.version()
+                                                ? current
+                                                : loaded);
+        }
+
+        private DumAemSessionSnapshot loadSnapshot(DumAemSource dumAemSource, long version) {
+                log.debug("Loading session configuration of {} (version {})", dumAemSource.getName(),
+                                version);
+                // Retrieve content mapping once and reuse
+                DumAemContentMapping dumAemContentMapping = dumAemContentMappingService
+                                .getDumAemContentMapping(dumAemSource);
+
+                // Get attribute specifications
+                List<TurSNAttributeSpec> attributeSpecs = dumAemContentDefinitionService
+                                .getAttributeSpec(dumAemContentMapping);
+
+                // Get configuration
+                DumAemConfiguration dumAemConfiguration = dumAemSourceService
+                                .getDumAemConfiguration(dumAemSource);
+
+                // Get optional model
+                DumAemModel model = dumAemContentDefinitionService
+                                .getModel(dumAemConfiguration, dumAemSource).orElse(null);
+
+                return new DumAemSessionSnapshot(version, readOnly(dumAemContentMapping),
+                                readOnly(attributeSpecs), dumAemConfiguration, readOnly(model),
+                                dumAemSourceService.isOnce(dumAemConfiguration));
+        }
+
+        private static DumAemContentMapping readOnly(DumAemContentMapping dumAemContentMapping) {
+                return dumAemContentMapping == null ? null
+                                : DumAemContentMapping.builder()
+                                                .targetAttrDefinitions(readOnly(
+                                                                dumAemContentMapping.getTargetAttrDefinitions()))
+                                                .models(readOnly(dumAemContentMapping.getModels()))
+                                                .deltaClassName(dumAemContentMapping.getDeltaClassName())
+                                                .build();
+        }
+
+        private static DumAemModel readOnly(DumAemModel model) {
+                return model == null ? null
+                                : DumAemModel.builder()
+                                                .type(model.getType())
+                                                .subType(model.getSubType())
+                                                .className(model.getClassName())
+                                                .validToIndex(model.getValidToIndex())
+                                                .targetAttrs(readOnly(model.getTargetAttrs()))
+                                                .build();
+        }
+
+        private static <T> List<T> readOnly(List<T> list) {
+                return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+        }
+
+        /**
+         * Configuration part of a session, shared by every session of the same
+         * source and configuration version, including whether the source already
+         * ran its "once" indexing. Sessions get their own copy of the attribute
+         * specs, since tag facets are appended to them while indexing.
+         * <p>
+         * The mapping and model are private copies with read-only lists; they are
+         * only completed while loading, and indexing just reads them. The
+         * configuration has no setters.
+         */
+        private record DumAemSessionSnapshot(long version, DumAemContentMapping contentMapping,
+                        List<TurSNAttributeSpec> attributeSpecs, DumAemConfiguration configuration,
+                        DumAemModel model, boolean once) {
+        }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.service;
+
+import static com.viglet.dumont.connector.plugin.aem.utils.DumAemAttrUtils.CQ_TAGS_PATH;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+import com.viglet.dumont.connector.plugin.aem.context.DumAemTagTaxonomy;
+import com.viglet.dumont.connector.plugin.aem.utils.DumAemAttrUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves AEM tag titles from preloaded tag namespaces.
+ * <p>
+ * Each namespace is fetched once with a single deep request and kept as a
+ * {@link DumAemTagTaxonomy} until the TTL expires, a full crawl of the source
+ * starts, or a replication event under {@code /content/_cq_tags} arrives.
+ * Tags missing from a loaded namespace (e.g. created after the load, or cut
+ * off by AEM's infinity depth limit) are fetched individually.
+ * <p>
+ * A namespace that cannot be read is remembered as missing for
+ * {@link #FAILURE_TTL}, so its tags are fetched individually meanwhile instead
+ * of retrying the deep request for every tag.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Service
+public class DumAemTagTaxonomyService {
+    static final Duration FAILURE_TTL = Duration.ofMinutes(1);
+    private final Cache<String, Optional<DumAemTagTaxonomy>> namespaceCache;
+
+    public DumAemTagTaxonomyService(@Value("${dumont.aem.tags.ttl:30}") long ttlMinutes) {
+        this(Duration.ofMinutes(ttlMinutes), FAILURE_TTL);
+    }
+
+    DumAemTagTaxonomyService(Duration ttl, Duration failureTtl) {
+        this.namespaceCache = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Optional<DumAemTagTaxonomy>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<DumAemTagTaxonomy> value,
+                            long currentTime) {
+                        return (value.isPresent() ? ttl : failureTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<DumAemTagTaxonomy> value,
+                            long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<DumAemTagTaxonomy> value,
+                            long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return default and localized titles of the namespace, or empty when the
+     *         namespace cannot be read
+     */
+    public Optional<Map<String, String>> getNamespaceLabels(DumAemConfiguration configuration,
+            String namespace) {
+        return getNamespace(configuration, namespace).map(DumAemTagTaxonomy::getLabels)
+                .or(() -> fetchTagLabels(configuration, namespace));
+    }
+
+    /**
+     * @return default and localized titles of the tag, or empty when the tag
+     *         cannot be read
+     */
+    public Optional<Map<String, String>> getTagLabels(DumAemConfiguration configuration,
+            String namespace, String tagPath) {
+        return getNamespace(configuration, namespace)
+                .flatMap(taxonomy -> taxonomy.find(tagPath))
+                .map(DumAemTagTaxonomy::getLabels)
+                .or(() -> fetchTagLabels(configuration, namespace + "/" + tagPath));
+    }
+
+    /**
+     * Drops every namespace loaded for the source, so the next crawl reads the
+     * current taxonomy.
+     */
+    public void refresh(DumAemConfiguration configuration) {
+        if (configuration == null) {
+            return;
+        }
+        String prefix = getCacheKey(configuration, "");
+        namespaceCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Drops the namespaces touched by replicated tag paths.
+     *
+     * @param paths replicated paths; paths outside {@code /content/_cq_tags}
+     *              are ignored
+     */
+    public void refresh(DumAemConfiguration configuration, Collection<String> paths) {
+        if (configuration == null || paths == null) {
+            return;
+        }
+        paths.stream()
+                .filter(path -> path.startsWith(CQ_TAGS_PATH + "/"))
+                .map(path -> StringUtils.substringBefore(
+                        path.substring(CQ_TAGS_PATH.length() + 1), "/"))
+                .filter(StringUtils::isNotBlank)
+                .distinct()
+                .forEach(namespace -> {
+                    log.debug("Refreshing tag namespace {} of {}", namespace,
+                            configuration.getId());
+                    namespaceCache.invalidate(getCacheKey(configuration, namespace));
+                });
+    }
+
+    private Optional<DumAemTagTaxonomy> getNamespace(DumAemConfiguration configuration,
+            String namespace) {
+        return namespaceCache.get(getCacheKey(configuration, namespace),
+                key -> loadNamespace(configuration, namespace));
+    }
+
+    private Optional<DumAemTagTaxonomy> loadNamespace(DumAemConfiguration configuration, String namespace) {
+        log.debug("Loading tag namespace {} of {}", namespace, configuration.getId());
+        return DumAemCommonsUtils
+                .getInfinityJson(CQ_TAGS_PATH + "/" + namespace, configuration, false)
+                .map(DumAemTagTaxonomy::of);
+    }
+
+    private static Optional<Map<String, String>> fetchTagLabels(
+            DumAemConfiguration configuration, String tagPath) {
+        return DumAemCommonsUtils
+                .getInfinityJson(CQ_TAGS_PATH + "/" + tagPath, configuration, true)
+                .map(DumAemAttrUtils::getTagLabels);
+    }
+
+    private static String getCacheKey(DumAemConfiguration configuration, String namespace) {
+        return configuration.getId() + "|" + configuration.getUrl() + "|" + namespace;
+    }
+}
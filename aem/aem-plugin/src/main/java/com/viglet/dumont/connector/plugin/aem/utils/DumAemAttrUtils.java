@@ -43,6 +43,7 @@ import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemSourceAttr;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemTargetAttr;
 import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+import com.viglet.dumont.connector.plugin.aem.service.DumAemTagTaxonomyService;
 import com.viglet.turing.client.sn.TurMultiValue;
 import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
 
@@ -152,86 +153,93 @@ public class DumAemAttrUtils {
                                 .get(dumAemTargetAttr.getName()).stream().distinct().toList());
     }
 
-    public static TurSNAttributeSpec setTagFacet(DumAemConfiguration dumAemSourceContext,
-            String facetId) {
-        return DumAemCommonsUtils
-                .getInfinityJson((CQ_TAGS_PATH + "/%s").formatted(facetId), dumAemSourceContext,
-                        true)
-                .map(infinityJson -> getTurSNAttributeSpec(facetId, getTagLabels(infinityJson)))
+    public static TurSNAttributeSpec setTagFacet(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemConfiguration dumAemSourceContext, String facetId) {
+        return tagTaxonomyService.getNamespaceLabels(dumAemSourceContext, facetId)
+                .map(tagLabels -> getTurSNAttributeSpec(facetId, tagLabels))
                 .orElse(new TurSNAttributeSpec());
     }
 
-    public static String addTagToAttrValueList(DumAemContext context,
-            DumAemConfiguration dumAemSourceContext, String facet, String value) {
+    public static String addTagToAttrValueList(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemContext context, DumAemConfiguration dumAemSourceContext, String facet,
+            String value) {
+        return tagTaxonomyService.getTagLabels(dumAemSourceContext, facet, value)
+                .map(tagLabels -> getLocalizedTagLabel(tagLabels,
+                        DumAemCommonsUtils.getLocaleFromContext(dumAemSourceContext, context),
+                        value))
+                .orElse(value);
+    }
 
-        return DumAemCommonsUtils.getInfinityJson((CQ_TAGS_PATH + "/%s/%s").formatted(facet, value),
-                dumAemSourceContext, true).map(infinityJson -> {
-                    Locale locale = DumAemCommonsUtils.getLocaleFromContext(dumAemSourceContext, context);
-                    String titleLocale = locale.toString().toLowerCase();
-                    String titleLanguage = locale.getLanguage().toLowerCase();
-                    Map<String, String> tagLabels = getTagLabels(infinityJson);
-                    if (tagLabels.containsKey(titleLocale))
-                        return tagLabels.get(titleLocale);
-                    else if (tagLabels.containsKey(titleLanguage))
-                        return tagLabels.get(titleLanguage);
-                    else
-                        return tagLabels.getOrDefault(DEFAULT, value);
-                }).orElse(value);
+    private static String getLocalizedTagLabel(Map<String, String> tagLabels, Locale locale,
+            String value) {
+        String titleLocale = locale.toString().toLowerCase();
+        String titleLanguage = locale.getLanguage().toLowerCase();
+        if (tagLabels.containsKey(titleLocale))
+            return tagLabels.get(titleLocale);
+        else if (tagLabels.containsKey(titleLanguage))
+            return tagLabels.get(titleLanguage);
+        else
+            return tagLabels.getOrDefault(DEFAULT, value);
     }
 
     public static @NotNull DumAemAttrMap getTextValue(DumAemContext context) {
         return DumAemAttrMap.ofAppend(context.getDumAemTargetAttr());
     }
 
-    public static void processTagsFromSourceAttr(DumAemContext context,
-            DumAemConfiguration dumAemSourceContext,
+    public static void processTagsFromSourceAttr(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemContext context, DumAemConfiguration dumAemSourceContext,
             List<TurSNAttributeSpec> dumSNAttributeSpecList, String attributeName,
             DumAemAttrMap dumAemTargetAttrValueMap) {
         Optional.ofNullable((JSONArray) getJcrProperty(context, attributeName)).ifPresent(
-                property -> property.forEach(tag -> formatTags(context, dumAemSourceContext,
-                        dumSNAttributeSpecList, tag.toString(), dumAemTargetAttrValueMap)));
+                property -> property.forEach(tag -> formatTags(tagTaxonomyService, context,
+                        dumAemSourceContext, dumSNAttributeSpecList, tag.toString(),
+                        dumAemTargetAttrValueMap)));
     }
 
-    public static void processTagsFromTargetAttr(DumAemContext context,
-            DumAemConfiguration dumAemSourceContext,
+    public static void processTagsFromTargetAttr(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemContext context, DumAemConfiguration dumAemSourceContext,
             List<TurSNAttributeSpec> dumSNAttributeSpecList,
             DumAemAttrMap dumAemTargetAttrValueMapFromClass, String targetName,
             DumAemAttrMap dumAemTargetAttrValueMap) {
         dumAemTargetAttrValueMapFromClass.get(targetName)
-                .forEach(tag -> formatTags(context,
+                .forEach(tag -> formatTags(tagTaxonomyService, context,
                         dumAemSourceContext, dumSNAttributeSpecList, tag,
                         dumAemTargetAttrValueMap));
     }
 
-    public static void formatTags(DumAemContext context, DumAemConfiguration dumAemSourceContext,
+    public static void formatTags(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemContext context, DumAemConfiguration dumAemSourceContext,
             List<TurSNAttributeSpec> dumSNAttributeSpecList, String tag,
             DumAemAttrMap dumAemTargetAttrValueMap) {
         DumCommonsUtils.getKeyValueFromColon(tag)
                 .ifPresent(
-                        kv -> handleTagFacet(context, dumAemSourceContext, dumSNAttributeSpecList,
-                                dumAemTargetAttrValueMap, kv));
+                        kv -> handleTagFacet(tagTaxonomyService, context, dumAemSourceContext,
+                                dumSNAttributeSpecList, dumAemTargetAttrValueMap, kv));
     }
 
-    private static void handleTagFacet(DumAemContext context,
+    private static void handleTagFacet(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemContext context,
             DumAemConfiguration dumAemSourceContext,
             List<TurSNAttributeSpec> dumSNAttributeSpecList,
             DumAemAttrMap dumAemTargetAttrValueMap,
             KeyValue<String, String> kv) {
         Optional.ofNullable(kv.getKey())
-                .ifPresent(facet -> processTagFacet(context, dumAemSourceContext, dumSNAttributeSpecList,
+                .ifPresent(facet -> processTagFacet(tagTaxonomyService, context,
+                        dumAemSourceContext, dumSNAttributeSpecList,
                         dumAemTargetAttrValueMap, kv, facet));
     }
 
-    private static void processTagFacet(DumAemContext context,
+    private static void processTagFacet(DumAemTagTaxonomyService tagTaxonomyService,
+            DumAemContext context,
             DumAemConfiguration dumAemSourceContext,
             List<TurSNAttributeSpec> dumSNAttributeSpecList,
             DumAemAttrMap dumAemTargetAttrValueMap,
             KeyValue<String, String> kv,
             String facet) {
-        dumSNAttributeSpecList.add(setTagFacet(dumAemSourceContext, facet));
+        dumSNAttributeSpecList.add(setTagFacet(tagTaxonomyService, dumAemSourceContext, facet));
         Optional.ofNullable(kv.getValue())
                 .ifPresent(value -> dumAemTargetAttrValueMap
-                        .append(facet, addTagToAttrValueList(context,
+                        .append(facet, addTagToAttrValueList(tagTaxonomyService, context,
                                 dumAemSourceContext, facet, value)));
     }
 }
@@ -24,6 +24,7 @@ import org.json.JSONObject;
 import org.springframework.stereotype.Component;
 
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+import com.viglet.dumont.connector.plugin.aem.service.DumAemReactiveFetchException;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemReactiveHttpService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -50,7 +51,8 @@ public class DumAemReactiveUtils {
      * 
      * @param url                 the URL path
      * @param dumAemSourceContext the source context
-     * @return Mono containing JSONObject or empty if not found/invalid
+     * @return Mono containing JSONObject or empty if not found/invalid; failures
+     *         are logged with their status and never abort the caller's stream
      */
     public Mono<JSONObject> getInfinityJsonReactive(String url, DumAemConfiguration dumAemSourceContext) {
         String infinityJsonUrl = String.format(url.endsWith(JSON) ? "%s%s" : "%s%s.infinity.json",
@@ -79,13 +81,26 @@ public class DumAemReactiveUtils {
                     }
                 })
                 .doOnNext(jsonObject -> log.debug("Successfully got infinity JSON for: {}", infinityJsonUrl))
-                .doOnError(error -> log.warn("Request failed for {}: {}", infinityJsonUrl, error.getMessage()))
                 .onErrorResume(error -> {
-                    log.warn("Request not found or failed: {}", infinityJsonUrl);
+                    logFailure(infinityJsonUrl, error);
                     return Mono.empty();
                 });
     }
 
+    private static void logFailure(String url, Throwable error) {
+        if (error instanceof DumAemReactiveFetchException fetchException) {
+            if (fetchException.isNotFound()) {
+                log.debug("Not found: {}", url);
+            } else if (fetchException.getStatusCode() != DumAemReactiveFetchException.NO_STATUS) {
+                log.warn("Request failed for {} with status {}", url, fetchException.getStatusCode());
+            } else {
+                log.warn("Request failed for {}: {}", url, fetchException.getMessage());
+            }
+        } else {
+            log.warn("Request failed for {}: {}", url, error.getMessage());
+        }
+    }
+
     private static boolean isResponseBodyJSONArray(String responseBody) {
         try {
             new JSONArray(responseBody);
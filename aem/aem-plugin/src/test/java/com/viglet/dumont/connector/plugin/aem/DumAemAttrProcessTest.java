@@ -45,6 +45,7 @@ import com.viglet.dumont.connector.aem.commons.mappers.DumAemModel;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemSourceAttr;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemTargetAttr;
 import com.viglet.dumont.connector.plugin.aem.context.DumAemSession;
+import com.viglet.dumont.connector.plugin.aem.service.DumAemTagTaxonomyService;
 
 @DisplayName("DumAemAttrProcess Tests")
 class DumAemAttrProcessTest {
@@ -53,7 +54,7 @@ class DumAemAttrProcessTest {
 
         @BeforeEach
         void setUp() {
-                dumAemAttrProcess = new DumAemAttrProcess();
+                dumAemAttrProcess = new DumAemAttrProcess(new DumAemTagTaxonomyService(30));
         }
 
         @Nested
@@ -45,6 +45,7 @@ import com.viglet.dumont.connector.plugin.aem.handler.DependencyHandler;
 import com.viglet.dumont.connector.plugin.aem.persistence.model.DumAemSource;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemSessionService;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemSourceService;
+import com.viglet.dumont.connector.plugin.aem.service.DumAemTagTaxonomyService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("DumAemPluginProcess Tests")
@@ -65,6 +66,9 @@ class DumAemPluginProcessTest {
     @Mock
     private DependencyHandler dependencyHandler;
 
+    @Mock
+    private DumAemTagTaxonomyService tagTaxonomyService;
+
     @Mock
     private DumAemSource dumAemSource;
 
@@ -83,7 +87,8 @@ class DumAemPluginProcessTest {
                 sessionService,
                 commandFactory,
                 executor,
-                dependencyHandler);
+                dependencyHandler,
+                tagTaxonomyService);
     }
 
     @Nested
@@ -177,7 +182,8 @@ class DumAemPluginProcessTest {
                     sessionService,
                     commandFactory,
                     executor,
-                    dependencyHandler);
+                    dependencyHandler,
+                    tagTaxonomyService);
 
             assertNotNull(process);
         }
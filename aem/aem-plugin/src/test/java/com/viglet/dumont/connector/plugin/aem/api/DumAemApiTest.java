@@ -19,16 +19,17 @@ package com.viglet.dumont.connector.plugin.aem.api;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeast;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +40,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import com.viglet.dumont.connector.plugin.aem.DumAemPluginProcess;
+import com.viglet.dumont.connector.plugin.aem.executor.DumAemEventQueue;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("DumAemApi Tests")
@@ -47,19 +49,27 @@ class DumAemApiTest {
     @Mock
     private DumAemPluginProcess dumAemPluginProcess;
 
+    private DumAemEventQueue dumAemEventQueue;
+
     private DumAemApi dumAemApi;
 
     @BeforeEach
     void setUp() {
-        dumAemApi = new DumAemApi(dumAemPluginProcess);
+        dumAemEventQueue = new DumAemEventQueue(dumAemPluginProcess, 1, 500);
+        dumAemApi = new DumAemApi(dumAemEventQueue);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dumAemEventQueue.destroy();
     }
 
     @Nested
     @DisplayName("Constructor Tests")
     class ConstructorTests {
         @Test
-        @DisplayName("Should create instance with DumAemPluginProcess")
-        void shouldCreateInstanceWithDumAemPluginProcess() {
+        @DisplayName("Should create instance with DumAemEventQueue")
+        void shouldCreateInstanceWithDumAemEventQueue() {
             assertNotNull(dumAemApi);
         }
     }
@@ -93,7 +103,8 @@ class DumAemApiTest {
             assertEquals(200, response.getStatusCode().value());
             assertNotNull(response.getBody());
             assertEquals("sent", response.getBody().get("status"));
-            verify(dumAemPluginProcess).sentToIndexStandaloneAsync(eq("test-source"), any(DumAemPathList.class));
+            verify(dumAemPluginProcess, timeout(5000)).sentToIndexStandalone(eq("test-source"),
+                    any(DumAemPathList.class));
         }
 
         @Test
@@ -107,7 +118,8 @@ class DumAemApiTest {
 
             assertNotNull(response);
             assertEquals(200, response.getStatusCode().value());
-            verify(dumAemPluginProcess).sentToIndexStandaloneAsync(eq("my-source"), any(DumAemPathList.class));
+            verify(dumAemPluginProcess, timeout(5000)).sentToIndexStandalone(eq("my-source"),
+                    argThat(batch -> batch.getPaths().size() == 3));
         }
 
         @Test
@@ -121,6 +133,7 @@ class DumAemApiTest {
 
             assertNotNull(response);
             assertEquals(200, response.getStatusCode().value());
+            verify(dumAemPluginProcess, after(1500).never()).sentToIndexStandalone(any(), any());
         }
     }
 
@@ -128,8 +141,8 @@ class DumAemApiTest {
     @DisplayName("Repeated Request Handling Tests")
     class RepeatedRequestTests {
         @Test
-        @DisplayName("Should skip repeated requests within 30 seconds")
-        void shouldSkipRepeatedRequestsWithin30Seconds() {
+        @DisplayName("Should index repeated requests within the debounce window once")
+        void shouldIndexRepeatedRequestsOnce() {
             DumAemPathList pathList = DumAemPathList.builder()
                     .paths(new ArrayList<>(List.of("/content/test/page1")))
                     .build();
@@ -137,21 +150,20 @@ class DumAemApiTest {
             // First request
             dumAemApi.indexContentId("test-source", pathList);
 
-            // Second request with same path - should be skipped
+            // Second request with same path - coalesced with the first one
             DumAemPathList pathList2 = DumAemPathList.builder()
                     .paths(new ArrayList<>(List.of("/content/test/page1")))
                     .build();
 
             dumAemApi.indexContentId("test-source", pathList2);
 
-            // First call should process, second might be skipped
-            verify(dumAemPluginProcess, atLeastOnce()).sentToIndexStandaloneAsync(anyString(),
-                    any(DumAemPathList.class));
+            verify(dumAemPluginProcess, after(2500).times(1)).sentToIndexStandalone(eq("test-source"),
+                    argThat(batch -> batch.getPaths().equals(List.of("/content/test/page1"))));
         }
 
         @Test
-        @DisplayName("Should process different paths even with same source")
-        void shouldProcessDifferentPathsWithSameSource() {
+        @DisplayName("Should merge different paths of the same source")
+        void shouldMergeDifferentPathsOfSameSource() {
             DumAemPathList pathList1 = DumAemPathList.builder()
                     .paths(new ArrayList<>(List.of("/content/test/page1")))
                     .build();
@@ -163,7 +175,8 @@ class DumAemApiTest {
             dumAemApi.indexContentId("test-source", pathList1);
             dumAemApi.indexContentId("test-source", pathList2);
 
-            verify(dumAemPluginProcess, atLeast(1)).sentToIndexStandaloneAsync(anyString(), any(DumAemPathList.class));
+            verify(dumAemPluginProcess, timeout(5000)).sentToIndexStandalone(eq("test-source"),
+                    argThat(batch -> batch.getPaths().equals(List.of("/content/test/page1", "/content/test/page2"))));
         }
     }
 }
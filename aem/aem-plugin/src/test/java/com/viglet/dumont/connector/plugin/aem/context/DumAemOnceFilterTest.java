@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.context;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+
+@DisplayName("DumAemOnceFilter Tests")
+class DumAemOnceFilterTest {
+
+    private static final DumAemConfiguration CONFIG = DumAemConfiguration.builder()
+            .oncePattern("/content/archive")
+            .build();
+
+    @Test
+    @DisplayName("Should process every path when no once-pattern is set")
+    void shouldProcessEveryPathWithoutPattern() {
+        DumAemOnceFilter filter = DumAemOnceFilter.of(DumAemConfiguration.builder().build(), true);
+
+        assertTrue(filter.shouldProcess("/content/archive/2020"));
+    }
+
+    @Test
+    @DisplayName("Should skip once-paths after the first run")
+    void shouldSkipOncePathsAfterFirstRun() {
+        DumAemOnceFilter filter = DumAemOnceFilter.of(CONFIG, true);
+
+        assertFalse(filter.shouldProcess("/content/archive/2020"));
+        assertTrue(filter.shouldProcess("/content/site/en"));
+    }
+
+    @Test
+    @DisplayName("Should process each once-path a single time during the first run")
+    void shouldProcessOncePathsOncePerRun() {
+        DumAemOnceFilter filter = DumAemOnceFilter.of(CONFIG, false);
+
+        assertTrue(filter.shouldProcess("/content/archive/2020"));
+        assertFalse(filter.shouldProcess("/content/archive/2020"));
+        assertTrue(filter.shouldProcess("/content/site/en"));
+        assertTrue(filter.shouldProcess("/content/site/en"));
+    }
+}
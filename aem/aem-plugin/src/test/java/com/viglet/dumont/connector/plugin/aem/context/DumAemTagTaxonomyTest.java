@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumAemTagTaxonomy Tests")
+class DumAemTagTaxonomyTest {
+
+    private static final String NAMESPACE_JSON = """
+            {
+              "jcr:primaryType": "cq:Tag",
+              "jcr:title": "Colors",
+              "jcr:title.pt_br": "Cores",
+              "red": {
+                "jcr:primaryType": "cq:Tag",
+                "jcr:title": "Red",
+                "jcr:title.fr": "Rouge",
+                "dark": {
+                  "jcr:primaryType": "cq:Tag",
+                  "jcr:title": "Dark Red"
+                }
+              }
+            }""";
+
+    private final DumAemTagTaxonomy taxonomy = DumAemTagTaxonomy.of(new JSONObject(NAMESPACE_JSON));
+
+    @Test
+    @DisplayName("Should keep namespace labels")
+    void shouldKeepNamespaceLabels() {
+        assertEquals("Colors", taxonomy.getLabels().get("default"));
+        assertEquals("Cores", taxonomy.getLabels().get("pt_BR"));
+    }
+
+    @Test
+    @DisplayName("Should find nested tags")
+    void shouldFindNestedTags() {
+        assertEquals("Rouge", taxonomy.find("red").orElseThrow().getLabels().get("fr"));
+        assertEquals("Dark Red", taxonomy.find("red/dark").orElseThrow().getLabels().get("default"));
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown tags")
+    void shouldReturnEmptyForUnknownTags() {
+        assertTrue(taxonomy.find("blue").isEmpty());
+        assertTrue(taxonomy.find("red/light").isEmpty());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.dumont.connector.aem.commons.bean.DumAemEvent;
+import com.viglet.dumont.connector.plugin.aem.DumAemPluginProcess;
+import com.viglet.dumont.connector.plugin.aem.api.DumAemPathList;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DumAemEventQueue Tests")
+class DumAemEventQueueTest {
+
+    private static final String SOURCE = "wknd";
+
+    @Mock
+    private DumAemPluginProcess dumAemPluginProcess;
+
+    private final List<DumAemPathList> sent = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private DumAemEventQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sent.add(invocation.getArgument(1));
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return null;
+        }).when(dumAemPluginProcess).sentToIndexStandalone(eq(SOURCE), any(DumAemPathList.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.destroy();
+    }
+
+    private static DumAemPathList paths(DumAemEvent event, String... paths) {
+        return DumAemPathList.builder().paths(new ArrayList<>(List.of(paths))).event(event).build();
+    }
+
+    private List<String> sentPaths() {
+        synchronized (sent) {
+            return sent.stream().flatMap(batch -> batch.getPaths().stream()).toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should index a repeated path once")
+        void shouldIndexRepeatedPathOnce() {
+            queue = new DumAemEventQueue(dumAemPluginProcess, 1, 500);
+
+            assertEquals(2, queue.offer(SOURCE, paths(DumAemEvent.PUBLISHING, "/content/a", "/content/b")));
+            assertEquals(1, queue.offer(SOURCE, paths(DumAemEvent.PUBLISHING, "/content/b", "/content/c")));
+
+            verify(dumAemPluginProcess, timeout(5000)).sentToIndexStandalone(eq(SOURCE), any(DumAemPathList.class));
+            assertEquals(List.of("/content/a", "/content/b", "/content/c"), sentPaths());
+            assertEquals(0, queue.size(SOURCE));
+        }
+
+        @Test
+        @DisplayName("Should keep the latest event of a path")
+        void shouldKeepLatestEventOfPath() {
+            queue = new DumAemEventQueue(dumAemPluginProcess, 1, 500);
+
+            queue.offer(SOURCE, paths(DumAemEvent.PUBLISHING, "/content/a"));
+            queue.offer(SOURCE, paths(DumAemEvent.UNPUBLISHING, "/content/a"));
+
+            verify(dumAemPluginProcess, timeout(5000)).sentToIndexStandalone(eq(SOURCE), any(DumAemPathList.class));
+            assertEquals(1, sent.size());
+            assertEquals(DumAemEvent.UNPUBLISHING, sent.getFirst().getEvent());
+        }
+
+        @Test
+        @DisplayName("Should ignore empty requests")
+        void shouldIgnoreEmptyRequests() {
+            queue = new DumAemEventQueue(dumAemPluginProcess, 0, 500);
+
+            assertEquals(0, queue.offer(SOURCE, paths(DumAemEvent.PUBLISHING)));
+            assertEquals(0, queue.size(SOURCE));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching Tests")
+    class BatchingTests {
+
+        @Test
+        @DisplayName("Should split bursts into batches of the configured size")
+        void shouldSplitBurstsIntoBatches() {
+            queue = new DumAemEventQueue(dumAemPluginProcess, 1, 2);
+
+            queue.offer(SOURCE, paths(DumAemEvent.PUBLISHING, "/content/a", "/content/b", "/content/c"));
+            queue.offer(SOURCE, paths(DumAemEvent.UNPUBLISHING, "/content/d"));
+
+            verify(dumAemPluginProcess, timeout(5000).times(3)).sentToIndexStandalone(eq(SOURCE),
+                    any(DumAemPathList.class));
+            assertEquals(List.of(2, 1, 1), sent.stream().map(batch -> batch.getPaths().size()).toList());
+            assertEquals(DumAemEvent.UNPUBLISHING, sent.get(2).getEvent());
+        }
+
+        @Test
+        @DisplayName("Should drain concurrent bursts with one worker per source")
+        void shouldDrainConcurrentBurstsWithOneWorker() throws InterruptedException {
+            queue = new DumAemEventQueue(dumAemPluginProcess, 0, 100);
+            ExecutorService producers = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            IntStream.range(0, 8).forEach(producer -> producers.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                IntStream.range(0, 250).forEach(page -> queue.offer(SOURCE,
+                        paths(DumAemEvent.PUBLISHING, "/content/page-" + page)));
+            }));
+            start.countDown();
+            producers.shutdown();
+            assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (sentPaths().stream().distinct().count() < 250) {
+                assertFalse(System.currentTimeMillis() > deadline, "queue was not drained");
+                Thread.sleep(20);
+            }
+
+            assertEquals(1, maxRunning.get());
+            assertEquals(250, sentPaths().stream().distinct().count());
+        }
+    }
+}
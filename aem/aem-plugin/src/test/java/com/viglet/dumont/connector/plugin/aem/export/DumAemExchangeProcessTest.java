@@ -18,7 +18,10 @@
 package com.viglet.dumont.connector.plugin.aem.export;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -26,14 +29,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,8 +50,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.viglet.dumont.connector.plugin.aem.export.bean.DumAemAttribExchange;
@@ -84,6 +96,9 @@ class DumAemExchangeProcessTest {
     @Mock
     private DumAemSourceLocalePathRepository dumAemSourceLocalePathRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @TempDir
     File tempDir;
 
@@ -97,7 +112,8 @@ class DumAemExchangeProcessTest {
                 dumAemModelRepository,
                 dumAemTargetAttributeRepository,
                 dumAemSourceAttributeRepository,
-                dumAemSourceLocalePathRepository);
+                dumAemSourceLocalePathRepository,
+                transactionManager);
     }
 
     @Nested
@@ -127,11 +143,8 @@ class DumAemExchangeProcessTest {
             StreamingResponseBody result = exchangeProcess.exportObject(response);
 
             // Then - Should not throw exception
-            assertDoesNotThrow(() -> {
-                if (result != null) {
-                    // StreamingResponseBody will write to output stream
-                }
-            });
+            assertNotNull(result);
+            assertDoesNotThrow(() -> result.writeTo(new ByteArrayOutputStream()));
         }
 
         @Test
@@ -146,11 +159,97 @@ class DumAemExchangeProcessTest {
 
             // Then
             // Should not throw exception even with empty list
-            assertDoesNotThrow(() -> {
-                if (result != null) {
-                    // StreamingResponseBody will write to output stream
-                }
-            });
+            assertNotNull(result);
+            assertDoesNotThrow(() -> result.writeTo(new ByteArrayOutputStream()));
+        }
+
+        @Test
+        @DisplayName("Should stream a zip with the export file")
+        void shouldStreamZipWithExportFile() throws IOException {
+            // Given
+            HttpServletResponse response = mock(HttpServletResponse.class);
+            when(dumAemSourceRepository.findAll()).thenReturn(createDumAemSources());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+            // When
+            exchangeProcess.exportObject(response).writeTo(output);
+
+            // Then
+            try (ZipInputStream zipInputStream = new ZipInputStream(
+                    new ByteArrayInputStream(output.toByteArray()))) {
+                ZipEntry entry = zipInputStream.getNextEntry();
+                assertNotNull(entry);
+                assertEquals("export.json", entry.getName());
+                String json = new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(json.contains("\"sources\""));
+                assertTrue(json.contains("\"source-1\""));
+                assertNull(zipInputStream.getNextEntry());
+            }
+            verify(response).setStatus(HttpServletResponse.SC_OK);
+        }
+    }
+
+    @Nested
+    @DisplayName("importFromMultipartFile Tests")
+    class ImportFromMultipartFileTests {
+
+        @Test
+        @DisplayName("Should import sources exported by exportObject")
+        void shouldImportSourcesExportedByExportObject() throws IOException {
+            // Given
+            when(dumAemSourceRepository.findAll()).thenReturn(createDumAemSources());
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            exchangeProcess.writeExport(output);
+            when(dumAemSourceRepository.findById(any())).thenReturn(Optional.empty());
+            when(dumAemSourceRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            exchangeProcess.importFromMultipartFile(
+                    new MockMultipartFile("file", "export.zip", "application/zip", output.toByteArray()));
+
+            // Then
+            ArgumentCaptor<DumAemSource> captor = ArgumentCaptor.forClass(DumAemSource.class);
+            verify(dumAemSourceRepository, times(1)).save(captor.capture());
+            assertEquals("Test Source", captor.getValue().getName());
+            assertEquals("http://localhost:4502", captor.getValue().getEndpoint());
+        }
+
+        @Test
+        @DisplayName("Should import the export file inside a folder")
+        void shouldImportExportFileInsideFolder() throws IOException {
+            // Given
+            when(dumAemSourceRepository.findById(any())).thenReturn(Optional.empty());
+            when(dumAemSourceRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+            // When
+            exchangeProcess.importFromMultipartFile(new MockMultipartFile("file", "export.zip",
+                    "application/zip", zip("export/export.json", EXPORT_JSON)));
+
+            // Then
+            verify(dumAemSourceRepository, times(1)).save(any());
+        }
+
+        @Test
+        @DisplayName("Should ignore a zip without export file")
+        void shouldIgnoreZipWithoutExportFile() throws IOException {
+            // When
+            exchangeProcess.importFromMultipartFile(new MockMultipartFile("file", "export.zip",
+                    "application/zip", zip("other.json", EXPORT_JSON)));
+
+            // Then
+            verify(dumAemSourceRepository, times(0)).save(any());
+        }
+
+        @Test
+        @DisplayName("Should handle a file that is not a zip gracefully")
+        void shouldHandleFileThatIsNotZipGracefully() {
+            // Given
+            MockMultipartFile file = new MockMultipartFile("file", "export.zip", "application/zip",
+                    "not a zip".getBytes(StandardCharsets.UTF_8));
+
+            // When & Then
+            assertDoesNotThrow(() -> exchangeProcess.importFromMultipartFile(file));
+            verify(dumAemSourceRepository, times(0)).save(any());
         }
     }
 
@@ -302,28 +401,39 @@ class DumAemExchangeProcessTest {
                 .build();
     }
 
+    private static final String EXPORT_JSON = """
+            {
+                "sources": [
+                    {
+                        "id": "source-1",
+                        "name": "Test Source",
+                        "endpoint": "http://localhost:4502",
+                        "attributes": [],
+                        "models": [],
+                        "localePaths": []
+                    }
+                ]
+            }
+            """;
+
     private File createExportFile() throws IOException {
         File exportFile = new File(tempDir, "export.json");
-        String json = """
-                {
-                    "sources": [
-                        {
-                            "id": "source-1",
-                            "name": "Test Source",
-                            "endpoint": "http://localhost:4502",
-                            "attributes": [],
-                            "models": [],
-                            "localePaths": []
-                        }
-                    ]
-                }
-                """;
         try (FileWriter writer = new FileWriter(exportFile)) {
-            writer.write(json);
+            writer.write(EXPORT_JSON);
         }
         return exportFile;
     }
 
+    private static byte[] zip(String entryName, String content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(output)) {
+            zipOutputStream.putNextEntry(new ZipEntry(entryName));
+            zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+        return output.toByteArray();
+    }
+
     private DumAemExchange createDumAemExchange() {
         DumAemSourceExchange sourceExchange = DumAemSourceExchange.builder()
                 .id("source-1")
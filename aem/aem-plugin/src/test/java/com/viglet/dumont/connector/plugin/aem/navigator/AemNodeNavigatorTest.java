@@ -27,6 +27,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,6 +51,7 @@ import reactor.core.publisher.Mono;
 import com.viglet.dumont.connector.aem.commons.DumAemObjectGeneric;
 import com.viglet.dumont.connector.aem.commons.bean.DumAemEvent;
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+import com.viglet.dumont.connector.plugin.aem.context.DumAemOnceFilter;
 import com.viglet.dumont.connector.plugin.aem.context.DumAemSession;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemJobService;
 import com.viglet.dumont.connector.plugin.aem.service.DumAemObjectService;
@@ -262,6 +264,85 @@ class AemNodeNavigatorTest {
                 assertDoesNotThrow(() -> reactiveNavigator.navigateAndIndex(session, path, infinityJson));
             }
         }
+
+        @Test
+        @DisplayName("Should index every level and skip failed children without falling back")
+        void shouldIndexEveryLevelAndSkipFailedChildren() {
+            AemNodeNavigator reactiveNavigator = new AemNodeNavigator(
+                    objectService,
+                    jobService,
+                    sourceService,
+                    reactiveUtils,
+                    true,
+                    2);
+
+            DumAemSession session = createMockSession(true);
+            String path = "/content/test";
+            DumAemObjectGeneric rootObject = createMockAemObjectWithChildren(path, "cq:Page",
+                    "first", "broken");
+            DumAemObjectGeneric firstObject = createMockAemObjectWithChildren(path + "/first", "cq:Page",
+                    "nested");
+            DumAemObjectGeneric nestedObject = createMockAemObject(path + "/first/nested", "cq:Page");
+            JSONObject firstJson = new JSONObject().put("name", "first");
+            JSONObject nestedJson = new JSONObject().put("name", "nested");
+
+            when(objectService.getDumAemObjectGeneric(eq(path), any(JSONObject.class), any()))
+                    .thenReturn(rootObject);
+            when(objectService.getDumAemObjectGeneric(eq(path + "/first"), any(JSONObject.class), any()))
+                    .thenReturn(firstObject);
+            when(objectService.getDumAemObjectGeneric(eq(path + "/first/nested"), any(JSONObject.class),
+                    any())).thenReturn(nestedObject);
+            when(reactiveUtils.getInfinityJsonReactive(eq(path + "/first"), any()))
+                    .thenReturn(Mono.just(firstJson));
+            when(reactiveUtils.getInfinityJsonReactive(eq(path + "/broken"), any()))
+                    .thenReturn(Mono.error(new IllegalStateException("broken")));
+            when(reactiveUtils.getInfinityJsonReactive(eq(path + "/first/nested"), any()))
+                    .thenReturn(Mono.just(nestedJson));
+
+            reactiveNavigator.navigateAndIndex(session, path, new JSONObject());
+
+            verify(jobService).prepareIndexObject(session, rootObject);
+            verify(jobService).prepareIndexObject(session, firstObject);
+            verify(jobService).prepareIndexObject(session, nestedObject);
+            verify(jobService, times(3)).prepareIndexObject(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Once Filter Tests")
+    class OnceFilterTests {
+
+        @Test
+        @DisplayName("Should use the session once filter instead of querying the source")
+        void shouldUseSessionOnceFilter() {
+            DumAemConfiguration config = DumAemConfiguration.builder()
+                    .contentType("cq:Page")
+                    .oncePattern("/content/test/childNode")
+                    .build();
+            DumAemSession session = DumAemSession.builder()
+                    .configuration(config)
+                    .event(DumAemEvent.INDEXING)
+                    .recursive(true)
+                    .onceFilter(DumAemOnceFilter.of(config, true))
+                    .build();
+            String path = "/content/test";
+            DumAemObjectGeneric parentObject = createMockAemObjectWithChildren(path, "cq:Page");
+
+            when(objectService.getDumAemObjectGeneric(eq(path), any(JSONObject.class), any()))
+                    .thenReturn(parentObject);
+
+            try (MockedStatic<DumAemCommonsUtils> mockedUtils = mockStatic(DumAemCommonsUtils.class)) {
+                mockedUtils.when(() -> DumAemCommonsUtils.checkIfFileHasNotImageExtension(anyString()))
+                        .thenReturn(true);
+                mockedUtils.when(() -> DumAemCommonsUtils.isTypeEqualContentType(any(), any()))
+                        .thenReturn(false);
+
+                aemNodeNavigator.navigateAndIndex(session, path, new JSONObject());
+
+                verify(sourceService, never()).isOnce(any());
+                verify(objectService, times(1)).getDumAemObjectGeneric(anyString(), any(JSONObject.class), any());
+            }
+        }
     }
 
     private DumAemSession createMockSession(boolean recursive) {
@@ -296,4 +377,12 @@ class AemNodeNavigatorTest {
         lenient().when(aemObject.getJcrNode()).thenReturn(jcrNode);
         return aemObject;
     }
+
+    private DumAemObjectGeneric createMockAemObjectWithChildren(String path, String type, String... children) {
+        DumAemObjectGeneric aemObject = createMockAemObject(path, type);
+        for (String child : children) {
+            aemObject.getJcrNode().put(child, new JSONObject());
+        }
+        return aemObject;
+    }
 }
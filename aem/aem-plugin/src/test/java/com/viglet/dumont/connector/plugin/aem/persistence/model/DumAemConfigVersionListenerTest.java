@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.persistence.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("DumAemConfigVersionListener Tests")
+class DumAemConfigVersionListenerTest {
+
+    private final DumAemConfigVersionListener listener = new DumAemConfigVersionListener();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should bump the version right away outside a transaction")
+    void shouldBumpVersionOutsideTransaction() {
+        long version = DumAemConfigVersionListener.currentVersion();
+
+        listener.onChange(new DumAemSource());
+
+        assertEquals(version + 1, DumAemConfigVersionListener.currentVersion());
+    }
+
+    @Test
+    @DisplayName("Should bump the version after the transaction commits")
+    void shouldBumpVersionAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        long version = DumAemConfigVersionListener.currentVersion();
+
+        listener.onChange(new DumAemSource());
+        listener.onChange(new DumAemPluginSystem());
+
+        assertEquals(version, DumAemConfigVersionListener.currentVersion());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(version + 2, DumAemConfigVersionListener.currentVersion());
+    }
+
+    @Test
+    @DisplayName("Should keep the version when the transaction rolls back")
+    void shouldKeepVersionAfterRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        long version = DumAemConfigVersionListener.currentVersion();
+
+        listener.onChange(new DumAemSource());
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization
+                .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(version, DumAemConfigVersionListener.currentVersion());
+    }
+}
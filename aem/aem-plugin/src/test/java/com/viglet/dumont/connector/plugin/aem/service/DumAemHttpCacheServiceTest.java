@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+
+@DisplayName("DumAemHttpCacheService Tests")
+class DumAemHttpCacheServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void tearDown() {
+        DumAemCommonsUtils.setHttpCache(null);
+    }
+
+    @Test
+    @DisplayName("Should open the cache directory when enabled")
+    void shouldOpenCacheWhenEnabled() {
+        Path cacheDirectory = directory.resolve("aem");
+        DumAemHttpCacheService service = new DumAemHttpCacheService(true, cacheDirectory.toString(), 1, 10);
+
+        service.configure();
+
+        assertNotNull(service.getHttpCache());
+        assertTrue(Files.isDirectory(cacheDirectory));
+    }
+
+    @Test
+    @DisplayName("Should leave the cache off when disabled")
+    void shouldLeaveCacheOffWhenDisabled() {
+        Path cacheDirectory = directory.resolve("aem");
+        DumAemHttpCacheService service = new DumAemHttpCacheService(false, cacheDirectory.toString(), 1, 10);
+
+        service.configure();
+
+        assertNull(service.getHttpCache());
+        assertFalse(Files.exists(cacheDirectory));
+    }
+
+    @Test
+    @DisplayName("Should stay disabled when the directory is not usable")
+    void shouldStayDisabledWhenDirectoryNotUsable() throws Exception {
+        Path file = Files.createFile(directory.resolve("not-a-directory"));
+        DumAemHttpCacheService service = new DumAemHttpCacheService(true, file.toString(), 1, 10);
+
+        service.configure();
+
+        assertNull(service.getHttpCache());
+    }
+}
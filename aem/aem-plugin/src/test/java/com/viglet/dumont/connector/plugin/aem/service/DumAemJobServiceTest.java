@@ -20,9 +20,14 @@ package com.viglet.dumont.connector.plugin.aem.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +38,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +47,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.viglet.dumont.connector.aem.commons.DumAemObject;
@@ -50,6 +57,7 @@ import com.viglet.dumont.connector.aem.commons.bean.DumAemEvent;
 import com.viglet.dumont.connector.aem.commons.bean.DumAemAttrMap;
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemContentMapping;
+import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
 import com.viglet.dumont.connector.commons.DumConnectorContext;
 import com.viglet.dumont.connector.commons.domain.DumConnectorIndexing;
 import com.viglet.dumont.connector.plugin.aem.context.DumAemSession;
@@ -80,7 +88,7 @@ class DumAemJobServiceTest {
     @BeforeEach
     void setUp() {
         service = new DumAemJobService(dumAemService, dumConnectorContext,
-                dumAemContentDefinitionService, dumAemObjectService);
+                dumAemContentDefinitionService, dumAemObjectService, true);
     }
 
     @Nested
@@ -232,6 +240,102 @@ class DumAemJobServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Publish Fetch Tests")
+    class PublishFetchTests {
+
+        private static final String PATH = "/content/test";
+        private static final String OLDER = "Mon Jan 01 2024 10:30:00 GMT+0000";
+        private static final String NEWER = "Tue Jan 02 2024 10:30:00 GMT+0000";
+
+        private DumAemSession session;
+
+        @BeforeEach
+        void setUpPublish() {
+            DumAemConfiguration config = mock(DumAemConfiguration.class);
+            lenient().when(config.isAuthor()).thenReturn(false);
+            lenient().when(config.isPublish()).thenReturn(true);
+            lenient().when(config.getPublishSNSite()).thenReturn("publish-site");
+            lenient().when(config.getPublishURLPrefix()).thenReturn("http://localhost:4503");
+            session = DumAemSession.builder()
+                    .configuration(config)
+                    .transactionId("run-1")
+                    .event(DumAemEvent.INDEXING)
+                    .standalone(true)
+                    .providerName("AEM")
+                    .contentMapping(DumAemContentMapping.builder().build())
+                    .attributeSpecs(Collections.emptyList())
+                    .build();
+            lenient().when(dumAemService.getTargetAttrValueMap(any(), any()))
+                    .thenReturn(new DumAemAttrMap());
+            lenient().when(dumAemContentDefinitionService.getDeltaDate(any(), any(), any()))
+                    .thenReturn(new Date());
+            lenient().when(dumConnectorContext.addJobItem(any())).thenReturn(true);
+            lenient().when(dumAemObjectService.getDumAemObjectGeneric(eq(PATH), any(JSONObject.class),
+                    eq(DumAemEvent.PUBLISHING))).thenAnswer(invocation -> new DumAemObjectGeneric(PATH,
+                            invocation.getArgument(1), DumAemEvent.PUBLISHING));
+        }
+
+        private DumAemObjectGeneric page(String replicated, String modified) {
+            JSONObject jcrContent = new JSONObject();
+            jcrContent.put("cq:lastReplicationAction", "Activate");
+            jcrContent.put("cq:lastReplicationAction_publish", "Activate");
+            jcrContent.put("cq:lastReplicated", replicated);
+            jcrContent.put("jcr:lastModified", modified);
+            return new DumAemObjectGeneric(PATH, new JSONObject()
+                    .put("jcr:primaryType", "cq:Page")
+                    .put("jcr:content", jcrContent));
+        }
+
+        @Test
+        @DisplayName("Should reuse the author payload when publish is up to date")
+        void shouldReuseAuthorPayloadWhenPublishIsUpToDate() {
+            try (MockedStatic<DumAemCommonsUtils> utils = mockStatic(DumAemCommonsUtils.class,
+                    CALLS_REAL_METHODS)) {
+                service.indexObject(session, page(NEWER, OLDER));
+
+                utils.verify(() -> DumAemCommonsUtils.getInfinityJson(anyString(), any(), anyBoolean(),
+                        any(DumAemEnv.class)), never());
+            }
+            verify(dumConnectorContext).addJobItem(any());
+        }
+
+        @Test
+        @DisplayName("Should fetch publish when the author has newer changes")
+        void shouldFetchPublishWhenAuthorHasNewerChanges() {
+            try (MockedStatic<DumAemCommonsUtils> utils = mockStatic(DumAemCommonsUtils.class,
+                    CALLS_REAL_METHODS)) {
+                utils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(PATH), any(), eq(false),
+                        eq(DumAemEnv.PUBLISHING))).thenReturn(Optional.of(new JSONObject()
+                                .put("jcr:primaryType", "cq:Page")));
+
+                service.indexObject(session, page(OLDER, NEWER));
+
+                utils.verify(() -> DumAemCommonsUtils.getInfinityJson(eq(PATH), any(), eq(false),
+                        eq(DumAemEnv.PUBLISHING)), times(1));
+            }
+            verify(dumConnectorContext).addJobItem(any());
+        }
+
+        @Test
+        @DisplayName("Should always fetch publish when reuse is disabled")
+        void shouldFetchPublishWhenReuseIsDisabled() {
+            DumAemJobService fetchingService = new DumAemJobService(dumAemService, dumConnectorContext,
+                    dumAemContentDefinitionService, dumAemObjectService, false);
+            try (MockedStatic<DumAemCommonsUtils> utils = mockStatic(DumAemCommonsUtils.class,
+                    CALLS_REAL_METHODS)) {
+                utils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(PATH), any(), eq(false),
+                        eq(DumAemEnv.PUBLISHING))).thenReturn(Optional.empty());
+
+                fetchingService.indexObject(session, page(NEWER, OLDER));
+
+                utils.verify(() -> DumAemCommonsUtils.getInfinityJson(eq(PATH), any(), eq(false),
+                        eq(DumAemEnv.PUBLISHING)), times(1));
+            }
+            verify(dumConnectorContext).addJobItem(any());
+        }
+    }
+
     @Nested
     @DisplayName("createDeIndexJobAndSendToConnectorQueue Tests")
     class CreateDeIndexJobTests {
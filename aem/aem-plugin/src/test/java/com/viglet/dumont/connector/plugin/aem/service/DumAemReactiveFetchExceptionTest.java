@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("DumAemReactiveFetchException Tests")
+class DumAemReactiveFetchExceptionTest {
+
+    private static final String URL = "http://localhost:4502/content/site.infinity.json";
+
+    @Nested
+    @DisplayName("Status Tests")
+    class StatusTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = { 408, 429, 500, 502, 503 })
+        @DisplayName("Should retry throttling and server errors")
+        void shouldRetryThrottlingAndServerErrors(int status) {
+            assertTrue(new DumAemReactiveFetchException(URL, status).isRetryable());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 400, 401, 403, 404 })
+        @DisplayName("Should not retry client errors")
+        void shouldNotRetryClientErrors(int status) {
+            assertFalse(new DumAemReactiveFetchException(URL, status).isRetryable());
+        }
+
+        @Test
+        @DisplayName("Should flag not found responses")
+        void shouldFlagNotFound() {
+            DumAemReactiveFetchException exception = new DumAemReactiveFetchException(URL, 404);
+
+            assertTrue(exception.isNotFound());
+            assertEquals(URL, exception.getUrl());
+            assertEquals(404, exception.getStatusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Transport Tests")
+    class TransportTests {
+
+        @Test
+        @DisplayName("Should retry timeouts")
+        void shouldRetryTimeouts() {
+            DumAemReactiveFetchException exception = new DumAemReactiveFetchException(URL,
+                    new TimeoutException("timeout"));
+
+            assertTrue(exception.isRetryable());
+            assertEquals(DumAemReactiveFetchException.NO_STATUS, exception.getStatusCode());
+        }
+
+        @Test
+        @DisplayName("Should retry wrapped timeouts")
+        void shouldRetryWrappedTimeouts() {
+            assertTrue(new DumAemReactiveFetchException(URL,
+                    new IllegalStateException(new TimeoutException("timeout"))).isRetryable());
+        }
+
+        @Test
+        @DisplayName("Should not retry refused connections")
+        void shouldNotRetryRefusedConnections() {
+            assertFalse(new DumAemReactiveFetchException(URL,
+                    new ConnectException("refused")).isRetryable());
+        }
+
+        @Test
+        @DisplayName("Should retry invalid JSON responses")
+        void shouldRetryInvalidJson() {
+            assertTrue(new DumAemReactiveFetchException(URL, "Invalid JSON response").isRetryable());
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.viglet.dumont.connector.plugin.aem.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.lang.reflect.Method;
 
@@ -38,9 +39,13 @@ class DumAemReactiveHttpServiceTest {
 
     private DumAemReactiveHttpService dumAemReactiveHttpService;
 
+    private static DumAemReactiveHttpService createService(boolean http2) {
+        return new DumAemReactiveHttpService(50, 1000, 60, 30, http2, 3);
+    }
+
     @BeforeEach
     void setUp() {
-        dumAemReactiveHttpService = new DumAemReactiveHttpService();
+        dumAemReactiveHttpService = createService(false);
     }
 
     @Nested
@@ -56,7 +61,7 @@ class DumAemReactiveHttpServiceTest {
         @Test
         @DisplayName("Should initialize WebClient with SSL configuration")
         void shouldInitializeWebClientWithSslConfiguration() {
-            DumAemReactiveHttpService service = new DumAemReactiveHttpService();
+            DumAemReactiveHttpService service = createService(false);
             assertNotNull(service);
         }
     }
@@ -128,14 +133,14 @@ class DumAemReactiveHttpServiceTest {
         @Test
         @DisplayName("Should create WebClient with timeout settings")
         void shouldCreateWebClientWithTimeoutSettings() {
-            DumAemReactiveHttpService service = new DumAemReactiveHttpService();
+            DumAemReactiveHttpService service = createService(false);
             assertNotNull(service);
         }
 
         @Test
         @DisplayName("Should create WebClient with SSL protocols")
         void shouldCreateWebClientWithSslProtocols() {
-            DumAemReactiveHttpService service = new DumAemReactiveHttpService();
+            DumAemReactiveHttpService service = createService(false);
             assertNotNull(service);
 
             // Use reflection to check if SSL context or protocols are set (example, adjust
@@ -169,7 +174,24 @@ class DumAemReactiveHttpServiceTest {
                     "http://non-existent-host:4502/content.json", config);
 
             assertNotNull(result);
-            // The Mono should return empty string on error based on onErrorReturn("")
+        }
+
+        @Test
+        @DisplayName("Should emit a typed error when the host cannot be reached")
+        void shouldEmitTypedErrorWhenHostUnreachable() {
+            DumAemReactiveHttpService service = new DumAemReactiveHttpService(1, 10, 5, 1, false, 0);
+            DumAemConfiguration config = DumAemConfiguration.builder()
+                    .url("http://127.0.0.1:1")
+                    .username("admin")
+                    .password("admin")
+                    .build();
+
+            var result = service.fetchResponseBodyReactive("http://127.0.0.1:1/content.json", config);
+
+            DumAemReactiveFetchException exception = assertThrows(DumAemReactiveFetchException.class,
+                    result::block);
+            assertEquals("http://127.0.0.1:1/content.json", exception.getUrl());
+            assertEquals(DumAemReactiveFetchException.NO_STATUS, exception.getStatusCode());
         }
 
         @Test
@@ -195,7 +217,7 @@ class DumAemReactiveHttpServiceTest {
         @Test
         @DisplayName("Should configure retry with backoff")
         void shouldConfigureRetryWithBackoff() {
-            DumAemReactiveHttpService service = new DumAemReactiveHttpService();
+            DumAemReactiveHttpService service = createService(false);
 
             DumAemConfiguration config = DumAemConfiguration.builder()
                     .url("http://localhost:4502")
@@ -162,6 +162,18 @@ class DumAemReactiveUtilsTest {
             var jsonObject = result.block();
             assertNull(jsonObject);
         }
+
+        @Test
+        @DisplayName("Should return empty Mono on typed fetch errors")
+        void shouldReturnEmptyMonoOnTypedFetchErrors() {
+            DumAemConfiguration config = createMockConfiguration();
+
+            when(reactiveHttpService.fetchResponseBodyReactive(anyString(), any()))
+                    .thenReturn(Mono.error(new DumAemReactiveFetchException(
+                            "http://localhost:4502/content/page.infinity.json", 404)));
+
+            assertNull(dumAemReactiveUtils.getInfinityJsonReactive("/content/page", config).block());
+        }
     }
 
     @Nested
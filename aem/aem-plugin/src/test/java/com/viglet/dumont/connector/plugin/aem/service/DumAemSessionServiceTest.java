@@ -20,17 +20,23 @@ package com.viglet.dumont.connector.plugin.aem.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,9 +50,11 @@ import com.viglet.dumont.connector.aem.commons.bean.DumAemEvent;
 import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemContentMapping;
 import com.viglet.dumont.connector.aem.commons.mappers.DumAemModel;
+import com.viglet.dumont.connector.aem.commons.mappers.DumAemTargetAttr;
 import com.viglet.dumont.connector.commons.DumConnectorSession;
 import com.viglet.dumont.connector.plugin.aem.api.DumAemPathList;
 import com.viglet.dumont.connector.plugin.aem.context.DumAemSession;
+import com.viglet.dumont.connector.plugin.aem.persistence.model.DumAemConfigVersionListener;
 import com.viglet.dumont.connector.plugin.aem.persistence.model.DumAemSource;
 import com.viglet.turing.client.sn.job.TurSNAttributeSpec;
 import com.viglet.turing.commons.se.field.TurSEFieldType;
@@ -285,6 +293,82 @@ class DumAemSessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Session Snapshot Cache Tests")
+    class SessionSnapshotCacheTests {
+
+        @Test
+        @DisplayName("Should load configuration once per source and version")
+        void shouldLoadConfigurationOncePerSource() {
+            DumAemSource source = createDumAemSource().toBuilder().id("source-1").build();
+            setupMocks(source);
+
+            DumAemSession first = service.getDumAemSession(source, false);
+            DumAemSession second = service.getDumAemSession(source, true);
+
+            verify(dumAemContentMappingService, times(1)).getDumAemContentMapping(source);
+            verify(dumAemSourceService, times(1)).isOnce(any());
+            verify(dumAemSourceService, times(2)).getDumConnectorSession(source);
+            assertSame(first.getConfiguration(), second.getConfiguration());
+            assertNotSame(first.getAttributeSpecs(), second.getAttributeSpecs());
+        }
+
+        @Test
+        @DisplayName("Should reload configuration after a configuration change")
+        void shouldReloadConfigurationAfterChange() {
+            DumAemSource source = createDumAemSource().toBuilder().id("source-2").build();
+            setupMocks(source);
+
+            service.getDumAemSession(source, false);
+            new DumAemConfigVersionListener().onChange(source);
+            service.getDumAemSession(source, false);
+
+            verify(dumAemContentMappingService, times(2)).getDumAemContentMapping(source);
+            verify(dumAemSourceService, times(2)).isOnce(any());
+        }
+
+        @Test
+        @DisplayName("Should keep the newer snapshot when an older load finishes last")
+        void shouldKeepNewerSnapshotWhenOlderLoadFinishesLast() {
+            DumAemSource source = createDumAemSource().toBuilder().id("source-3").build();
+            setupMocks(source);
+            DumAemContentMapping contentMapping = createContentMapping();
+            AtomicBoolean changed = new AtomicBoolean();
+            // The configuration changes while the first load runs, and a second
+            // session loads the new version before the first load finishes
+            when(dumAemContentMappingService.getDumAemContentMapping(source)).thenAnswer(invocation -> {
+                if (changed.compareAndSet(false, true)) {
+                    new DumAemConfigVersionListener().onChange(source);
+                    service.getDumAemSession(source, false);
+                }
+                return contentMapping;
+            });
+
+            service.getDumAemSession(source, false);
+            service.getDumAemSession(source, false);
+
+            verify(dumAemContentMappingService, times(2)).getDumAemContentMapping(source);
+        }
+
+        @Test
+        @DisplayName("Should share read-only copies of the mapping and model")
+        void shouldShareReadOnlyCopiesOfMappingAndModel() {
+            DumAemSource source = createDumAemSource().toBuilder().id("source-4").build();
+            DumAemModel model = createDumAemModel();
+            setupMocksWithModel(source, model);
+
+            DumAemSession session = service.getDumAemSession(source, false);
+
+            assertNotSame(model, session.getModel());
+            assertEquals("cq:Page", session.getModel().getType());
+            List<DumAemTargetAttr> targetAttrs = session.getModel().getTargetAttrs();
+            assertThrows(UnsupportedOperationException.class,
+                    () -> targetAttrs.add(new DumAemTargetAttr()));
+            List<DumAemModel> models = session.getContentMapping().getModels();
+            assertThrows(UnsupportedOperationException.class, () -> models.add(model));
+        }
+    }
+
     private DumAemSource createDumAemSource() {
         return DumAemSource.builder()
                 .name("Test Source")
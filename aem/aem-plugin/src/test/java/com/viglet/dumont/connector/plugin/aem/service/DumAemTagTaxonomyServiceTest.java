@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.aem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import com.viglet.dumont.connector.aem.commons.context.DumAemConfiguration;
+import com.viglet.dumont.connector.aem.commons.utils.DumAemCommonsUtils;
+
+@DisplayName("DumAemTagTaxonomyService Tests")
+class DumAemTagTaxonomyServiceTest {
+
+    private static final String NAMESPACE_PATH = "/content/_cq_tags/colors";
+    private static final JSONObject NAMESPACE_JSON = new JSONObject("""
+            {
+              "jcr:title": "Colors",
+              "red": { "jcr:title": "Red", "jcr:title.fr": "Rouge" }
+            }""");
+
+    private DumAemTagTaxonomyService service;
+    private DumAemConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        service = new DumAemTagTaxonomyService(30);
+        configuration = DumAemConfiguration.builder()
+                .id("source-1")
+                .url("http://localhost:4502")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should load a namespace once and serve all its tags")
+    void shouldLoadNamespaceOnce() {
+        try (MockedStatic<DumAemCommonsUtils> mockedUtils = mockStatic(DumAemCommonsUtils.class)) {
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    anyBoolean())).thenReturn(Optional.of(NAMESPACE_JSON));
+
+            assertEquals("Colors",
+                    service.getNamespaceLabels(configuration, "colors").orElseThrow().get("default"));
+            assertEquals("Rouge",
+                    service.getTagLabels(configuration, "colors", "red").orElseThrow().get("fr"));
+
+            mockedUtils.verify(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    anyBoolean()), times(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fetch tags missing from the loaded namespace")
+    void shouldFetchMissingTags() {
+        try (MockedStatic<DumAemCommonsUtils> mockedUtils = mockStatic(DumAemCommonsUtils.class)) {
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    anyBoolean())).thenReturn(Optional.of(NAMESPACE_JSON));
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH + "/blue"),
+                    any(), anyBoolean()))
+                    .thenReturn(Optional.of(new JSONObject().put("jcr:title", "Blue")));
+
+            assertEquals("Blue",
+                    service.getTagLabels(configuration, "colors", "blue").orElseThrow()
+                            .get("default"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reload a namespace after a tag replication event")
+    void shouldReloadAfterTagReplication() {
+        try (MockedStatic<DumAemCommonsUtils> mockedUtils = mockStatic(DumAemCommonsUtils.class)) {
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    anyBoolean())).thenReturn(Optional.of(NAMESPACE_JSON));
+
+            service.getNamespaceLabels(configuration, "colors");
+            service.refresh(configuration, List.of("/content/site/en", NAMESPACE_PATH + "/red"));
+            service.getNamespaceLabels(configuration, "colors");
+
+            mockedUtils.verify(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    anyBoolean()), times(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should remember a namespace that cannot be read")
+    void shouldCacheNamespaceFailure() {
+        try (MockedStatic<DumAemCommonsUtils> mockedUtils = mockStatic(DumAemCommonsUtils.class)) {
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    eq(false))).thenReturn(Optional.empty());
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH + "/red"),
+                    any(), eq(true)))
+                    .thenReturn(Optional.of(new JSONObject().put("jcr:title", "Red")));
+
+            assertEquals("Red",
+                    service.getTagLabels(configuration, "colors", "red").orElseThrow()
+                            .get("default"));
+            assertEquals("Red",
+                    service.getTagLabels(configuration, "colors", "red").orElseThrow()
+                            .get("default"));
+
+            mockedUtils.verify(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    eq(false)), times(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry a namespace that could not be read once the failure expires")
+    void shouldRetryNamespaceAfterFailureExpires() {
+        service = new DumAemTagTaxonomyService(Duration.ofMinutes(30), Duration.ZERO);
+        try (MockedStatic<DumAemCommonsUtils> mockedUtils = mockStatic(DumAemCommonsUtils.class)) {
+            mockedUtils.when(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    eq(false))).thenReturn(Optional.empty(), Optional.of(NAMESPACE_JSON));
+
+            service.getTagLabels(configuration, "colors", "red");
+            assertEquals("Rouge",
+                    service.getTagLabels(configuration, "colors", "red").orElseThrow().get("fr"));
+
+            mockedUtils.verify(() -> DumAemCommonsUtils.getInfinityJson(eq(NAMESPACE_PATH), any(),
+                    eq(false)), times(2));
+        }
+    }
+}
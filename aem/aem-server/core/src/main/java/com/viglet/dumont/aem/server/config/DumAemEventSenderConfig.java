@@ -0,0 +1,29 @@
+package com.viglet.dumont.aem.server.config;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+@ObjectClassDefinition(name = "Dumont Event Sender Configuration")
+public @interface DumAemEventSenderConfig {
+    @AttributeDefinition(name = "Batch Window (ms)", description = "Time to collect paths before sending them to Dumont")
+    long batchWindow() default 2000;
+
+    @AttributeDefinition(name = "Batch Size", description = "Maximum number of paths sent in one request")
+    int batchSize() default 500;
+
+    @AttributeDefinition(name = "Queue Capacity", description = "Maximum number of paths waiting to be sent; "
+            + "paths that do not fit are written to the journal")
+    int queueCapacity() default 10000;
+
+    @AttributeDefinition(name = "Max Retries", description = "Retries of a failed request before it is journaled")
+    int maxRetries() default 5;
+
+    @AttributeDefinition(name = "Initial Backoff (ms)", description = "Wait before the first retry, doubled on each retry")
+    long initialBackoff() default 1000;
+
+    @AttributeDefinition(name = "Max Connections", description = "Size of the HTTP connection pool")
+    int maxConnections() default 4;
+
+    @AttributeDefinition(name = "Timeout (ms)", description = "Connect and read timeout of the HTTP requests")
+    int timeout() default 30000;
+}
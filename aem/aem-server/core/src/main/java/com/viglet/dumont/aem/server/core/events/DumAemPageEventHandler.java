@@ -3,8 +3,7 @@ package com.viglet.dumont.aem.server.core.events;
 import com.day.cq.wcm.api.PageEvent;
 import com.day.cq.wcm.api.PageModification;
 import com.viglet.dumont.aem.server.core.events.beans.DumAemEvent;
-import com.viglet.dumont.aem.server.core.events.utils.DumAemEventUtils;
-import com.viglet.dumont.aem.server.core.services.DumAemIndexerService;
+import com.viglet.dumont.aem.server.core.services.DumAemEventSender;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IteratorUtils;
 import org.osgi.framework.Constants;
@@ -24,7 +23,7 @@ import java.util.stream.Collectors;
 })
 public class DumAemPageEventHandler implements EventHandler {
     @Reference
-    private DumAemIndexerService dumAemIndexerService;
+    private DumAemEventSender dumAemEventSender;
 
     @Override
     public void handleEvent(Event event) {
@@ -43,6 +42,6 @@ public class DumAemPageEventHandler implements EventHandler {
         if (paths.isEmpty()) {
             return;
         }
-        DumAemEventUtils.index(dumAemIndexerService.getConfig(), paths, DumAemEvent.INDEXING);
+        dumAemEventSender.index(paths, DumAemEvent.INDEXING);
     }
 }
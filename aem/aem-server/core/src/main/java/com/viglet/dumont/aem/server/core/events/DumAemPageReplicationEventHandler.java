@@ -12,8 +12,7 @@ import org.osgi.service.event.EventHandler;
 import com.day.cq.replication.ReplicationAction;
 import com.day.cq.replication.ReplicationActionType;
 import com.viglet.dumont.aem.server.core.events.beans.DumAemEvent;
-import com.viglet.dumont.aem.server.core.events.utils.DumAemEventUtils;
-import com.viglet.dumont.aem.server.core.services.DumAemIndexerService;
+import com.viglet.dumont.aem.server.core.services.DumAemEventSender;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,7 +25,7 @@ public class DumAemPageReplicationEventHandler implements EventHandler {
 	private static final String CONTENT_DAM_PREFIX = "/content/dam/";
 
 	@Reference
-	private DumAemIndexerService dumAemIndexerService;
+	private DumAemEventSender dumAemEventSender;
 
 	@Override
 	public void handleEvent(Event event) {
@@ -64,7 +63,7 @@ public class DumAemPageReplicationEventHandler implements EventHandler {
 
 	private void indexPages(List<String> paths, DumAemEvent event) {
 		try {
-			DumAemEventUtils.index(dumAemIndexerService.getConfig(), paths, event);
+			dumAemEventSender.index(paths, event);
 		} catch (Exception e) {
 			log.error("Error indexing pages {}: {}", paths, e.getMessage(), e);
 		}
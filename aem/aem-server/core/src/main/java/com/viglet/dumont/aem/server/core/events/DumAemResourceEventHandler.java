@@ -1,8 +1,7 @@
 package com.viglet.dumont.aem.server.core.events;
 
 import com.viglet.dumont.aem.server.core.events.beans.DumAemEvent;
-import com.viglet.dumont.aem.server.core.events.utils.DumAemEventUtils;
-import com.viglet.dumont.aem.server.core.services.DumAemIndexerService;
+import com.viglet.dumont.aem.server.core.services.DumAemEventSender;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.sling.api.SlingConstants;
 import org.osgi.framework.Constants;
@@ -27,7 +26,7 @@ public class DumAemResourceEventHandler implements EventHandler {
     private static final String JCR_CONTENT_SUFFIX = "/jcr:content";
 
     @Reference
-    private DumAemIndexerService dumAemIndexerService;
+    private DumAemEventSender dumAemEventSender;
 
     @Override
     public void handleEvent(Event event) {
@@ -51,7 +50,7 @@ public class DumAemResourceEventHandler implements EventHandler {
         }
 
         log.info("Dumont: Resource event for asset: {}", assetPath);
-        DumAemEventUtils.index(dumAemIndexerService.getConfig(), assetPath, DumAemEvent.INDEXING);
+        dumAemEventSender.index(assetPath, DumAemEvent.INDEXING);
     }
 
     private boolean isAssetEvent(String resourceType) {
@@ -1,7 +1,9 @@
 package com.viglet.dumont.aem.server.core.events.beans;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
@@ -9,6 +11,8 @@ import java.util.List;
 @Builder
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class DumAemPayload {
     List<String> paths;
     DumAemEvent event;
@@ -0,0 +1,11 @@
+package com.viglet.dumont.aem.server.core.services;
+
+import java.util.List;
+
+import com.viglet.dumont.aem.server.core.events.beans.DumAemEvent;
+
+public interface DumAemEventSender {
+    void index(String path, DumAemEvent event);
+
+    void index(List<String> pathList, DumAemEvent event);
+}
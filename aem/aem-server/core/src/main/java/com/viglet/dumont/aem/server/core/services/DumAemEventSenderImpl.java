@@ -0,0 +1,497 @@
+package com.viglet.dumont.aem.server.core.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.osgi.framework.BundleContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.Designate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.viglet.dumont.aem.server.config.DumAemEventSenderConfig;
+import com.viglet.dumont.aem.server.config.DumAemIndexerConfig;
+import com.viglet.dumont.aem.server.core.events.beans.DumAemEvent;
+import com.viglet.dumont.aem.server.core.events.beans.DumAemPayload;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the paths of the AEM events to Dumont in the background.
+ * <p>
+ * Event handlers only put the paths in a bounded queue. A single sender thread
+ * collects the paths that arrive within the batch window, keeps the latest
+ * event of each path and posts them grouped by event through a pooled HTTP
+ * client. Failed requests are retried with exponential backoff; requests that
+ * still fail, paths that do not fit in the queue and paths pending when the
+ * bundle stops are appended to a journal in the bundle data area.
+ * <p>
+ * Every path gets a sequence number when it is queued, and journaled requests
+ * keep it. The journal is replayed in sequence order when the sender starts
+ * and after the next successful request, a few requests per batch window and
+ * without retries, so live events keep flowing during a long replay. A
+ * journaled path is skipped when a newer event for it was already delivered,
+ * so an old publish cannot undo a later unpublish.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Component(service = DumAemEventSender.class, immediate = true)
+@Designate(ocd = DumAemEventSenderConfig.class)
+public class DumAemEventSenderImpl implements DumAemEventSender {
+
+    private static final String API_DUMONT_AEM_INDEX = "/api/v2/aem/index/";
+    private static final String JOURNAL_FILE = "dumont-event-journal.jsonl";
+    private static final String REPLAY_SUFFIX = ".replay";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SEQUENCE = "sequence";
+    private static final int REPLAY_REQUESTS = 10;
+    private static final long MAX_BACKOFF = 60000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Reference
+    private DumAemIndexerService dumAemIndexerService;
+
+    private DumAemEventSenderConfig config;
+    private BlockingQueue<PendingPath> queue;
+    private CloseableHttpClient httpClient;
+    private Path journal;
+    private Path replayJournal;
+    private Thread sender;
+    private volatile boolean running;
+    private final AtomicLong sequence = new AtomicLong();
+    // Used by the sender thread only
+    private final Deque<Batch> replaying = new ArrayDeque<>();
+    private final Map<String, Long> deliveredSequences = new HashMap<>();
+
+    private static final class PendingPath {
+        private final String path;
+        private final DumAemEvent event;
+        private final long sequence;
+
+        private PendingPath(String path, DumAemEvent event, long sequence) {
+            this.path = path;
+            this.event = event;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * A request to Dumont and the sequence number of its newest path.
+     */
+    private static final class Batch {
+        private final DumAemPayload payload;
+        private final long sequence;
+
+        private Batch(DumAemPayload payload, long sequence) {
+            this.payload = payload;
+            this.sequence = sequence;
+        }
+    }
+
+    @Activate
+    protected void activate(BundleContext bundleContext, DumAemEventSenderConfig config) {
+        this.config = config;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, config.queueCapacity()));
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(Math.max(1, config.maxConnections()));
+        connectionManager.setDefaultMaxPerRoute(Math.max(1, config.maxConnections()));
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(config.timeout())
+                        .setConnectionRequestTimeout(config.timeout())
+                        .setSocketTimeout(config.timeout())
+                        .build())
+                .build();
+        File journalFile = bundleContext.getDataFile(JOURNAL_FILE);
+        this.journal = journalFile != null ? journalFile.toPath() : null;
+        if (journal == null) {
+            log.warn("Dumont: No bundle data area, undelivered events will not be journaled");
+        } else {
+            this.replayJournal = journal.resolveSibling(journal.getFileName() + REPLAY_SUFFIX);
+            // Loaded before any event is queued, so live events are numbered after the journaled ones
+            loadJournal();
+        }
+        this.running = true;
+        this.sender = new Thread(this::run, "dumont-event-sender");
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        running = false;
+        sender.interrupt();
+        try {
+            sender.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingPath> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        toBatches(pending).forEach(this::writeJournal);
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Dumont: Failed to close the event sender HTTP client: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void index(String path, DumAemEvent event) {
+        index(Collections.singletonList(path), event);
+    }
+
+    @Override
+    public void index(List<String> pathList, DumAemEvent event) {
+        DumAemIndexerConfig indexerConfig = dumAemIndexerService.getConfig();
+        if (indexerConfig == null || !indexerConfig.enabled()) {
+            return;
+        }
+        List<String> overflow = new ArrayList<>();
+        long overflowSequence = 0;
+        for (String path : pathList) {
+            long pathSequence = sequence.incrementAndGet();
+            if (!queue.offer(new PendingPath(path, event, pathSequence))) {
+                overflow.add(path);
+                overflowSequence = pathSequence;
+            }
+        }
+        if (!overflow.isEmpty()) {
+            log.warn("Dumont: Event queue is full, journaling {} path(s)", overflow.size());
+            writeJournal(new Batch(DumAemPayload.builder().paths(overflow).event(event).build(), overflowSequence));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                replayNext();
+                List<PendingPath> pending = collectBatchWindow();
+                boolean delivered = false;
+                for (Batch batch : toBatches(pending)) {
+                    delivered |= deliver(batch);
+                }
+                if (delivered && queue.isEmpty() && replaying.isEmpty() && hasJournal()) {
+                    loadJournal();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for a path and collects the ones arriving within the batch window.
+     * While the journal is replayed it waits one batch window at most.
+     */
+    private List<PendingPath> collectBatchWindow() throws InterruptedException {
+        List<PendingPath> pending = new ArrayList<>();
+        PendingPath first = replaying.isEmpty()
+                ? queue.take()
+                : queue.poll(config.batchWindow(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return pending;
+        }
+        pending.add(first);
+        long deadline = System.currentTimeMillis() + config.batchWindow();
+        long wait;
+        while ((wait = deadline - System.currentTimeMillis()) > 0) {
+            PendingPath next = queue.poll(wait, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                break;
+            }
+            pending.add(next);
+        }
+        queue.drainTo(pending);
+        return pending;
+    }
+
+    /**
+     * Keeps the latest event of each path and groups the paths by event, in
+     * arrival order, split in batches of the configured size.
+     */
+    private List<Batch> toBatches(List<PendingPath> pending) {
+        Map<String, PendingPath> latestEvents = new LinkedHashMap<>();
+        for (PendingPath pendingPath : pending) {
+            latestEvents.remove(pendingPath.path);
+            latestEvents.put(pendingPath.path, pendingPath);
+        }
+        Map<DumAemEvent, List<PendingPath>> pathsByEvent = new LinkedHashMap<>();
+        latestEvents.values().forEach(pendingPath -> pathsByEvent
+                .computeIfAbsent(pendingPath.event, key -> new ArrayList<>()).add(pendingPath));
+        int batchSize = Math.max(1, config.batchSize());
+        List<Batch> batches = new ArrayList<>();
+        pathsByEvent.forEach((event, paths) -> {
+            for (int from = 0; from < paths.size(); from += batchSize) {
+                List<PendingPath> batchPaths = paths.subList(from, Math.min(paths.size(), from + batchSize));
+                List<String> pathList = new ArrayList<>();
+                long batchSequence = 0;
+                for (PendingPath pendingPath : batchPaths) {
+                    pathList.add(pendingPath.path);
+                    batchSequence = Math.max(batchSequence, pendingPath.sequence);
+                }
+                batches.add(new Batch(DumAemPayload.builder().paths(pathList).event(event).build(), batchSequence));
+            }
+        });
+        return batches;
+    }
+
+    /**
+     * Posts the batch, retrying with backoff, and journals it when it cannot
+     * be delivered.
+     *
+     * @return {@code true} if Dumont accepted the batch
+     */
+    private boolean deliver(Batch batch) {
+        long backoff = Math.max(0, config.initialBackoff());
+        for (int attempt = 0;; attempt++) {
+            if (Thread.currentThread().isInterrupted()) {
+                writeJournal(batch);
+                return false;
+            }
+            if (post(batch.payload)) {
+                recordDelivered(batch);
+                return true;
+            }
+            if (attempt >= config.maxRetries()) {
+                writeJournal(batch);
+                return false;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeJournal(batch);
+                return false;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF);
+        }
+    }
+
+    /**
+     * Remembers the sequence delivered for each path while journaled requests
+     * wait, so the older ones are skipped when they are replayed.
+     */
+    private void recordDelivered(Batch batch) {
+        if (!replaying.isEmpty() || hasJournal()) {
+            batch.payload.getPaths().forEach(path -> deliveredSequences.merge(path, batch.sequence, Math::max));
+        }
+    }
+
+    /**
+     * @return {@code true} if the payload does not need to be sent again
+     */
+    private boolean post(DumAemPayload payload) {
+        DumAemIndexerConfig indexerConfig = dumAemIndexerService.getConfig();
+        if (indexerConfig == null || !indexerConfig.enabled()) {
+            log.debug("Dumont: Indexer disabled, dropping {} path(s)", payload.getPaths().size());
+            return true;
+        }
+        String url = indexerConfig.host() + API_DUMONT_AEM_INDEX + indexerConfig.configName();
+        HttpPost post = new HttpPost(url);
+        try {
+            post.setEntity(new StringEntity(OBJECT_MAPPER.writeValueAsString(payload), StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize payload for paths {}: {}", payload.getPaths(), e.getMessage(), e);
+            return true;
+        }
+        post.setHeader("Content-Type", ContentType.APPLICATION_JSON.getMimeType());
+        try (CloseableHttpResponse response = httpClient.execute(post)) {
+            int status = response.getStatusLine().getStatusCode();
+            EntityUtils.consume(response.getEntity());
+            if (status >= 200 && status < 300) {
+                log.debug("Dumont index response [{}]: {} for {} path(s)", url, response.getStatusLine(),
+                        payload.getPaths().size());
+                return true;
+            }
+            if (status >= 400 && status < 500 && status != 408 && status != 429) {
+                log.error("Dumont rejected index request to {}: {}", url, response.getStatusLine());
+                return true;
+            }
+            log.warn("Dumont index request to {} failed: {}", url, response.getStatusLine());
+            return false;
+        } catch (IOException e) {
+            log.warn("Failed to send index request to {}: {}", url, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean hasJournal() {
+        return journal != null && Files.exists(journal);
+    }
+
+    private synchronized void writeJournal(Batch batch) {
+        DumAemPayload payload = batch.payload;
+        if (journal == null) {
+            log.error("Dumont: Dropping {} undelivered path(s): {}", payload.getPaths().size(), payload.getPaths());
+            return;
+        }
+        try {
+            Files.write(journal, (toJournalLine(batch) + "\n").getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.info("Dumont: Journaled {} undelivered path(s)", payload.getPaths().size());
+        } catch (IOException e) {
+            log.error("Dumont: Failed to journal {} path(s) {}: {}", payload.getPaths().size(), payload.getPaths(),
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Moves the journal, and a replay cut short by a restart, to the replay
+     * file in sequence order and queues its requests for {@link #replayNext}.
+     */
+    private void loadJournal() {
+        List<Batch> batches = new ArrayList<>();
+        try {
+            synchronized (this) {
+                for (Path file : Arrays.asList(replayJournal, journal)) {
+                    if (Files.exists(file)) {
+                        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                            if (!line.trim().isEmpty()) {
+                                readJournalLine(line).ifPresent(batches::add);
+                            }
+                        }
+                    }
+                }
+                batches.sort(Comparator.comparingLong(batch -> batch.sequence));
+                writeReplayJournal(batches);
+                Files.deleteIfExists(journal);
+            }
+        } catch (IOException e) {
+            log.error("Dumont: Failed to load the event journal {}: {}", journal, e.getMessage(), e);
+            return;
+        }
+        replaying.addAll(batches);
+        batches.forEach(batch -> sequence.accumulateAndGet(batch.sequence, Math::max));
+        log.info("Dumont: Replaying {} journaled request(s)", batches.size());
+    }
+
+    /**
+     * Sends the next journaled requests, once each. When Dumont still fails the
+     * remaining requests go back to the journal until the next successful
+     * request. The replay file keeps the requests not sent yet, so a restart
+     * resumes the replay.
+     */
+    private void replayNext() {
+        if (replaying.isEmpty()) {
+            return;
+        }
+        for (int sent = 0; sent < REPLAY_REQUESTS && !replaying.isEmpty(); sent++) {
+            Batch batch = replaying.peekFirst();
+            List<String> paths = new ArrayList<>();
+            for (String path : batch.payload.getPaths()) {
+                if (deliveredSequences.getOrDefault(path, Long.MIN_VALUE) < batch.sequence) {
+                    paths.add(path);
+                }
+            }
+            if (!paths.isEmpty()) {
+                Batch pending = new Batch(DumAemPayload.builder().paths(paths).event(batch.payload.getEvent())
+                        .build(), batch.sequence);
+                if (!post(pending.payload)) {
+                    log.warn("Dumont: Replay failed, journaling {} request(s) again", replaying.size());
+                    replaying.forEach(this::writeJournal);
+                    replaying.clear();
+                    deleteReplayJournal();
+                    return;
+                }
+                recordDelivered(pending);
+            }
+            replaying.removeFirst();
+        }
+        if (replaying.isEmpty()) {
+            deleteReplayJournal();
+            if (!hasJournal()) {
+                deliveredSequences.clear();
+            }
+        } else {
+            try {
+                writeReplayJournal(replaying);
+            } catch (IOException e) {
+                log.warn("Dumont: Failed to save the replay progress in {}: {}", replayJournal, e.getMessage());
+            }
+        }
+    }
+
+    private void writeReplayJournal(Iterable<Batch> batches) throws IOException {
+        Path temp = replayJournal.resolveSibling(replayJournal.getFileName() + TEMP_SUFFIX);
+        List<String> lines = new ArrayList<>();
+        for (Batch batch : batches) {
+            lines.add(toJournalLine(batch));
+        }
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, replayJournal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteReplayJournal() {
+        try {
+            Files.deleteIfExists(replayJournal);
+        } catch (IOException e) {
+            log.warn("Dumont: Failed to delete the replay journal {}: {}", replayJournal, e.getMessage());
+        }
+    }
+
+    private static String toJournalLine(Batch batch) throws JsonProcessingException {
+        ObjectNode node = OBJECT_MAPPER.valueToTree(batch.payload);
+        node.put(SEQUENCE, batch.sequence);
+        return OBJECT_MAPPER.writeValueAsString(node);
+    }
+
+    private static Optional<Batch> readJournalLine(String line) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(line);
+            if (node instanceof ObjectNode) {
+                ObjectNode objectNode = (ObjectNode) node;
+                // Entries journaled before sequences were kept count as the oldest
+                long batchSequence = objectNode.path(SEQUENCE).asLong(0);
+                objectNode.remove(SEQUENCE);
+                DumAemPayload payload = OBJECT_MAPPER.treeToValue(objectNode, DumAemPayload.class);
+                if (payload.getPaths() != null && !payload.getPaths().isEmpty()) {
+                    return Optional.of(new Batch(payload, batchSequence));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Dumont: Skipping unreadable journal entry {}: {}", line, e.getMessage());
+            return Optional.empty();
+        }
+        log.error("Dumont: Skipping unreadable journal entry {}", line);
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,299 @@
+package com.viglet.dumont.aem.server.core.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.osgi.framework.BundleContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.viglet.dumont.aem.server.config.DumAemEventSenderConfig;
+import com.viglet.dumont.aem.server.config.DumAemIndexerConfig;
+import com.viglet.dumont.aem.server.core.events.beans.DumAemEvent;
+import com.viglet.dumont.aem.server.core.events.beans.DumAemPayload;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DumAemEventSenderImpl Tests")
+class DumAemEventSenderImplTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String JOURNAL_FILE = "dumont-event-journal.jsonl";
+
+    @Mock
+    private BundleContext bundleContext;
+
+    @Mock
+    private DumAemIndexerService dumAemIndexerService;
+
+    @Mock
+    private DumAemIndexerConfig indexerConfig;
+
+    @Mock
+    private DumAemEventSenderConfig senderConfig;
+
+    @InjectMocks
+    private DumAemEventSenderImpl sender;
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private final BlockingQueue<DumAemPayload> received = new LinkedBlockingQueue<>();
+    private final Deque<Integer> statuses = new ConcurrentLinkedDeque<>();
+    private final CountDownLatch arrived = new CountDownLatch(1);
+    private volatile CountDownLatch gate;
+    private boolean activated;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v2/aem/index/test", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                received.add(OBJECT_MAPPER.readValue(body, DumAemPayload.class));
+            }
+            arrived.countDown();
+            try {
+                if (gate != null) {
+                    gate.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Integer status = statuses.poll();
+            byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status != null ? status : 200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.setExecutor(null);
+        server.start();
+
+        lenient().when(dumAemIndexerService.getConfig()).thenReturn(indexerConfig);
+        lenient().when(indexerConfig.enabled()).thenReturn(true);
+        lenient().when(indexerConfig.host()).thenReturn("http://localhost:" + server.getAddress().getPort());
+        lenient().when(indexerConfig.configName()).thenReturn("test");
+        lenient().when(senderConfig.batchWindow()).thenReturn(100L);
+        lenient().when(senderConfig.batchSize()).thenReturn(500);
+        lenient().when(senderConfig.queueCapacity()).thenReturn(100);
+        lenient().when(senderConfig.maxRetries()).thenReturn(5);
+        lenient().when(senderConfig.initialBackoff()).thenReturn(10L);
+        lenient().when(senderConfig.maxConnections()).thenReturn(2);
+        lenient().when(senderConfig.timeout()).thenReturn(5000);
+        lenient().when(bundleContext.getDataFile(anyString()))
+                .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)).toFile());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (gate != null) {
+            gate.countDown();
+        }
+        if (activated) {
+            sender.deactivate();
+        }
+        server.stop(0);
+    }
+
+    private void activate() {
+        sender.activate(bundleContext, senderConfig);
+        activated = true;
+    }
+
+    private DumAemPayload nextRequest() throws InterruptedException {
+        DumAemPayload payload = received.poll(10, TimeUnit.SECONDS);
+        assertNotNull(payload, "Dumont did not receive the expected request");
+        return payload;
+    }
+
+    private static void assertRequest(DumAemPayload payload, DumAemEvent event, String... paths) {
+        assertEquals(event, payload.getEvent());
+        assertEquals(Arrays.asList(paths), payload.getPaths());
+    }
+
+    private Path journal() {
+        return tempDir.resolve(JOURNAL_FILE);
+    }
+
+    private void awaitNoJournal() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((Files.exists(journal()) || Files.exists(tempDir.resolve(JOURNAL_FILE + ".replay")))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(Files.exists(journal()));
+        assertFalse(Files.exists(tempDir.resolve(JOURNAL_FILE + ".replay")));
+    }
+
+    @Test
+    @DisplayName("Should keep the latest event of each path and split the batches by size")
+    void shouldBatchPathsByEvent() throws InterruptedException {
+        lenient().when(senderConfig.batchSize()).thenReturn(2);
+        activate();
+
+        sender.index(Arrays.asList("/a", "/b", "/c", "/d"), DumAemEvent.PUBLISHING);
+        sender.index("/a", DumAemEvent.UNPUBLISHING);
+
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/b", "/c");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/d");
+        assertRequest(nextRequest(), DumAemEvent.UNPUBLISHING, "/a");
+    }
+
+    @Test
+    @DisplayName("Should retry a failed request until Dumont accepts it")
+    void shouldRetryFailedRequest() throws InterruptedException {
+        statuses.add(503);
+        statuses.add(429);
+        activate();
+
+        sender.index("/a", DumAemEvent.PUBLISHING);
+
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        assertFalse(Files.exists(journal()));
+    }
+
+    @Test
+    @DisplayName("Should not retry a request rejected by Dumont")
+    void shouldNotRetryRejectedRequest() throws InterruptedException {
+        statuses.add(400);
+        activate();
+
+        sender.index("/a", DumAemEvent.PUBLISHING);
+        sender.index("/b", DumAemEvent.DEINDEXING);
+
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.DEINDEXING, "/b");
+        assertFalse(Files.exists(journal()));
+    }
+
+    @Test
+    @DisplayName("Should journal a request after the retries and replay it after the next success")
+    void shouldJournalAndReplayFailedRequest() throws Exception {
+        lenient().when(senderConfig.maxRetries()).thenReturn(1);
+        statuses.add(503);
+        statuses.add(503);
+        activate();
+
+        sender.index("/a", DumAemEvent.PUBLISHING);
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(journal()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(new String(Files.readAllBytes(journal()), StandardCharsets.UTF_8).contains("/a"));
+
+        sender.index("/b", DumAemEvent.PUBLISHING);
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/b");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        awaitNoJournal();
+    }
+
+    @Test
+    @DisplayName("Should journal the paths that do not fit in the queue")
+    void shouldJournalQueueOverflow() throws Exception {
+        lenient().when(senderConfig.queueCapacity()).thenReturn(1);
+        gate = new CountDownLatch(1);
+        activate();
+
+        sender.index("/a", DumAemEvent.PUBLISHING);
+        assertTrue(arrived.await(10, TimeUnit.SECONDS));
+        sender.index(Arrays.asList("/b", "/c"), DumAemEvent.PUBLISHING);
+        String journaled = new String(Files.readAllBytes(journal()), StandardCharsets.UTF_8);
+        assertTrue(journaled.contains("/c"));
+        assertFalse(journaled.contains("/b"));
+
+        gate.countDown();
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/b");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/c");
+        awaitNoJournal();
+    }
+
+    @Test
+    @DisplayName("Should not replay a journaled path after a newer event for it was delivered")
+    void shouldSkipJournaledPathWithNewerEvent() throws Exception {
+        lenient().when(senderConfig.maxRetries()).thenReturn(0);
+        statuses.add(503);
+        activate();
+
+        sender.index(Arrays.asList("/a", "/b"), DumAemEvent.PUBLISHING);
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a", "/b");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!Files.exists(journal()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        sender.index("/a", DumAemEvent.UNPUBLISHING);
+        assertRequest(nextRequest(), DumAemEvent.UNPUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/b");
+        awaitNoJournal();
+        assertNull(received.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should replay the journal in sequence order before the new events")
+    void shouldReplayJournalOnStart() throws Exception {
+        List<String> lines = Arrays.asList(
+                "{\"paths\":[\"/b\"],\"event\":\"PUBLISHING\",\"sequence\":5}",
+                "{\"paths\":[\"/a\"],\"event\":\"UNPUBLISHING\",\"sequence\":3}",
+                "not json");
+        Files.write(journal(), lines, StandardCharsets.UTF_8);
+        activate();
+
+        sender.index("/b", DumAemEvent.UNPUBLISHING);
+
+        assertRequest(nextRequest(), DumAemEvent.UNPUBLISHING, "/a");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/b");
+        assertRequest(nextRequest(), DumAemEvent.UNPUBLISHING, "/b");
+        awaitNoJournal();
+    }
+
+    @Test
+    @DisplayName("Should keep sending new events while Dumont fails the replay")
+    void shouldJournalAgainWhenReplayFails() throws Exception {
+        Files.write(journal(), Collections.singletonList(
+                "{\"paths\":[\"/a\"],\"event\":\"PUBLISHING\",\"sequence\":1}"), StandardCharsets.UTF_8);
+        statuses.add(503);
+        activate();
+
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        sender.index("/b", DumAemEvent.PUBLISHING);
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/b");
+        assertRequest(nextRequest(), DumAemEvent.PUBLISHING, "/a");
+        awaitNoJournal();
+    }
+}
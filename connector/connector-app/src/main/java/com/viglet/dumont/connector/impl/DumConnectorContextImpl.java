@@ -38,6 +38,7 @@ import com.viglet.dumont.connector.commons.DumConnectorSession;
 import com.viglet.dumont.connector.commons.domain.DumConnectorIndexing;
 import com.viglet.dumont.connector.commons.domain.DumJobItemWithSession;
 import com.viglet.dumont.connector.persistence.model.DumConnectorIndexingModel;
+import com.viglet.dumont.connector.service.DumConnectorIndexingRuleService;
 import com.viglet.dumont.connector.service.DumConnectorIndexingService;
 import com.viglet.turing.client.sn.job.TurSNJobItem;
 
@@ -58,16 +59,19 @@ public class DumConnectorContextImpl implements DumConnectorContext {
     private final DumConnectorIndexingService indexingService;
     private final JobItemBatchProcessor batchProcessor;
     private final JobProcessingChain processingChain;
+    private final DumConnectorIndexingRuleService indexingRuleService;
     private final Map<String, ConcurrentLinkedQueue<DumJobItemWithSession>> queuesBySource = new ConcurrentHashMap<>();
     private final Map<String, ReadWriteLock> locksBySource = new ConcurrentHashMap<>();
 
     public DumConnectorContextImpl(
             DumConnectorIndexingService indexingService,
             JobItemBatchProcessor batchProcessor,
-            JobProcessingChain processingChain) {
+            JobProcessingChain processingChain,
+            DumConnectorIndexingRuleService indexingRuleService) {
         this.indexingService = indexingService;
         this.batchProcessor = batchProcessor;
         this.processingChain = processingChain;
+        this.indexingRuleService = indexingRuleService;
     }
 
     @Override
@@ -140,6 +144,11 @@ public class DumConnectorContextImpl implements DumConnectorContext {
         return indexingService.getIndexingItem(objectId, source, provider);
     }
 
+    @Override
+    public boolean hasIndexingRules(String source) {
+        return indexingRuleService.hasIndexingRules(source);
+    }
+
     private ConcurrentLinkedQueue<DumJobItemWithSession> getQueue(String source) {
         return queuesBySource.computeIfAbsent(source, k -> new ConcurrentLinkedQueue<>());
     }
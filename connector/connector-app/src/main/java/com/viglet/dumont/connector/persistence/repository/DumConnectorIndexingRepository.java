@@ -118,6 +118,11 @@ public interface DumConnectorIndexingRepository
         List<String> findObjectIdsByDependencies(@Param("source") String source,
                         @Param("provider") String provider, @Param("ids") List<String> ids);
 
+        @Query("SELECT i.objectId, i.environment, d.objectId FROM DumConnectorIndexingModel i JOIN i.dependencies d "
+                        + "WHERE i.source = :source AND i.provider = :provider")
+        List<Object[]> findDependencyEdges(@Param("source") String source,
+                        @Param("provider") String provider);
+
         @Query("SELECT DISTINCT i.environment FROM DumConnectorIndexingModel i WHERE i.provider = :provider")
         List<String> findAllEnvironments(@Param("provider") String provider);
 
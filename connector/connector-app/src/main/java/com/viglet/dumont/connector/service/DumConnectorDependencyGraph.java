@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory reverse dependency graph of one source and provider.
+ * <p>
+ * Each indexed object, identified by its object id and environment, points to
+ * the object ids it depends on. The reverse edges let a set of changed object
+ * ids be expanded to every object that depends on them, directly or through
+ * other dependents, in a single breadth-first walk. The walk expands the whole
+ * frontier of a level at once, stops at the requested depth and never visits
+ * an object twice, so dependency cycles terminate.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumConnectorDependencyGraph {
+
+    private final Map<String, Set<String>> dependenciesByNode = new HashMap<>();
+    private final Map<String, Map<String, Integer>> dependentsByObjectId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Holds changes and lookups until {@link #endLoad()}, while the stored
+     * dependencies are added. A change made meanwhile is applied after them,
+     * on top of what was read.
+     */
+    void beginLoad() {
+        lock.writeLock().lock();
+    }
+
+    /**
+     * Releases the changes and lookups held by {@link #beginLoad()}; must be
+     * called by the same thread.
+     */
+    void endLoad() {
+        lock.writeLock().unlock();
+    }
+
+    /**
+     * Replaces the dependencies of an indexed object.
+     *
+     * @param objectId     the dependent object id
+     * @param environment  the environment of the indexed object
+     * @param dependencies the object ids it depends on
+     */
+    public void put(String objectId, String environment, Collection<String> dependencies) {
+        lock.writeLock().lock();
+        try {
+            removeNode(objectId, environment);
+            if (dependencies == null || dependencies.isEmpty()) {
+                return;
+            }
+            Set<String> dependencySet = new HashSet<>(dependencies);
+            dependencySet.remove(objectId);
+            if (dependencySet.isEmpty()) {
+                return;
+            }
+            dependenciesByNode.put(nodeKey(objectId, environment), dependencySet);
+            dependencySet.forEach(dependency -> dependentsByObjectId
+                    .computeIfAbsent(dependency, key -> new LinkedHashMap<>())
+                    .merge(objectId, 1, Integer::sum));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the dependencies of an indexed object.
+     */
+    public void remove(String objectId, String environment) {
+        lock.writeLock().lock();
+        try {
+            removeNode(objectId, environment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the objects that depend on the changed object ids.
+     *
+     * @param objectIds the changed object ids
+     * @param maxDepth  number of dependency hops to follow, {@code 1} returns
+     *                  only direct dependents
+     * @return the dependent object ids in breadth-first order, without the
+     *         changed ones
+     */
+    public List<String> findDependents(Collection<String> objectIds, int maxDepth) {
+        if (objectIds == null || objectIds.isEmpty() || maxDepth < 1) {
+            return List.of();
+        }
+        Set<String> visited = new HashSet<>(objectIds);
+        Set<String> dependents = new LinkedHashSet<>();
+        Collection<String> frontier = List.copyOf(visited);
+        lock.readLock().lock();
+        try {
+            for (int depth = 1; depth <= maxDepth && !frontier.isEmpty(); depth++) {
+                List<String> next = new ArrayList<>();
+                for (String objectId : frontier) {
+                    dependentsByObjectId.getOrDefault(objectId, Map.of()).keySet().stream()
+                            .filter(visited::add)
+                            .forEach(next::add);
+                }
+                dependents.addAll(next);
+                frontier = next;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return List.copyOf(dependents);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return dependenciesByNode.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeNode(String objectId, String environment) {
+        Set<String> previous = dependenciesByNode.remove(nodeKey(objectId, environment));
+        if (previous == null) {
+            return;
+        }
+        previous.forEach(dependency -> {
+            Map<String, Integer> dependents = dependentsByObjectId.get(dependency);
+            if (dependents == null) {
+                return;
+            }
+            dependents.computeIfPresent(objectId, (key, count) -> count > 1 ? count - 1 : null);
+            if (dependents.isEmpty()) {
+                dependentsByObjectId.remove(dependency);
+            }
+        });
+    }
+
+    private static String nodeKey(String objectId, String environment) {
+        return environment + "|" + objectId;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.viglet.dumont.connector.persistence.repository.DumConnectorIndexingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps one {@link DumConnectorDependencyGraph} per source and provider.
+ * <p>
+ * A graph is built from the stored dependencies with a single query the first
+ * time the source is asked for dependents, and is then kept current by the
+ * indexing service as objects are saved and removed. A change made while the
+ * graph loads waits for the load and is applied after it. Bulk deletions drop
+ * the graph so it is rebuilt on the next lookup.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Service
+public class DumConnectorDependencyGraphService {
+
+    private final DumConnectorIndexingRepository dumConnectorIndexingRepository;
+    private final int maxDepth;
+    private final Map<String, DumConnectorDependencyGraph> graphs = new ConcurrentHashMap<>();
+
+    public DumConnectorDependencyGraphService(
+            DumConnectorIndexingRepository dumConnectorIndexingRepository,
+            @Value("${dumont.dependencies.depth:3}") int maxDepth) {
+        this.dumConnectorIndexingRepository = dumConnectorIndexingRepository;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Finds the objects that depend on the changed object ids, following
+     * dependencies up to the configured depth.
+     */
+    public List<String> findDependents(String source, String provider, Collection<String> objectIds) {
+        return findDependents(source, provider, objectIds, maxDepth);
+    }
+
+    public List<String> findDependents(String source, String provider, Collection<String> objectIds,
+            int depth) {
+        if (objectIds == null || objectIds.isEmpty()) {
+            return List.of();
+        }
+        return getGraph(source, provider).findDependents(objectIds, depth);
+    }
+
+    public void update(String source, String provider, String objectId, String environment,
+            Collection<String> dependencies) {
+        DumConnectorDependencyGraph graph = graphs.get(key(source, provider));
+        if (graph != null) {
+            graph.put(objectId, environment, dependencies);
+        }
+    }
+
+    public void remove(String source, String provider, String objectId, String environment) {
+        DumConnectorDependencyGraph graph = graphs.get(key(source, provider));
+        if (graph != null) {
+            graph.remove(objectId, environment);
+        }
+    }
+
+    public void invalidate(String source, String provider) {
+        graphs.remove(key(source, provider));
+    }
+
+    public void invalidateProvider(String provider) {
+        graphs.keySet().removeIf(key -> key.endsWith("|" + provider));
+    }
+
+    /**
+     * Returns the graph of the source, loading it on first use. The graph is
+     * registered before the stored dependencies are read, and holds changes
+     * until they are added, so a change saved during the load is never lost.
+     */
+    private DumConnectorDependencyGraph getGraph(String source, String provider) {
+        String key = key(source, provider);
+        DumConnectorDependencyGraph graph = graphs.get(key);
+        if (graph != null) {
+            return graph;
+        }
+        DumConnectorDependencyGraph loading = new DumConnectorDependencyGraph();
+        loading.beginLoad();
+        try {
+            graph = graphs.putIfAbsent(key, loading);
+            if (graph != null) {
+                return graph;
+            }
+            load(source, provider, loading);
+            return loading;
+        } catch (RuntimeException e) {
+            graphs.remove(key, loading);
+            throw e;
+        } finally {
+            loading.endLoad();
+        }
+    }
+
+    private void load(String source, String provider, DumConnectorDependencyGraph graph) {
+        Map<List<String>, List<String>> dependenciesByNode = new HashMap<>();
+        for (Object[] edge : dumConnectorIndexingRepository.findDependencyEdges(source, provider)) {
+            dependenciesByNode.computeIfAbsent(List.of(String.valueOf(edge[0]), String.valueOf(edge[1])),
+                    node -> new ArrayList<>()).add(String.valueOf(edge[2]));
+        }
+        dependenciesByNode.forEach((node, dependencies) -> graph.put(node.get(0), node.get(1), dependencies));
+        log.info("Loaded dependency graph for {} - {}: {} objects with dependencies", source, provider,
+                graph.size());
+    }
+
+    private static String key(String source, String provider) {
+        return source + "|" + provider;
+    }
+}
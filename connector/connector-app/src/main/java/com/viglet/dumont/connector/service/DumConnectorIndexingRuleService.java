@@ -26,6 +26,11 @@ public class DumConnectorIndexingRuleService {
                 .findBySourceAndRuleType(dumConnectorSession.getSource(), DumConnectorIndexingRuleType.IGNORE);
     }
 
+    public boolean hasIndexingRules(String source) {
+        return !dumConnectorIndexingRuleRepository
+                .findBySourceAndRuleType(source, DumConnectorIndexingRuleType.IGNORE).isEmpty();
+    }
+
     public Set<DumConnectorIndexingRuleModel> getBySource(String source) {
         return dumConnectorIndexingRuleRepository
                 .findBySource(DumPersistenceUtils.orderByNameIgnoreCase(), source);
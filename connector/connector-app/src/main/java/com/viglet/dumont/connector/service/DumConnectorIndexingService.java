@@ -41,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DumConnectorIndexingService {
         private final DumConnectorIndexingRepository dumConnectorIndexingRepository;
         private final DumConnectorIndexingStatsRepository dumConnectorIndexingStatsRepository;
+        private final DumConnectorDependencyGraphService dependencyGraphService;
         private final boolean connectorDependencies;
         private final Map<String, PendingStats> pendingStatsMap = new ConcurrentHashMap<>();
         private final Set<String> processingSources = ConcurrentHashMap.newKeySet();
@@ -50,9 +51,11 @@ public class DumConnectorIndexingService {
         public DumConnectorIndexingService(
                         DumConnectorIndexingRepository dumConnectorIndexingRepository,
                         DumConnectorIndexingStatsRepository dumConnectorIndexingStatsRepository,
+                        DumConnectorDependencyGraphService dependencyGraphService,
                         @Value("${dumont.dependencies.enabled:true}") boolean connectorDependencies) {
                 this.dumConnectorIndexingRepository = dumConnectorIndexingRepository;
                 this.dumConnectorIndexingStatsRepository = dumConnectorIndexingStatsRepository;
+                this.dependencyGraphService = dependencyGraphService;
                 this.connectorDependencies = connectorDependencies;
         }
 
@@ -115,8 +118,7 @@ public class DumConnectorIndexingService {
 
         public List<String> findByDependencies(String source, String provider,
                         List<String> referenceIds) {
-                return dumConnectorIndexingRepository.findObjectIdsByDependencies(source, provider,
-                                referenceIds);
+                return dependencyGraphService.findDependents(source, provider, referenceIds);
         }
 
         public void deindexedStatus(DumJobItemWithSession turSNJobItemWithSession) {
@@ -129,11 +131,13 @@ public class DumConnectorIndexingService {
                 dumConnectorIndexingRepository.deleteByObjectIdAndSourceAndEnvironmentAndProvider(
                                 turSNJobItem.getId(), session.getSource(),
                                 turSNJobItem.getEnvironment(), session.getProviderName());
-
+                dependencyGraphService.remove(session.getSource(), session.getProviderName(),
+                                turSNJobItem.getId(), turSNJobItem.getEnvironment());
         }
 
         public void deleteByProvider(String provider) {
                 dumConnectorIndexingRepository.deleteByProvider(provider);
+                dependencyGraphService.invalidateProvider(provider);
         }
 
         public List<DumConnectorIndexingModel> findAllByProviderAndObjectIdIn(String provider,
@@ -146,17 +150,19 @@ public class DumConnectorIndexingService {
                         Collection<String> objectIds) {
                 dumConnectorIndexingRepository.deleteByProviderAndSourceAndObjectIdIn(provider,
                                 source, objectIds);
-
+                dependencyGraphService.invalidate(source, provider);
         }
 
         public void deleteByProviderAndSource(String provider, String source) {
                 dumConnectorIndexingRepository.deleteByProviderAndSource(provider, source);
+                dependencyGraphService.invalidate(source, provider);
         }
 
         public void deleteContentsToBeDeIndexed(DumConnectorSession session) {
                 dumConnectorIndexingRepository.deleteBySourceAndProviderAndTransactionIdNot(
                                 session.getSource(), session.getProviderName(),
                                 session.getTransactionId());
+                dependencyGraphService.invalidate(session.getSource(), session.getProviderName());
         }
 
         public void update(DumJobItemWithSession turSNJobItemWithSession) {
@@ -304,7 +310,9 @@ public class DumConnectorIndexingService {
                 dumConnectorIndexing.setSites(turSNJobItemWithSession.turSNJobItem().getSiteNames());
                 dumConnectorIndexing.setDependencies(getDependencies(turSNJobItemWithSession,
                                 dumConnectorIndexing));
-                return dumConnectorIndexingRepository.save(dumConnectorIndexing);
+                DumConnectorIndexingModel saved = dumConnectorIndexingRepository.save(dumConnectorIndexing);
+                updateDependencyGraph(saved);
+                return saved;
         }
 
         private DumConnectorIndexingModel createDumConnectorIndexing(
@@ -323,8 +331,17 @@ public class DumConnectorIndexingService {
                                 .provider(dumConnectorSession.getProviderName()).build();
                 dumConnectorIndexingModel.setDependencies(getDependencies(turSNJobItemWithSession,
                                 dumConnectorIndexingModel));
-                return dumConnectorIndexingRepository.save(dumConnectorIndexingModel);
+                DumConnectorIndexingModel saved = dumConnectorIndexingRepository.save(dumConnectorIndexingModel);
+                updateDependencyGraph(saved);
+                return saved;
+
+        }
 
+        private void updateDependencyGraph(DumConnectorIndexingModel indexing) {
+                dependencyGraphService.update(indexing.getSource(), indexing.getProvider(),
+                                indexing.getObjectId(), indexing.getEnvironment(),
+                                indexing.getDependencies().stream()
+                                                .map(DumConnectorDependencyModel::getObjectId).toList());
         }
 
         public boolean isChecksumDifferent(DumJobItemWithSession turSNJobItemWithSession) {
@@ -440,6 +457,9 @@ public class DumConnectorIndexingService {
 
         public void deleteAll(List<DumConnectorIndexingModel> records) {
                 dumConnectorIndexingRepository.deleteAll(records);
+                records.forEach(indexing -> dependencyGraphService.remove(indexing.getSource(),
+                                indexing.getProvider(), indexing.getObjectId(),
+                                indexing.getEnvironment()));
         }
 
         public long countBySourceAndProviderSince(String source, String provider, Date since) {
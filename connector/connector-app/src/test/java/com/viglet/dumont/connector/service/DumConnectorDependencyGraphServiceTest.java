@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.viglet.dumont.connector.persistence.repository.DumConnectorIndexingRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DumConnectorDependencyGraphService Tests")
+class DumConnectorDependencyGraphServiceTest {
+
+    private static final String SOURCE = "wknd";
+    private static final String PROVIDER = "AEM";
+    private static final String IMAGE = "/content/dam/wknd/image.jpg";
+    private static final String FRAGMENT = "/content/dam/wknd/fragment";
+    private static final String PAGE = "/content/wknd/en/page";
+
+    @Mock
+    private DumConnectorIndexingRepository repository;
+
+    private DumConnectorDependencyGraphService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DumConnectorDependencyGraphService(repository, 3);
+    }
+
+    private void givenStoredEdges() {
+        when(repository.findDependencyEdges(SOURCE, PROVIDER)).thenReturn(List.of(
+                new Object[] { FRAGMENT, "author", IMAGE },
+                new Object[] { PAGE, "author", FRAGMENT }));
+    }
+
+    @Test
+    @DisplayName("Should load the graph once and resolve transitive dependents")
+    void shouldLoadGraphOnceAndResolveTransitiveDependents() {
+        givenStoredEdges();
+
+        assertEquals(List.of(FRAGMENT, PAGE), service.findDependents(SOURCE, PROVIDER, List.of(IMAGE)));
+        assertEquals(List.of(FRAGMENT), service.findDependents(SOURCE, PROVIDER, List.of(IMAGE), 1));
+
+        verify(repository, times(1)).findDependencyEdges(SOURCE, PROVIDER);
+    }
+
+    @Test
+    @DisplayName("Should apply updates to a loaded graph")
+    void shouldApplyUpdatesToLoadedGraph() {
+        givenStoredEdges();
+        service.findDependents(SOURCE, PROVIDER, List.of(IMAGE));
+
+        service.update(SOURCE, PROVIDER, "/content/wknd/en/other", "author", List.of(IMAGE));
+        service.remove(SOURCE, PROVIDER, PAGE, "author");
+
+        assertEquals(List.of(FRAGMENT, "/content/wknd/en/other"),
+                service.findDependents(SOURCE, PROVIDER, List.of(IMAGE)));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the graph after invalidation")
+    void shouldRebuildGraphAfterInvalidation() {
+        givenStoredEdges();
+        service.findDependents(SOURCE, PROVIDER, List.of(IMAGE));
+
+        service.invalidateProvider(PROVIDER);
+        service.findDependents(SOURCE, PROVIDER, List.of(IMAGE));
+
+        verify(repository, times(2)).findDependencyEdges(SOURCE, PROVIDER);
+    }
+
+    @Test
+    @DisplayName("Should not query without changed objects")
+    void shouldNotQueryWithoutChangedObjects() {
+        service.update(SOURCE, PROVIDER, PAGE, "author", List.of(FRAGMENT));
+
+        assertTrue(service.findDependents(SOURCE, PROVIDER, List.of()).isEmpty());
+
+        verify(repository, never()).findDependencyEdges(SOURCE, PROVIDER);
+    }
+
+    @Test
+    @DisplayName("Should keep a change saved while the graph loads")
+    void shouldKeepChangeSavedWhileGraphLoads() throws Exception {
+        String other = "/content/wknd/en/other";
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch saved = new CountDownLatch(1);
+        when(repository.findDependencyEdges(SOURCE, PROVIDER)).thenAnswer(invocation -> {
+            querying.countDown();
+            // The rows were read before the change was saved
+            List<Object[]> edges = List.<Object[]>of(new Object[] { FRAGMENT, "author", IMAGE });
+            saved.await(5, TimeUnit.SECONDS);
+            return edges;
+        });
+
+        CompletableFuture<List<String>> loading = CompletableFuture
+                .supplyAsync(() -> service.findDependents(SOURCE, PROVIDER, List.of(IMAGE)));
+        assertTrue(querying.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> update = CompletableFuture
+                .runAsync(() -> service.update(SOURCE, PROVIDER, other, "author", List.of(IMAGE)));
+        try {
+            update.get(200, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // The change waits for the load to finish
+        }
+        saved.countDown();
+        loading.get(5, TimeUnit.SECONDS);
+        update.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(FRAGMENT, other), service.findDependents(SOURCE, PROVIDER, List.of(IMAGE)));
+        verify(repository, times(1)).findDependencyEdges(SOURCE, PROVIDER);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumConnectorDependencyGraph Tests")
+class DumConnectorDependencyGraphTest {
+
+    private static final String AUTHOR = "author";
+    private static final String PUBLISH = "publish";
+    private static final String IMAGE = "/content/dam/site/image.jpg";
+    private static final String FRAGMENT = "/content/dam/site/fragment";
+    private static final String PAGE = "/content/site/en/page";
+    private static final String HOME = "/content/site/en";
+
+    private DumConnectorDependencyGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new DumConnectorDependencyGraph();
+        graph.put(FRAGMENT, AUTHOR, List.of(IMAGE));
+        graph.put(PAGE, AUTHOR, List.of(FRAGMENT));
+        graph.put(HOME, AUTHOR, List.of(PAGE));
+    }
+
+    @Nested
+    @DisplayName("Closure Tests")
+    class ClosureTests {
+
+        @Test
+        @DisplayName("Should return direct dependents at depth one")
+        void shouldReturnDirectDependentsAtDepthOne() {
+            assertEquals(List.of(FRAGMENT), graph.findDependents(List.of(IMAGE), 1));
+        }
+
+        @Test
+        @DisplayName("Should follow dependents up to the depth limit")
+        void shouldFollowDependentsUpToDepthLimit() {
+            assertEquals(List.of(FRAGMENT, PAGE), graph.findDependents(List.of(IMAGE), 2));
+            assertEquals(List.of(FRAGMENT, PAGE, HOME), graph.findDependents(List.of(IMAGE), 10));
+        }
+
+        @Test
+        @DisplayName("Should expand many changed objects in one walk")
+        void shouldExpandManyChangedObjects() {
+            graph.put("/content/site/en/other", AUTHOR, List.of("/content/dam/site/other.jpg"));
+
+            List<String> dependents = graph.findDependents(List.of(IMAGE, "/content/dam/site/other.jpg"), 1);
+
+            assertEquals(Set.of(FRAGMENT, "/content/site/en/other"), Set.copyOf(dependents));
+        }
+
+        @Test
+        @DisplayName("Should not return the changed objects themselves")
+        void shouldNotReturnChangedObjects() {
+            assertEquals(List.of(PAGE, HOME), graph.findDependents(List.of(IMAGE, FRAGMENT), 10));
+        }
+
+        @Test
+        @DisplayName("Should stop on dependency cycles")
+        void shouldStopOnDependencyCycles() {
+            graph.put(FRAGMENT, AUTHOR, List.of(IMAGE, HOME));
+
+            assertEquals(List.of(FRAGMENT, PAGE, HOME), graph.findDependents(List.of(IMAGE), 100));
+            assertEquals(List.of(FRAGMENT, PAGE), graph.findDependents(List.of(HOME), 100));
+        }
+
+        @Test
+        @DisplayName("Should ignore self references")
+        void shouldIgnoreSelfReferences() {
+            graph.put(IMAGE, AUTHOR, List.of(IMAGE));
+
+            assertEquals(List.of(FRAGMENT), graph.findDependents(List.of(IMAGE), 1));
+        }
+
+        @Test
+        @DisplayName("Should return nothing without changes or depth")
+        void shouldReturnNothingWithoutChangesOrDepth() {
+            assertTrue(graph.findDependents(List.of(), 3).isEmpty());
+            assertTrue(graph.findDependents(null, 3).isEmpty());
+            assertTrue(graph.findDependents(List.of(IMAGE), 0).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should replace the dependencies of an object")
+        void shouldReplaceDependencies() {
+            graph.put(PAGE, AUTHOR, List.of(IMAGE));
+
+            assertTrue(graph.findDependents(List.of(FRAGMENT), 1).isEmpty());
+            assertEquals(Set.of(FRAGMENT, PAGE), Set.copyOf(graph.findDependents(List.of(IMAGE), 1)));
+        }
+
+        @Test
+        @DisplayName("Should keep dependents indexed in another environment")
+        void shouldKeepDependentsOfOtherEnvironment() {
+            graph.put(PAGE, PUBLISH, List.of(FRAGMENT));
+
+            graph.remove(PAGE, AUTHOR);
+
+            assertEquals(List.of(PAGE), graph.findDependents(List.of(FRAGMENT), 1));
+            graph.remove(PAGE, PUBLISH);
+            assertTrue(graph.findDependents(List.of(FRAGMENT), 1).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should drop objects without dependencies")
+        void shouldDropObjectsWithoutDependencies() {
+            graph.put(HOME, AUTHOR, List.of());
+
+            assertEquals(2, graph.size());
+            assertEquals(List.of(FRAGMENT, PAGE), graph.findDependents(List.of(IMAGE), 10));
+        }
+    }
+}
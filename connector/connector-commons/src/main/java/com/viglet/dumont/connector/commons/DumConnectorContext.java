@@ -30,4 +30,10 @@ public interface DumConnectorContext {
 
     List<String> getObjectIdByDependency(String source, String provider,
             List<String> dependenciesObjectIdList);
+
+    /**
+     * @return {@code true} if the source has ignore rules, which match the
+     *         attributes of the job items
+     */
+    boolean hasIndexingRules(String source);
 }
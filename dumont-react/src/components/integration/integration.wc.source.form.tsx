@@ -13,7 +13,7 @@ import { Input } from "@/components/ui/input";
 import { Tabs, TabsContent, TabsList, TabsTrigger } from "@/components/ui/tabs";
 import type { TurIntegrationWcSource } from "@/models/integration/integration-wc-source.model";
 import { TurIntegrationWcSourceService } from "@/services/integration/integration-wc-source.service";
-import { IconDeviceFloppy, IconFileDescription, IconFilter, IconGlobe, IconPlus, IconSettings, IconTrash, IconX } from "@tabler/icons-react";
+import { IconDeviceFloppy, IconFileDescription, IconFilter, IconGauge, IconGlobe, IconPlus, IconSettings, IconTrash, IconX } from "@tabler/icons-react";
 import { StickyPageHeader, toast } from "@viglet/viglet-design-system";
 import { useEffect, useMemo } from "react";
 import { useFieldArray, useForm } from "react-hook-form";
@@ -159,6 +159,32 @@ export const IntegrationWcSourceForm: React.FC<Props> = ({ value, isNew, integra
                 </Button>
               </SectionCard.Content>
             </SectionCard>
+
+            <SectionCard variant="amber">
+              <SectionCard.Header icon={IconGauge} title={t("forms.wcSource.limits")} description={t("forms.wcSource.limitsDesc")} />
+              <SectionCard.Content>
+                <div className="grid grid-cols-3 gap-4">
+                  <FormField control={form.control} name="maxDepth"
+                    render={({ field }) => (
+                      <FormItem><FormLabel>{t("forms.wcSource.maxDepth")}</FormLabel>
+                        <FormControl><Input {...field} value={field.value ?? ""} placeholder="3" type="number" min={0} onChange={e => field.onChange(parseInt(e.target.value) || 0)} /></FormControl>
+                        <FormDescription>{t("forms.wcSource.maxDepthDesc")}</FormDescription><FormMessage /></FormItem>
+                    )} />
+                  <FormField control={form.control} name="maxPages"
+                    render={({ field }) => (
+                      <FormItem><FormLabel>{t("forms.wcSource.maxPages")}</FormLabel>
+                        <FormControl><Input {...field} value={field.value ?? ""} placeholder="10000" type="number" min={0} onChange={e => field.onChange(parseInt(e.target.value) || 0)} /></FormControl>
+                        <FormDescription>{t("forms.wcSource.maxPagesDesc")}</FormDescription><FormMessage /></FormItem>
+                    )} />
+                  <FormField control={form.control} name="maxMinutes"
+                    render={({ field }) => (
+                      <FormItem><FormLabel>{t("forms.wcSource.maxMinutes")}</FormLabel>
+                        <FormControl><Input {...field} value={field.value ?? ""} placeholder="60" type="number" min={0} onChange={e => field.onChange(parseInt(e.target.value) || 0)} /></FormControl>
+                        <FormDescription>{t("forms.wcSource.maxMinutesDesc")}</FormDescription><FormMessage /></FormItem>
+                    )} />
+                </div>
+              </SectionCard.Content>
+            </SectionCard>
           </TabsContent>
 
           {/* Filters Tab */}
@@ -11,6 +11,9 @@ export type TurIntegrationWcSource = {
   url: string;
   username: string;
   password: string;
+  maxDepth?: number;
+  maxPages?: number;
+  maxMinutes?: number;
   turSNSites: string[];
   startingPoints: TurIntegrationWcUrl[];
   allowUrls: TurIntegrationWcUrl[];
@@ -2,6 +2,9 @@ package com.viglet.dumont.connector.webcrawler.commons.ext;
 
 import java.util.Optional;
 
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
 import com.viglet.dumont.connector.webcrawler.commons.DumWCContext;
 import com.viglet.turing.client.sn.TurMultiValue;
 
@@ -9,12 +12,12 @@ public class DumWCExtDescription implements DumWCExtInterface {
 
     public static final String META_NAME_DESCRIPTION = "meta[name=description]";
     public static final String CONTENT = "content";
+    private static final Evaluator DESCRIPTION = QueryParser.parse(META_NAME_DESCRIPTION);
 
     @Override
     public Optional<TurMultiValue> consume(DumWCContext context) {
-        return Optional.of(context.getDocument().select(META_NAME_DESCRIPTION))
-                .map(elements -> !elements.isEmpty() ? TurMultiValue.singleItem(elements.getFirst().attr(CONTENT))
-                        : null);
+        return Optional.ofNullable(context.getDocument().selectFirst(DESCRIPTION))
+                .map(element -> TurMultiValue.singleItem(element.attr(CONTENT)));
 
     }
 }
@@ -26,6 +26,9 @@ import org.springframework.stereotype.Component;
 import com.viglet.dumont.connector.commons.plugin.DumConnectorPlugin;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCSourceRepository;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Primary
 @Component
 public class DumWCPlugin implements DumConnectorPlugin {
@@ -49,16 +52,20 @@ public class DumWCPlugin implements DumConnectorPlugin {
 
     @Override
     public void indexAll(String source) {
-        throw new UnsupportedOperationException("This method is only a placeholder");
+        dumWCSourceRepository.findById(source).ifPresentOrElse(dumWCPluginProcess::startAsync,
+                () -> log.error("Source '{}' not found", source));
     }
 
     @Override
     public void indexById(String source, List<String> contentId) {
-        throw new UnsupportedOperationException("This method is only a placeholder");
+        dumWCSourceRepository.findById(source).ifPresentOrElse(
+                dumWCSource -> dumWCPluginProcess.indexPages(dumWCSource, contentId),
+                () -> log.error("Source '{}' not found", source));
     }
 
     @Override
     public List<String> discoverContentIds(String source) {
-        throw new UnsupportedOperationException("This method is only a placeholder");
+        return dumWCSourceRepository.findById(source).map(dumWCPluginProcess::discoverContentIds)
+                .orElseGet(List::of);
     }
 }
\ No newline at end of file
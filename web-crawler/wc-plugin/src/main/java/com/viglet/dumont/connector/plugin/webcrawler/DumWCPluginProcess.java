@@ -1,48 +1,64 @@
 package com.viglet.dumont.connector.plugin.webcrawler;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
-import java.util.zip.CRC32;
-import java.util.zip.Checksum;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Entities;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import com.viglet.dumont.commons.cache.DumCustomClassCache;
+import com.viglet.dumont.commons.indexing.DumIndexingStatus;
 import com.viglet.dumont.connector.commons.DumConnectorContext;
 import com.viglet.dumont.connector.commons.DumConnectorSession;
+import com.viglet.dumont.connector.commons.domain.DumConnectorIndexing;
 import com.viglet.dumont.connector.commons.domain.DumJobItemWithSession;
-import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCAttributeMapping;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCAttributePlan;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCCrawl;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCCrawlRequest;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCCrawler;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCFetchResponse;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCFetcher;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCRobotsTxt;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCSitemapReader;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCTrapDetector;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCUrlFingerprintSet;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCUrlMatcher;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCUrlNormalizer;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCPage;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCSource;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCAllowUrlRepository;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCAttributeMappingRepository;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCFileExtensionRepository;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCNotAllowUrlRepository;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCPageRepository;
 import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCStartingPointRepository;
 import com.viglet.dumont.connector.webcrawler.commons.DumWCContext;
-import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtInterface;
-import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtLocaleInterface;
-import com.viglet.turing.client.sn.TurMultiValue;
+import com.viglet.turing.client.sn.TurSNConstants;
 import com.viglet.turing.client.sn.job.TurSNJobAction;
 import com.viglet.turing.client.sn.job.TurSNJobItem;
 
@@ -52,37 +68,78 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 public class DumWCPluginProcess {
-    public static final String MAILTO = "mailto";
-    public static final String TEL = "tel:";
-    public static final String JAVASCRIPT = "javascript:";
     public static final String A_HREF = "a[href]";
     public static final String ABS_HREF = "abs:href";
-    public static final String WILD_CARD = "*";
     public static final String AUTHORIZATION = "Authorization";
+    public static final String USER_AGENT = "User-Agent";
+    public static final String REFERER = "Referer";
     public static final String BASIC = "Basic";
     public static final String WEB_CRAWLER = "WEB-CRAWLER";
-    private final List<String> startingPoints = new ArrayList<>();
-    private final List<String> allowUrls = new ArrayList<>();
-    private final List<String> allowStartsWithUrls = new ArrayList<>();
-    private final List<String> notAllowUrls = new ArrayList<>();
-    private final List<String> notAllowStartsWithUrls = new ArrayList<>();
-    private final List<String> notAllowExtensions = new ArrayList<>();
+    public static final String ETAG = "ETag";
+    public static final String LAST_MODIFIED = "Last-Modified";
+    public static final String IF_NONE_MATCH = "If-None-Match";
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    public static final String ID = "id";
+    public static final String SITEMAP_XML = "/sitemap.xml";
+    private static final int SITEMAP_DEPTH = 1;
+    private static final Evaluator LINKS = QueryParser.parse(A_HREF);
     private final DumWCStartingPointRepository dumWCStartingPointsRepository;
     private final String userAgent = RandomUserAgentGenerator.getNextNonMobile();
-    private final Set<String> visitedLinks = new HashSet<>();
-    private final Set<String> indexedLinks = new HashSet<>();
-    private final Queue<String> queueLinks = new LinkedList<>();
-    private String website;
-    private Collection<String> snSites;
     private final int timeout;
     private final String referrer;
-    private String username;
-    private String password;
     private final DumWCAllowUrlRepository dumWCAllowUrlRepository;
     private final DumWCNotAllowUrlRepository dumWCNotAllowUrlRepository;
     private final DumWCFileExtensionRepository dumWCFileExtensionRepository;
     private final DumWCAttributeMappingRepository dumWCAttributeMappingRepository;
+    private final DumWCPageRepository dumWCPageRepository;
     private final DumConnectorContext dumConnectorContext;
+    private final DumWCCrawler dumWCCrawler;
+    private final DumWCFetcher dumWCFetcher;
+    private final boolean robotsEnabled;
+    private final String robotsAgent;
+    private final boolean sitemapEnabled;
+    private final boolean sitemapFollowLinks;
+    private final boolean keepQuery;
+    private final int trapSegmentRepeats;
+    private final int trapQueryVariants;
+    private final Set<String> runningSources = ConcurrentHashMap.newKeySet();
+    private final Map<String, Lock> newPageLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Settings and progress of the crawl of one source. Shared by the crawler
+     * workers; the links queued and indexed are tracked by the crawl.
+     */
+    private static final class CrawlState {
+        private final DumWCSource dumWCSource;
+        private final DumConnectorSession session;
+        private final String website;
+        private final Collection<String> snSites;
+        private final List<String> startingPoints = new ArrayList<>();
+        private final DumWCUrlNormalizer urlNormalizer;
+        private final DumWCUrlMatcher urlMatcher;
+        private final DumWCAttributePlan attributePlan;
+        private final DumWCTrapDetector trapDetector;
+        private final DumWCCrawl crawl;
+        private DumWCRobotsTxt robots = DumWCRobotsTxt.ALLOW_ALL;
+        private boolean followLinks = true;
+        private boolean standalone;
+        private boolean indexingRules;
+        private int maxDepth = Integer.MAX_VALUE;
+
+        private CrawlState(DumWCSource dumWCSource, DumConnectorSession session, DumWCUrlNormalizer urlNormalizer,
+                DumWCUrlMatcher urlMatcher, DumWCAttributePlan attributePlan, DumWCTrapDetector trapDetector,
+                DumWCCrawl crawl) {
+            this.dumWCSource = dumWCSource;
+            this.session = session;
+            this.website = dumWCSource.getUrl();
+            this.snSites = dumWCSource.getTurSNSites();
+            this.urlNormalizer = urlNormalizer;
+            this.urlMatcher = urlMatcher;
+            this.attributePlan = attributePlan;
+            this.trapDetector = trapDetector;
+            this.crawl = crawl;
+        }
+    }
 
     public DumWCPluginProcess(@Value("${dumont.wc.timeout:5000}") int timeout,
             @Value("${dumont.wc.referrer:https://www.google.com}") String referrer,
@@ -91,7 +148,17 @@ public class DumWCPluginProcess {
             DumWCFileExtensionRepository dumWCFileExtensionRepository,
             DumWCAttributeMappingRepository dumWCAttributeMappingRepository,
             DumWCStartingPointRepository dumWCStartingPointsRepository,
-            DumConnectorContext dumConnectorContext) {
+            DumConnectorContext dumConnectorContext,
+            DumWCCrawler dumWCCrawler,
+            DumWCFetcher dumWCFetcher,
+            DumWCPageRepository dumWCPageRepository,
+            @Value("${dumont.wc.crawler.robots.enabled:true}") boolean robotsEnabled,
+            @Value("${dumont.wc.crawler.robots.agent:dumont}") String robotsAgent,
+            @Value("${dumont.wc.crawler.sitemap.enabled:true}") boolean sitemapEnabled,
+            @Value("${dumont.wc.crawler.sitemap.follow-links:true}") boolean sitemapFollowLinks,
+            @Value("${dumont.wc.crawler.url.keep-query:false}") boolean keepQuery,
+            @Value("${dumont.wc.crawler.trap.segment-repeats:2}") int trapSegmentRepeats,
+            @Value("${dumont.wc.crawler.trap.query-variants:100}") int trapQueryVariants) {
         this.timeout = timeout;
         this.referrer = referrer;
         this.dumWCAllowUrlRepository = dumWCAllowUrlRepository;
@@ -100,44 +167,208 @@ public class DumWCPluginProcess {
         this.dumWCAttributeMappingRepository = dumWCAttributeMappingRepository;
         this.dumWCStartingPointsRepository = dumWCStartingPointsRepository;
         this.dumConnectorContext = dumConnectorContext;
+        this.dumWCCrawler = dumWCCrawler;
+        this.dumWCFetcher = dumWCFetcher;
+        this.dumWCPageRepository = dumWCPageRepository;
+        this.robotsEnabled = robotsEnabled;
+        this.robotsAgent = robotsAgent;
+        this.sitemapEnabled = sitemapEnabled;
+        this.sitemapFollowLinks = sitemapFollowLinks;
+        this.keepQuery = keepQuery;
+        this.trapSegmentRepeats = trapSegmentRepeats;
+        this.trapQueryVariants = trapQueryVariants;
+    }
+
+    /**
+     * Crawls a source in the background.
+     *
+     * @param dumWCSource the source
+     */
+    @Async
+    public void startAsync(DumWCSource dumWCSource) {
+        start(dumWCSource);
     }
 
     public void start(DumWCSource dumWCSource) {
+        if (!runningSources.add(dumWCSource.getId())) {
+            log.warn("Crawl of {} skipped, it is already running", dumWCSource.getUrl());
+            return;
+        }
+        try {
+            crawl(dumWCSource);
+        } finally {
+            runningSources.remove(dumWCSource.getId());
+        }
+    }
+
+    private void crawl(DumWCSource dumWCSource) {
+        log.info("User Agent: {}", userAgent);
+        Optional<DumWCRobotsTxt> robots = getRobotsTxtIfEnabled(dumWCSource);
+        if (robots.isEmpty()) {
+            // Crawling nothing would deindex the whole source, so the crawl waits for the next run
+            log.warn("Crawl of {} skipped, its robots.txt is unavailable", dumWCSource.getUrl());
+            dumConnectorContext.finishIndexing(getSource(dumWCSource), true);
+            return;
+        }
+        DumConnectorSession newSession = getSource(dumWCSource);
+        DumWCCrawl crawl = dumWCCrawler.open(dumWCSource.getId(), newSession.getTransactionId());
+        DumConnectorSession dumConnectorSession = crawl.isResumed()
+                ? getSource(dumWCSource, crawl.getTransactionId())
+                : newSession;
+        CrawlState state = getCrawlState(dumWCSource, dumConnectorSession, crawl);
+        state.robots = robots.get();
+        setLimits(state);
+        Optional.ofNullable(state.robots.getCrawlDelay())
+                .ifPresent(crawlDelay -> crawl.setHostDelay(state.website, crawlDelay));
+        if (!crawl.isResumed()) {
+            state.startingPoints.forEach(url -> {
+                String pageUrl = state.website + url;
+                String normalizedUrl = getPageUrl(state, pageUrl);
+                if (normalizedUrl == null) {
+                    log.warn("Invalid starting point: {}", pageUrl);
+                } else if (state.robots.isAllowed(pageUrl)) {
+                    crawl.markSeen(normalizedUrl);
+                    crawl.offer(new DumWCCrawlRequest(pageUrl, 0, null, true));
+                } else {
+                    log.info("Disallowed by robots.txt: {}", pageUrl);
+                }
+            });
+        }
+        // Read on resume as well, to learn whether links are followed; the pages already seen are skipped
+        if (sitemapEnabled) {
+            state.followLinks = sitemapFollowLinks;
+            if (offerSitemapPages(state) == 0) {
+                state.followLinks = true;
+            }
+        }
+        dumWCCrawler.crawl(crawl, request -> getPage(state, request));
+        if (crawl.isLimitReached()) {
+            log.info("Crawl of {} reached its limits, it resumes at the next run", dumWCSource.getUrl());
+        }
+        if (!crawl.isStopped()) {
+            forgetMissingPages(state);
+        }
+        // A stopped crawl resumes later, so its missing pages are not deindexed yet
+        dumConnectorContext.finishIndexing(dumConnectorSession, crawl.isStopped());
+    }
+
+    /**
+     * Forgets the saved pages a complete crawl did not find, as the connector
+     * deindexes them, so they are no longer listed as pages of the source.
+     */
+    private void forgetMissingPages(CrawlState state) {
+        int deleted = dumWCPageRepository.deleteByDumWCSourceAndTransactionIdNot(state.dumWCSource,
+                state.session.getTransactionId());
+        if (deleted > 0) {
+            log.info("Forgot {} pages of {} that the crawl did not find", deleted, state.website);
+        }
+    }
+
+    /**
+     * Fetches and indexes the given pages of a source through the same pipeline
+     * as a crawl, without following their links. A page that is gone is
+     * deindexed, since no crawl completes to notice it.
+     *
+     * @param dumWCSource the source
+     * @param urls        the page URLs, as the ids of the indexed pages
+     */
+    public void indexPages(DumWCSource dumWCSource, Collection<String> urls) {
+        Optional<DumWCRobotsTxt> robots = getRobotsTxtIfEnabled(dumWCSource);
         DumConnectorSession dumConnectorSession = getSource(dumWCSource);
+        if (robots.isEmpty()) {
+            log.warn("Pages of {} skipped, its robots.txt is unavailable", dumWCSource.getUrl());
+            dumConnectorContext.finishIndexing(dumConnectorSession, true);
+            return;
+        }
+        DumWCCrawl crawl = dumWCCrawler.openTransient(dumConnectorSession.getTransactionId());
+        CrawlState state = getCrawlState(dumWCSource, dumConnectorSession, crawl);
+        state.robots = robots.get();
+        state.followLinks = false;
+        state.standalone = true;
+        urls.forEach(url -> {
+            String pageUrl = getPageUrl(state, url);
+            if (pageUrl == null) {
+                log.warn("Invalid page: {}", url);
+            } else if (!crawl.contains(pageUrl)) {
+                // Queued as given, so the page keeps its id
+                crawl.offer(new DumWCCrawlRequest(url, 0));
+                crawl.markSeen(pageUrl);
+            }
+        });
+        dumWCCrawler.crawl(crawl, request -> getPage(state, request));
+        dumConnectorContext.finishIndexing(dumConnectorSession, true);
+    }
+
+    /**
+     * Lists the pages of a source: the pages indexed by the last crawls and the
+     * pages in its sitemaps that the crawl would index.
+     *
+     * @param dumWCSource the source
+     * @return the page URLs, as the ids of the indexed pages
+     */
+    public List<String> discoverContentIds(DumWCSource dumWCSource) {
+        Set<String> ids = new LinkedHashSet<>(dumWCPageRepository.findObjectIdsByDumWCSource(dumWCSource));
+        if (sitemapEnabled) {
+            getRobotsTxtIfEnabled(dumWCSource).ifPresent(robots -> {
+                CrawlState state = getCrawlState(dumWCSource, getSource(dumWCSource),
+                        dumWCCrawler.openTransient(null));
+                state.robots = robots;
+                new DumWCSitemapReader(getSitemapFetcher(state)).read(getSitemaps(state), entry -> Optional
+                        .ofNullable(getPageUrl(state, entry.url()))
+                        .filter(pageUrl -> isValidToAddQueue(state, pageUrl))
+                        .ifPresent(ids::add));
+            });
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Bounds this run by the max depth, pages and minutes of the source, unset
+     * or zero meaning no limit. A crawl stopped by a limit keeps its state and
+     * is resumed by the next run, so its missing pages are only deindexed once
+     * it completes. Without crawl state every run starts over.
+     */
+    private static void setLimits(CrawlState state) {
+        DumWCSource dumWCSource = state.dumWCSource;
+        if (isLimited(dumWCSource.getMaxDepth())) {
+            state.maxDepth = dumWCSource.getMaxDepth();
+        }
+        state.crawl.setLimits(isLimited(dumWCSource.getMaxPages()) ? dumWCSource.getMaxPages() : 0,
+                isLimited(dumWCSource.getMaxMinutes()) ? Duration.ofMinutes(dumWCSource.getMaxMinutes()) : null);
+    }
+
+    private static boolean isLimited(Integer limit) {
+        return limit != null && limit > 0;
+    }
+
+    private CrawlState getCrawlState(DumWCSource dumWCSource, DumConnectorSession dumConnectorSession,
+            DumWCCrawl crawl) {
+        List<String> allowUrls = new ArrayList<>();
+        List<String> notAllowUrls = new ArrayList<>();
+        List<String> notAllowExtensions = new ArrayList<>();
         dumWCFileExtensionRepository.findByDumWCSource(dumWCSource)
-                .ifPresent(source -> source.forEach(dumWCFileExtension -> this.notAllowExtensions
+                .ifPresent(source -> source.forEach(dumWCFileExtension -> notAllowExtensions
                         .add(dumWCFileExtension.getExtension())));
         dumWCNotAllowUrlRepository.findByDumWCSource(dumWCSource)
-                .ifPresent(source -> source.forEach(dumWCNotAllowUrl -> {
-                    if (dumWCNotAllowUrl.getUrl().trim().endsWith(WILD_CARD)) {
-                        this.notAllowStartsWithUrls
-                                .add(StringUtils.chop(dumWCNotAllowUrl.getUrl()));
-                    } else {
-                        this.notAllowUrls.add(dumWCNotAllowUrl.getUrl());
-                    }
-                }));
+                .ifPresent(source -> source.forEach(dumWCNotAllowUrl -> notAllowUrls
+                        .add(dumWCNotAllowUrl.getUrl())));
         dumWCAllowUrlRepository.findByDumWCSource(dumWCSource)
-                .ifPresent(source -> source.forEach(dumWCAllowUrl -> {
-                    if (dumWCAllowUrl.getUrl().trim().endsWith(WILD_CARD)) {
-                        this.allowStartsWithUrls
-                                .add(StringUtils.chop(dumWCAllowUrl.getUrl().trim()));
-                    } else {
-                        this.allowUrls.add(dumWCAllowUrl.getUrl());
-                    }
-                }));
+                .ifPresent(source -> source.forEach(dumWCAllowUrl -> allowUrls
+                        .add(dumWCAllowUrl.getUrl())));
+        DumWCUrlNormalizer urlNormalizer = new DumWCUrlNormalizer(dumWCSource.getUrl(), keepQuery);
+        // Links are compared once normalized, so the website is normalized the same way
+        DumWCUrlMatcher urlMatcher = new DumWCUrlMatcher(
+                Objects.requireNonNullElse(urlNormalizer.normalize(dumWCSource.getUrl()), dumWCSource.getUrl()),
+                allowUrls, notAllowUrls, notAllowExtensions);
+        DumWCAttributePlan attributePlan = new DumWCAttributePlan(dumWCSource,
+                dumWCAttributeMappingRepository.findByDumWCSource(dumWCSource).orElse(List.of()));
+        CrawlState state = new CrawlState(dumWCSource, dumConnectorSession, urlNormalizer, urlMatcher,
+                attributePlan, new DumWCTrapDetector(trapSegmentRepeats, trapQueryVariants), crawl);
         dumWCStartingPointsRepository.findByDumWCSource(dumWCSource)
-                .ifPresent(source -> source.forEach(dumWCStartingPoint -> this.startingPoints
+                .ifPresent(source -> source.forEach(dumWCStartingPoint -> state.startingPoints
                         .add(dumWCStartingPoint.getUrl())));
-        this.website = dumWCSource.getUrl();
-        this.snSites = dumWCSource.getTurSNSites();
-        this.username = dumWCSource.getUsername();
-        this.password = dumWCSource.getPassword();
-        log.info("User Agent: {}", userAgent);
-        startingPoints.forEach(url -> {
-            queueLinks.offer(this.website + url);
-            getPagesFromQueue(dumWCSource, dumConnectorSession);
-        });
-        finished(dumConnectorContext, dumConnectorSession);
+        state.indexingRules = dumConnectorContext.hasIndexingRules(dumConnectorSession.getSource());
+        return state;
     }
 
     private static DumConnectorSession getSource(DumWCSource dumWCSource) {
@@ -145,159 +376,352 @@ public class DumWCPluginProcess {
                 WEB_CRAWLER, dumWCSource.getLocale());
     }
 
-    private static void finished(DumConnectorContext dumConnectorContext,
-            DumConnectorSession source) {
-        dumConnectorContext.finishIndexing(source, false);
+    private static DumConnectorSession getSource(DumWCSource dumWCSource, String transactionId) {
+        return DumConnectorSession.builder().source(dumWCSource.getId()).transactionId(transactionId)
+                .providerName(WEB_CRAWLER).locale(dumWCSource.getLocale()).build();
+    }
+
+    /**
+     * Reads the sitemaps listed in robots.txt, or {@code /sitemap.xml} when it
+     * lists none. A page whose {@code <lastmod>} is not newer than its saved
+     * download is kept right away, without waiting for its turn in the
+     * frontier; the other pages are queued. The links of the kept pages are
+     * queued last, so a listed page is not queued first without its
+     * {@code <lastmod>}.
+     *
+     * @return the number of pages listed
+     */
+    private long offerSitemapPages(CrawlState state) {
+        AtomicLong unchanged = new AtomicLong();
+        Set<DumWCCrawlRequest> links = new LinkedHashSet<>();
+        long pages = new DumWCSitemapReader(getSitemapFetcher(state)).read(getSitemaps(state), entry -> {
+                    String pageUrl = getPageUrl(state, entry.url());
+                    if (!canBeAddToQueue(state, pageUrl)) {
+                        return;
+                    }
+                    DumWCCrawlRequest request = new DumWCCrawlRequest(pageUrl, SITEMAP_DEPTH, entry.lastModified(),
+                            true);
+                    if (keepUnchangedPage(state, request, links)) {
+                        unchanged.incrementAndGet();
+                    } else {
+                        state.crawl.offer(request);
+                    }
+                });
+        links.forEach(state.crawl::offer);
+        log.info("{} pages listed in the sitemaps of {}, {} unchanged since the last crawl", pages,
+                state.website, unchanged);
+        return pages;
     }
 
-    private void getPagesFromQueue(DumWCSource dumWCSource, DumConnectorSession source) {
-        while (!queueLinks.isEmpty()) {
-            String url = queueLinks.poll();
-            getPage(dumWCSource, url, source);
+    private static List<String> getSitemaps(CrawlState state) {
+        return state.robots.getSitemaps().isEmpty()
+                ? List.of(URI.create(state.website).resolve(SITEMAP_XML).toString())
+                : state.robots.getSitemaps();
+    }
+
+    private DumWCSitemapReader.Fetcher getSitemapFetcher(CrawlState state) {
+        return url -> {
+            DumWCFetchResponse response = dumWCFetcher.fetch(url, getHeaders(state.dumWCSource, url));
+            if (response.getStatusCode() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                response.close();
+                throw new IOException("%s returned %d".formatted(url, response.getStatusCode()));
+            }
+            return response.getBody();
+        };
+    }
+
+    private boolean keepUnchangedPage(CrawlState state, DumWCCrawlRequest request,
+            Collection<DumWCCrawlRequest> links) {
+        if (request.lastModified() == null) {
+            return false;
+        }
+        DumWCPage savedPage = getSavedPage(state, request.url());
+        if (savedPage == null || savedPage.getCrawled() == null
+                || request.lastModified().isAfter(savedPage.getCrawled())
+                || !canRevalidate(state, request.url(), savedPage)) {
+            return false;
+        }
+        log.debug("Unchanged since last crawl: {}", request.url());
+        state.crawl.markSeen(request.url());
+        addUnchangedPage(state, request, request.url(), savedPage, links);
+        return true;
+    }
+
+    /**
+     * Fetches the robots.txt of the website. A missing file allows every page,
+     * while a server error or an unreachable server disallows them all, as
+     * RFC 9309 asks.
+     *
+     * @return the rules, empty when no page may be crawled
+     */
+    private Optional<DumWCRobotsTxt> getRobotsTxtIfEnabled(DumWCSource dumWCSource) {
+        return robotsEnabled ? getRobotsTxt(dumWCSource) : Optional.of(DumWCRobotsTxt.ALLOW_ALL);
+    }
+
+    private Optional<DumWCRobotsTxt> getRobotsTxt(DumWCSource dumWCSource) {
+        String robotsUrl = URI.create(dumWCSource.getUrl()).resolve(DumWCRobotsTxt.ROBOTS_TXT).toString();
+        try (DumWCFetchResponse response = dumWCFetcher.fetch(robotsUrl,
+                getHeaders(dumWCSource, robotsUrl))) {
+            if (response.getStatusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                log.warn("{} returned {}", robotsUrl, response.getStatusCode());
+                return Optional.empty();
+            }
+            if (response.getStatusCode() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                return Optional.of(DumWCRobotsTxt.ALLOW_ALL);
+            }
+            return Optional.of(DumWCRobotsTxt.parse(response.getText(), robotsAgent));
+        } catch (IOException e) {
+            log.warn("{} is unreachable: {}", robotsUrl, e.getMessage());
+            return Optional.empty();
         }
     }
 
-    private void getPage(DumWCSource dumWCSource, String url, DumConnectorSession source) {
-        try {
-            log.info("{}: {}", url, dumWCSource.getTurSNSites());
-            Document document = getHTML(url);
-            String checksum = getCRC32Checksum(document.html().getBytes());
-            getPageLinks(document);
-            String pageUrl = getPageUrl(url);
-            if (canBeIndexed(pageUrl)) {
-                indexedLinks.add(pageUrl);
+    private List<DumWCCrawlRequest> getPage(CrawlState state, DumWCCrawlRequest request) {
+        String url = request.url();
+        List<DumWCCrawlRequest> links = new ArrayList<>();
+        if (!state.robots.isAllowed(url)) {
+            // Queued by an earlier run of a resumed crawl
+            log.debug("Disallowed by robots.txt: {}", url);
+            return links;
+        }
+        log.info("{}: {}", url, state.snSites);
+        String pageUrl = getPageUrl(state, url);
+        DumWCPage savedPage = getSavedPage(state, url);
+        try (DumWCFetchResponse response = getResponse(state, url,
+                canRevalidate(state, pageUrl, savedPage) ? savedPage : null)) {
+            if (response.getStatusCode() == HttpURLConnection.HTTP_NOT_MODIFIED && savedPage != null) {
+                log.info("Not modified: {}", url);
+                addUnchangedPage(state, request, pageUrl, savedPage, links);
+                return links;
+            }
+            if (response.getStatusCode() >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                handleErrorPage(state, url, response.getStatusCode());
+                return links;
+            }
+            if (!response.isMarkup()) {
+                // Checked before the body is downloaded
+                log.info("Unhandled content type {}: {}", response.getContentType(), url);
+                return links;
+            }
+            Document document = getHTML(response);
+            String checksum = response.getChecksum();
+            Set<String> pageLinks = new LinkedHashSet<>();
+            document.select(LINKS).forEach(page -> Optional.ofNullable(getPageUrl(state, page.attr(ABS_HREF)))
+                    .ifPresent(pageLinks::add));
+            if (state.followLinks) {
+                getPageLinks(state, pageLinks, request.depth() + 1, links);
+            }
+            TurSNJobItem turSNJobItem = null;
+            if (canBeIndexed(state, pageUrl)) {
                 log.info("WC is creating a Job Item: {}", url);
-                addTurSNJobItem(dumWCSource, document, url, checksum, source);
-                return;
+                turSNJobItem = addTurSNJobItem(state, document, url, checksum);
+                state.crawl.markIndexed(pageUrl);
             } else {
                 log.debug("Ignored: {}", url);
             }
+            savePage(state, savedPage, request, response, checksum, turSNJobItem, pageLinks);
         } catch (IOException e) {
             log.error(e.getMessage(), e);
         }
-        new TurSNJobItem();
-    }
-
-    private void getPageLinks(Document document) {
-        document.select(A_HREF).forEach(page -> addPageToQueue(getPageUrl(page.attr(ABS_HREF))));
-    }
-
-    private void addPageToQueue(String pageUrl) {
-        if (canBeAddToQueue(pageUrl) && visitedLinks.add(pageUrl) && !queueLinks.offer(pageUrl)) {
-            log.error("Item didn't add to queue: {}", pageUrl);
-        }
-    }
-
-    private boolean isValidToAddQueue(String pageUrl) {
-        return isNotMailUrl(pageUrl) && isNotTelUrl(pageUrl)
-                && !queueLinks.contains(pageUrl)
-                && !isSharpUrl(pageUrl) && !isPagination(pageUrl) && !isJavascriptUrl(pageUrl)
-                && pageUrl.startsWith(this.website)
-                && (allowStartsWithUrls.stream().anyMatch(getRelativePageUrl(pageUrl)::startsWith)
-                        || allowUrls.contains(getRelativePageUrl(pageUrl)))
-                && notAllowStartsWithUrls.stream().noneMatch(getRelativePageUrl(pageUrl)::startsWith)
-                && !notAllowUrls.contains(getRelativePageUrl(pageUrl))
-                && notAllowExtensions.stream().noneMatch(pageUrl::endsWith);
-    }
-
-    private void addTurSNJobItem(DumWCSource dumWCSource, Document document, String url,
-            String checksum, DumConnectorSession source) {
-        DumJobItemWithSession dumJobItemWithSession = new DumJobItemWithSession(
-                new TurSNJobItem(TurSNJobAction.CREATE, new ArrayList<>(snSites),
-                        getLocale(dumWCSource, document, url),
-                        getJobItemAttributes(dumWCSource, document, url), null, checksum),
-                source, Collections.emptySet(), false);
-        dumConnectorContext.addJobItem(dumJobItemWithSession);
-    }
-
-    public static String getCRC32Checksum(byte[] bytes) {
-        Checksum crc32 = new CRC32();
-        crc32.update(bytes, 0, bytes.length);
-        return String.valueOf(crc32.getValue());
-    }
-
-    private Map<String, Object> getJobItemAttributes(DumWCSource dumWCSource, Document document,
-            String url) {
-        Map<String, Object> turSNJobItemAttributes = new HashMap<>();
-        dumWCAttributeMappingRepository.findByDumWCSource(dumWCSource)
-                .ifPresent(source -> source.forEach(dumWCCustomClass -> Optional
-                        .ofNullable(dumWCCustomClass.getText()).ifPresentOrElse(
-                                text -> usesText(dumWCCustomClass, text, turSNJobItemAttributes),
-                                () -> {
-                                    if (!StringUtils.isEmpty(dumWCCustomClass.getClassName()))
-                                        usesCustomClass(document, url, dumWCCustomClass,
-                                                turSNJobItemAttributes);
-                                })));
-        return turSNJobItemAttributes;
-    }
-
-    private void usesCustomClass(Document document, String url,
-            DumWCAttributeMapping dumWCCustomClass, Map<String, Object> turSNJobItemAttributes) {
-        getCustomClass(document, url, dumWCCustomClass)
-                .ifPresent(turMultiValue -> turMultiValue.forEach(attributeValue -> {
-                    if (!StringUtils.isBlank(attributeValue)) {
-                        if (turSNJobItemAttributes.containsKey(dumWCCustomClass.getName())) {
-                            addItemInExistingAttribute(attributeValue, turSNJobItemAttributes,
-                                    dumWCCustomClass.getName());
-                        } else {
-                            addFirstItemToAttribute(dumWCCustomClass.getName(), attributeValue,
-                                    turSNJobItemAttributes);
-                        }
-                    }
-                }));
+        return links;
     }
 
-    private static void usesText(DumWCAttributeMapping dumWCCustomClass, String text,
-            Map<String, Object> turSNJobItemAttributes) {
-        turSNJobItemAttributes.put(dumWCCustomClass.getName(), text);
-    }
-
-    private Optional<TurMultiValue> getCustomClass(Document document, String url,
-            DumWCAttributeMapping dumWCAttributeMapping) {
-        return DumCustomClassCache.getCustomClassMap(dumWCAttributeMapping.getClassName())
-                .flatMap(classInstance -> ((DumWCExtInterface) classInstance)
-                        .consume(getDumWCContext(document, url)));
+    private void handleErrorPage(CrawlState state, String url, int statusCode) {
+        if (state.standalone && isGone(statusCode)) {
+            deindexPage(state, url);
+            return;
+        }
+        log.error("{} returned {}", url, statusCode);
+        if (isGone(statusCode)) {
+            // The crawl deindexes it when it finishes
+            Optional.ofNullable(getSavedPage(state, url)).ifPresent(dumWCPageRepository::delete);
+        }
     }
 
-    private static void addItemInExistingAttribute(String attributeValue,
-            Map<String, Object> attributes, String attributeName) {
-        if (attributes.get(attributeName) instanceof ArrayList)
-            addItemToArray(attributes, attributeName, attributeValue);
-        else
-            convertAttributeSingleValueToArray(attributes, attributeName, attributeValue);
+    private static boolean isGone(int statusCode) {
+        return statusCode == HttpURLConnection.HTTP_NOT_FOUND || statusCode == HttpURLConnection.HTTP_GONE;
+    }
+
+    /**
+     * Removes a page that no longer exists from the index and forgets its saved
+     * download.
+     */
+    private void deindexPage(CrawlState state, String url) {
+        log.info("Gone, deindexing: {}", url);
+        dumConnectorContext.getIndexingItem(url, state.session.getSource(), WEB_CRAWLER)
+                .forEach(indexing -> dumConnectorContext.addJobItem(new DumJobItemWithSession(
+                        new TurSNJobItem(TurSNJobAction.DELETE, indexing.getSites(), indexing.getLocale(),
+                                Map.of(ID, url, TurSNConstants.SOURCE_APPS_ATTR, WEB_CRAWLER)),
+                        state.session, Collections.emptySet(), true)));
+        Optional.ofNullable(getSavedPage(state, url)).ifPresent(dumWCPageRepository::delete);
+    }
+
+    /**
+     * Keeps a page that did not change since it was saved, with the links found
+     * on it then, and marks it as found by this crawl.
+     */
+    private void addUnchangedPage(CrawlState state, DumWCCrawlRequest request, String pageUrl,
+            DumWCPage savedPage, Collection<DumWCCrawlRequest> links) {
+        if (!Objects.equals(state.session.getTransactionId(), savedPage.getTransactionId())) {
+            dumWCPageRepository.updateTransactionId(savedPage.getId(), state.session.getTransactionId());
+            savedPage.setTransactionId(state.session.getTransactionId());
+        }
+        if (state.followLinks) {
+            getPageLinks(state, savedPage.getLinks().lines().toList(), request.depth() + 1, links);
+        }
+        if (canBeIndexed(state, pageUrl)) {
+            addUnchangedTurSNJobItem(state, savedPage);
+            state.crawl.markIndexed(pageUrl);
+        }
     }
 
-    private static void convertAttributeSingleValueToArray(Map<String, Object> attributes,
-            String attributeName, String attributeValue) {
-        List<Object> attributeValues = new ArrayList<>();
-        attributeValues.add(attributes.get(attributeName));
-        attributeValues.add(attributeValue);
-        attributes.put(attributeName, attributeValues);
+    private static boolean isChangedInSitemap(DumWCCrawlRequest request, DumWCPage savedPage) {
+        return request.lastModified() != null
+                && (savedPage.getCrawled() == null || request.lastModified().isAfter(savedPage.getCrawled()));
     }
 
-    private static void addItemToArray(Map<String, Object> attributes, String attributeName,
-            String attributeValue) {
-        List<String> attributeValues = new ArrayList<>(((List<?>) attributes.get(attributeName))
-                .stream().map(String.class::cast).toList());
-        attributeValues.add(attributeValue);
-        attributes.put(attributeName, attributeValues);
+    /**
+     * Queues the links found on a page, unless they are deeper than the source
+     * allows or lead into a crawler trap. Sitemap pages are not checked for
+     * traps, since the site lists them.
+     */
+    private void getPageLinks(CrawlState state, Collection<String> pageLinks, int depth,
+            Collection<DumWCCrawlRequest> links) {
+        if (depth > state.maxDepth) {
+            return;
+        }
+        pageLinks.forEach(pageUrl -> {
+            if (canBeAddToQueue(state, pageUrl) && !isTrap(state, pageUrl)) {
+                links.add(new DumWCCrawlRequest(pageUrl, depth));
+            }
+        });
     }
 
-    private void addFirstItemToAttribute(String attributeName, String attributeValue,
-            Map<String, Object> attributes) {
-        attributes.put(attributeName, attributeValue);
+    private static boolean isTrap(CrawlState state, String pageUrl) {
+        if (state.trapDetector.isTrap(pageUrl)) {
+            log.debug("Crawler trap: {}", pageUrl);
+            return true;
+        }
+        return false;
+    }
+
+    private DumWCPage getSavedPage(CrawlState state, String url) {
+        return dumWCPageRepository
+                .findByDumWCSourceAndFingerprint(state.dumWCSource, DumWCUrlFingerprintSet.fingerprint(url))
+                .stream().filter(page -> url.equals(page.getUrl())).findFirst().orElse(null);
+    }
+
+    /**
+     * A saved page is revalidated, with a conditional request or its sitemap
+     * {@code <lastmod>}, when it can be kept without the content: the page is
+     * not indexed in this crawl, or the connector still holds it with the saved
+     * checksum, so resending that checksum only marks it unchanged. Pages
+     * indexed on demand are always downloaded again, and so are the pages to
+     * index when the source has ignore rules: the rules match attributes of
+     * the content, which the saved checksum does not carry.
+     */
+    private boolean canRevalidate(CrawlState state, String pageUrl, DumWCPage savedPage) {
+        if (state.standalone || savedPage == null || savedPage.getLinks() == null) {
+            return false;
+        }
+        if (!canBeIndexed(state, pageUrl)) {
+            return true;
+        }
+        if (state.indexingRules || savedPage.getObjectId() == null) {
+            return false;
+        }
+        List<DumConnectorIndexing> indexingList = dumConnectorContext.getIndexingItem(savedPage.getObjectId(),
+                state.session.getSource(), WEB_CRAWLER);
+        return !indexingList.isEmpty() && indexingList.stream()
+                .allMatch(indexing -> Objects.equals(savedPage.getChecksum(), indexing.getChecksum())
+                        && indexing.getStatus() != DumIndexingStatus.IGNORED
+                        && indexing.getStatus() != DumIndexingStatus.DEINDEXED);
+    }
+
+    /**
+     * Saves a page, adding it when it was not saved. A crawl and the pages of
+     * its source indexed on demand can both find a page new, so the pages of a
+     * source are added one at a time, each once looked up again.
+     */
+    private void savePage(CrawlState state, DumWCPage savedPage, DumWCCrawlRequest request,
+            DumWCFetchResponse response, String checksum, TurSNJobItem turSNJobItem, Set<String> pageLinks) {
+        if (savedPage != null) {
+            writePage(state, savedPage, request, response, checksum, turSNJobItem, pageLinks);
+            return;
+        }
+        Lock lock = newPageLocks.computeIfAbsent(state.dumWCSource.getId(), id -> new ReentrantLock());
+        lock.lock();
+        try {
+            writePage(state, getSavedPage(state, request.url()), request, response, checksum, turSNJobItem,
+                    pageLinks);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private Locale getLocale(DumWCSource dumWCSource, Document document, String url) {
-        return Optional.ofNullable(dumWCSource.getLocale()).orElseGet(() -> {
-            if (!StringUtils.isEmpty(dumWCSource.getLocaleClass())) {
-                return DumCustomClassCache.getCustomClassMap(dumWCSource.getLocaleClass())
-                        .map(classInstance -> ((DumWCExtLocaleInterface) classInstance)
-                                .consume(getDumWCContext(document, url)))
-                        .orElse(Locale.US);
-            }
-            return Locale.US;
-        });
+    /**
+     * Keeps the validators, checksum and links of a page, writing only when
+     * something changed, the page is new to this crawl or its sitemap
+     * {@code <lastmod>} is newer than the saved download.
+     */
+    private void writePage(CrawlState state, DumWCPage savedPage, DumWCCrawlRequest request,
+            DumWCFetchResponse response, String checksum, TurSNJobItem turSNJobItem, Set<String> pageLinks) {
+        String url = request.url();
+        String etag = response.getHeader(ETAG);
+        String lastModified = response.getHeader(LAST_MODIFIED);
+        String objectId = turSNJobItem != null ? turSNJobItem.getId() : null;
+        Locale locale = turSNJobItem != null ? turSNJobItem.getLocale() : null;
+        String links = pageLinks.stream().filter(link -> link.startsWith(state.website))
+                .collect(Collectors.joining("\n"));
+        DumWCPage page = savedPage != null ? savedPage
+                : DumWCPage.builder().dumWCSource(state.dumWCSource)
+                        .fingerprint(DumWCUrlFingerprintSet.fingerprint(url)).url(url).build();
+        // A page indexed on demand stays in the crawl that found it
+        String transactionId = state.standalone && page.getTransactionId() != null ? page.getTransactionId()
+                : state.session.getTransactionId();
+        if (savedPage != null && Objects.equals(etag, page.getEtag())
+                && Objects.equals(lastModified, page.getLastModified())
+                && Objects.equals(checksum, page.getChecksum()) && Objects.equals(objectId, page.getObjectId())
+                && Objects.equals(locale, page.getLocale()) && Objects.equals(links, page.getLinks())
+                && Objects.equals(transactionId, page.getTransactionId()) && !isChangedInSitemap(request, page)) {
+            return;
+        }
+        page.setEtag(etag);
+        page.setLastModified(lastModified);
+        page.setChecksum(checksum);
+        page.setObjectId(objectId);
+        page.setLocale(locale);
+        page.setLinks(links);
+        page.setCrawled(Instant.now());
+        page.setTransactionId(transactionId);
+        dumWCPageRepository.save(page);
+    }
+
+    private boolean isValidToAddQueue(CrawlState state, String pageUrl) {
+        return pageUrl != null && !isPagination(pageUrl) && state.urlMatcher.matches(pageUrl)
+                && state.robots.isAllowed(pageUrl);
+    }
+
+    private TurSNJobItem addTurSNJobItem(CrawlState state, Document document, String url, String checksum) {
+        DumWCContext context = getDumWCContext(document, url);
+        TurSNJobItem turSNJobItem = new TurSNJobItem(TurSNJobAction.CREATE, new ArrayList<>(state.snSites),
+                state.attributePlan.getLocale(context), state.attributePlan.getAttributes(context), null, checksum);
+        dumConnectorContext.addJobItem(new DumJobItemWithSession(turSNJobItem, state.session,
+                Collections.emptySet(), state.standalone));
+        return turSNJobItem;
+    }
+
+    /**
+     * Sends the saved checksum of a page that was not modified, so the
+     * connector keeps it in this crawl without it being indexed again.
+     */
+    private void addUnchangedTurSNJobItem(CrawlState state, DumWCPage savedPage) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(ID, savedPage.getObjectId());
+        dumConnectorContext.addJobItem(new DumJobItemWithSession(
+                new TurSNJobItem(TurSNJobAction.CREATE, new ArrayList<>(state.snSites), savedPage.getLocale(),
+                        attributes, null, savedPage.getChecksum()),
+                state.session, Collections.emptySet(), false));
     }
 
     private DumWCContext getDumWCContext(Document document, String url) {
@@ -305,45 +729,47 @@ public class DumWCPluginProcess {
                 .userAgent(userAgent).referrer(referrer).build();
     }
 
-    private boolean canBeIndexed(String pageUrl) {
-        return isValidToAddQueue(pageUrl)
-                && !indexedLinks.contains(pageUrl);
+    private boolean canBeIndexed(CrawlState state, String pageUrl) {
+        return isValidToAddQueue(state, pageUrl)
+                && !state.crawl.isIndexed(pageUrl);
     }
 
-    private boolean canBeAddToQueue(String pageUrl) {
-        return isValidToAddQueue(pageUrl)
-                && !visitedLinks.contains(pageUrl);
+    private boolean canBeAddToQueue(CrawlState state, String pageUrl) {
+        return pageUrl != null && !state.crawl.contains(pageUrl)
+                && isValidToAddQueue(state, pageUrl);
     }
 
-    private static boolean isJavascriptUrl(String pageUrl) {
-        return pageUrl.contains(JAVASCRIPT);
+    /**
+     * @return the normalized URL of a link, {@code null} if it is not an HTTP
+     *         URL
+     */
+    private static String getPageUrl(CrawlState state, String attr) {
+        return state.urlNormalizer.normalize(attr);
     }
 
-    private String getPageUrl(String attr) {
-        String pageUrl = getUrlWithoutParameters(
-                !isHttpUrl(attr) && isNotMailUrl(attr) && isNotTelUrl(attr) ? this.website + attr
-                        : attr);
-        String pageUrlNormalized = pageUrl.endsWith("/") ? removeLastChar(pageUrl) : pageUrl;
-        if (isNotMailUrl(attr) && isNotTelUrl(attr)) {
-            try {
-                return URI.create(pageUrlNormalized).normalize().toString();
-            } catch (IllegalArgumentException ignored) {
-                // No error
-            }
+    private Map<String, String> getHeaders(DumWCSource dumWCSource, String url) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(USER_AGENT, userAgent);
+        headers.put(REFERER, referrer);
+        if (isBasicAuth(dumWCSource) && isSameOrigin(dumWCSource.getUrl(), url)) {
+            headers.put(AUTHORIZATION, "%s %s".formatted(BASIC, getBasicAuth(dumWCSource)));
         }
-        return pageUrlNormalized;
+        return headers;
     }
 
-    private static String removeLastChar(String pageUrl) {
-        return pageUrl.substring(0, pageUrl.length() - 1);
+    private DumWCFetchResponse getResponse(CrawlState state, String url, DumWCPage savedPage)
+            throws IOException {
+        Map<String, String> headers = getHeaders(state.dumWCSource, url);
+        if (savedPage != null) {
+            Optional.ofNullable(savedPage.getEtag()).ifPresent(etag -> headers.put(IF_NONE_MATCH, etag));
+            Optional.ofNullable(savedPage.getLastModified())
+                    .ifPresent(lastModified -> headers.put(IF_MODIFIED_SINCE, lastModified));
+        }
+        return dumWCFetcher.fetch(url, headers);
     }
 
-    private Document getHTML(String url) throws IOException {
-        Connection connection = Jsoup.connect(url).userAgent(userAgent).referrer(referrer).timeout(timeout);
-        if (isBasicAuth()) {
-            connection.header(AUTHORIZATION, "%s %s".formatted(BASIC, getBasicAuth()));
-        }
-        Document document = connection.get();
+    private static Document getHTML(DumWCFetchResponse response) throws IOException {
+        Document document = response.parse();
 
         document.outputSettings().escapeMode(Entities.EscapeMode.xhtml);
         document.outputSettings().charset(StandardCharsets.ISO_8859_1);
@@ -351,46 +777,41 @@ public class DumWCPluginProcess {
         return document;
     }
 
-    private String getBasicAuth() {
+    private static String getBasicAuth(DumWCSource dumWCSource) {
         return Base64.getEncoder()
-                .encodeToString("%s:%s".formatted(this.username, this.password).getBytes());
+                .encodeToString("%s:%s".formatted(dumWCSource.getUsername(), dumWCSource.getPassword()).getBytes());
     }
 
-    private boolean isBasicAuth() {
-        return this.username != null;
-    }
-
-    private String getRelativePageUrl(String pageUrl) {
-        return pageUrl.replaceAll(this.website, "");
-    }
-
-    private static boolean isPagination(String pageUrl) {
-        return pageUrl.contains("/page/");
+    private static boolean isBasicAuth(DumWCSource dumWCSource) {
+        return dumWCSource.getUsername() != null;
     }
 
-    private static boolean isSharpUrl(String attr) {
-        return attr.contains("#");
-    }
-
-    private static boolean isHttpUrl(String attr) {
-        return attr.toLowerCase().startsWith("http");
-    }
-
-    private static boolean isNotMailUrl(String attr) {
-        return !attr.toLowerCase().startsWith(MAILTO);
+    /**
+     * The credentials of a source are only sent to its own scheme, host and
+     * port, not to the sitemaps or pages of other hosts that robots.txt or a
+     * sitemap lists.
+     */
+    private static boolean isSameOrigin(String website, String url) {
+        try {
+            URI websiteUri = URI.create(website);
+            URI uri = URI.create(url);
+            return websiteUri.getHost() != null && websiteUri.getScheme() != null
+                    && websiteUri.getHost().equalsIgnoreCase(uri.getHost())
+                    && websiteUri.getScheme().equalsIgnoreCase(uri.getScheme())
+                    && getPort(websiteUri) == getPort(uri);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 
-    private static boolean isNotTelUrl(String attr) {
-        return !attr.toLowerCase().startsWith(TEL);
+    private static int getPort(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
     }
 
-    private String getUrlWithoutParameters(String url) {
-        try {
-            URI uri = new URI(url);
-            return new URI(uri.getScheme(), uri.getAuthority(), uri.getPath(), null,
-                    uri.getFragment()).toString();
-        } catch (URISyntaxException e) {
-            return url;
-        }
+    private static boolean isPagination(String pageUrl) {
+        return pageUrl.contains("/page/");
     }
 }
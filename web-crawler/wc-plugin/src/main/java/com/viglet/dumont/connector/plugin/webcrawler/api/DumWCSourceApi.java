@@ -104,6 +104,9 @@ public class DumWCSourceApi {
             existing.setLocaleClass(wcSource.getLocaleClass());
             existing.setUsername(wcSource.getUsername());
             existing.setPassword(wcSource.getPassword());
+            existing.setMaxDepth(wcSource.getMaxDepth());
+            existing.setMaxPages(wcSource.getMaxPages());
+            existing.setMaxMinutes(wcSource.getMaxMinutes());
             existing.setTurSNSites(wcSource.getTurSNSites());
             existing.setStartingPoints(wcSource.getStartingPoints());
             existing.setAllowUrls(wcSource.getAllowUrls());
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.viglet.dumont.commons.cache.DumCustomClassCache;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCAttributeMapping;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCSource;
+import com.viglet.dumont.connector.webcrawler.commons.DumWCContext;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtInterface;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtLocaleInterface;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Attribute mappings and locale of a web source, resolved once per crawl.
+ * <p>
+ * Each mapping becomes an extractor holding either its fixed text or the
+ * instance of its extension class, so a page is only read, with no lookup of
+ * mappings or classes. A mapping whose class cannot be used is left out, with
+ * one error logged when the plan is built.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+public class DumWCAttributePlan {
+    private final List<Extractor> extractors;
+    private final Locale locale;
+    private final DumWCExtLocaleInterface localeExtension;
+
+    private record Extractor(String name, String text, DumWCExtInterface extension) {
+    }
+
+    public DumWCAttributePlan(DumWCSource dumWCSource, Collection<DumWCAttributeMapping> mappings) {
+        List<Extractor> list = new ArrayList<>();
+        mappings.forEach(mapping -> {
+            if (mapping.getText() != null) {
+                list.add(new Extractor(mapping.getName(), mapping.getText(), null));
+            } else if (!StringUtils.isEmpty(mapping.getClassName())) {
+                getExtension(mapping.getClassName(), DumWCExtInterface.class)
+                        .ifPresent(extension -> list.add(new Extractor(mapping.getName(), null, extension)));
+            }
+        });
+        this.extractors = List.copyOf(list);
+        this.locale = dumWCSource.getLocale();
+        this.localeExtension = locale == null && !StringUtils.isEmpty(dumWCSource.getLocaleClass())
+                ? getExtension(dumWCSource.getLocaleClass(), DumWCExtLocaleInterface.class).orElse(null)
+                : null;
+    }
+
+    private static <T> Optional<T> getExtension(String className, Class<T> type) {
+        Optional<Object> instance = DumCustomClassCache.getCustomClassMap(className);
+        if (instance.isPresent() && !type.isInstance(instance.get())) {
+            log.error("{} is not a {}", className, type.getSimpleName());
+            return Optional.empty();
+        }
+        return instance.map(type::cast);
+    }
+
+    /**
+     * Reads the attributes of a page. A fixed text replaces the value of its
+     * attribute, while the values of extensions are added to it, making it a
+     * list when there is more than one.
+     */
+    public Map<String, Object> getAttributes(DumWCContext context) {
+        Map<String, Object> attributes = new HashMap<>();
+        for (Extractor extractor : extractors) {
+            if (extractor.extension() == null) {
+                attributes.put(extractor.name(), extractor.text());
+            } else {
+                extractor.extension().consume(context).ifPresent(values -> values.forEach(value -> {
+                    if (!StringUtils.isBlank(value)) {
+                        addValue(attributes, extractor.name(), value);
+                    }
+                }));
+            }
+        }
+        return attributes;
+    }
+
+    private static void addValue(Map<String, Object> attributes, String name, String value) {
+        attributes.merge(name, value, (previous, added) -> {
+            List<Object> values = previous instanceof List<?> list ? new ArrayList<>(list)
+                    : new ArrayList<>(List.of(previous));
+            values.add(added);
+            return values;
+        });
+    }
+
+    /**
+     * @return the locale of the source, else the one its locale class finds in
+     *         the page, else {@link Locale#US}
+     */
+    public Locale getLocale(DumWCContext context) {
+        if (locale != null) {
+            return locale;
+        }
+        return localeExtension != null ? Optional.ofNullable(localeExtension.consume(context)).orElse(Locale.US)
+                : Locale.US;
+    }
+}
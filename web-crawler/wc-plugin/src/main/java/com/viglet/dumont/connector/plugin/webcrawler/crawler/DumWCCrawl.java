@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * One crawl of a source: its {@link DumWCFrontier}, the pages indexed so far
+ * and, when crawl state is enabled, the {@link DumWCCrawlJournal} that lets it
+ * resume after a restart.
+ * <p>
+ * A resumed crawl keeps the transaction id it started with, so the pages
+ * indexed before the restart are not taken as stale when the crawl finishes.
+ * <p>
+ * A run can be bounded with {@link #setLimits}: once it has fetched its pages
+ * or used its time, the crawl stops as if it were interrupted and the next
+ * crawl of the source resumes it.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCCrawl {
+    private final DumWCFrontier frontier;
+    private final DumWCUrlFingerprintSet indexed;
+    private final DumWCCrawlJournal journal;
+    private final int checkpointPages;
+    private final AtomicLong donePages = new AtomicLong();
+    private final AtomicLong takenPages = new AtomicLong();
+    private volatile long maxPages;
+    private volatile long deadlineNanos;
+    @Getter
+    private volatile boolean limitReached;
+    @Getter
+    private final String transactionId;
+    @Getter
+    private final boolean resumed;
+
+    DumWCCrawl(DumWCFrontier frontier, DumWCUrlFingerprintSet indexed, DumWCCrawlJournal journal,
+            int checkpointPages, String transactionId, boolean resumed) {
+        this.frontier = frontier;
+        this.indexed = indexed;
+        this.journal = journal;
+        this.checkpointPages = Math.max(1, checkpointPages);
+        this.transactionId = transactionId;
+        this.resumed = resumed;
+    }
+
+    /**
+     * Queues a page unless its URL was queued before.
+     *
+     * @return {@code true} if the page was queued
+     */
+    public boolean offer(DumWCCrawlRequest request) {
+        if (!frontier.offer(request)) {
+            return false;
+        }
+        if (journal != null) {
+            journal.queued(request);
+        }
+        return true;
+    }
+
+    /**
+     * Records a URL as queued without queuing it.
+     *
+     * @see DumWCFrontier#markSeen(String)
+     */
+    public void markSeen(String url) {
+        frontier.markSeen(url);
+        if (journal != null) {
+            journal.seen(url);
+        }
+    }
+
+    /**
+     * Tells whether the URL was queued during this crawl.
+     */
+    public boolean contains(String url) {
+        return frontier.contains(url);
+    }
+
+    /**
+     * Records a page as indexed.
+     *
+     * @return {@code false} if it was already indexed during this crawl
+     */
+    public boolean markIndexed(String url) {
+        if (!indexed.add(url)) {
+            return false;
+        }
+        if (journal != null) {
+            journal.indexed(url);
+        }
+        return true;
+    }
+
+    public boolean isIndexed(String url) {
+        return indexed.contains(url);
+    }
+
+    /**
+     * Sets the delay between two requests to the host of the URL.
+     *
+     * @see DumWCFrontier#setHostDelay(String, Duration)
+     */
+    public void setHostDelay(String url, Duration delay) {
+        frontier.setHostDelay(DumWCFrontier.hostOf(url), delay);
+    }
+
+    /**
+     * Stops the crawl. Its state is kept, so the next crawl of the source
+     * resumes it.
+     */
+    public void stop() {
+        frontier.close();
+    }
+
+    /**
+     * @return {@code true} if the crawl was stopped before it was complete
+     */
+    public boolean isStopped() {
+        return frontier.isClosed();
+    }
+
+    /**
+     * @return the number of queued pages
+     */
+    public int size() {
+        return frontier.size();
+    }
+
+    /**
+     * Bounds this run of the crawl, counting from now.
+     *
+     * @param maxPages pages handed out to the workers, {@code 0} for no limit
+     * @param maxTime  duration of the run, {@code null} or zero for no limit
+     */
+    public void setLimits(long maxPages, Duration maxTime) {
+        this.maxPages = Math.max(0, maxPages);
+        this.deadlineNanos = maxTime == null || maxTime.isZero() || maxTime.isNegative() ? 0
+                : System.nanoTime() + maxTime.toNanos();
+    }
+
+    /**
+     * Hands out the next page, or stops the crawl when the page would exceed
+     * its limits. That page stays pending in the journal, so the resumed crawl
+     * starts with it.
+     */
+    DumWCCrawlRequest take() throws InterruptedException {
+        DumWCCrawlRequest request = frontier.take();
+        if (request != null && isOverLimit()) {
+            limitReached = true;
+            stop();
+            return null;
+        }
+        return request;
+    }
+
+    private boolean isOverLimit() {
+        long deadline = deadlineNanos;
+        return (deadline != 0 && System.nanoTime() - deadline >= 0)
+                || (maxPages > 0 && takenPages.incrementAndGet() > maxPages);
+    }
+
+    /**
+     * Marks a page as done, after the links found on it were offered, and
+     * writes a checkpoint every {@code checkpointPages} pages. A page finished
+     * after the crawl was stopped may have lost links, so it is left pending in
+     * the journal and fetched again on resume.
+     */
+    void release(DumWCCrawlRequest request) {
+        frontier.release(request);
+        if (journal != null && !frontier.isClosed()) {
+            journal.done(request);
+            if (donePages.incrementAndGet() % checkpointPages == 0) {
+                journal.checkpoint(frontier, indexed);
+            }
+        }
+    }
+
+    /**
+     * Ends the crawl: a complete crawl drops its saved state, a stopped one
+     * keeps it.
+     */
+    void finish() {
+        if (journal == null) {
+            return;
+        }
+        if (frontier.isClosed()) {
+            journal.close();
+        } else {
+            journal.delete();
+        }
+    }
+}
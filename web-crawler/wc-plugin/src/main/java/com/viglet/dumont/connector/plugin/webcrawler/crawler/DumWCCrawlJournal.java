@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Journal that lets a crawl resume after a restart, kept in a directory of its
+ * own.
+ * <p>
+ * {@code journal.log} gets a line per event: {@code Q} when a page is queued,
+ * {@code D} when it is done, {@code S} when a URL is only marked as seen and
+ * {@code I} when a page is indexed. A checkpoint writes {@code snapshot.bin}
+ * with the transaction id, the fingerprints of the seen and indexed URLs and
+ * the pages not done yet, then empties the log. Restoring reads the snapshot
+ * and replays the log over it.
+ * <p>
+ * The log is flushed when a page is done, after the links found on it were
+ * queued, so a crash loses at most the pages in flight, which are fetched again
+ * on resume. A write error stops the journal, not the crawl.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+final class DumWCCrawlJournal implements Closeable {
+    private static final String LOG = "journal.log";
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final int VERSION = 1;
+    private final Path directory;
+    private String transactionId;
+    private Writer writer;
+    private boolean failed;
+
+    DumWCCrawlJournal(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    /**
+     * Loads the saved crawl into an empty frontier and indexed set.
+     *
+     * @return the transaction id of the saved crawl, or {@code null} if nothing
+     *         was saved
+     */
+    synchronized String restore(DumWCFrontier frontier, DumWCUrlFingerprintSet indexed) throws IOException {
+        Path snapshot = directory.resolve(SNAPSHOT);
+        if (!Files.exists(snapshot)) {
+            return null;
+        }
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshot)))) {
+            if (input.readInt() != VERSION) {
+                throw new IOException("Unknown crawl snapshot version");
+            }
+            transactionId = input.readUTF();
+            readFingerprints(input, frontier.seen()::addFingerprint);
+            readFingerprints(input, indexed::addFingerprint);
+            for (int i = input.readInt(); i > 0; i--) {
+                int depth = input.readInt();
+                pending.put(new String(input.readNBytes(input.readInt()), StandardCharsets.UTF_8), depth);
+            }
+        }
+        replayLog(frontier, indexed, pending);
+        pending.forEach((url, depth) -> frontier.requeue(new DumWCCrawlRequest(url, depth)));
+        openLog();
+        return transactionId;
+    }
+
+    private void replayLog(DumWCFrontier frontier, DumWCUrlFingerprintSet indexed, Map<String, Integer> pending)
+            throws IOException {
+        Path logFile = directory.resolve(LOG);
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.length() < 3 || line.charAt(1) != ' ') {
+                    // A line cut by a crash
+                    break;
+                }
+                String value = line.substring(2);
+                switch (line.charAt(0)) {
+                    case 'Q' -> {
+                        int separator = value.indexOf(' ');
+                        if (separator < 0) {
+                            return;
+                        }
+                        String url = value.substring(separator + 1);
+                        frontier.markSeen(url);
+                        pending.putIfAbsent(url, Integer.parseInt(value.substring(0, separator)));
+                    }
+                    case 'D' -> pending.remove(value);
+                    case 'S' -> frontier.markSeen(value);
+                    case 'I' -> indexed.add(value);
+                    default -> {
+                        return;
+                    }
+                }
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Crawl journal {} ends with a damaged line", logFile);
+        }
+    }
+
+    /**
+     * Starts the journal of a new crawl.
+     */
+    synchronized void start(String transactionId, DumWCFrontier frontier, DumWCUrlFingerprintSet indexed)
+            throws IOException {
+        this.transactionId = transactionId;
+        writeSnapshot(frontier, indexed);
+    }
+
+    synchronized void queued(DumWCCrawlRequest request) {
+        append("Q " + request.depth() + " ", request.url(), false);
+    }
+
+    synchronized void seen(String url) {
+        append("S ", url, false);
+    }
+
+    synchronized void indexed(String url) {
+        append("I ", url, false);
+    }
+
+    synchronized void done(DumWCCrawlRequest request) {
+        append("D ", request.url(), true);
+    }
+
+    /**
+     * Writes a snapshot of the crawl and empties the log.
+     */
+    synchronized void checkpoint(DumWCFrontier frontier, DumWCUrlFingerprintSet indexed) {
+        if (failed) {
+            return;
+        }
+        try {
+            writeSnapshot(frontier, indexed);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Removes the saved crawl, once it is complete.
+     */
+    synchronized void delete() {
+        close();
+        try {
+            Files.deleteIfExists(directory.resolve(LOG));
+            Files.deleteIfExists(directory.resolve(SNAPSHOT));
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Could not remove the crawl state in {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Could not close the crawl journal in {}: {}", directory, e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    private void append(String prefix, String url, boolean flush) {
+        // A URL with a line break would end its line early, so it is not saved
+        if (failed || writer == null || url.indexOf('\n') >= 0 || url.indexOf('\r') >= 0) {
+            return;
+        }
+        try {
+            writer.write(prefix);
+            writer.write(url);
+            writer.write('\n');
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void writeSnapshot(DumWCFrontier frontier, DumWCUrlFingerprintSet indexed) throws IOException {
+        close();
+        Path temporary = directory.resolve(SNAPSHOT + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(VERSION);
+            output.writeUTF(transactionId);
+            writeFingerprints(output, frontier.seen());
+            writeFingerprints(output, indexed);
+            List<DumWCCrawlRequest> pending = frontier.pending();
+            output.writeInt(pending.size());
+            for (DumWCCrawlRequest request : pending) {
+                byte[] url = request.url().getBytes(StandardCharsets.UTF_8);
+                output.writeInt(request.depth());
+                output.writeInt(url.length);
+                output.write(url);
+            }
+        }
+        if (frontier.isClosed()) {
+            // Links refused by the stopped frontier are in the seen set but not pending
+            Files.delete(temporary);
+        } else {
+            Files.move(temporary, directory.resolve(SNAPSHOT), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(directory.resolve(LOG));
+        }
+        openLog();
+    }
+
+    private void openLog() throws IOException {
+        writer = Files.newBufferedWriter(directory.resolve(LOG), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void fail(IOException e) {
+        failed = true;
+        close();
+        log.error("Crawl journal in {} stopped, the crawl cannot be resumed: {}", directory, e.getMessage(), e);
+    }
+
+    /**
+     * Fingerprints are never zero, so a zero ends the list.
+     */
+    private static void writeFingerprints(DataOutputStream output, DumWCUrlFingerprintSet set)
+            throws IOException {
+        IOException[] error = new IOException[1];
+        set.forEachFingerprint(fingerprint -> {
+            if (error[0] == null) {
+                try {
+                    output.writeLong(fingerprint);
+                } catch (IOException e) {
+                    error[0] = e;
+                }
+            }
+        });
+        if (error[0] != null) {
+            throw error[0];
+        }
+        output.writeLong(0);
+    }
+
+    private static void readFingerprints(DataInputStream input, LongConsumer consumer) throws IOException {
+        long fingerprint;
+        while ((fingerprint = input.readLong()) != 0) {
+            consumer.accept(fingerprint);
+        }
+    }
+}
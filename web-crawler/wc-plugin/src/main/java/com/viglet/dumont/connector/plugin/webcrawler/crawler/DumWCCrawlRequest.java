@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.time.Instant;
+
+/**
+ * A page waiting in the crawl frontier.
+ *
+ * @param url          the normalized page URL
+ * @param depth        number of links followed from a starting point
+ * @param lastModified when the sitemap listing the page says it last changed,
+ *                     {@code null} if unknown. It is not journaled, so a
+ *                     resumed crawl fetches the page.
+ * @param listed       whether the source lists the page, as a starting point
+ *                     or in a sitemap, rather than the crawl finding a link to
+ *                     it. Not journaled either.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public record DumWCCrawlRequest(String url, int depth, Instant lastModified, boolean listed) {
+
+    public DumWCCrawlRequest(String url, int depth) {
+        this(url, depth, null, false);
+    }
+}
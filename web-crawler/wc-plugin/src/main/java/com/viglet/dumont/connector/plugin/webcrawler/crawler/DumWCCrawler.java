@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a crawl with a pool of virtual-thread workers.
+ * <p>
+ * Each worker takes a page from the {@link DumWCFrontier}, waits for the
+ * global rate limit, hands the page to the page handler and queues the links
+ * the handler returns. Per-host concurrency and delay are enforced by the
+ * frontier, the requests per second across every crawl by a shared
+ * {@link DumWCRateLimiter}.
+ * <p>
+ * {@code dumont.wc.crawler.host.delay} is off by default, so a host is only
+ * limited by {@code dumont.wc.crawler.host.concurrency} and its robots.txt
+ * {@code Crawl-delay}. Setting it spares hosts that cannot take a steady
+ * stream of requests, at the cost of throughput: a delay of 250 ms caps every
+ * host at 4 requests per second, however many pages it may fetch at once.
+ * <p>
+ * With {@code dumont.wc.crawler.state.enabled}, each crawl is journaled in a
+ * directory named after the source under {@code dumont.wc.crawler.state.dir},
+ * and a crawl that was stopped or interrupted resumes from there the next time
+ * the source is crawled.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Component
+public class DumWCCrawler {
+    private final int workers;
+    private final int hostConcurrency;
+    private final Duration hostDelay;
+    private final int exactLimit;
+    private final boolean stateEnabled;
+    private final Path stateDirectory;
+    private final int checkpointPages;
+    private final DumWCRateLimiter rateLimiter;
+
+    public DumWCCrawler(@Value("${dumont.wc.crawler.workers:8}") int workers,
+            @Value("${dumont.wc.crawler.host.concurrency:2}") int hostConcurrency,
+            @Value("${dumont.wc.crawler.host.delay:0}") long hostDelayMillis,
+            @Value("${dumont.wc.crawler.rate:0}") double rate,
+            @Value("${dumont.wc.crawler.visited.exact:100000}") int exactLimit,
+            @Value("${dumont.wc.crawler.state.enabled:true}") boolean stateEnabled,
+            @Value("${dumont.wc.crawler.state.dir:./store/crawl/wc}") String stateDirectory,
+            @Value("${dumont.wc.crawler.state.checkpoint:1000}") int checkpointPages) {
+        this.workers = Math.max(1, workers);
+        this.hostConcurrency = hostConcurrency;
+        this.hostDelay = Duration.ofMillis(Math.max(0, hostDelayMillis));
+        this.exactLimit = exactLimit;
+        this.stateEnabled = stateEnabled;
+        this.stateDirectory = Path.of(stateDirectory);
+        this.checkpointPages = checkpointPages;
+        this.rateLimiter = new DumWCRateLimiter(rate);
+    }
+
+    /**
+     * Opens the crawl of a source, resuming the saved one if there is one.
+     *
+     * @param crawlId       the source id, naming the state directory
+     * @param transactionId the transaction id of a new crawl
+     */
+    public DumWCCrawl open(String crawlId, String transactionId) {
+        if (!stateEnabled) {
+            return openTransient(transactionId);
+        }
+        DumWCFrontier frontier = new DumWCFrontier(hostConcurrency, hostDelay, exactLimit);
+        DumWCUrlFingerprintSet indexed = new DumWCUrlFingerprintSet(exactLimit);
+        Path directory = stateDirectory.resolve(crawlId.replaceAll("[^A-Za-z0-9._-]", "_"));
+        DumWCCrawlJournal journal = null;
+        try {
+            journal = new DumWCCrawlJournal(directory);
+            String savedTransactionId = journal.restore(frontier, indexed);
+            if (savedTransactionId != null) {
+                log.info("Resuming crawl {} with {} pending pages", crawlId, frontier.size());
+                return new DumWCCrawl(frontier, indexed, journal, checkpointPages, savedTransactionId, true);
+            }
+            journal.start(transactionId, frontier, indexed);
+            return new DumWCCrawl(frontier, indexed, journal, checkpointPages, transactionId, false);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Crawl state in {} is not usable, starting a new crawl: {}", directory, e.getMessage());
+            if (journal != null) {
+                journal.delete();
+            }
+            return open(crawlId, transactionId, directory);
+        }
+    }
+
+    /**
+     * Opens a crawl that is not saved, for pages indexed on demand while the
+     * crawl of the source keeps its own state.
+     *
+     * @param transactionId the transaction id of the crawl
+     */
+    public DumWCCrawl openTransient(String transactionId) {
+        return new DumWCCrawl(new DumWCFrontier(hostConcurrency, hostDelay, exactLimit),
+                new DumWCUrlFingerprintSet(exactLimit), null, checkpointPages, transactionId, false);
+    }
+
+    private DumWCCrawl open(String crawlId, String transactionId, Path directory) {
+        DumWCFrontier frontier = new DumWCFrontier(hostConcurrency, hostDelay, exactLimit);
+        DumWCUrlFingerprintSet indexed = new DumWCUrlFingerprintSet(exactLimit);
+        try {
+            DumWCCrawlJournal journal = new DumWCCrawlJournal(directory);
+            journal.start(transactionId, frontier, indexed);
+            return new DumWCCrawl(frontier, indexed, journal, checkpointPages, transactionId, false);
+        } catch (IOException e) {
+            log.error("Crawl {} cannot be saved in {}, it will not resume: {}", crawlId, directory,
+                    e.getMessage());
+            return new DumWCCrawl(frontier, indexed, null, checkpointPages, transactionId, false);
+        }
+    }
+
+    /**
+     * Crawls until the frontier is exhausted, or the crawl is stopped or reaches
+     * its limits. Interrupting the calling thread stops the crawl before its
+     * workers are interrupted, so the pages cut short are fetched again when
+     * the crawl resumes.
+     *
+     * @param crawl       the crawl, already holding the starting points
+     * @param pageHandler fetches and processes a page, returning the links to
+     *                    queue
+     */
+    public void crawl(DumWCCrawl crawl,
+            Function<DumWCCrawlRequest, Collection<DumWCCrawlRequest>> pageHandler) {
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("wc-crawler-", 0).factory())) {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> work(crawl, pageHandler));
+            }
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                crawl.stop();
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            crawl.finish();
+        }
+    }
+
+    private void work(DumWCCrawl crawl,
+            Function<DumWCCrawlRequest, Collection<DumWCCrawlRequest>> pageHandler) {
+        try {
+            DumWCCrawlRequest request;
+            while ((request = crawl.take()) != null) {
+                try {
+                    rateLimiter.acquire();
+                    pageHandler.apply(request).forEach(crawl::offer);
+                } catch (RuntimeException e) {
+                    log.error("Error crawling {}: {}", request.url(), e.getMessage(), e);
+                } finally {
+                    crawl.release(request);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            crawl.stop();
+        }
+    }
+}
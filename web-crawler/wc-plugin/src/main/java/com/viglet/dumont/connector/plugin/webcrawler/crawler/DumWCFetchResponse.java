@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+
+/**
+ * Response of {@link DumWCFetcher}, holding the connection until it is
+ * closed.
+ * <p>
+ * A page is parsed while it is downloaded, and its checksum is computed on the
+ * way, so the body is never held as a whole. A page longer than the size limit
+ * fails as soon as its declared length or the bytes read exceed it.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCFetchResponse implements Closeable {
+    private static final Pattern XML_CONTENT_TYPE = Pattern.compile("(\\w+)/\\w*\\+?xml.*");
+
+    private final String url;
+    private final ClassicHttpResponse response;
+    private final long maxSize;
+    private String checksum;
+
+    DumWCFetchResponse(String url, ClassicHttpResponse response, long maxSize) {
+        this.url = url;
+        this.response = response;
+        this.maxSize = maxSize;
+    }
+
+    public int getStatusCode() {
+        return response.getCode();
+    }
+
+    /**
+     * @return the URL the response came from, after redirects
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    public String getHeader(String name) {
+        return Optional.ofNullable(response.getFirstHeader(name)).map(Header::getValue).orElse(null);
+    }
+
+    public String getContentType() {
+        return Optional.ofNullable(response.getEntity()).map(HttpEntity::getContentType).orElse(null);
+    }
+
+    /**
+     * Tells whether the body can be parsed as a page: its content type is text
+     * or XML, or it has none.
+     */
+    public boolean isMarkup() {
+        String contentType = getContentType();
+        return contentType == null || contentType.startsWith("text/")
+                || XML_CONTENT_TYPE.matcher(contentType).matches();
+    }
+
+    /**
+     * @return the body, without the size limit; closing it closes the response
+     */
+    public InputStream getBody() throws IOException {
+        return new FilterInputStream(getContent()) {
+            @Override
+            public void close() throws IOException {
+                DumWCFetchResponse.this.close();
+            }
+        };
+    }
+
+    /**
+     * Reads the body as text, in the charset of its content type or UTF-8.
+     */
+    public String getText() throws IOException {
+        return new String(limit(getContent()).readAllBytes(), getCharset().orElse(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses the body while it is downloaded, as XML when the content type is
+     * XML and as HTML otherwise.
+     *
+     * @see #getChecksum()
+     */
+    public Document parse() throws IOException {
+        CheckedInputStream body = new CheckedInputStream(limit(getContent()), new CRC32());
+        String contentType = getContentType();
+        Parser parser = contentType != null && XML_CONTENT_TYPE.matcher(contentType).matches()
+                ? Parser.xmlParser()
+                : Parser.htmlParser();
+        Document document = Jsoup.parse(body, getCharset().map(Charset::name).orElse(null), url, parser);
+        // The parser may stop before the end, so the rest is read for the checksum
+        body.transferTo(OutputStream.nullOutputStream());
+        checksum = String.valueOf(body.getChecksum().getValue());
+        return document;
+    }
+
+    /**
+     * @return the CRC32 checksum of the body read by {@link #parse()}
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    private InputStream getContent() throws IOException {
+        HttpEntity entity = response.getEntity();
+        return entity == null ? InputStream.nullInputStream() : entity.getContent();
+    }
+
+    private Optional<Charset> getCharset() {
+        try {
+            return Optional.ofNullable(getContentType()).map(ContentType::parseLenient)
+                    .map(ContentType::getCharset);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fails a body longer than the size limit. Closing it leaves the response
+     * open, so the rest of the body is not downloaded to reuse the connection.
+     */
+    private InputStream limit(InputStream content) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity != null && entity.getContentLength() > maxSize) {
+            throw new IOException("%s is %d bytes, more than the limit of %d".formatted(url,
+                    entity.getContentLength(), maxSize));
+        }
+        return new FilterInputStream(content) {
+            private long read;
+
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    count(1);
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = super.read(buffer, offset, length);
+                if (count > 0) {
+                    count(count);
+                }
+                return count;
+            }
+
+            private void count(long bytes) throws IOException {
+                read += bytes;
+                if (read > maxSize) {
+                    throw new IOException("%s is more than the limit of %d bytes".formatted(url, maxSize));
+                }
+            }
+
+            @Override
+            public void close() {
+                // Closed with the response
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        response.close();
+    }
+}
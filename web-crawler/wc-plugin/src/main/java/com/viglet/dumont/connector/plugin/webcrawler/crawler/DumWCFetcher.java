@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.protocol.RedirectLocations;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches the pages, robots.txt and sitemaps of the web crawler with one
+ * pooled HTTP client, so the connections to a host are reused across pages.
+ * <p>
+ * A response is returned as soon as its headers arrive; its body is read only
+ * if the caller wants it, and pages are limited to
+ * {@code dumont.wc.crawler.fetch.max-size} megabytes. Redirects are followed
+ * and compressed bodies are decoded.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+@Component
+public class DumWCFetcher {
+    private static final long MEGABYTE = 1024L * 1024L;
+    private static final String UNSAFE_CHARACTERS = "\"<>\\^`{|}";
+
+    private final CloseableHttpClient httpClient;
+    private final long maxSize;
+
+    public DumWCFetcher(@Value("${dumont.wc.timeout:5000}") int timeout,
+            @Value("${dumont.wc.crawler.fetch.max-size:10}") long maxSizeMegabytes,
+            @Value("${dumont.wc.crawler.fetch.connections:64}") int connections) {
+        this.maxSize = Math.max(1, maxSizeMegabytes) * MEGABYTE;
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(Math.max(1, connections));
+        connectionManager.setDefaultMaxPerRoute(Math.max(1, connections));
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(timeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(timeout))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                .build());
+        this.httpClient = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(timeout))
+                        .build())
+                .disableCookieManagement()
+                .evictIdleConnections(TimeValue.ofMinutes(1))
+                .build();
+    }
+
+    /**
+     * Sends a GET request and returns once the response headers are read. The
+     * response must be closed; a body that is not read to its end closes the
+     * connection instead of downloading the rest of it.
+     *
+     * @param url     the URL, escaped if it holds characters a URI does not
+     *                allow
+     * @param headers the request headers
+     */
+    public DumWCFetchResponse fetch(String url, Map<String, String> headers) throws IOException {
+        HttpGet request = new HttpGet(toUri(url));
+        headers.forEach(request::setHeader);
+        HttpClientContext context = HttpClientContext.create();
+        ClassicHttpResponse response = httpClient.executeOpen(null, request, context);
+        log.debug("HTTP {} - {}", response.getCode(), url);
+        return new DumWCFetchResponse(getFinalUrl(url, context), response, maxSize);
+    }
+
+    private static String getFinalUrl(String url, HttpClientContext context) {
+        RedirectLocations redirects = context.getRedirectLocations();
+        if (redirects == null || redirects.size() == 0) {
+            return url;
+        }
+        List<URI> locations = redirects.getAll();
+        return locations.getLast().toString();
+    }
+
+    static URI toUri(String url) throws IOException {
+        StringBuilder escaped = new StringBuilder(url.length());
+        for (byte value : url.getBytes(StandardCharsets.UTF_8)) {
+            int character = value & 0xff;
+            if (character > ' ' && character < 0x7f && UNSAFE_CHARACTERS.indexOf(character) < 0) {
+                escaped.append((char) character);
+            } else {
+                escaped.append('%').append(String.format("%02X", character));
+            }
+        }
+        try {
+            return URI.create(escaped.toString());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid URL: " + url, e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Error closing the web crawler HTTP client: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe crawl frontier with one priority queue per host.
+ * <p>
+ * {@link #take()} hands out the next page of a host that is below its
+ * concurrency limit and whose delay since its previous request has elapsed,
+ * visiting hosts in round-robin order, and waits while every host is busy. The
+ * caller reports the end of each page with {@link #release}, after offering
+ * the links found on it, so the crawl is over when nothing is queued and no
+ * page is in flight. Within a host, the pages listed by the source are handed
+ * out first, then shallower pages, then the pages that changed most recently
+ * according to their sitemap, and the rest in arrival order.
+ * <p>
+ * Every URL is queued at most once per crawl: the frontier remembers the URLs
+ * it has accepted in a {@link DumWCUrlFingerprintSet}, so checking a
+ * discovered link costs a hash lookup whatever the size of the site.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCFrontier {
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparing((Entry entry) -> !entry.request().listed())
+            .thenComparingInt(entry -> entry.request().depth())
+            .thenComparing(entry -> entry.request().lastModified(),
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparingLong(Entry::sequence);
+    private final int maxPerHost;
+    private final long hostDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<String, HostQueue> hosts = new LinkedHashMap<>();
+    private final Set<DumWCCrawlRequest> inFlight = new LinkedHashSet<>();
+    private final DumWCUrlFingerprintSet seen;
+    private long sequence;
+    private int queued;
+    private volatile boolean closed;
+
+    private record Entry(DumWCCrawlRequest request, long sequence) {
+    }
+
+    private static final class HostQueue {
+        private final PriorityQueue<Entry> requests = new PriorityQueue<>(ORDER);
+        private long delayNanos;
+        private long nextFetchNanos = System.nanoTime();
+        private int inFlight;
+
+        private HostQueue(long delayNanos) {
+            this.delayNanos = delayNanos;
+        }
+    }
+
+    /**
+     * @param maxPerHost pages of the same host fetched at the same time
+     * @param hostDelay  minimum time between two requests to the same host,
+     *                   {@link Duration#ZERO} for none
+     * @param exactLimit URLs remembered as strings before only their
+     *                   fingerprints are kept
+     */
+    public DumWCFrontier(int maxPerHost, Duration hostDelay, int exactLimit) {
+        this.maxPerHost = Math.max(1, maxPerHost);
+        this.hostDelayNanos = Math.max(0, hostDelay.toNanos());
+        this.seen = new DumWCUrlFingerprintSet(exactLimit);
+    }
+
+    /**
+     * Queues a page unless its URL was queued before.
+     *
+     * @return {@code false} if the URL was already queued or the frontier is
+     *         closed
+     */
+    public boolean offer(DumWCCrawlRequest request) {
+        if (closed || !seen.add(request.url())) {
+            return false;
+        }
+        return enqueue(request);
+    }
+
+    /**
+     * Queues a page restored from a crawl journal, whose URL is already in the
+     * seen set.
+     */
+    boolean requeue(DumWCCrawlRequest request) {
+        seen.add(request.url());
+        return enqueue(request);
+    }
+
+    private boolean enqueue(DumWCCrawlRequest request) {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            hostQueue(hostOf(request.url())).requests.add(new Entry(request, sequence++));
+            queued++;
+            changed.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the next page that can be fetched.
+     *
+     * @return the page, or {@code null} when the crawl is over or the frontier
+     *         was closed
+     */
+    public DumWCCrawlRequest take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                if (closed || (queued == 0 && inFlight.isEmpty())) {
+                    changed.signalAll();
+                    return null;
+                }
+                long now = System.nanoTime();
+                long waitNanos = Long.MAX_VALUE;
+                for (Map.Entry<String, HostQueue> hostEntry : hosts.entrySet()) {
+                    HostQueue hostQueue = hostEntry.getValue();
+                    if (hostQueue.requests.isEmpty() || hostQueue.inFlight >= maxPerHost) {
+                        continue;
+                    }
+                    long untilNextFetch = hostQueue.nextFetchNanos - now;
+                    if (untilNextFetch <= 0) {
+                        return poll(hostEntry.getKey(), hostQueue, now);
+                    }
+                    waitNanos = Math.min(waitNanos, untilNextFetch);
+                }
+                if (waitNanos == Long.MAX_VALUE) {
+                    changed.await();
+                } else {
+                    changed.awaitNanos(waitNanos);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks a page returned by {@link #take()} as done.
+     */
+    public void release(DumWCCrawlRequest request) {
+        lock.lock();
+        try {
+            if (inFlight.remove(request)) {
+                HostQueue hostQueue = hosts.get(hostOf(request.url()));
+                if (hostQueue != null && hostQueue.inFlight > 0) {
+                    hostQueue.inFlight--;
+                }
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the delay between two requests to a host, such as the
+     * {@code Crawl-delay} of its robots.txt. A delay shorter than the default
+     * one is ignored.
+     */
+    public void setHostDelay(String host, Duration delay) {
+        lock.lock();
+        try {
+            hostQueue(host.toLowerCase(Locale.ROOT)).delayNanos = Math.max(hostDelayNanos, delay.toNanos());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the crawl: waiting and later calls to {@link #take()} return
+     * {@code null}.
+     */
+    public void close() {
+        closed = true;
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells whether the URL was queued during this crawl, even if it has
+     * already been fetched.
+     */
+    public boolean contains(String url) {
+        return seen.contains(url);
+    }
+
+    /**
+     * Records a URL as queued without queuing it, so later offers of it are
+     * ignored. Used for another spelling of a URL that is already queued.
+     */
+    public void markSeen(String url) {
+        seen.add(url);
+    }
+
+    /**
+     * @return {@code true} once {@link #close()} was called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Copies the pages not done yet, the ones in flight first, then the queued
+     * ones host by host.
+     */
+    List<DumWCCrawlRequest> pending() {
+        lock.lock();
+        try {
+            List<DumWCCrawlRequest> pending = new ArrayList<>(inFlight);
+            hosts.values().forEach(hostQueue -> hostQueue.requests.stream()
+                    .sorted(ORDER).map(Entry::request).forEach(pending::add));
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    DumWCUrlFingerprintSet seen() {
+        return seen;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DumWCCrawlRequest poll(String host, HostQueue hostQueue, long now) {
+        Entry entry = hostQueue.requests.poll();
+        hostQueue.inFlight++;
+        hostQueue.nextFetchNanos = now + hostQueue.delayNanos;
+        queued--;
+        inFlight.add(entry.request());
+        // Move the host to the end, so the other hosts are served first
+        hosts.remove(host);
+        hosts.put(host, hostQueue);
+        return entry.request();
+    }
+
+    private HostQueue hostQueue(String host) {
+        return hosts.computeIfAbsent(host, key -> new HostQueue(hostDelayNanos));
+    }
+
+    static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : "";
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces requests evenly so a crawl never exceeds a global number of requests
+ * per second, whatever the number of workers.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCRateLimiter {
+    private final long intervalNanos;
+    private long nextPermitNanos;
+
+    /**
+     * @param permitsPerSecond maximum requests per second, {@code 0} or less for
+     *                         no limit
+     */
+    public DumWCRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.nextPermitNanos = System.nanoTime();
+    }
+
+    /**
+     * Waits for the next free slot.
+     */
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitNanos = nextPermitNanos - now > 0 ? nextPermitNanos : now;
+            nextPermitNanos = permitNanos + intervalNanos;
+            waitNanos = permitNanos - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Rules of a robots.txt file for one crawler, as described in RFC 9309.
+ * <p>
+ * The groups naming the crawler's product token apply, or the {@code *} group
+ * when none does. A path is checked against the {@code Allow} and
+ * {@code Disallow} rules of those groups: the longest matching rule wins and
+ * {@code Allow} wins a tie. Rules may use {@code *} for any characters and end
+ * with {@code $} to match the end of the path. {@code Crawl-delay} is read from
+ * the same groups and {@code Sitemap} lines from the whole file.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCRobotsTxt {
+    public static final String ROBOTS_TXT = "/robots.txt";
+    /**
+     * Longest {@code Crawl-delay} honored, so a single file cannot stall a crawl.
+     */
+    public static final Duration MAX_CRAWL_DELAY = Duration.ofSeconds(60);
+    public static final DumWCRobotsTxt ALLOW_ALL = new DumWCRobotsTxt(List.of(), null, List.of());
+    private static final String USER_AGENT = "user-agent";
+    private static final String WILD_CARD = "*";
+
+    private final List<Rule> rules;
+    private final Duration crawlDelay;
+    private final List<String> sitemaps;
+
+    private record Rule(String pattern, boolean allow, String[] parts, boolean endAnchored) {
+
+        private Rule(String pattern, boolean allow) {
+            this(pattern, allow,
+                    (pattern.endsWith("$") ? pattern.substring(0, pattern.length() - 1) : pattern).split("\\*", -1),
+                    pattern.endsWith("$"));
+        }
+
+        private boolean matches(String path) {
+            if (!path.startsWith(parts[0])) {
+                return false;
+            }
+            int position = parts[0].length();
+            if (parts.length == 1) {
+                return !endAnchored || position == path.length();
+            }
+            for (int i = 1; i < parts.length - 1; i++) {
+                int index = path.indexOf(parts[i], position);
+                if (index < 0) {
+                    return false;
+                }
+                position = index + parts[i].length();
+            }
+            String last = parts[parts.length - 1];
+            return endAnchored ? path.length() - last.length() >= position && path.endsWith(last)
+                    : path.indexOf(last, position) >= 0;
+        }
+    }
+
+    /**
+     * Rules and delay collected from one or more groups of the file.
+     */
+    private static final class Group {
+        private final List<Rule> rules = new ArrayList<>();
+        private Duration crawlDelay;
+        private boolean found;
+    }
+
+    private DumWCRobotsTxt(List<Rule> rules, Duration crawlDelay, List<String> sitemaps) {
+        this.rules = rules;
+        this.crawlDelay = crawlDelay;
+        this.sitemaps = sitemaps;
+    }
+
+    /**
+     * Parses a robots.txt file. Unknown and malformed lines are skipped.
+     *
+     * @param content the file content
+     * @param agent   the product token of the crawler, such as {@code dumont}
+     */
+    public static DumWCRobotsTxt parse(String content, String agent) {
+        Group agentGroup = new Group();
+        Group defaultGroup = new Group();
+        List<String> sitemaps = new ArrayList<>();
+        List<Group> current = new ArrayList<>();
+        boolean readingAgents = false;
+        for (String line : content.lines().toList()) {
+            int comment = line.indexOf('#');
+            String text = (comment >= 0 ? line.substring(0, comment) : line).strip();
+            int colon = text.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String key = text.substring(0, colon).strip().toLowerCase(Locale.ROOT);
+            String value = text.substring(colon + 1).strip();
+            if (key.equals(USER_AGENT)) {
+                if (!readingAgents) {
+                    current.clear();
+                    readingAgents = true;
+                }
+                Group group = getGroup(value, agent, agentGroup, defaultGroup);
+                if (group != null && !current.contains(group)) {
+                    group.found = true;
+                    current.add(group);
+                }
+                continue;
+            }
+            readingAgents = false;
+            switch (key) {
+                case "allow", "disallow" -> {
+                    if (!value.isEmpty()) {
+                        current.forEach(group -> group.rules.add(new Rule(value, key.equals("allow"))));
+                    }
+                }
+                case "crawl-delay" -> getCrawlDelay(value)
+                        .ifPresent(delay -> current.forEach(group -> group.crawlDelay = delay));
+                case "sitemap" -> {
+                    if (!value.isEmpty()) {
+                        sitemaps.add(value);
+                    }
+                }
+                default -> {
+                    // Not a rule this crawler follows
+                }
+            }
+        }
+        Group group = agentGroup.found ? agentGroup : defaultGroup;
+        return new DumWCRobotsTxt(List.copyOf(group.rules), group.crawlDelay, List.copyOf(sitemaps));
+    }
+
+    private static Group getGroup(String value, String agent, Group agentGroup, Group defaultGroup) {
+        if (value.equals(WILD_CARD)) {
+            return defaultGroup;
+        }
+        return value.equalsIgnoreCase(agent) ? agentGroup : null;
+    }
+
+    private static Optional<Duration> getCrawlDelay(String value) {
+        try {
+            double seconds = Double.parseDouble(value);
+            if (seconds < 0 || Double.isNaN(seconds)) {
+                return Optional.empty();
+            }
+            return Optional.of(Duration.ofMillis((long) (Math.min(seconds, MAX_CRAWL_DELAY.toSeconds()) * 1000)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks the path and query of a URL against the rules.
+     */
+    public boolean isAllowed(String url) {
+        String path = getPath(url);
+        if (path.equals(ROBOTS_TXT)) {
+            return true;
+        }
+        Rule match = null;
+        for (Rule rule : rules) {
+            if (rule.matches(path) && (match == null || rule.pattern().length() > match.pattern().length()
+                    || (rule.pattern().length() == match.pattern().length() && rule.allow()))) {
+                match = rule;
+            }
+        }
+        return match == null || match.allow();
+    }
+
+    /**
+     * Returns the {@code Crawl-delay} of the crawler's group, {@code null} if it
+     * has none.
+     */
+    public Duration getCrawlDelay() {
+        return crawlDelay;
+    }
+
+    public List<String> getSitemaps() {
+        return sitemaps;
+    }
+
+    private static String getPath(String url) {
+        try {
+            URI uri = URI.create(url);
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+            return uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
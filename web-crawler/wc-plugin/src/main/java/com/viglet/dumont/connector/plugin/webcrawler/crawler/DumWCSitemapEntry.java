@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.time.Instant;
+
+/**
+ * A page listed in a sitemap.
+ *
+ * @param url          the page URL, as written in {@code <loc>}
+ * @param lastModified the {@code <lastmod>} of the page, {@code null} if the
+ *                     sitemap has none or it cannot be read
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public record DumWCSitemapEntry(String url, Instant lastModified) {
+}
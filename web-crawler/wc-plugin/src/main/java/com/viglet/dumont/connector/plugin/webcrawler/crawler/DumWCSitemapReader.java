@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streaming reader of sitemaps and sitemap indexes.
+ * <p>
+ * Each file is read with StAX, so a sitemap of 50,000 URLs is never held in
+ * memory: every {@code <url>} is handed to the consumer as soon as it is read.
+ * Files compressed with gzip are recognized by their first bytes, whatever
+ * their name or content type. The sitemaps listed by an index are read after
+ * the current file, each at most once and up to {@link #MAX_DEPTH} levels of
+ * indexes. A sitemap that cannot be fetched or parsed is logged and skipped.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+public class DumWCSitemapReader {
+    public static final int MAX_DEPTH = 3;
+    private static final String URL = "url";
+    private static final String SITEMAP = "sitemap";
+    private static final String LOC = "loc";
+    private static final String LASTMOD = "lastmod";
+    private static final XMLInputFactory XML_INPUT_FACTORY = getXMLInputFactory();
+
+    private final Fetcher fetcher;
+
+    /**
+     * Opens the content of a sitemap URL.
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        InputStream open(String url) throws IOException;
+    }
+
+    private record Sitemap(String url, int depth) {
+    }
+
+    public DumWCSitemapReader(Fetcher fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Reads the sitemaps and the ones their indexes list.
+     *
+     * @param sitemaps the sitemap or sitemap index URLs
+     * @param consumer receives each page
+     * @return the number of pages read
+     */
+    public long read(Collection<String> sitemaps, Consumer<DumWCSitemapEntry> consumer) {
+        Set<String> visited = new HashSet<>();
+        Deque<Sitemap> pending = new ArrayDeque<>();
+        sitemaps.stream().filter(visited::add).forEach(url -> pending.add(new Sitemap(url, 0)));
+        long count = 0;
+        while (!pending.isEmpty()) {
+            Sitemap sitemap = pending.poll();
+            List<String> nested = new ArrayList<>();
+            try (InputStream inputStream = decompress(fetcher.open(sitemap.url()))) {
+                count += read(inputStream, consumer, nested::add);
+            } catch (IOException | XMLStreamException e) {
+                log.warn("Sitemap {} could not be read: {}", sitemap.url(), e.getMessage());
+            }
+            if (sitemap.depth() < MAX_DEPTH) {
+                nested.stream().filter(visited::add)
+                        .forEach(url -> pending.add(new Sitemap(url, sitemap.depth() + 1)));
+            } else if (!nested.isEmpty()) {
+                log.warn("Sitemap index {} is nested too deep, {} sitemaps skipped", sitemap.url(), nested.size());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads one sitemap or sitemap index.
+     *
+     * @return the number of pages read
+     */
+    static long read(InputStream inputStream, Consumer<DumWCSitemapEntry> consumer,
+            Consumer<String> sitemapConsumer) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        long count = 0;
+        try {
+            // Extensions such as image sitemaps have a <loc> of their own, in another namespace
+            String namespace = null;
+            String loc = null;
+            String lastmod = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (name.equals(URL) || name.equals(SITEMAP)) {
+                        namespace = reader.getNamespaceURI();
+                        loc = null;
+                        lastmod = null;
+                    } else if (name.equals(LOC) && Objects.equals(namespace, reader.getNamespaceURI())) {
+                        loc = reader.getElementText().strip();
+                    } else if (name.equals(LASTMOD) && Objects.equals(namespace, reader.getNamespaceURI())) {
+                        lastmod = reader.getElementText().strip();
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && !StringUtils.isEmpty(loc)
+                        && Objects.equals(namespace, reader.getNamespaceURI())) {
+                    if (reader.getLocalName().equals(URL)) {
+                        consumer.accept(new DumWCSitemapEntry(loc, getLastModified(lastmod)));
+                        count++;
+                        loc = null;
+                    } else if (reader.getLocalName().equals(SITEMAP)) {
+                        sitemapConsumer.accept(loc);
+                        loc = null;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return count;
+    }
+
+    /**
+     * Reads a W3C datetime. A date without time is read as the end of that
+     * day, so a page changed later on the day it was crawled is not taken as
+     * unchanged.
+     *
+     * @return the instant, {@code null} if the value is empty or malformed
+     */
+    public static Instant getLastModified(String lastmod) {
+        if (lastmod == null || lastmod.isEmpty()) {
+            return null;
+        }
+        try {
+            if (lastmod.indexOf('T') < 0) {
+                return LocalDate.parse(lastmod).plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+            }
+            try {
+                return OffsetDateTime.parse(lastmod).toInstant();
+            } catch (DateTimeParseException e) {
+                return LocalDateTime.parse(lastmod).toInstant(ZoneOffset.UTC);
+            }
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static InputStream decompress(InputStream inputStream) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(inputStream);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        return first == 0x1f && second == 0x8b ? new GZIPInputStream(buffered) : buffered;
+    }
+
+    private static XMLInputFactory getXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
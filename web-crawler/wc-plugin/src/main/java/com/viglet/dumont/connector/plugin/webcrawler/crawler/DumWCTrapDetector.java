@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Spots the links of crawler traps, the endless URLs generated by calendars,
+ * faceted navigation or relative links resolved against the wrong page:
+ * <ul>
+ * <li>a path repeating its segments, such as {@code /a/b/a/b/a/b}, where a
+ * segment appears more than {@code maxSegmentRepeats} times;</li>
+ * <li>a path queried with ever new parameters, past its first
+ * {@code maxQueryVariants} queries.</li>
+ * </ul>
+ * The queries are counted per crawl, so each crawl uses its own detector.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Slf4j
+public class DumWCTrapDetector {
+    private static final String SCHEME_SEPARATOR = "://";
+    private final int maxSegmentRepeats;
+    private final int maxQueryVariants;
+    private final Map<Long, AtomicInteger> queryVariants = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSegmentRepeats times a segment may appear in a path, {@code 0}
+     *                          to allow any
+     * @param maxQueryVariants  queries accepted per path, {@code 0} to allow any
+     */
+    public DumWCTrapDetector(int maxSegmentRepeats, int maxQueryVariants) {
+        this.maxSegmentRepeats = Math.max(0, maxSegmentRepeats);
+        this.maxQueryVariants = Math.max(0, maxQueryVariants);
+    }
+
+    /**
+     * Tells whether a link leads into a trap. A link with a query is counted as
+     * a variant of its path, so each link is checked once.
+     *
+     * @param url the normalized URL
+     */
+    public boolean isTrap(String url) {
+        int queryStart = url.indexOf('?');
+        String base = queryStart < 0 ? url : url.substring(0, queryStart);
+        return hasRepeatedSegment(base) || (queryStart >= 0 && isQueryVariantOverLimit(base));
+    }
+
+    private boolean hasRepeatedSegment(String base) {
+        if (maxSegmentRepeats == 0) {
+            return false;
+        }
+        int schemeEnd = base.indexOf(SCHEME_SEPARATOR);
+        int pathStart = base.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + SCHEME_SEPARATOR.length());
+        if (pathStart < 0) {
+            return false;
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        for (String segment : base.substring(pathStart + 1).split("/")) {
+            if (!segment.isEmpty() && counts.merge(segment, 1, Integer::sum) > maxSegmentRepeats) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isQueryVariantOverLimit(String base) {
+        if (maxQueryVariants == 0) {
+            return false;
+        }
+        int variants = queryVariants.computeIfAbsent(DumWCUrlFingerprintSet.fingerprint(base),
+                fingerprint -> new AtomicInteger()).incrementAndGet();
+        if (variants == maxQueryVariants + 1) {
+            log.info("More than {} queries of {}, the others are skipped", maxQueryVariants, base);
+        }
+        return variants > maxQueryVariants;
+    }
+}
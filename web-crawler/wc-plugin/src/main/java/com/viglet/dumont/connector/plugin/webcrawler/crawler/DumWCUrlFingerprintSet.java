@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * Thread-safe set of URLs with a bounded memory footprint.
+ * <p>
+ * Each URL is reduced to a 64-bit fingerprint kept in primitive open-addressing
+ * tables, about 16 bytes per URL instead of the URL string plus a hash map
+ * entry. Until the set holds {@code exactLimit} URLs the strings are kept as
+ * well and membership is checked on them, so small crawls never lose a page to
+ * a fingerprint collision; past the limit the strings are dropped and two URLs
+ * with the same fingerprint, roughly one chance in 10<sup>6</sup> at ten million
+ * URLs, are taken as the same page.
+ * <p>
+ * The tables are split in stripes by the top bits of the fingerprint so
+ * concurrent workers seldom wait on each other.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCUrlFingerprintSet {
+    private static final int STRIPE_BITS = 6;
+    private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+    private final int exactLimit;
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile boolean exact;
+
+    private static final class Stripe {
+        private final LongSet fingerprints = new LongSet();
+        private Set<String> urls = new HashSet<>();
+    }
+
+    /**
+     * @param exactLimit number of URLs compared as strings before the set keeps
+     *                   only fingerprints, {@code 0} to use fingerprints only
+     */
+    public DumWCUrlFingerprintSet(int exactLimit) {
+        this.exactLimit = Math.max(0, exactLimit);
+        this.exact = this.exactLimit > 0;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+            if (!exact) {
+                stripes[i].urls = null;
+            }
+        }
+    }
+
+    /**
+     * Adds the URL.
+     *
+     * @return {@code true} if the URL was not in the set
+     */
+    public boolean add(String url) {
+        long fingerprint = fingerprint(url);
+        Stripe stripe = stripe(fingerprint);
+        boolean added;
+        synchronized (stripe) {
+            if (stripe.urls != null) {
+                added = stripe.urls.add(url);
+                if (added) {
+                    stripe.fingerprints.add(fingerprint);
+                }
+            } else {
+                added = stripe.fingerprints.add(fingerprint);
+            }
+        }
+        if (added && size.incrementAndGet() > exactLimit && exact) {
+            dropUrls();
+        }
+        return added;
+    }
+
+    /**
+     * Adds a fingerprint read back from a crawl snapshot. The URL behind it is
+     * unknown, so the set keeps only fingerprints from then on.
+     *
+     * @return {@code true} if the fingerprint was not in the set
+     */
+    public boolean addFingerprint(long fingerprint) {
+        if (exact) {
+            dropUrls();
+        }
+        Stripe stripe = stripe(fingerprint);
+        boolean added;
+        synchronized (stripe) {
+            added = stripe.fingerprints.add(fingerprint);
+        }
+        if (added) {
+            size.incrementAndGet();
+        }
+        return added;
+    }
+
+    /**
+     * Passes every fingerprint of the set to the consumer, one stripe at a
+     * time.
+     */
+    public void forEachFingerprint(LongConsumer consumer) {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.fingerprints.forEach(consumer);
+            }
+        }
+    }
+
+    public boolean contains(String url) {
+        long fingerprint = fingerprint(url);
+        Stripe stripe = stripe(fingerprint);
+        synchronized (stripe) {
+            return stripe.urls != null ? stripe.urls.contains(url) : stripe.fingerprints.contains(fingerprint);
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * @return {@code true} while URLs are still compared as strings
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    private void dropUrls() {
+        exact = false;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.urls = null;
+            }
+        }
+    }
+
+    private Stripe stripe(long fingerprint) {
+        return stripes[(int) (fingerprint >>> (Long.SIZE - STRIPE_BITS))];
+    }
+
+    /**
+     * 64-bit FNV-1a of the URL characters, finished with the MurmurHash3 mixer
+     * so every bit depends on the whole URL.
+     */
+    public static long fingerprint(String url) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < url.length(); i++) {
+            hash ^= url.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Open-addressing hash set of longs with linear probing. Zero marks a free
+     * slot, so a zero fingerprint is stored as one.
+     */
+    private static final class LongSet {
+        private long[] slots = new long[64];
+        private int count;
+
+        private boolean add(long value) {
+            long key = value == 0 ? 1 : value;
+            if ((count + 1) * 4L > slots.length * 3L) {
+                resize();
+            }
+            int mask = slots.length - 1;
+            int index = (int) key & mask;
+            while (slots[index] != 0) {
+                if (slots[index] == key) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            slots[index] = key;
+            count++;
+            return true;
+        }
+
+        private boolean contains(long value) {
+            long key = value == 0 ? 1 : value;
+            int mask = slots.length - 1;
+            int index = (int) key & mask;
+            while (slots[index] != 0) {
+                if (slots[index] == key) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private void forEach(LongConsumer consumer) {
+            for (long key : slots) {
+                if (key != 0) {
+                    consumer.accept(key);
+                }
+            }
+        }
+
+        private void resize() {
+            long[] previous = slots;
+            slots = new long[previous.length * 2];
+            int mask = slots.length - 1;
+            for (long key : previous) {
+                if (key != 0) {
+                    int index = (int) key & mask;
+                    while (slots[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    slots[index] = key;
+                }
+            }
+        }
+    }
+}
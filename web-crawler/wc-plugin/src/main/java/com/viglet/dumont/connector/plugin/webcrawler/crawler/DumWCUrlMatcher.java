@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Allow and deny URL rules of a web source, compiled once per crawl.
+ * <p>
+ * Rules are paths relative to the website URL. A rule ending with a single
+ * {@code *} matches every path starting with the rest of it, and is kept in a
+ * prefix trie, so all of them are checked in one walk of the path; a rule with
+ * a {@code *} elsewhere is compiled to a regular expression in which each
+ * {@code *} matches any characters; any other rule matches one path exactly. A
+ * URL is accepted when it belongs to the website, matches an allow rule, no
+ * deny rule, and does not end with a denied extension.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCUrlMatcher {
+    private static final char WILD_CARD = '*';
+
+    private final String website;
+    private final Rules allow;
+    private final Rules deny;
+    private final String[] denyExtensions;
+
+    private static final class Rules {
+        private final PrefixTrie prefixes = new PrefixTrie();
+        private final Set<String> exact = new HashSet<>();
+        private final List<Pattern> patterns = new ArrayList<>();
+
+        private Rules(Collection<String> rules) {
+            for (String rule : rules) {
+                String value = rule.strip();
+                int wildCard = value.indexOf(WILD_CARD);
+                if (wildCard < 0) {
+                    exact.add(value);
+                } else if (wildCard == value.length() - 1) {
+                    prefixes.add(value.substring(0, wildCard));
+                } else {
+                    patterns.add(toPattern(value));
+                }
+            }
+        }
+
+        private boolean matches(String path) {
+            if (exact.contains(path) || prefixes.matches(path)) {
+                return true;
+            }
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(path).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static Pattern toPattern(String rule) {
+            StringBuilder regex = new StringBuilder();
+            int start = 0;
+            for (int wildCard = rule.indexOf(WILD_CARD); wildCard >= 0; wildCard = rule.indexOf(WILD_CARD,
+                    start)) {
+                if (wildCard > start) {
+                    regex.append(Pattern.quote(rule.substring(start, wildCard)));
+                }
+                regex.append(".*");
+                start = wildCard + 1;
+            }
+            if (start < rule.length()) {
+                regex.append(Pattern.quote(rule.substring(start)));
+            }
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        }
+    }
+
+    /**
+     * Character trie of path prefixes.
+     */
+    private static final class PrefixTrie {
+        private final Node root = new Node();
+
+        private static final class Node {
+            private char[] keys = new char[0];
+            private Node[] children = new Node[0];
+            private boolean terminal;
+
+            private Node child(char key) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i] == key) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+
+            private Node addChild(char key) {
+                Node child = child(key);
+                if (child == null) {
+                    child = new Node();
+                    keys = Arrays.copyOf(keys, keys.length + 1);
+                    children = Arrays.copyOf(children, children.length + 1);
+                    keys[keys.length - 1] = key;
+                    children[children.length - 1] = child;
+                }
+                return child;
+            }
+        }
+
+        private void add(String prefix) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.addChild(prefix.charAt(i));
+            }
+            node.terminal = true;
+        }
+
+        /**
+         * @return {@code true} if a prefix of the trie starts the path
+         */
+        private boolean matches(String path) {
+            Node node = root;
+            for (int i = 0; !node.terminal; i++) {
+                if (i == path.length() || (node = node.child(path.charAt(i))) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @param website        the website URL the rules are relative to
+     * @param allowUrls      rules of the URLs to crawl
+     * @param denyUrls       rules of the URLs not to crawl
+     * @param denyExtensions endings of the URLs not to crawl
+     */
+    public DumWCUrlMatcher(String website, Collection<String> allowUrls, Collection<String> denyUrls,
+            Collection<String> denyExtensions) {
+        this.website = website;
+        this.allow = new Rules(allowUrls);
+        this.deny = new Rules(denyUrls);
+        this.denyExtensions = denyExtensions.toArray(String[]::new);
+    }
+
+    public boolean matches(String url) {
+        if (!url.startsWith(website)) {
+            return false;
+        }
+        String path = url.substring(website.length());
+        if (!allow.matches(path) || deny.matches(path)) {
+            return false;
+        }
+        for (String extension : denyExtensions) {
+            if (url.endsWith(extension)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
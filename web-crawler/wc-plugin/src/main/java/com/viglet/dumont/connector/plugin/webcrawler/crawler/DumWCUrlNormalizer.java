@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * Normalizes the links of a website, so one page is always queued under the
+ * same URL.
+ * <p>
+ * A relative link is appended to the website URL. The scheme and host are
+ * lowercased, a default port is dropped, dot segments are resolved, the
+ * fragment and one trailing slash of the path are removed and the query is
+ * either dropped or kept with its parameters sorted. The URL is scanned as a
+ * string, without regular expressions or {@link java.net.URI}, as this runs for
+ * every link of every page.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+public class DumWCUrlNormalizer {
+    private static final String HTTP = "http";
+    private static final String HTTPS = "https";
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private final String website;
+    private final boolean keepQuery;
+
+    /**
+     * @param website   the website URL that relative links are appended to
+     * @param keepQuery {@code true} to keep the query with its parameters
+     *                  sorted, {@code false} to drop it
+     */
+    public DumWCUrlNormalizer(String website, boolean keepQuery) {
+        this.website = website;
+        this.keepQuery = keepQuery;
+    }
+
+    /**
+     * @return the normalized URL, {@code null} if the link is not an HTTP URL,
+     *         such as {@code mailto:}, {@code tel:} or {@code javascript:}
+     */
+    public String normalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String value = url.strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+        int schemeEnd = getSchemeEnd(value);
+        if (schemeEnd < 0) {
+            value = website + value;
+            schemeEnd = getSchemeEnd(value);
+            if (schemeEnd < 0) {
+                return null;
+            }
+        }
+        String scheme = value.substring(0, schemeEnd).toLowerCase(Locale.ROOT);
+        if (!(scheme.equals(HTTP) || scheme.equals(HTTPS)) || !value.startsWith(SCHEME_SEPARATOR, schemeEnd)) {
+            return null;
+        }
+        int fragment = value.indexOf('#');
+        if (fragment >= 0) {
+            value = value.substring(0, fragment);
+        }
+        String query = null;
+        int queryStart = value.indexOf('?');
+        if (queryStart >= 0) {
+            query = keepQuery ? sortQuery(value.substring(queryStart + 1)) : null;
+            value = value.substring(0, queryStart);
+        }
+        int authorityStart = schemeEnd + SCHEME_SEPARATOR.length();
+        int pathStart = value.indexOf('/', authorityStart);
+        if (pathStart < 0) {
+            pathStart = value.length();
+        }
+        String authority = getAuthority(scheme, value.substring(authorityStart, pathStart));
+        if (authority.isEmpty()) {
+            return null;
+        }
+        String path = removeDotSegments(value.substring(pathStart));
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        StringBuilder normalized = new StringBuilder(value.length()).append(scheme).append(SCHEME_SEPARATOR)
+                .append(authority).append(path);
+        if (query != null && !query.isEmpty()) {
+            normalized.append('?').append(query);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * @return the length of the scheme, {@code -1} if the URL has none
+     */
+    private static int getSchemeEnd(String url) {
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == ':') {
+                return i > 0 ? i : -1;
+            }
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                    || (i > 0 && ((c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.'));
+            if (!valid) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static String getAuthority(String scheme, String authority) {
+        String lowerCase = authority.toLowerCase(Locale.ROOT);
+        if (scheme.equals(HTTP) && lowerCase.endsWith(":80")) {
+            return lowerCase.substring(0, lowerCase.length() - 3);
+        }
+        if (scheme.equals(HTTPS) && lowerCase.endsWith(":443")) {
+            return lowerCase.substring(0, lowerCase.length() - 4);
+        }
+        return lowerCase;
+    }
+
+    /**
+     * Resolves the {@code .} and {@code ..} segments of a path, as described in
+     * RFC 3986.
+     */
+    static String removeDotSegments(String path) {
+        if (!path.contains("/.")) {
+            return path;
+        }
+        Deque<String> segments = new ArrayDeque<>();
+        String[] parts = path.split("/", -1);
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i];
+            boolean last = i == parts.length - 1;
+            if (part.equals(".") || part.equals("..")) {
+                if (part.equals("..")) {
+                    segments.pollLast();
+                }
+                if (last) {
+                    segments.add("");
+                }
+            } else {
+                segments.add(part);
+            }
+        }
+        return "/" + String.join("/", segments);
+    }
+
+    private static String sortQuery(String query) {
+        String[] parameters = Arrays.stream(query.split("&")).filter(parameter -> !parameter.isEmpty())
+                .toArray(String[]::new);
+        Arrays.sort(parameters);
+        return String.join("&", parameters);
+    }
+}
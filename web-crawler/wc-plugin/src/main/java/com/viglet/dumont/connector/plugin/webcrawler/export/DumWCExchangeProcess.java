@@ -121,6 +121,9 @@ public class DumWCExchangeProcess {
                                         .localeClass(dumWCSource.getLocaleClass())
                                         .turSNSites(dumWCSource.getTurSNSites())
                                         .username(dumWCSource.getUsername())
+                                        .maxDepth(dumWCSource.getMaxDepth())
+                                        .maxPages(dumWCSource.getMaxPages())
+                                        .maxMinutes(dumWCSource.getMaxMinutes())
                                         .notAllowUrls(dumWCSource.getNotAllowUrls().stream().map(DumWCUrl::getUrl)
                                                 .toList())
                                         .notAllowExtensions(dumWCSource.getNotAllowExtensions().stream()
@@ -204,6 +207,9 @@ public class DumWCExchangeProcess {
                         .url(dumWCSourceExchange.getUrl())
                         .username(dumWCSourceExchange.getUsername())
                         .password(dumWCSourceExchange.getPassword())
+                        .maxDepth(dumWCSourceExchange.getMaxDepth())
+                        .maxPages(dumWCSourceExchange.getMaxPages())
+                        .maxMinutes(dumWCSourceExchange.getMaxMinutes())
                         .turSNSites(dumWCSourceExchange.getTurSNSites())
                         .locale(dumWCSourceExchange.getLocale())
                         .localeClass(dumWCSourceExchange.getLocaleClass())
@@ -26,6 +26,9 @@ public class DumWCSourceExchange {
     private Collection<String> turSNSites = new HashSet<>();
     private String username;
     private String password;
+    private Integer maxDepth;
+    private Integer maxPages;
+    private Integer maxMinutes;
     @Builder.Default
     private Collection<String> startingPoints = new HashSet<>();
     @Builder.Default
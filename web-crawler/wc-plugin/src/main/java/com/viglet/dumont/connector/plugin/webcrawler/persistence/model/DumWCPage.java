@@ -0,0 +1,101 @@
+package com.viglet.dumont.connector.plugin.webcrawler.persistence.model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Locale;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.viglet.dumont.spring.jpa.DumUuid;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * What the last crawl of a source learned about a page: the validators for a
+ * conditional request, the checksum and object id it was indexed with, when
+ * that content was downloaded and the links found on it, so a
+ * {@code 304 Not Modified} page, or one whose sitemap {@code <lastmod>} is not
+ * newer than the download, is neither downloaded nor parsed again.
+ * <p>
+ * Pages are looked up by the 64-bit fingerprint of their URL, which keeps the
+ * index small whatever the URL length.
+ *
+ * @author Alexandre Oliveira
+ * @since 2026.2
+ */
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "wc_page", indexes = @Index(name = "wc_page_fingerprint", columnList = "wc_source_id, fingerprint"))
+@JsonIgnoreProperties({ "dumWCSource" })
+public class DumWCPage implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @DumUuid
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @ManyToOne
+    @JoinColumn(name = "wc_source_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private DumWCSource dumWCSource;
+
+    @Column(nullable = false)
+    private long fingerprint;
+
+    @Column(length = 2048)
+    private String url;
+
+    @Column
+    private String etag;
+
+    @Column
+    private String lastModified;
+
+    @Column
+    private String checksum;
+
+    @Column(length = 2048)
+    private String objectId;
+
+    @Column
+    private Locale locale;
+
+    @Column
+    private Instant crawled;
+
+    /**
+     * Transaction of the last crawl that found the page, so a complete crawl
+     * forgets the pages it did not find.
+     */
+    @Column
+    private String transactionId;
+
+    /**
+     * Links found on the page, one per line.
+     */
+    @Lob
+    @Column
+    private String links;
+}
@@ -61,6 +61,12 @@ public class DumWCSource implements Serializable {
     private String username;
     @Column
     private String password;
+    @Column
+    private Integer maxDepth;
+    @Column
+    private Integer maxPages;
+    @Column
+    private Integer maxMinutes;
 
     @Builder.Default
     @ElementCollection(targetClass = String.class, fetch = FetchType.EAGER)
@@ -0,0 +1,30 @@
+package com.viglet.dumont.connector.plugin.webcrawler.persistence.repository;
+
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCPage;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCSource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface DumWCPageRepository extends JpaRepository<DumWCPage, String> {
+    List<DumWCPage> findByDumWCSourceAndFingerprint(DumWCSource dumWCSource, long fingerprint);
+
+    @Query("SELECT p.objectId FROM DumWCPage p WHERE p.dumWCSource = :dumWCSource AND p.objectId IS NOT NULL")
+    List<String> findObjectIdsByDumWCSource(@Param("dumWCSource") DumWCSource dumWCSource);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE DumWCPage p SET p.transactionId = :transactionId WHERE p.id = :id")
+    void updateTransactionId(@Param("id") String id, @Param("transactionId") String transactionId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DumWCPage p WHERE p.dumWCSource = :dumWCSource "
+            + "AND (p.transactionId IS NULL OR p.transactionId <> :transactionId)")
+    int deleteByDumWCSourceAndTransactionIdNot(@Param("dumWCSource") DumWCSource dumWCSource,
+            @Param("transactionId") String transactionId);
+}
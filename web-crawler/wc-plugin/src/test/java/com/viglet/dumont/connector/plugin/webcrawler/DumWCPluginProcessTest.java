@@ -0,0 +1,641 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.viglet.dumont.commons.indexing.DumIndexingStatus;
+import com.viglet.dumont.connector.commons.DumConnectorContext;
+import com.viglet.dumont.connector.commons.domain.DumConnectorIndexing;
+import com.viglet.dumont.connector.commons.domain.DumJobItemWithSession;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCCrawler;
+import com.viglet.dumont.connector.plugin.webcrawler.crawler.DumWCFetcher;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCAllowUrl;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCAttributeMapping;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCNotAllowUrl;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCPage;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCSource;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCStartingPoint;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCAllowUrlRepository;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCAttributeMappingRepository;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCFileExtensionRepository;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCNotAllowUrlRepository;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCPageRepository;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.repository.DumWCStartingPointRepository;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtId;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtTitle;
+import com.viglet.turing.client.sn.job.TurSNJobAction;
+import com.viglet.turing.client.sn.job.TurSNJobItem;
+
+@DisplayName("DumWCPluginProcess Tests")
+class DumWCPluginProcessTest {
+    private static final String AUTHORIZATION = "Basic dXNlcjpzZWNyZXQ=";
+
+    @TempDir
+    Path stateDirectory;
+
+    private HttpServer server;
+    private String site;
+    private String otherHost;
+    private final Map<String, String> routes = new ConcurrentHashMap<>();
+    private final Map<String, String> etags = new ConcurrentHashMap<>();
+    private final Map<String, Integer> errors = new ConcurrentHashMap<>();
+    private final List<DumWCNotAllowUrl> notAllowUrls = new CopyOnWriteArrayList<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final Map<String, DumWCPage> savedPages = new ConcurrentHashMap<>();
+    private final List<String> addedPages = new CopyOnWriteArrayList<>();
+    private final Map<String, DumConnectorIndexing> indexing = new ConcurrentHashMap<>();
+    private final List<TurSNJobItem> jobItems = new CopyOnWriteArrayList<>();
+    private DumWCSource dumWCSource;
+    private boolean indexingRules;
+
+    private record Request(String host, String path, String authorization, int status) {
+    }
+
+    /**
+     * Serves the routes of the test as HTML, robots.txt or sitemaps; other
+     * paths are not found. A page with an ETag is not modified when the
+     * request has it, and a path with an error status always fails.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String body = routes.get(path);
+            String etag = etags.get(path);
+            int status = errors.containsKey(path) ? errors.get(path)
+                    : body == null ? 404
+                    : etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match")) ? 304
+                            : 200;
+            requests.add(new Request(exchange.getRequestHeaders().getFirst("Host"), path,
+                    exchange.getRequestHeaders().getFirst("Authorization"), status));
+            if (etag != null) {
+                exchange.getResponseHeaders().add("ETag", etag);
+            }
+            if (status >= 400) {
+                send(exchange, status, "text/plain", "Error");
+            } else if (status == 304) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            } else if (path.endsWith(".xml")) {
+                send(exchange, 200, "application/xml", body);
+            } else if (path.endsWith(".txt")) {
+                send(exchange, 200, "text/plain", body);
+            } else {
+                send(exchange, 200, "text/html", body);
+            }
+        });
+        server.start();
+        site = "http://localhost:" + server.getAddress().getPort();
+        otherHost = "http://127.0.0.1:" + server.getAddress().getPort();
+        dumWCSource = DumWCSource.builder().id("source").url(site).username("user").password("secret")
+                .locale(Locale.US).turSNSites(new HashSet<>(List.of("sample"))).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static String sitemap(String... urls) {
+        StringBuilder xml = new StringBuilder(
+                "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">");
+        for (String url : urls) {
+            xml.append(url.startsWith("<url>") ? url : "<url><loc>%s</loc></url>".formatted(url));
+        }
+        return xml.append("</urlset>").toString();
+    }
+
+    private static String sitemapUrl(String url, String lastModified) {
+        return "<url><loc>%s</loc><lastmod>%s</lastmod></url>".formatted(url, lastModified);
+    }
+
+    private static String page(String title, String... links) {
+        StringBuilder html = new StringBuilder("<html><head><title>%s</title></head><body>".formatted(title));
+        for (String link : links) {
+            html.append("<a href=\"%s\">Link</a>".formatted(link));
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    private DumWCPluginProcess newProcess(boolean robotsEnabled, boolean sitemapEnabled) {
+        DumWCAllowUrlRepository allowUrlRepository = mock(DumWCAllowUrlRepository.class);
+        when(allowUrlRepository.findByDumWCSource(any()))
+                .thenReturn(Optional.of(List.of(DumWCAllowUrl.builder().url("/*").build())));
+        DumWCAttributeMappingRepository attributeMappingRepository = mock(DumWCAttributeMappingRepository.class);
+        when(attributeMappingRepository.findByDumWCSource(any()))
+                .thenReturn(Optional.of(List.of(new DumWCAttributeMapping("id", DumWCExtId.class, dumWCSource),
+                        new DumWCAttributeMapping("title", DumWCExtTitle.class, dumWCSource))));
+        DumWCNotAllowUrlRepository notAllowUrlRepository = mock(DumWCNotAllowUrlRepository.class);
+        when(notAllowUrlRepository.findByDumWCSource(any())).thenReturn(Optional.of(notAllowUrls));
+        DumWCStartingPointRepository startingPointRepository = mock(DumWCStartingPointRepository.class);
+        when(startingPointRepository.findByDumWCSource(any()))
+                .thenReturn(Optional.of(List.of(DumWCStartingPoint.builder().url("/").build())));
+        DumConnectorContext dumConnectorContext = mock(DumConnectorContext.class);
+        // Indexes the job items as the connector does, keeping their checksums
+        when(dumConnectorContext.addJobItem(any())).thenAnswer(invocation -> {
+            TurSNJobItem item = invocation.<DumJobItemWithSession>getArgument(0).turSNJobItem();
+            jobItems.add(item);
+            if (item.getTurSNJobAction() == TurSNJobAction.CREATE) {
+                indexing.put(item.getId(), DumConnectorIndexing.builder().objectId(item.getId())
+                        .checksum(item.getChecksum()).status(DumIndexingStatus.INDEXED).build());
+            } else {
+                indexing.remove(item.getId());
+            }
+            return true;
+        });
+        when(dumConnectorContext.getIndexingItem(anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(indexing.get(invocation.<String>getArgument(0)))
+                        .map(List::of).orElse(List.of()));
+        when(dumConnectorContext.hasIndexingRules(anyString())).thenAnswer(invocation -> indexingRules);
+        DumWCPageRepository pageRepository = mock(DumWCPageRepository.class);
+        when(pageRepository.findByDumWCSourceAndFingerprint(any(), anyLong())).thenAnswer(invocation -> savedPages
+                .values().stream().filter(page -> page.getFingerprint() == invocation.<Long>getArgument(1))
+                .toList());
+        when(pageRepository.findObjectIdsByDumWCSource(any())).thenAnswer(invocation -> savedPages.values()
+                .stream().map(DumWCPage::getObjectId).filter(id -> id != null).toList());
+        when(pageRepository.save(any())).thenAnswer(invocation -> {
+            DumWCPage page = invocation.getArgument(0);
+            if (page.getId() == null) {
+                page.setId(page.getUrl());
+                addedPages.add(page.getUrl());
+            }
+            savedPages.put(page.getUrl(), page);
+            return page;
+        });
+        doAnswer(invocation -> savedPages.remove(invocation.<DumWCPage>getArgument(0).getUrl()))
+                .when(pageRepository).delete(any());
+        doAnswer(invocation -> {
+            savedPages.values().stream().filter(page -> page.getId().equals(invocation.getArgument(0)))
+                    .forEach(page -> page.setTransactionId(invocation.getArgument(1)));
+            return null;
+        }).when(pageRepository).updateTransactionId(anyString(), anyString());
+        when(pageRepository.deleteByDumWCSourceAndTransactionIdNot(any(), anyString())).thenAnswer(invocation -> {
+            List<String> missing = savedPages.values().stream()
+                    .filter(page -> !invocation.getArgument(1).equals(page.getTransactionId()))
+                    .map(DumWCPage::getUrl).toList();
+            missing.forEach(savedPages::remove);
+            return missing.size();
+        });
+        return new DumWCPluginProcess(5000, "https://www.google.com", allowUrlRepository,
+                notAllowUrlRepository, mock(DumWCFileExtensionRepository.class),
+                attributeMappingRepository, startingPointRepository, dumConnectorContext,
+                new DumWCCrawler(2, 2, 0, 0, 100_000, false, stateDirectory.toString(), 1000),
+                new DumWCFetcher(5000, 1, 4), pageRepository, robotsEnabled, "dumont", sitemapEnabled, true, false,
+                2, 100);
+    }
+
+    private List<String> requestedPaths() {
+        return requests.stream().map(Request::path).toList();
+    }
+
+    private Optional<Request> request(String path) {
+        return requests.stream().filter(request -> request.path().equals(path)).findFirst();
+    }
+
+    private TurSNJobItem jobItem(String path) {
+        return jobItems.stream().filter(item -> (site + path).equals(item.getId())).findFirst()
+                .orElseThrow(() -> new AssertionError("No job item for " + path));
+    }
+
+    /**
+     * Crawls the source once more, after forgetting the requests and job items
+     * of the previous crawls.
+     */
+    private void crawlAgain(DumWCPluginProcess process) {
+        requests.clear();
+        jobItems.clear();
+        process.start(dumWCSource);
+    }
+
+    /**
+     * Asserts that a page was kept with its saved checksum, without the
+     * attributes of its content.
+     */
+    private void assertKeptUnchanged(String path, String checksum) {
+        TurSNJobItem item = jobItem(path);
+        assertEquals(checksum, item.getChecksum());
+        assertFalse(item.getAttributes().containsKey("title"), path);
+    }
+
+    private void assertIndexedWithContent(String path) {
+        assertTrue(jobItem(path).getAttributes().containsKey("title"), path);
+    }
+
+    private void assertCredentialsOnlySentToSource() {
+        List<Request> sourceRequests = requests.stream()
+                .filter(request -> request.host().startsWith("localhost:")).toList();
+        List<Request> otherRequests = requests.stream()
+                .filter(request -> request.host().startsWith("127.0.0.1:")).toList();
+        assertFalse(sourceRequests.isEmpty());
+        assertFalse(otherRequests.isEmpty());
+        sourceRequests.forEach(request -> assertEquals(AUTHORIZATION, request.authorization(), request.path()));
+        otherRequests.forEach(request -> assertNull(request.authorization(), request.path()));
+    }
+
+    @Test
+    @DisplayName("Should send the credentials only to the host of the source when crawling")
+    void shouldSendCredentialsOnlyToSourceHostWhenCrawling() {
+        routes.put("/robots.txt", "User-agent: *\nSitemap: %s/sitemap.xml\nSitemap: %s/other-sitemap.xml\n"
+                .formatted(site, otherHost));
+        routes.put("/sitemap.xml", sitemap(site + "/a"));
+        routes.put("/other-sitemap.xml", sitemap(site + "/b"));
+        routes.put("/", page("Home", "/a"));
+        routes.put("/a", page("A"));
+        routes.put("/b", page("B"));
+
+        newProcess(true, true).start(dumWCSource);
+
+        assertTrue(requestedPaths().containsAll(List.of("/robots.txt", "/sitemap.xml", "/other-sitemap.xml",
+                "/", "/a", "/b")));
+        assertCredentialsOnlySentToSource();
+    }
+
+    @Test
+    @DisplayName("Should send the credentials only to the host of the source when listing pages")
+    void shouldSendCredentialsOnlyToSourceHostWhenListingPages() {
+        routes.put("/robots.txt", "User-agent: *\nSitemap: %s/sitemap.xml\nSitemap: %s/other-sitemap.xml\n"
+                .formatted(site, otherHost));
+        routes.put("/sitemap.xml", sitemap(site + "/a"));
+        routes.put("/other-sitemap.xml", sitemap(site + "/b"));
+
+        List<String> ids = newProcess(true, true).discoverContentIds(dumWCSource);
+
+        assertEquals(List.of(site + "/a", site + "/b"), ids);
+        assertCredentialsOnlySentToSource();
+    }
+
+    @Test
+    @DisplayName("Should not send credentials when the source has none")
+    void shouldNotSendCredentialsWithoutUsername() {
+        dumWCSource.setUsername(null);
+        routes.put("/robots.txt", "User-agent: *\n");
+        routes.put("/", page("Home"));
+
+        newProcess(true, false).start(dumWCSource);
+
+        assertEquals(List.of("/robots.txt", "/"), requestedPaths());
+        requests.forEach(request -> assertNull(request.authorization()));
+    }
+
+    @Test
+    @DisplayName("Should keep a page that was not modified with its saved checksum")
+    void shouldKeepNotModifiedPage() {
+        routes.put("/", page("Home", "/a"));
+        routes.put("/a", page("A"));
+        etags.put("/", "\"home\"");
+        etags.put("/a", "\"a\"");
+        DumWCPluginProcess process = newProcess(false, false);
+        process.start(dumWCSource);
+        String checksum = jobItem("/a").getChecksum();
+        assertIndexedWithContent("/a");
+
+        crawlAgain(process);
+
+        assertEquals(304, request("/").orElseThrow().status());
+        assertEquals(304, request("/a").orElseThrow().status());
+        assertKeptUnchanged("/a", checksum);
+    }
+
+    @Test
+    @DisplayName("Should download a modified page again")
+    void shouldDownloadModifiedPage() {
+        routes.put("/", page("Home", "/a"));
+        routes.put("/a", page("A"));
+        etags.put("/a", "\"a\"");
+        DumWCPluginProcess process = newProcess(false, false);
+        process.start(dumWCSource);
+        routes.put("/a", page("A changed"));
+        etags.put("/a", "\"a2\"");
+
+        crawlAgain(process);
+
+        assertEquals(200, request("/a").orElseThrow().status());
+        assertEquals("A changed", jobItem("/a").getAttributes().get("title"));
+    }
+
+    @Test
+    @DisplayName("Should keep a page whose sitemap lastmod is older than its download without fetching it")
+    void shouldKeepPageWithOlderSitemapLastmod() {
+        routes.put("/robots.txt", "User-agent: *\nSitemap: %s/sitemap.xml\n".formatted(site));
+        routes.put("/sitemap.xml", sitemap(sitemapUrl(site + "/a", "2000-01-01")));
+        routes.put("/", page("Home"));
+        routes.put("/a", page("A"));
+        DumWCPluginProcess process = newProcess(true, true);
+        process.start(dumWCSource);
+        String checksum = jobItem("/a").getChecksum();
+
+        crawlAgain(process);
+
+        assertTrue(request("/a").isEmpty());
+        assertKeptUnchanged("/a", checksum);
+    }
+
+    @Test
+    @DisplayName("Should download a page whose sitemap lastmod is newer than its download")
+    void shouldDownloadPageWithNewerSitemapLastmod() {
+        routes.put("/robots.txt", "User-agent: *\nSitemap: %s/sitemap.xml\n".formatted(site));
+        routes.put("/sitemap.xml", sitemap(sitemapUrl(site + "/a", "2999-01-01")));
+        routes.put("/", page("Home"));
+        routes.put("/a", page("A"));
+        etags.put("/a", "\"a\"");
+        DumWCPluginProcess process = newProcess(true, true);
+        process.start(dumWCSource);
+
+        crawlAgain(process);
+
+        assertEquals(304, request("/a").orElseThrow().status());
+        assertKeptUnchanged("/a", jobItem("/a").getChecksum());
+    }
+
+    @Test
+    @DisplayName("Should download again a page the connector ignored")
+    void shouldDownloadIgnoredPage() {
+        assertDownloadedAgainWithStatus(DumIndexingStatus.IGNORED);
+    }
+
+    @Test
+    @DisplayName("Should download again a page the connector deindexed")
+    void shouldDownloadDeindexedPage() {
+        assertDownloadedAgainWithStatus(DumIndexingStatus.DEINDEXED);
+    }
+
+    private void assertDownloadedAgainWithStatus(DumIndexingStatus status) {
+        routes.put("/robots.txt", "User-agent: *\nSitemap: %s/sitemap.xml\n".formatted(site));
+        routes.put("/sitemap.xml", sitemap(sitemapUrl(site + "/a", "2000-01-01")));
+        routes.put("/", page("Home", "/b"));
+        routes.put("/a", page("A"));
+        routes.put("/b", page("B"));
+        etags.put("/b", "\"b\"");
+        DumWCPluginProcess process = newProcess(true, true);
+        process.start(dumWCSource);
+        indexing.get(site + "/a").setStatus(status);
+        indexing.get(site + "/b").setStatus(status);
+
+        crawlAgain(process);
+
+        assertEquals(200, request("/a").orElseThrow().status());
+        assertEquals(200, request("/b").orElseThrow().status());
+        assertIndexedWithContent("/a");
+        assertIndexedWithContent("/b");
+    }
+
+    @Test
+    @DisplayName("Should download again the pages to index when the source has ignore rules")
+    void shouldDownloadPagesWhenSourceHasIgnoreRules() {
+        routes.put("/robots.txt", "User-agent: *\nSitemap: %s/sitemap.xml\n".formatted(site));
+        routes.put("/sitemap.xml", sitemap(sitemapUrl(site + "/a", "2000-01-01")));
+        routes.put("/", page("Home", "/b"));
+        routes.put("/a", page("A"));
+        routes.put("/b", page("B"));
+        etags.put("/b", "\"b\"");
+        DumWCPluginProcess process = newProcess(true, true);
+        process.start(dumWCSource);
+        indexingRules = true;
+
+        crawlAgain(process);
+
+        assertEquals(200, request("/a").orElseThrow().status());
+        assertEquals(200, request("/b").orElseThrow().status());
+        assertIndexedWithContent("/a");
+        assertIndexedWithContent("/b");
+    }
+
+    @Test
+    @DisplayName("Should forget the pages that a complete crawl no longer finds")
+    void shouldForgetPagesNoLongerFound() {
+        routes.put("/", page("Home", "/a", "/b", "/c"));
+        routes.put("/a", page("A"));
+        routes.put("/b", page("B"));
+        routes.put("/c", page("C"));
+        etags.put("/c", "\"c\"");
+        DumWCPluginProcess process = newProcess(false, false);
+        process.start(dumWCSource);
+        assertEquals(Set.of(site + "/", site + "/a", site + "/b", site + "/c"), savedPages.keySet());
+
+        routes.put("/", page("Home", "/a", "/c"));
+        errors.put("/a", 404);
+        crawlAgain(process);
+
+        assertEquals(304, request("/c").orElseThrow().status());
+        assertEquals(Set.of(site + "/", site + "/c"), savedPages.keySet());
+        assertEquals(List.of(site + "/c"), process.discoverContentIds(dumWCSource));
+    }
+
+    @Test
+    @DisplayName("Should index the given pages without following their links")
+    void shouldIndexGivenPages() {
+        routes.put("/robots.txt", "User-agent: *\n");
+        routes.put("/a", page("A", "/b"));
+        routes.put("/b", page("B"));
+
+        newProcess(true, true).indexPages(dumWCSource, List.of(site + "/a", site + "/a"));
+
+        assertEquals(List.of("/robots.txt", "/a"), requestedPaths());
+        assertIndexedWithContent("/a");
+        assertEquals(1, jobItems.size());
+        assertTrue(savedPages.containsKey(site + "/a"));
+    }
+
+    @Test
+    @DisplayName("Should add a page once when a crawl and the indexing on demand both find it")
+    void shouldAddPageOnceWhenFoundTogether() throws Exception {
+        routes.put("/", page("Home", "/a"));
+        // Both downloads of the page wait for each other, so both find it new
+        CountDownLatch downloads = new CountDownLatch(2);
+        server.createContext("/a", exchange -> {
+            downloads.countDown();
+            try {
+                downloads.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            send(exchange, 200, "text/html", page("A"));
+        });
+        DumWCPluginProcess process = newProcess(false, false);
+
+        CompletableFuture<Void> crawl = CompletableFuture.runAsync(() -> process.start(dumWCSource));
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+        crawl.get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, downloads.getCount());
+        assertEquals(List.of(site + "/", site + "/a"), addedPages.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should download the given pages even when they were not modified")
+    void shouldDownloadGivenPagesAgain() {
+        routes.put("/a", page("A"));
+        etags.put("/a", "\"a\"");
+        DumWCPluginProcess process = newProcess(false, false);
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+        requests.clear();
+        jobItems.clear();
+
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+
+        assertEquals(200, request("/a").orElseThrow().status());
+        assertIndexedWithContent("/a");
+    }
+
+    @Test
+    @DisplayName("Should deindex a given page that is not found")
+    void shouldDeindexNotFoundPage() {
+        assertDeindexedWhenGone(404);
+    }
+
+    @Test
+    @DisplayName("Should deindex a given page that is gone")
+    void shouldDeindexGonePage() {
+        assertDeindexedWhenGone(410);
+    }
+
+    private void assertDeindexedWhenGone(int status) {
+        routes.put("/a", page("A"));
+        DumWCPluginProcess process = newProcess(false, false);
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+        jobItems.clear();
+        errors.put("/a", status);
+
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+
+        assertEquals(1, jobItems.size());
+        assertEquals(TurSNJobAction.DELETE, jobItems.getFirst().getTurSNJobAction());
+        assertEquals(site + "/a", jobItems.getFirst().getId());
+        assertFalse(savedPages.containsKey(site + "/a"));
+        assertFalse(indexing.containsKey(site + "/a"));
+    }
+
+    @Test
+    @DisplayName("Should keep a given page that fails with a server error")
+    void shouldKeepPageWithServerError() {
+        routes.put("/a", page("A"));
+        DumWCPluginProcess process = newProcess(false, false);
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+        jobItems.clear();
+        errors.put("/a", 500);
+
+        process.indexPages(dumWCSource, List.of(site + "/a"));
+
+        assertTrue(jobItems.isEmpty());
+        assertTrue(savedPages.containsKey(site + "/a"));
+        assertTrue(indexing.containsKey(site + "/a"));
+    }
+
+    @Test
+    @DisplayName("Should not index the given pages while robots.txt is unavailable")
+    void shouldNotIndexGivenPagesWithoutRobotsTxt() {
+        errors.put("/robots.txt", 500);
+        routes.put("/a", page("A"));
+
+        newProcess(true, false).indexPages(dumWCSource, List.of(site + "/a"));
+
+        assertEquals(List.of("/robots.txt"), requestedPaths());
+        assertTrue(jobItems.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should list the saved pages and the sitemap pages the crawl would index")
+    void shouldDiscoverSavedAndSitemapPages() {
+        savedPages.put(site + "/saved", DumWCPage.builder().dumWCSource(dumWCSource).url(site + "/saved")
+                .objectId(site + "/saved").build());
+        savedPages.put(site + "/not-indexed", DumWCPage.builder().dumWCSource(dumWCSource)
+                .url(site + "/not-indexed").build());
+        notAllowUrls.add(new DumWCNotAllowUrl("/excluded/*", dumWCSource));
+        routes.put("/robots.txt", "User-agent: *\nDisallow: /private/\nSitemap: %s/sitemap.xml\n".formatted(site));
+        routes.put("/sitemap.xml", sitemap(site + "/a", site + "/private/b", site + "/excluded/c",
+                site + "/page/2", site + "/saved", "https://example.com/d", site + "/a#top"));
+
+        List<String> ids = newProcess(true, true).discoverContentIds(dumWCSource);
+
+        assertEquals(List.of(site + "/saved", site + "/a"), ids);
+        assertEquals(List.of("/robots.txt", "/sitemap.xml"), requestedPaths());
+    }
+
+    @Test
+    @DisplayName("Should list only the saved pages while robots.txt is unavailable")
+    void shouldDiscoverSavedPagesWithoutRobotsTxt() {
+        savedPages.put(site + "/saved", DumWCPage.builder().dumWCSource(dumWCSource).url(site + "/saved")
+                .objectId(site + "/saved").build());
+        errors.put("/robots.txt", 500);
+        routes.put("/sitemap.xml", sitemap(site + "/a"));
+
+        List<String> ids = newProcess(true, true).discoverContentIds(dumWCSource);
+
+        assertEquals(List.of(site + "/saved"), ids);
+        assertEquals(List.of("/robots.txt"), requestedPaths());
+    }
+
+    @Test
+    @DisplayName("Should list only the saved pages when sitemaps are disabled")
+    void shouldDiscoverSavedPagesWithoutSitemaps() {
+        savedPages.put(site + "/saved", DumWCPage.builder().dumWCSource(dumWCSource).url(site + "/saved")
+                .objectId(site + "/saved").build());
+        routes.put("/sitemap.xml", sitemap(site + "/a"));
+
+        List<String> ids = newProcess(true, false).discoverContentIds(dumWCSource);
+
+        assertEquals(List.of(site + "/saved"), ids);
+        assertTrue(requests.isEmpty());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCAttributeMapping;
+import com.viglet.dumont.connector.plugin.webcrawler.persistence.model.DumWCSource;
+import com.viglet.dumont.connector.webcrawler.commons.DumWCContext;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtDescription;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtId;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtTitle;
+import com.viglet.dumont.connector.webcrawler.commons.ext.DumWCExtUrl;
+
+@DisplayName("DumWCAttributePlan Tests")
+class DumWCAttributePlanTest {
+    private static final String URL = "https://example.com/news";
+
+    private static DumWCContext context(String html) {
+        return DumWCContext.builder().url(URL).document(Jsoup.parse(html, URL)).build();
+    }
+
+    @Test
+    @DisplayName("Should read fixed texts and extension values")
+    void shouldReadTextsAndExtensions() {
+        DumWCSource source = DumWCSource.builder().build();
+        DumWCAttributePlan plan = new DumWCAttributePlan(source, List.of(
+                new DumWCAttributeMapping("id", DumWCExtId.class, source),
+                new DumWCAttributeMapping("title", DumWCExtTitle.class, source),
+                new DumWCAttributeMapping("description", DumWCExtDescription.class, source),
+                new DumWCAttributeMapping("type", "Page", source)));
+
+        Map<String, Object> attributes = plan.getAttributes(context(
+                "<html><head><title>News</title><meta name='description' content='Latest'></head></html>"));
+
+        assertEquals(Map.of("id", URL, "title", "News", "description", "Latest", "type", "Page"), attributes);
+    }
+
+    @Test
+    @DisplayName("Should collect the values of one attribute in a list and skip blank ones")
+    void shouldCollectValues() {
+        DumWCSource source = DumWCSource.builder().build();
+        DumWCAttributePlan plan = new DumWCAttributePlan(source, List.of(
+                new DumWCAttributeMapping("text", "Fixed", source),
+                new DumWCAttributeMapping("text", DumWCExtTitle.class, source),
+                new DumWCAttributeMapping("text", DumWCExtUrl.class, source),
+                new DumWCAttributeMapping("empty", DumWCExtTitle.class, source)));
+
+        Map<String, Object> attributes = plan.getAttributes(context("<html><head><title>News</title></head></html>"));
+
+        assertEquals(List.of("Fixed", "News", URL), attributes.get("text"));
+        assertFalse(plan.getAttributes(context("<html></html>")).containsKey("empty"));
+    }
+
+    @Test
+    @DisplayName("Should leave out mappings whose class cannot be used")
+    void shouldLeaveOutInvalidClasses() {
+        DumWCSource source = DumWCSource.builder().build();
+        DumWCAttributePlan plan = new DumWCAttributePlan(source, List.of(
+                DumWCAttributeMapping.builder().name("missing").className("com.example.Missing").build(),
+                new DumWCAttributeMapping("wrong", String.class, source),
+                new DumWCAttributeMapping("title", DumWCExtTitle.class, source)));
+
+        assertEquals(Map.of("title", "News"),
+                plan.getAttributes(context("<html><head><title>News</title></head></html>")));
+    }
+
+    @Test
+    @DisplayName("Should use the source locale, else US English")
+    void shouldResolveLocale() {
+        DumWCContext context = context("<html></html>");
+
+        assertEquals(Locale.FRANCE,
+                new DumWCAttributePlan(DumWCSource.builder().locale(Locale.FRANCE).build(), List.of())
+                        .getLocale(context));
+        assertEquals(Locale.US, new DumWCAttributePlan(DumWCSource.builder().build(), List.of()).getLocale(context));
+    }
+}
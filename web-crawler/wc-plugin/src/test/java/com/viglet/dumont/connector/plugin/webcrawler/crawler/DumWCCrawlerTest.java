@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+@DisplayName("DumWCCrawler Tests")
+class DumWCCrawlerTest {
+    private static final int PAGES = 300;
+    private static final int WORKERS = 4;
+
+    @TempDir
+    Path stateDirectory;
+
+    private HttpServer server;
+    private String site;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    /**
+     * Serves a site where page {@code n} links to pages {@code 3n+1} to
+     * {@code 3n+3} and back to the home page.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+            int page = path.equals("/") ? 0 : Integer.parseInt(path.substring("/page-".length()));
+            StringBuilder html = new StringBuilder("<html><body><a href=\"/\">Home</a>");
+            for (int child = 3 * page + 1; child <= 3 * page + 3 && child < PAGES; child++) {
+                html.append("<a href=\"/page-").append(child).append("\">Page</a>");
+            }
+            byte[] body = html.append("</body></html>").toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        site = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should resume a stopped crawl from the journal")
+    void shouldResumeStoppedCrawlFromJournal() {
+        assertResumes(newCrawler(true, 100_000));
+    }
+
+    @Test
+    @DisplayName("Should resume a stopped crawl from a checkpoint")
+    void shouldResumeStoppedCrawlFromCheckpoint() {
+        assertResumes(newCrawler(true, 10));
+    }
+
+    @Test
+    @DisplayName("Should start over when the saved crawl is damaged")
+    void shouldStartOverWhenSavedCrawlIsDamaged() throws IOException {
+        Path directory = Files.createDirectories(stateDirectory.resolve("source"));
+        Files.write(directory.resolve("snapshot.bin"), new byte[] { 0, 0, 0, 1, 0 });
+
+        DumWCCrawl crawl = newCrawler(true, 100).open("source", "new");
+
+        assertFalse(crawl.isResumed());
+        assertEquals("new", crawl.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("Should not save the crawl when state is disabled")
+    void shouldNotSaveCrawlWhenStateIsDisabled() throws IOException {
+        DumWCCrawler crawler = newCrawler(false, 1);
+        DumWCCrawl crawl = crawler.open("source", "first");
+        crawl.offer(new DumWCCrawlRequest(site + "/", 0));
+        AtomicInteger fetched = new AtomicInteger();
+
+        crawler.crawl(crawl, request -> {
+            if (fetched.incrementAndGet() == 10) {
+                crawl.stop();
+            }
+            return fetch(request);
+        });
+
+        assertFalse(crawler.open("source", "second").isResumed());
+        try (var files = Files.list(stateDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop a crawl at its page limit and resume it")
+    void shouldStopCrawlAtPageLimitAndResumeIt() {
+        DumWCCrawler crawler = newCrawler(true, 10);
+        DumWCCrawl first = crawler.open("source", "first");
+        first.setLimits(100, null);
+        first.offer(new DumWCCrawlRequest(site + "/", 0));
+
+        crawler.crawl(first, this::fetch);
+
+        assertTrue(first.isLimitReached());
+        assertTrue(first.isStopped());
+        assertEquals(100, hits.size());
+        DumWCCrawl second = crawler.open("source", "second");
+        assertTrue(second.isResumed());
+
+        crawler.crawl(second, this::fetch);
+
+        assertFalse(second.isStopped());
+        assertEquals(PAGES, hits.size());
+    }
+
+    @Test
+    @DisplayName("Should stop a crawl when its time is up")
+    void shouldStopCrawlWhenItsTimeIsUp() {
+        DumWCCrawler crawler = newCrawler(true, 10);
+        DumWCCrawl crawl = crawler.open("source", "first");
+        crawl.setLimits(0, Duration.ofNanos(1));
+        crawl.offer(new DumWCCrawlRequest(site + "/", 0));
+
+        crawler.crawl(crawl, this::fetch);
+
+        assertTrue(crawl.isLimitReached());
+        assertEquals(0, hits.size());
+        assertTrue(crawler.open("source", "second").isResumed());
+    }
+
+    private void assertResumes(DumWCCrawler crawler) {
+        DumWCCrawl first = crawler.open("source", "first");
+        first.offer(new DumWCCrawlRequest(site + "/", 0));
+        AtomicInteger fetched = new AtomicInteger();
+        Set<String> indexed = ConcurrentHashMap.newKeySet();
+
+        crawler.crawl(first, request -> {
+            if (fetched.incrementAndGet() == 100) {
+                first.stop();
+            }
+            if (first.markIndexed(request.url())) {
+                indexed.add(request.url());
+            }
+            return fetch(request);
+        });
+
+        assertTrue(first.isStopped());
+        DumWCCrawl second = crawler.open("source", "second");
+        assertTrue(second.isResumed());
+        assertEquals("first", second.getTransactionId());
+
+        crawler.crawl(second, request -> {
+            if (second.markIndexed(request.url())) {
+                indexed.add(request.url());
+            }
+            return fetch(request);
+        });
+
+        assertFalse(second.isStopped());
+        assertEquals(PAGES, hits.size());
+        assertEquals(PAGES, indexed.size());
+        int fetchedAgain = hits.values().stream().mapToInt(count -> count.get() - 1).sum();
+        assertTrue(fetchedAgain <= WORKERS, "pages fetched again: " + fetchedAgain);
+        assertFalse(Files.exists(stateDirectory.resolve("source")));
+        assertFalse(crawler.open("source", "third").isResumed());
+    }
+
+    private List<DumWCCrawlRequest> fetch(DumWCCrawlRequest request) {
+        try {
+            return Jsoup.connect(request.url()).get().select("a[href]").stream()
+                    .map(link -> new DumWCCrawlRequest(link.attr("abs:href"), request.depth() + 1))
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DumWCCrawler newCrawler(boolean stateEnabled, int checkpointPages) {
+        return new DumWCCrawler(WORKERS, WORKERS, 0, 0, 100_000, stateEnabled, stateDirectory.toString(),
+                checkpointPages);
+    }
+}
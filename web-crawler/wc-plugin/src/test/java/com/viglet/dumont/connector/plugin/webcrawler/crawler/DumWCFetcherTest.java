@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+@DisplayName("DumWCFetcher Tests")
+class DumWCFetcherTest {
+    private static final String PAGE = "<html><head><title>Café</title></head><body><a href='/next'>next</a></body></html>";
+    private static final int MEGABYTE = 1024 * 1024;
+
+    private HttpServer server;
+    private DumWCFetcher fetcher;
+    private String site;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/page", exchange -> send(exchange, "text/html; charset=UTF-8",
+                PAGE.getBytes(StandardCharsets.UTF_8), false));
+        server.createContext("/file.pdf", exchange -> send(exchange, "application/pdf", new byte[100], false));
+        server.createContext("/large", exchange -> send(exchange, "text/html", new byte[2 * MEGABYTE], false));
+        server.createContext("/chunked", exchange -> send(exchange, "text/html", new byte[2 * MEGABYTE], true));
+        server.createContext("/moved", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/page");
+            exchange.sendResponseHeaders(301, -1);
+            exchange.close();
+        });
+        server.start();
+        site = "http://localhost:" + server.getAddress().getPort();
+        fetcher = new DumWCFetcher(5000, 1, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetcher.destroy();
+        server.stop(0);
+    }
+
+    private static void send(HttpExchange exchange, String contentType, byte[] body, boolean chunked)
+            throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.getResponseHeaders().add("ETag", "\"v1\"");
+        exchange.sendResponseHeaders(200, chunked ? 0 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse a page in its charset and compute the checksum of its body")
+    void shouldParsePage() throws IOException {
+        try (DumWCFetchResponse response = fetcher.fetch(site + "/page", Map.of())) {
+            assertEquals(200, response.getStatusCode());
+            assertEquals("\"v1\"", response.getHeader("ETag"));
+            assertTrue(response.isMarkup());
+            Document document = response.parse();
+
+            assertEquals("Café", document.title());
+            assertEquals(site + "/next", document.select("a").attr("abs:href"));
+            CRC32 crc32 = new CRC32();
+            crc32.update(PAGE.getBytes(StandardCharsets.UTF_8));
+            assertEquals(String.valueOf(crc32.getValue()), response.getChecksum());
+        }
+    }
+
+    @Test
+    @DisplayName("Should tell binary content from the headers")
+    void shouldTellBinaryContent() throws IOException {
+        try (DumWCFetchResponse response = fetcher.fetch(site + "/file.pdf", Map.of())) {
+            assertFalse(response.isMarkup());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse a page longer than the limit, declared or not")
+    void shouldRefuseLargePage() throws IOException {
+        try (DumWCFetchResponse response = fetcher.fetch(site + "/large", Map.of())) {
+            assertThrows(IOException.class, response::parse);
+        }
+        try (DumWCFetchResponse response = fetcher.fetch(site + "/chunked", Map.of())) {
+            assertThrows(IOException.class, response::parse);
+        }
+        try (DumWCFetchResponse response = fetcher.fetch(site + "/page", Map.of())) {
+            assertEquals("Café", response.parse().title());
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow redirects and keep the final URL")
+    void shouldFollowRedirects() throws IOException {
+        try (DumWCFetchResponse response = fetcher.fetch(site + "/moved", Map.of())) {
+            assertEquals(200, response.getStatusCode());
+            assertEquals(site + "/page", response.getUrl());
+        }
+    }
+
+    @Test
+    @DisplayName("Should escape characters a URI does not allow")
+    void shouldEscapeUrl() throws IOException {
+        assertEquals(URI.create("https://example.com/a%20b/%C3%A9?q=%7Bx%7D"),
+                DumWCFetcher.toUri("https://example.com/a b/é?q={x}"));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures link discovery on synthetic sites: every page links to a fixed
+ * number of other pages, so most discovered links were already queued, as on
+ * a real site where the navigation repeats on each page.
+ * <p>
+ * It compares timings, so it is left out of the default build and run with
+ * {@code mvn test -DexcludedGroups= -Dgroups=benchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("DumWCFrontier link discovery benchmark")
+class DumWCFrontierBenchmarkTest {
+    private static final int LINKS_PER_PAGE = 20;
+
+    private record Result(int pages, long links, long nanos) {
+        private double nanosPerLink() {
+            return (double) nanos / links;
+        }
+    }
+
+    @Test
+    @DisplayName("Should crawl a 100k-page site with a flat cost per link")
+    void shouldCrawlLargeSiteWithFlatCostPerLink() throws InterruptedException {
+        crawl(10_000);
+        Result small = crawl(10_000);
+        Result large = crawl(100_000);
+
+        log.info("Link discovery: {} pages {} ns/link, {} pages {} ns/link", small.pages(),
+                Math.round(small.nanosPerLink()), large.pages(), Math.round(large.nanosPerLink()));
+        assertEquals(100_000L * LINKS_PER_PAGE, large.links());
+        // A list scan grows with the pages queued; a hash lookup does not
+        assertTrue(large.nanosPerLink() < small.nanosPerLink() * 5,
+                "cost per link grew from %.0f ns to %.0f ns".formatted(small.nanosPerLink(),
+                        large.nanosPerLink()));
+    }
+
+    /**
+     * Crawls the site through the frontier the way the crawler workers do and
+     * checks that every page is fetched exactly once.
+     */
+    private static Result crawl(int pages) throws InterruptedException {
+        List<String> urls = new ArrayList<>(pages);
+        for (int i = 0; i < pages; i++) {
+            urls.add("https://example.com/section-" + (i % 50) + "/page-" + i);
+        }
+        SplittableRandom random = new SplittableRandom(pages);
+        DumWCFrontier frontier = new DumWCFrontier(Integer.MAX_VALUE, Duration.ZERO, 10_000);
+        boolean[] fetched = new boolean[pages];
+        int fetchedCount = 0;
+        long links = 0;
+        long start = System.nanoTime();
+        frontier.offer(new DumWCCrawlRequest(urls.getFirst(), 0));
+        DumWCCrawlRequest request;
+        while ((request = frontier.take()) != null) {
+            int page = Integer.parseInt(request.url().substring(request.url().lastIndexOf('-') + 1));
+            assertTrue(!fetched[page], "page fetched twice: " + request.url());
+            fetched[page] = true;
+            fetchedCount++;
+            // The next page keeps the site connected, the others are random
+            offer(frontier, urls.get((page + 1) % pages), request.depth());
+            for (int link = 1; link < LINKS_PER_PAGE; link++) {
+                offer(frontier, urls.get(random.nextInt(pages)), request.depth());
+            }
+            links += LINKS_PER_PAGE;
+            frontier.release(request);
+        }
+        long nanos = System.nanoTime() - start;
+        assertEquals(pages, fetchedCount);
+        return new Result(pages, links, nanos);
+    }
+
+    private static void offer(DumWCFrontier frontier, String url, int depth) {
+        if (!frontier.contains(url)) {
+            frontier.offer(new DumWCCrawlRequest(url, depth + 1));
+        }
+    }
+}
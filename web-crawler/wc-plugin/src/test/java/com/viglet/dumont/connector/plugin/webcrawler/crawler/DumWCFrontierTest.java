@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCFrontier Tests")
+class DumWCFrontierTest {
+    private static final String SITE = "https://www.example.com";
+    private static final String OTHER_SITE = "https://docs.example.com";
+    private static final Duration DELAY = Duration.ofMillis(200);
+
+    @Test
+    @DisplayName("Should hand out listed, shallower and recently changed pages first")
+    void shouldHandOutListedShallowerAndRecentlyChangedPagesFirst() throws InterruptedException {
+        DumWCFrontier frontier = new DumWCFrontier(1, Duration.ZERO, 100);
+        Instant now = Instant.now();
+        frontier.offer(new DumWCCrawlRequest(SITE + "/deep", 3));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/link", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/old", 1, now.minus(Duration.ofDays(30)), true));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/unknown", 1, null, true));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/new", 1, now, true));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/", 0, null, true));
+
+        assertEquals(List.of("/", "/new", "/old", "/unknown", "/link", "/deep"), takeAll(frontier));
+    }
+
+    @Test
+    @DisplayName("Should hand out pages of the same priority in arrival order")
+    void shouldHandOutPagesOfSamePriorityInArrivalOrder() throws InterruptedException {
+        DumWCFrontier frontier = new DumWCFrontier(1, Duration.ZERO, 100);
+        frontier.offer(new DumWCCrawlRequest(SITE + "/b", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/a", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/c", 1));
+
+        assertEquals(List.of("/b", "/a", "/c"), takeAll(frontier));
+    }
+
+    @Test
+    @DisplayName("Should hand out every page of a site exactly once")
+    void shouldHandOutEveryPageExactlyOnce() throws InterruptedException {
+        int pages = 2_000;
+        DumWCFrontier frontier = new DumWCFrontier(Integer.MAX_VALUE, Duration.ZERO, 100);
+        SplittableRandom random = new SplittableRandom(pages);
+        Set<String> fetched = new HashSet<>();
+        frontier.offer(new DumWCCrawlRequest(SITE + "/page-0", 0));
+        DumWCCrawlRequest request;
+        while ((request = frontier.take()) != null) {
+            assertTrue(fetched.add(request.url()), "page fetched twice: " + request.url());
+            int page = Integer.parseInt(request.url().substring(request.url().lastIndexOf('-') + 1));
+            // The next page keeps the site connected, the others repeat known links
+            frontier.offer(new DumWCCrawlRequest(SITE + "/page-" + (page + 1) % pages, 1));
+            for (int link = 0; link < 20; link++) {
+                frontier.offer(new DumWCCrawlRequest(SITE + "/page-" + random.nextInt(pages), 1));
+            }
+            frontier.release(request);
+        }
+        assertEquals(pages, fetched.size());
+    }
+
+    @Test
+    @DisplayName("Should not fetch more pages of a host at once than its limit")
+    void shouldLimitPagesOfHostInFlight() throws Exception {
+        DumWCFrontier frontier = new DumWCFrontier(2, Duration.ZERO, 100);
+        frontier.offer(new DumWCCrawlRequest(SITE + "/a", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/b", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/c", 1));
+        frontier.offer(new DumWCCrawlRequest(OTHER_SITE + "/d", 1));
+
+        DumWCCrawlRequest first = frontier.take();
+        assertEquals(List.of(OTHER_SITE + "/d", SITE + "/b"),
+                List.of(frontier.take().url(), frontier.take().url()));
+        CompletableFuture<DumWCCrawlRequest> next = CompletableFuture.supplyAsync(() -> take(frontier));
+        assertThrows(TimeoutException.class, () -> next.get(100, TimeUnit.MILLISECONDS));
+
+        frontier.release(first);
+        assertEquals(SITE + "/c", next.get(5, TimeUnit.SECONDS).url());
+    }
+
+    @Test
+    @DisplayName("Should wait the host delay between two requests to a host")
+    void shouldWaitHostDelay() throws InterruptedException {
+        DumWCFrontier frontier = new DumWCFrontier(2, DELAY, 100);
+        frontier.offer(new DumWCCrawlRequest(SITE + "/a", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/b", 1));
+
+        assertTrue(elapsedBetweenTwoTakes(frontier).compareTo(DELAY) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should serve other hosts while a host waits for its delay")
+    void shouldServeOtherHostsDuringHostDelay() throws Exception {
+        DumWCFrontier frontier = new DumWCFrontier(2, Duration.ofMinutes(1), 100);
+        frontier.offer(new DumWCCrawlRequest(SITE + "/a", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/b", 1));
+        frontier.offer(new DumWCCrawlRequest(OTHER_SITE + "/c", 1));
+
+        assertEquals(SITE + "/a", frontier.take().url());
+        CompletableFuture<DumWCCrawlRequest> next = CompletableFuture.supplyAsync(() -> take(frontier));
+        assertEquals(OTHER_SITE + "/c", next.get(5, TimeUnit.SECONDS).url());
+        frontier.close();
+    }
+
+    @Test
+    @DisplayName("Should apply a host delay set for one host only")
+    void shouldApplyDelaySetForHost() throws InterruptedException {
+        DumWCFrontier frontier = new DumWCFrontier(2, Duration.ZERO, 100);
+        frontier.setHostDelay("WWW.Example.com", DELAY);
+        frontier.offer(new DumWCCrawlRequest(SITE + "/a", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/b", 1));
+
+        assertTrue(elapsedBetweenTwoTakes(frontier).compareTo(DELAY) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should keep the default delay when a shorter one is set for a host")
+    void shouldIgnoreHostDelayShorterThanDefault() throws InterruptedException {
+        DumWCFrontier frontier = new DumWCFrontier(2, DELAY, 100);
+        frontier.setHostDelay("www.example.com", Duration.ZERO);
+        frontier.offer(new DumWCCrawlRequest(SITE + "/a", 1));
+        frontier.offer(new DumWCCrawlRequest(SITE + "/b", 1));
+
+        assertTrue(elapsedBetweenTwoTakes(frontier).compareTo(DELAY) >= 0);
+    }
+
+    private static Duration elapsedBetweenTwoTakes(DumWCFrontier frontier) throws InterruptedException {
+        long start = System.nanoTime();
+        frontier.take();
+        frontier.take();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static DumWCCrawlRequest take(DumWCFrontier frontier) {
+        try {
+            return frontier.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static List<String> takeAll(DumWCFrontier frontier) throws InterruptedException {
+        List<String> paths = new ArrayList<>();
+        DumWCCrawlRequest request;
+        while ((request = frontier.take()) != null) {
+            paths.add(request.url().substring(SITE.length()));
+            frontier.release(request);
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCRateLimiter Tests")
+class DumWCRateLimiterTest {
+
+    @Test
+    @DisplayName("Should space requests by the rate")
+    void shouldSpaceRequestsByRate() throws InterruptedException {
+        DumWCRateLimiter rateLimiter = new DumWCRateLimiter(20);
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire();
+        }
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(200)) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should not wait without a rate")
+    void shouldNotWaitWithoutRate() {
+        DumWCRateLimiter rateLimiter = new DumWCRateLimiter(0);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 100_000; i++) {
+                rateLimiter.acquire();
+            }
+        });
+    }
+}
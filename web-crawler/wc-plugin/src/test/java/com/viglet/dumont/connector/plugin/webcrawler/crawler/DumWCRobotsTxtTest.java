@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCRobotsTxt Tests")
+class DumWCRobotsTxtTest {
+    private static final String SITE = "https://example.com";
+
+    @Test
+    @DisplayName("Should use the group of the crawler instead of the default one")
+    void shouldUseGroupOfCrawler() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                User-agent: *
+                Disallow: /
+
+                User-agent: Dumont
+                Disallow: /private
+                """, "dumont");
+
+        assertTrue(robots.isAllowed(SITE + "/news"));
+        assertFalse(robots.isAllowed(SITE + "/private/page"));
+    }
+
+    @Test
+    @DisplayName("Should use the default group when no group names the crawler")
+    void shouldUseDefaultGroup() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                User-agent: googlebot
+                Disallow:
+
+                User-agent: *
+                Disallow: /search # internal search
+                """, "dumont");
+
+        assertFalse(robots.isAllowed(SITE + "/search?q=test"));
+        assertTrue(robots.isAllowed(SITE + "/"));
+        assertTrue(robots.isAllowed(SITE));
+    }
+
+    @Test
+    @DisplayName("Should let the longest rule win and allow a tie")
+    void shouldLetLongestRuleWin() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                User-agent: *
+                Disallow: /docs/
+                Allow: /docs/public/
+                Disallow: /tie
+                Allow: /tie
+                """, "dumont");
+
+        assertFalse(robots.isAllowed(SITE + "/docs/internal"));
+        assertTrue(robots.isAllowed(SITE + "/docs/public/guide"));
+        assertTrue(robots.isAllowed(SITE + "/tie"));
+    }
+
+    @Test
+    @DisplayName("Should match wildcards and the end of the path")
+    void shouldMatchWildcards() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                User-agent: *
+                Disallow: /*.pdf$
+                Disallow: /*/print/*
+                """, "dumont");
+
+        assertFalse(robots.isAllowed(SITE + "/files/report.pdf"));
+        assertTrue(robots.isAllowed(SITE + "/files/report.pdf.html"));
+        assertFalse(robots.isAllowed(SITE + "/news/print/1"));
+        assertTrue(robots.isAllowed(SITE + "/news/1"));
+    }
+
+    @Test
+    @DisplayName("Should share the rules of a group with several agents")
+    void shouldShareRulesOfGroupWithSeveralAgents() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                User-agent: otherbot
+                User-agent: dumont
+                Disallow: /tmp
+                Crawl-delay: 2.5
+                """, "dumont");
+
+        assertFalse(robots.isAllowed(SITE + "/tmp/a"));
+        assertEquals(Duration.ofMillis(2500), robots.getCrawlDelay());
+    }
+
+    @Test
+    @DisplayName("Should cap the crawl delay and ignore a malformed one")
+    void shouldCapCrawlDelay() {
+        assertEquals(DumWCRobotsTxt.MAX_CRAWL_DELAY, DumWCRobotsTxt.parse("""
+                User-agent: *
+                Crawl-delay: 3600
+                """, "dumont").getCrawlDelay());
+        assertNull(DumWCRobotsTxt.parse("""
+                User-agent: *
+                Crawl-delay: soon
+                """, "dumont").getCrawlDelay());
+    }
+
+    @Test
+    @DisplayName("Should read the sitemaps outside of any group")
+    void shouldReadSitemaps() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                Sitemap: https://example.com/sitemap-index.xml
+                User-agent: otherbot
+                Disallow: /
+                Sitemap: https://example.com/news.xml.gz
+                """, "dumont");
+
+        assertEquals(List.of("https://example.com/sitemap-index.xml", "https://example.com/news.xml.gz"),
+                robots.getSitemaps());
+        assertTrue(robots.isAllowed(SITE + "/any"));
+    }
+
+    @Test
+    @DisplayName("Should always allow the robots.txt file")
+    void shouldAllowRobotsTxt() {
+        DumWCRobotsTxt robots = DumWCRobotsTxt.parse("""
+                User-agent: *
+                Disallow: /
+                """, "dumont");
+
+        assertTrue(robots.isAllowed(SITE + DumWCRobotsTxt.ROBOTS_TXT));
+        assertFalse(robots.isAllowed(SITE + "/index.html"));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCSitemapReader Tests")
+class DumWCSitemapReaderTest {
+    private final Map<String, byte[]> files = new HashMap<>();
+    private final List<String> opened = new ArrayList<>();
+    private final DumWCSitemapReader reader = new DumWCSitemapReader(url -> {
+        opened.add(url);
+        byte[] content = files.get(url);
+        if (content == null) {
+            throw new FileNotFoundException(url);
+        }
+        return new ByteArrayInputStream(content);
+    });
+
+    private static byte[] urlset(String... urls) {
+        StringBuilder xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9"
+                        xmlns:image="http://www.google.com/schemas/sitemap-image/1.1">
+                """);
+        for (String url : urls) {
+            xml.append("<url><loc>").append(url).append("</loc><lastmod>2025-03-01T10:00:00+02:00</lastmod>")
+                    .append("<image:image><image:loc>").append(url).append(".png</image:loc></image:image>")
+                    .append("</url>");
+        }
+        return xml.append("</urlset>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] sitemapIndex(String... sitemaps) {
+        StringBuilder xml = new StringBuilder(
+                "<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">");
+        for (String sitemap : sitemaps) {
+            xml.append("<sitemap><loc>").append(sitemap).append("</loc></sitemap>");
+        }
+        return xml.append("</sitemapindex>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Should read the pages of a sitemap without its extensions")
+    void shouldReadPages() {
+        files.put("https://example.com/sitemap.xml", urlset("https://example.com/a", "https://example.com/b"));
+        List<DumWCSitemapEntry> entries = new ArrayList<>();
+
+        long count = reader.read(List.of("https://example.com/sitemap.xml"), entries::add);
+
+        assertEquals(2, count);
+        assertEquals(List.of(
+                new DumWCSitemapEntry("https://example.com/a", Instant.parse("2025-03-01T08:00:00Z")),
+                new DumWCSitemapEntry("https://example.com/b", Instant.parse("2025-03-01T08:00:00Z"))), entries);
+    }
+
+    @Test
+    @DisplayName("Should follow a sitemap index with gzip sitemaps once each")
+    void shouldFollowSitemapIndex() throws IOException {
+        files.put("https://example.com/index.xml", gzip(sitemapIndex("https://example.com/a.xml.gz",
+                "https://example.com/b.xml", "https://example.com/index.xml")));
+        files.put("https://example.com/a.xml.gz", gzip(urlset("https://example.com/a")));
+        files.put("https://example.com/b.xml", urlset("https://example.com/b", "https://example.com/c"));
+        List<String> urls = new ArrayList<>();
+
+        long count = reader.read(List.of("https://example.com/index.xml"), entry -> urls.add(entry.url()));
+
+        assertEquals(3, count);
+        assertEquals(List.of("https://example.com/a", "https://example.com/b", "https://example.com/c"), urls);
+        assertEquals(List.of("https://example.com/index.xml", "https://example.com/a.xml.gz",
+                "https://example.com/b.xml"), opened);
+    }
+
+    @Test
+    @DisplayName("Should skip a missing or malformed sitemap")
+    void shouldSkipBrokenSitemap() {
+        files.put("https://example.com/broken.xml", "<urlset><url><loc>https://example.com/a</loc>"
+                .getBytes(StandardCharsets.UTF_8));
+        files.put("https://example.com/sitemap.xml", urlset("https://example.com/b"));
+        List<String> urls = new ArrayList<>();
+
+        long count = reader.read(List.of("https://example.com/missing.xml", "https://example.com/broken.xml",
+                "https://example.com/sitemap.xml"), entry -> urls.add(entry.url()));
+
+        assertEquals(1, count);
+        assertEquals(List.of("https://example.com/b"), urls);
+    }
+
+    @Test
+    @DisplayName("Should not resolve external entities")
+    void shouldNotResolveExternalEntities() {
+        files.put("https://example.com/sitemap.xml", """
+                <?xml version="1.0"?>
+                <!DOCTYPE urlset [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <urlset><url><loc>https://example.com/&secret;</loc></url></urlset>
+                """.getBytes(StandardCharsets.UTF_8));
+        List<String> urls = new ArrayList<>();
+
+        reader.read(List.of("https://example.com/sitemap.xml"), entry -> urls.add(entry.url()));
+
+        assertEquals(List.of(), urls);
+    }
+
+    @Test
+    @DisplayName("Should read the W3C datetime formats of lastmod")
+    void shouldReadLastModified() {
+        assertEquals(Instant.parse("2025-03-02T00:00:00Z"), DumWCSitemapReader.getLastModified("2025-03-01"));
+        assertEquals(Instant.parse("2025-03-01T08:30:00Z"),
+                DumWCSitemapReader.getLastModified("2025-03-01T10:30+02:00"));
+        assertEquals(Instant.parse("2025-03-01T10:30:15.500Z"),
+                DumWCSitemapReader.getLastModified("2025-03-01T10:30:15.5Z"));
+        assertEquals(Instant.parse("2025-03-01T10:30:00Z"), DumWCSitemapReader.getLastModified("2025-03-01T10:30:00"));
+        assertNull(DumWCSitemapReader.getLastModified("yesterday"));
+        assertNull(DumWCSitemapReader.getLastModified(""));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCTrapDetector Tests")
+class DumWCTrapDetectorTest {
+    private static final String SITE = "https://www.example.com";
+
+    @Test
+    @DisplayName("Should detect a path repeating its segments")
+    void shouldDetectPathRepeatingItsSegments() {
+        DumWCTrapDetector detector = new DumWCTrapDetector(2, 100);
+
+        assertTrue(detector.isTrap(SITE + "/docs/api/docs/api/docs/api/index.html"));
+        assertTrue(detector.isTrap(SITE + "/a/a/a"));
+        assertFalse(detector.isTrap(SITE + "/docs/api/docs/api/index.html"));
+        assertFalse(detector.isTrap(SITE + "/events/2024/01/01"));
+        assertFalse(detector.isTrap(SITE));
+    }
+
+    @Test
+    @DisplayName("Should ignore the query when counting path segments")
+    void shouldIgnoreQueryWhenCountingPathSegments() {
+        DumWCTrapDetector detector = new DumWCTrapDetector(2, 100);
+
+        assertFalse(detector.isTrap(SITE + "/search?q=a/a/a"));
+    }
+
+    @Test
+    @DisplayName("Should detect a path with too many query variants")
+    void shouldDetectPathWithTooManyQueryVariants() {
+        DumWCTrapDetector detector = new DumWCTrapDetector(2, 10);
+
+        long accepted = IntStream.range(0, 50)
+                .filter(day -> !detector.isTrap(SITE + "/calendar?day=" + day)).count();
+
+        assertEquals(10, accepted);
+        assertFalse(detector.isTrap(SITE + "/calendar"));
+        assertFalse(detector.isTrap(SITE + "/news?page=1"));
+    }
+
+    @Test
+    @DisplayName("Should allow any link when the limits are zero")
+    void shouldAllowAnyLinkWhenLimitsAreZero() {
+        DumWCTrapDetector detector = new DumWCTrapDetector(0, 0);
+
+        assertFalse(detector.isTrap(SITE + "/a/a/a/a/a"));
+        assertTrue(IntStream.range(0, 50).noneMatch(day -> detector.isTrap(SITE + "/calendar?day=" + day)));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCUrlFingerprintSet Tests")
+class DumWCUrlFingerprintSetTest {
+
+    @Test
+    @DisplayName("Should add a URL once")
+    void shouldAddUrlOnce() {
+        DumWCUrlFingerprintSet set = new DumWCUrlFingerprintSet(10);
+
+        assertTrue(set.add("https://example.com/a"));
+        assertFalse(set.add("https://example.com/a"));
+        assertTrue(set.contains("https://example.com/a"));
+        assertFalse(set.contains("https://example.com/b"));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the URLs after switching to fingerprints")
+    void shouldKeepUrlsAfterSwitchingToFingerprints() {
+        DumWCUrlFingerprintSet set = new DumWCUrlFingerprintSet(100);
+        for (int i = 0; i < 1000; i++) {
+            set.add("https://example.com/page/" + i);
+        }
+
+        assertFalse(set.isExact());
+        assertEquals(1000, set.size());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.contains("https://example.com/page/" + i));
+            assertFalse(set.add("https://example.com/page/" + i));
+        }
+        assertFalse(set.contains("https://example.com/page/1000"));
+    }
+
+    @Test
+    @DisplayName("Should use fingerprints only when the exact limit is zero")
+    void shouldUseFingerprintsOnlyWhenExactLimitIsZero() {
+        DumWCUrlFingerprintSet set = new DumWCUrlFingerprintSet(0);
+
+        assertFalse(set.isExact());
+        assertTrue(set.add("https://example.com/"));
+        assertTrue(set.contains("https://example.com/"));
+    }
+
+    @Test
+    @DisplayName("Should not confuse distinct URLs of a large site")
+    void shouldNotConfuseDistinctUrls() {
+        DumWCUrlFingerprintSet set = new DumWCUrlFingerprintSet(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            assertTrue(set.add("https://example.com/section/" + (i % 100) + "/page-" + i));
+        }
+
+        assertEquals(1_000_000, set.size());
+    }
+
+    @Test
+    @DisplayName("Should add each URL once across threads")
+    void shouldAddEachUrlOnceAcrossThreads() {
+        DumWCUrlFingerprintSet set = new DumWCUrlFingerprintSet(1000);
+        AtomicInteger added = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        if (set.add("https://example.com/" + i)) {
+                            added.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        assertEquals(10_000, added.get());
+        assertEquals(10_000, set.size());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCUrlMatcher Tests")
+class DumWCUrlMatcherTest {
+    private static final String SITE = "https://example.com";
+
+    @Test
+    @DisplayName("Should accept only the URLs of the website")
+    void shouldAcceptOnlyWebsite() {
+        DumWCUrlMatcher matcher = new DumWCUrlMatcher(SITE, List.of("/*"), List.of(), List.of());
+
+        assertTrue(matcher.matches(SITE + "/news"));
+        assertFalse(matcher.matches("https://other.com/news"));
+    }
+
+    @Test
+    @DisplayName("Should match exact and prefix allow rules")
+    void shouldMatchAllowRules() {
+        DumWCUrlMatcher matcher = new DumWCUrlMatcher(SITE, List.of("/news*", "/about", " /team/* "),
+                List.of(), List.of());
+
+        assertTrue(matcher.matches(SITE + "/news"));
+        assertTrue(matcher.matches(SITE + "/news/2025/today"));
+        assertTrue(matcher.matches(SITE + "/about"));
+        assertFalse(matcher.matches(SITE + "/about/history"));
+        assertTrue(matcher.matches(SITE + "/team/alice"));
+        assertFalse(matcher.matches(SITE + "/team"));
+        assertFalse(matcher.matches(SITE + "/contact"));
+    }
+
+    @Test
+    @DisplayName("Should let deny rules and extensions win over allow rules")
+    void shouldLetDenyRulesWin() {
+        DumWCUrlMatcher matcher = new DumWCUrlMatcher(SITE, List.of("/*"),
+                List.of("/admin*", "/login", "/news/*/print"), List.of(".pdf", "zip"));
+
+        assertTrue(matcher.matches(SITE + "/news/1"));
+        assertFalse(matcher.matches(SITE + "/admin/users"));
+        assertFalse(matcher.matches(SITE + "/login"));
+        assertTrue(matcher.matches(SITE + "/login/help"));
+        assertFalse(matcher.matches(SITE + "/news/2025/01/print"));
+        assertTrue(matcher.matches(SITE + "/news/2025/01/print/more"));
+        assertFalse(matcher.matches(SITE + "/files/report.pdf"));
+        assertFalse(matcher.matches(SITE + "/files/archive.zip"));
+    }
+
+    @Test
+    @DisplayName("Should quote the characters of a rule around its wildcards")
+    void shouldQuoteRuleCharacters() {
+        DumWCUrlMatcher matcher = new DumWCUrlMatcher(SITE, List.of("/a.b/*/c(1)"), List.of(), List.of());
+
+        assertTrue(matcher.matches(SITE + "/a.b/x/c(1)"));
+        assertFalse(matcher.matches(SITE + "/aXb/x/c(1)"));
+    }
+
+    @Test
+    @DisplayName("Should allow every page with a lone wildcard")
+    void shouldAllowEveryPageWithLoneWildcard() {
+        DumWCUrlMatcher matcher = new DumWCUrlMatcher(SITE, List.of("*"), List.of(), List.of());
+
+        assertTrue(matcher.matches(SITE));
+        assertTrue(matcher.matches(SITE + "/any/page"));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2016-2025 the original author or authors.
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the
+ * GNU General Public License as published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without
+ * even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program. If
+ * not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.viglet.dumont.connector.plugin.webcrawler.crawler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DumWCUrlNormalizer Tests")
+class DumWCUrlNormalizerTest {
+    private final DumWCUrlNormalizer normalizer = new DumWCUrlNormalizer("https://example.com", false);
+
+    @Test
+    @DisplayName("Should lowercase the scheme and host but not the path")
+    void shouldLowercaseSchemeAndHost() {
+        assertEquals("https://example.com/News/Today", normalizer.normalize("HTTPS://Example.COM/News/Today"));
+    }
+
+    @Test
+    @DisplayName("Should drop the fragment, the query and a trailing slash")
+    void shouldDropFragmentQueryAndTrailingSlash() {
+        assertEquals("https://example.com/news", normalizer.normalize("https://example.com/news/?page=2#top"));
+        assertEquals("https://example.com", normalizer.normalize("https://example.com/"));
+        assertEquals("https://example.com/a", normalizer.normalize("https://example.com/a#b/c?d"));
+    }
+
+    @Test
+    @DisplayName("Should keep the query with its parameters sorted")
+    void shouldSortQuery() {
+        DumWCUrlNormalizer keepQuery = new DumWCUrlNormalizer("https://example.com", true);
+
+        assertEquals("https://example.com/search?a=1&b=2&q=x",
+                keepQuery.normalize("https://example.com/search/?q=x&b=2&&a=1#results"));
+        assertEquals("https://example.com/search", keepQuery.normalize("https://example.com/search?"));
+    }
+
+    @Test
+    @DisplayName("Should drop the default port and resolve dot segments")
+    void shouldDropDefaultPortAndResolveDotSegments() {
+        assertEquals("https://example.com/b/c", normalizer.normalize("https://example.com:443/a/../b/./c"));
+        assertEquals("http://example.com:8080/b", normalizer.normalize("http://example.com:8080/a/../../b"));
+        assertEquals("http://example.com/a", normalizer.normalize("http://example.com:80/a/b/.."));
+    }
+
+    @Test
+    @DisplayName("Should append a relative link to the website")
+    void shouldAppendRelativeLink() {
+        assertEquals("https://example.com/about", normalizer.normalize(" /about/ "));
+    }
+
+    @Test
+    @DisplayName("Should reject links that are not HTTP URLs")
+    void shouldRejectOtherSchemes() {
+        assertNull(normalizer.normalize("mailto:info@example.com"));
+        assertNull(normalizer.normalize("tel:+5511999999999"));
+        assertNull(normalizer.normalize("javascript:void(0)"));
+        assertNull(normalizer.normalize("ftp://example.com/file"));
+        assertNull(normalizer.normalize("https:///path"));
+        assertNull(normalizer.normalize(""));
+        assertNull(normalizer.normalize(null));
+    }
+
+    @Test
+    @DisplayName("Should resolve dot segments as RFC 3986 does")
+    void shouldRemoveDotSegments() {
+        assertEquals("/a/g", DumWCUrlNormalizer.removeDotSegments("/a/b/c/./../../g"));
+        assertEquals("/", DumWCUrlNormalizer.removeDotSegments("/.."));
+        assertEquals("/a/", DumWCUrlNormalizer.removeDotSegments("/a/b/.."));
+        assertEquals("/a/.b", DumWCUrlNormalizer.removeDotSegments("/a/.b"));
+    }
+}